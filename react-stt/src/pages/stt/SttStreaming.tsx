@@ -1,5 +1,7 @@
 import { useEffect, useRef, useState } from 'react';
 import { Link } from 'react-router-dom';
+import { createInterimDeltaDecoder } from './type/SttTypes.ts';
+import type { StreamingConfigMessage } from './type/SttTypes.ts';
 
 const SttStreaming = () => {
   const [isStreaming, setIsStreaming] = useState(false);
@@ -24,6 +26,8 @@ const SttStreaming = () => {
         const wsUrl = `ws://localhost:8099/ws/speech`;
       console.log('Connecting to WebSocket:', wsUrl);
       wsRef.current = new WebSocket(wsUrl);
+      // 연결마다 새로 만듦 (서버도 연결이 바뀌면 전체 텍스트부터 다시 보냄)
+      const decodeTranscript = createInterimDeltaDecoder();
 
       wsRef.current.onopen = () => {
         setConnectionStatus('connected');
@@ -41,16 +45,17 @@ const SttStreaming = () => {
             return;
           }
           
-          if (data.transcript) {
+          const transcript = decodeTranscript(data);
+          if (transcript) {
             if (data.isFinal) {
-              setTranscription(prev => prev + data.transcript + ' ');
+              setTranscription(prev => prev + transcript + ' ');
             } else {
               setTranscription(prev => {
                 const lines = prev.trim().split('\n');
                 if (lines[lines.length - 1].startsWith('[임시]')) {
-                  lines[lines.length - 1] = '[임시] ' + data.transcript;
+                  lines[lines.length - 1] = '[임시] ' + transcript;
                 } else {
-                  lines.push('[임시] ' + data.transcript);
+                  lines.push('[임시] ' + transcript);
                 }
                 return lines.join('\n');
               });
@@ -128,15 +133,23 @@ const SttStreaming = () => {
         }
       };
 
-      source.connect(processor);
-      processor.connect(audioContext.destination);
-
-      // START_STREAM 신호 전송
+      // 오디오 전송 전에 인식 설정 전송
       if (wsRef.current && wsRef.current.readyState === WebSocket.OPEN) {
-        console.log('Sending START_STREAM message');
-        wsRef.current.send('START_STREAM');
+        const config: StreamingConfigMessage = {
+          type: 'config',
+          encoding: 'LINEAR16',
+          sampleRateHertz: audioContext.sampleRate,
+          languageCode: 'ko-KR',
+          interimResults: true,
+          interimDelta: true
+        };
+        console.log('Sending streaming config:', config);
+        wsRef.current.send(JSON.stringify(config));
       }
 
+      source.connect(processor);
+      processor.connect(audioContext.destination);
+
       setIsStreaming(true);
       setError('');
       setTranscription('');
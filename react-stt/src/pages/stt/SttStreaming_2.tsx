@@ -1,4 +1,5 @@
 import { useRef, useState } from 'react';
+import type { StreamingConfigMessage } from './type/SttTypes.ts';
 
 const SttStreaming_2 = () => {
   // 최종 확정된 텍스트를 저장할 상태. 문장 단위로 추가됩니다.
@@ -8,6 +9,8 @@ const SttStreaming_2 = () => {
 
   const [isTalking, setIsTalking] = useState<boolean>(false);
   const [isListening, setIsListening] = useState<boolean>(false);
+  // true: MediaRecorder의 WebM/Opus 청크 전송(약 24kbps), false: LINEAR16 PCM 전송(256kbps)
+  const [useOpus, setUseOpus] = useState<boolean>(false);
 
   const webSocket = useRef<WebSocket | null>(null);
   const mediaRecorder = useRef<MediaRecorder | null>(null);
@@ -39,6 +42,16 @@ const SttStreaming_2 = () => {
         const sampleRate = 16000;
         const chunkRate = 100;
 
+        // 오디오 전송 전에 인식 설정 전송 (WebM/Opus는 48kHz 고정)
+        const config: StreamingConfigMessage = {
+          type: 'config',
+          encoding: useOpus ? 'WEBM_OPUS' : 'LINEAR16',
+          sampleRateHertz: useOpus ? 48000 : sampleRate,
+          languageCode: 'ko-KR',
+          interimResults: true,
+        };
+        ws.send(JSON.stringify(config));
+
         // 마이크 권한 요청 및 스트림 생성
         stream.current = await navigator.mediaDevices.getUserMedia({
           audio: {
@@ -48,7 +61,18 @@ const SttStreaming_2 = () => {
           },
         });
 
-        mediaRecorder.current = new MediaRecorder(stream.current);
+        mediaRecorder.current = useOpus
+          ? new MediaRecorder(stream.current, { mimeType: 'audio/webm;codecs=opus', audioBitsPerSecond: 24000 })
+          : new MediaRecorder(stream.current);
+
+        // Opus 모드에서는 MediaRecorder 청크를 그대로 전송
+        if (useOpus) {
+          mediaRecorder.current.ondataavailable = async (event: BlobEvent) => {
+            if (event.data.size > 0 && webSocket.current && webSocket.current.readyState === WebSocket.OPEN) {
+              webSocket.current.send(await event.data.arrayBuffer());
+            }
+          };
+        }
 
         // AudioContext 생성
         audioContext.current = new (window.AudioContext || (window as any).webkitAudioContext)({
@@ -69,7 +93,7 @@ const SttStreaming_2 = () => {
 
         // 변환된 오디오 데이터를 웹소켓으로 전송
         processor.current.port.onmessage = (event: MessageEvent) => {
-          if (webSocket.current && webSocket.current.readyState === WebSocket.OPEN) {
+          if (!useOpus && webSocket.current && webSocket.current.readyState === WebSocket.OPEN) {
             webSocket.current.send(event.data);
             audioChunks.current.push(new Int16Array(event.data) as unknown as Uint8Array);
           }
@@ -126,7 +150,12 @@ const SttStreaming_2 = () => {
     ws.onmessage = (event: MessageEvent) => {
       try {
         // 백엔드에서 보낸 JSON 데이터 파싱: { transcript: "...", isFinal: true/false }
-        const data: { transcript: string; isFinal: boolean } = JSON.parse(event.data);
+        const data: { type?: string; transcript: string; isFinal: boolean } = JSON.parse(event.data);
+
+        // config-ack 등 제어 메시지는 무시
+        if (data.type) {
+          return;
+        }
 
         if (data.isFinal) {
           // 최종 결과인 경우:
@@ -201,6 +230,16 @@ const SttStreaming_2 = () => {
           >
             멈추기
           </button>
+
+          <label>
+            <input
+              type="checkbox"
+              checked={useOpus}
+              disabled={isListening}
+              onChange={(e) => setUseOpus(e.target.checked)}
+            />
+            Opus(WebM) 압축 전송
+          </label>
         </div>
 
         <div className="status">
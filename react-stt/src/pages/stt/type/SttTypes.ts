@@ -8,6 +8,7 @@ export interface SttResponse {
   errorMessage?: string;
   encoding?: string;
   resultCount?: number;
+  words?: WordTimings;
 }
 
 export interface TranscriptData {
@@ -15,7 +16,18 @@ export interface TranscriptData {
   confidence: number;
   isFinal: boolean;
   stability: number;
-  words?: WordTimeInfo[];
+  words?: WordTimings;
+}
+
+/**
+ * 단어별 시간 정보 (열 단위). i번째 단어는 vocabulary[wordIds[i]], 시각은 startMs[i] ~ endMs[i]
+ */
+export interface WordTimings {
+  vocabulary: string[];
+  wordIds: number[];
+  startMs: number[];
+  endMs: number[];
+  confidence: number[];
 }
 
 export interface WordTimeInfo {
@@ -24,9 +36,57 @@ export interface WordTimeInfo {
   endTime: number;
 }
 
+/**
+ * 열 단위 단어 시간 정보를 단어 목록으로 펼침 (시각은 초 단위)
+ */
+export const toWordList = (timings: WordTimings): WordTimeInfo[] =>
+  timings.wordIds.map((id, i) => ({
+    word: timings.vocabulary[id],
+    startTime: timings.startMs[i] / 1000,
+    endTime: timings.endMs[i] / 1000,
+  }));
+
 export interface StreamingResult {
   transcript: string;
   confidence: number;
   isFinal: boolean;
   timestamp: string;
-}
\ No newline at end of file
+}
+
+export interface StreamingConfigMessage {
+  type: 'config';
+  encoding?: 'LINEAR16' | 'MULAW' | 'FLAC' | 'AMR' | 'AMR_WB' | 'OGG_OPUS' | 'WEBM_OPUS';
+  sampleRateHertz?: number;
+  languageCode?: string;
+  interimResults?: boolean;
+  model?: string;
+  enableWordTimeOffsets?: boolean;
+  interimDelta?: boolean;
+}
+
+/**
+ * 델타 모드(interimDelta: true)의 중간 결과. transcript 대신 직전 중간 결과와의 공통 접두사 길이와 바뀐 접미사가 옴
+ */
+export interface InterimDeltaMessage {
+  isFinal: false;
+  stablePrefix: number;
+  suffix: string;
+}
+
+/**
+ * 델타 모드 메시지를 전체 텍스트로 복원하는 디코더. 최종 결과는 전체 텍스트로 오며 다음 발화를 위해 상태를 초기화함
+ */
+export const createInterimDeltaDecoder = () => {
+  let previous = '';
+
+  return (data: { transcript?: string; isFinal?: boolean; stablePrefix?: number; suffix?: string }): string | undefined => {
+    if (data.transcript !== undefined) {
+      previous = data.isFinal ? '' : data.transcript;
+      return data.transcript;
+    }
+    if (data.stablePrefix === undefined || data.suffix === undefined) return undefined;
+
+    previous = previous.slice(0, data.stablePrefix) + data.suffix;
+    return previous;
+  };
+};
@@ -0,0 +1,167 @@
+package com.kjung.springsst.app.file.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RIFF/WAVE 헤더 정보.
+ *
+ * @param channels        채널 수
+ * @param sampleRateHertz 샘플 레이트
+ * @param bitsPerSample   샘플당 비트 수
+ * @param dataOffset      PCM 데이터 시작 위치
+ * @param dataLength      PCM 데이터 길이 (bytes)
+ */
+public record WavHeader(
+        int channels,
+        int sampleRateHertz,
+        int bitsPerSample,
+        int dataOffset,
+        int dataLength
+) {
+
+    private static final int RIFF_HEADER_SIZE = 12;
+    private static final int CHUNK_HEADER_SIZE = 8;
+    private static final int FORMAT_PCM = 1;
+    private static final int PCM_HEADER_SIZE = 44;
+
+    /**
+     * 청크를 순회하여 fmt/data 청크를 찾습니다.
+     *
+     * @return PCM WAV가 아니거나 헤더가 손상된 경우 {@code null}
+     */
+    public static WavHeader parse(byte[] data) {
+        if (data == null || data.length < RIFF_HEADER_SIZE
+                || !matches(data, 0, "RIFF") || !matches(data, 8, "WAVE"))
+            return null;
+
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+
+        int channels = 0;
+        int sampleRate = 0;
+        int bitsPerSample = 0;
+        int position = RIFF_HEADER_SIZE;
+
+        while (position + CHUNK_HEADER_SIZE <= data.length) {
+            int chunkSize = buffer.getInt(position + 4);
+            int bodyOffset = position + CHUNK_HEADER_SIZE;
+            if (chunkSize < 0) return null;
+
+            if (matches(data, position, "fmt ")) {
+                if (bodyOffset + 16 > data.length || buffer.getShort(bodyOffset) != FORMAT_PCM)
+                    return null;
+
+                channels = buffer.getShort(bodyOffset + 2);
+                sampleRate = buffer.getInt(bodyOffset + 4);
+                bitsPerSample = buffer.getShort(bodyOffset + 14);
+
+            } else if (matches(data, position, "data")) {
+                if (channels <= 0 || sampleRate <= 0 || bitsPerSample <= 0 || bitsPerSample % 8 != 0)
+                    return null;
+
+                // 스트리밍으로 기록된 파일은 data 크기가 비어 있을 수 있으므로 실제 길이로 보정
+                int dataLength = Math.min(chunkSize, data.length - bodyOffset);
+                if (chunkSize == 0) dataLength = data.length - bodyOffset;
+
+                return new WavHeader(channels, sampleRate, bitsPerSample, bodyOffset, dataLength);
+            }
+
+            if ((long) bodyOffset + chunkSize > data.length) return null;
+
+            // 청크는 2바이트 정렬
+            position = bodyOffset + chunkSize + (chunkSize & 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * 샘플 프레임 하나(모든 채널)의 크기 (bytes)
+     */
+    public int frameSize() {
+        return channels * (bitsPerSample / 8);
+    }
+
+    /**
+     * 오디오 길이 (ms)
+     */
+    public long durationMs() {
+        return (long) dataLength * 1000 / ((long) frameSize() * sampleRateHertz);
+    }
+
+    /**
+     * 다채널 PCM을 채널별 모노 WAV로 나눕니다. 샘플 형식과 샘플 레이트는 그대로 유지합니다.
+     *
+     * @param data 이 헤더를 파싱한 원본 WAV 데이터
+     * @return 채널 순서대로의 모노 WAV 데이터 (헤더 포함)
+     */
+    public byte[][] splitChannels(byte[] data) {
+        int bytesPerSample = bitsPerSample / 8;
+        int frameSize = frameSize();
+        int frames = dataLength / frameSize;
+        int channelLength = frames * bytesPerSample;
+
+        byte[][] channelData = new byte[channels][];
+        for (int channel = 0; channel < channels; channel++) {
+            byte[] mono = new byte[PCM_HEADER_SIZE + channelLength];
+            writeHeader(mono, 1, channelLength);
+
+            int source = dataOffset + channel * bytesPerSample;
+            int target = PCM_HEADER_SIZE;
+            for (int frame = 0; frame < frames; frame++) {
+                System.arraycopy(data, source, mono, target, bytesPerSample);
+                source += frameSize;
+                target += bytesPerSample;
+            }
+            channelData[channel] = mono;
+        }
+        return channelData;
+    }
+
+    /**
+     * 구간 [fromMs, toMs)만 잘라낸 WAV. 구간은 오디오 범위로 제한되며, 채널 구성과 샘플 형식은 그대로 유지합니다.
+     *
+     * @param data 이 헤더를 파싱한 원본 WAV 데이터
+     */
+    public byte[] slice(byte[] data, long fromMs, long toMs) {
+        int frameSize = frameSize();
+        long frames = dataLength / frameSize;
+        long fromFrame = Math.clamp(fromMs * sampleRateHertz / 1000, 0, frames);
+        long toFrame = Math.clamp(toMs * sampleRateHertz / 1000, fromFrame, frames);
+        int sliceLength = (int) ((toFrame - fromFrame) * frameSize);
+
+        byte[] sliced = new byte[PCM_HEADER_SIZE + sliceLength];
+        writeHeader(sliced, channels, sliceLength);
+        System.arraycopy(data, dataOffset + (int) (fromFrame * frameSize), sliced, PCM_HEADER_SIZE, sliceLength);
+        return sliced;
+    }
+
+    private void writeHeader(byte[] target, int channelCount, int dataLength) {
+        int blockAlign = channelCount * (bitsPerSample / 8);
+
+        ByteBuffer buffer = ByteBuffer.wrap(target).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes(StandardCharsets.US_ASCII))
+                .putInt(PCM_HEADER_SIZE - CHUNK_HEADER_SIZE + dataLength)
+                .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+                .put("fmt ".getBytes(StandardCharsets.US_ASCII))
+                .putInt(16)
+                .putShort((short) FORMAT_PCM)
+                .putShort((short) channelCount)
+                .putInt(sampleRateHertz)
+                .putInt(sampleRateHertz * blockAlign)
+                .putShort((short) blockAlign)
+                .putShort((short) bitsPerSample)
+                .put("data".getBytes(StandardCharsets.US_ASCII))
+                .putInt(dataLength);
+    }
+
+    private static boolean matches(byte[] data, int offset, String tag) {
+        if (offset + tag.length() > data.length) return false;
+
+        for (int i = 0; i < tag.length(); i++) {
+            if (data[offset + i] != tag.charAt(i)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,436 @@
+package com.kjung.springsst.app.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjung.springsst.infra.engine.RecognitionEngineRouter;
+import com.kjung.springsst.infra.engine.RecognitionRequestFactory;
+import com.kjung.springsst.infra.engine.scheduling.CapacityExceededException;
+import com.kjung.springsst.infra.engine.scheduling.PriorityClass;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.resilience.CircuitBreakerOpenException;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import io.micrometer.common.util.StringUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 감시 디렉터리 일괄 수집 파이프라인 ({@code app.stt.ingest.enabled=true}).
+ * <p>
+ * 입력 디렉터리를 주기적으로 훑어 새 오디오 파일을 찾고, 단계마다 제한된 큐로 연결된 파이프라인으로 처리합니다.
+ * 뒤 단계가 밀리면 큐가 차서 앞 단계가 기다리므로, 메모리에 올라가는 파일 수는 큐 용량으로 제한됩니다.
+ * </p>
+ * <ul>
+ * <li>읽기: 확장자와 크기를 업로드와 같은 규칙으로 먼저 확인한 뒤 파일을 읽음</li>
+ * <li>전처리: {@link RecognitionRequestFactory}로 인코딩, 길이를 판별하고 인식 요청으로 변환</li>
+ * <li>인식: {@link PriorityClass#BATCH} 등급으로 라우터 호출, 실시간 요청보다 뒤로 밀림</li>
+ * <li>기록: 출력 디렉터리에 JSON을 원자적으로 쓰고 체크포인트 로그에 완료를 기록</li>
+ * </ul>
+ * <p>
+ * 체크포인트는 결과 파일을 쓴 뒤에 기록하므로, 그 사이에 중단되면 해당 파일만 재시작 후 다시 인식합니다.
+ * 검증에 실패한 파일은 체크포인트에 거절로 기록하고, 파일이 바뀌기 전까지 다시 시도하지 않습니다.
+ * 일시적인 인식 실패는 다음 주기에 다시 시도하며, 최대 횟수를 넘으면 파일이 바뀌거나 재시작하기 전까지 건너뜁니다.
+ * 서킷 OPEN, 실행 슬롯 부족, 드레인처럼 파일과 무관한 거부는 시도 횟수에 넣지 않고 다음 주기에 다시 처리합니다.
+ * </p>
+ * <p>
+ * 다른 빈이 의존하지 않으므로, 지연 초기화({@code fast-start} 프로필)에서도 생성되도록 {@code @Lazy(false)}로 둡니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "app.stt.ingest.enabled", havingValue = "true")
+public class BulkIngestionPipeline implements DisposableBean {
+
+    private static final String RESULT_SUFFIX = ".json";
+
+    private final RecognitionRequestFactory recognitionRequestFactory;
+
+    private final RecognitionEngineRouter engineRouter;
+
+    private final ObjectMapper objectMapper;
+
+    private final Path inputDir;
+
+    private final Path outputDir;
+
+    private final IngestCheckpoint checkpoint;
+
+    private final long minFileAgeMs;
+
+    private final String profile;
+
+    private final boolean enableAutomaticPunctuation;
+
+    private final boolean enableWordTimeOffsets;
+
+    private final BlockingQueue<Candidate> readQueue;
+
+    private final BlockingQueue<ReadItem> preprocessQueue;
+
+    private final BlockingQueue<PreparedItem> recognizeQueue;
+
+    private final BlockingQueue<RecognizedItem> writeQueue;
+
+    // 큐에 들어갔거나 처리 중인 파일 (같은 파일을 다시 넣지 않도록)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final IngestAttempts attempts;
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final ScheduledExecutorService scanner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stt-ingest-scan");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter doneCounter;
+
+    private final Counter rejectedCounter;
+
+    private final Counter failedCounter;
+
+    private volatile boolean running = true;
+
+    private record Candidate(Path path, String key, long size, long modifiedMs) {
+    }
+
+    private record ReadItem(Candidate candidate, byte[] audio) {
+    }
+
+    private record PreparedItem(Candidate candidate, RecognitionRequest request) {
+    }
+
+    private record RecognizedItem(Candidate candidate, RecognitionRequest request, TranscriptionResult result,
+                                  long processingTimeMs) {
+    }
+
+    @FunctionalInterface
+    private interface Stage<T> {
+        void process(T item) throws InterruptedException;
+    }
+
+    /**
+     * @throws IllegalArgumentException 입력 디렉터리가 없는 경우
+     * @throws UncheckedIOException     출력 디렉터리나 체크포인트 로그를 만들 수 없는 경우
+     */
+    public BulkIngestionPipeline(RecognitionRequestFactory recognitionRequestFactory,
+                                 RecognitionEngineRouter engineRouter,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.stt.ingest.input-dir:./ingest/input}") String inputDir,
+                                 @Value("${app.stt.ingest.output-dir:./ingest/output}") String outputDir,
+                                 @Value("${app.stt.ingest.checkpoint-file:}") String checkpointFile,
+                                 @Value("${app.stt.ingest.scan-interval-ms:10000}") long scanIntervalMs,
+                                 @Value("${app.stt.ingest.min-file-age-ms:5000}") long minFileAgeMs,
+                                 @Value("${app.stt.ingest.queue-capacity:16}") int queueCapacity,
+                                 @Value("${app.stt.ingest.read-threads:2}") int readThreads,
+                                 @Value("${app.stt.ingest.recognize-parallelism:4}") int recognizeParallelism,
+                                 @Value("${app.stt.ingest.max-attempts:3}") int maxAttempts,
+                                 @Value("${app.stt.ingest.profile:}") String profile,
+                                 @Value("${app.stt.ingest.enable-automatic-punctuation:true}") boolean enableAutomaticPunctuation,
+                                 @Value("${app.stt.ingest.enable-word-time-offsets:false}") boolean enableWordTimeOffsets) {
+        this.recognitionRequestFactory = recognitionRequestFactory;
+        this.engineRouter = engineRouter;
+        this.objectMapper = objectMapper;
+        this.inputDir = Path.of(inputDir).toAbsolutePath().normalize();
+        this.outputDir = Path.of(outputDir).toAbsolutePath().normalize();
+        this.minFileAgeMs = minFileAgeMs;
+        this.attempts = new IngestAttempts(maxAttempts);
+        this.profile = StringUtils.isBlank(profile) ? null : profile;
+        this.enableAutomaticPunctuation = enableAutomaticPunctuation;
+        this.enableWordTimeOffsets = enableWordTimeOffsets;
+
+        if (!Files.isDirectory(this.inputDir))
+            throw new IllegalArgumentException("일괄 수집 입력 디렉터리가 없습니다: " + this.inputDir);
+
+        try {
+            Files.createDirectories(this.outputDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("일괄 수집 출력 디렉터리를 만들 수 없습니다: " + this.outputDir, e);
+        }
+
+        this.checkpoint = new IngestCheckpoint(StringUtils.isBlank(checkpointFile)
+                ? this.outputDir.resolve(".checkpoint.log")
+                : Path.of(checkpointFile));
+
+        int capacity = Math.max(1, queueCapacity);
+        this.readQueue = new ArrayBlockingQueue<>(capacity);
+        this.preprocessQueue = new ArrayBlockingQueue<>(capacity);
+        this.recognizeQueue = new ArrayBlockingQueue<>(capacity);
+        this.writeQueue = new ArrayBlockingQueue<>(capacity);
+
+        this.doneCounter = fileCounter(meterRegistry, "done");
+        this.rejectedCounter = fileCounter(meterRegistry, "rejected");
+        this.failedCounter = fileCounter(meterRegistry, "failed");
+        queueGauge(meterRegistry, "read", readQueue);
+        queueGauge(meterRegistry, "preprocess", preprocessQueue);
+        queueGauge(meterRegistry, "recognize", recognizeQueue);
+        queueGauge(meterRegistry, "write", writeQueue);
+        Gauge.builder("stt.ingest.in-flight", inFlight, Set::size)
+                .description("큐에 들어갔거나 처리 중인 파일 수")
+                .register(meterRegistry);
+
+        startStage("stt-ingest-read", Math.max(1, readThreads), readQueue, Function.identity(), this::read);
+        startStage("stt-ingest-preprocess", 1, preprocessQueue, ReadItem::candidate, this::preprocess);
+        startStage("stt-ingest-recognize", Math.max(1, recognizeParallelism), recognizeQueue,
+                PreparedItem::candidate, this::recognize);
+        startStage("stt-ingest-write", 1, writeQueue, RecognizedItem::candidate, this::write);
+
+        scanner.scheduleWithFixedDelay(this::scan, 0, Math.max(100, scanIntervalMs), TimeUnit.MILLISECONDS);
+
+        log.info("일괄 수집 시작: {} -> {} (체크포인트: {}건)", this.inputDir, this.outputDir, checkpoint.size());
+    }
+
+    /**
+     * 입력 디렉터리에서 아직 처리하지 않았고 기록이 끝난(일정 시간 수정되지 않은) 파일을 읽기 큐에 넣습니다.
+     * 큐가 가득 차면 자리가 날 때까지 기다립니다.
+     */
+    private void scan() {
+        long now = System.currentTimeMillis();
+        List<Candidate> candidates = new ArrayList<>();
+
+        try (Stream<Path> paths = Files.walk(inputDir)) {
+            paths.filter(path -> !path.startsWith(outputDir))
+                    .filter(path -> !path.getFileName().toString().startsWith("."))
+                    .forEach(path -> {
+                        try {
+                            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                            if (!attributes.isRegularFile()) return;
+
+                            long modifiedMs = attributes.lastModifiedTime().toMillis();
+                            if (now - modifiedMs < minFileAgeMs) return;
+
+                            String key = keyOf(path);
+                            if (inFlight.contains(key) || attempts.isExhausted(key, attributes.size(), modifiedMs))
+                                return;
+                            if (checkpoint.isProcessed(key, attributes.size(), modifiedMs)) return;
+
+                            candidates.add(new Candidate(path, key, attributes.size(), modifiedMs));
+                        } catch (IOException e) {
+                            log.debug("일괄 수집 파일 확인 실패: {} - {}", path, e.getMessage());
+                        }
+                    });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("일괄 수집 입력 디렉터리를 읽을 수 없습니다: {}", e.getMessage());
+            return;
+        }
+
+        if (candidates.isEmpty()) return;
+
+        candidates.sort(Comparator.comparing(Candidate::key));
+        log.info("일괄 수집 대상 {}건", candidates.size());
+
+        try {
+            for (Candidate candidate : candidates) {
+                if (!running) return;
+                if (!inFlight.add(candidate.key())) continue;
+
+                readQueue.put(candidate);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 읽기 단계. 파일 전체를 읽기 전에 확장자와 크기를 확인합니다.
+     */
+    private void read(Candidate candidate) throws InterruptedException {
+        byte[] audio;
+        try {
+            recognitionRequestFactory.validateFileFormat(candidate.key());
+            recognitionRequestFactory.validateFileSize(candidate.size());
+            audio = Files.readAllBytes(candidate.path());
+        } catch (IllegalArgumentException e) {
+            reject(candidate, e);
+            return;
+        } catch (IOException e) {
+            fail(candidate, e);
+            return;
+        }
+
+        preprocessQueue.put(new ReadItem(candidate, audio));
+    }
+
+    /**
+     * 전처리 단계. 업로드와 같은 규칙으로 검증하고 인식 요청으로 변환합니다.
+     */
+    private void preprocess(ReadItem item) throws InterruptedException {
+        RecognitionRequest request;
+        try {
+            request = recognitionRequestFactory.create(item.candidate().key(), item.audio(), profile,
+                    enableAutomaticPunctuation, enableWordTimeOffsets);
+        } catch (IllegalArgumentException e) {
+            reject(item.candidate(), e);
+            return;
+        }
+
+        recognizeQueue.put(new PreparedItem(item.candidate(), request));
+    }
+
+    private void recognize(PreparedItem item) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        TranscriptionResult result;
+        try {
+            result = engineRouter.recognize(item.request(), PriorityClass.BATCH);
+        } catch (IllegalArgumentException e) {
+            reject(item.candidate(), e);
+            return;
+        } catch (CircuitBreakerOpenException | CapacityExceededException e) {
+            // 파일 문제가 아니므로 시도 횟수에 넣지 않고 다음 주기에 다시 처리 (드레인 중 거부 포함)
+            log.debug("일괄 수집 보류 - {}: {}", item.candidate().key(), e.getMessage());
+            inFlight.remove(item.candidate().key());
+            return;
+        } catch (RuntimeException e) {
+            fail(item.candidate(), e);
+            return;
+        }
+
+        writeQueue.put(new RecognizedItem(item.candidate(), item.request(), result,
+                System.currentTimeMillis() - startTime));
+    }
+
+    /**
+     * 기록 단계. 임시 파일에 쓴 뒤 이름을 바꿔 결과 파일이 항상 완전한 상태로만 보이게 하고, 그 다음 체크포인트를 기록합니다.
+     */
+    private void write(RecognizedItem item) {
+        Candidate candidate = item.candidate();
+        TranscriptionResult result = item.result();
+
+        IngestedTranscript transcript = new IngestedTranscript(
+                candidate.key(),
+                candidate.size(),
+                item.request().durationMs(),
+                item.request().profile(),
+                result.transcription(),
+                result.averageConfidence(),
+                result.words().isEmpty() ? null : result.words(),
+                item.processingTimeMs(),
+                Instant.now());
+
+        try {
+            Path target = outputDir.resolve(candidate.key() + RESULT_SUFFIX);
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.createDirectories(target.getParent());
+            objectMapper.writeValue(temp.toFile(), transcript);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            checkpoint.record(candidate.key(), IngestCheckpoint.Status.DONE, candidate.size(), candidate.modifiedMs());
+
+        } catch (IOException | UncheckedIOException e) {
+            fail(candidate, e);
+            return;
+        }
+
+        doneCounter.increment();
+        attempts.clear(candidate.key());
+        inFlight.remove(candidate.key());
+        log.debug("일괄 수집 완료: {}", candidate.key());
+    }
+
+    private void reject(Candidate candidate, IllegalArgumentException e) {
+        rejectedCounter.increment();
+        log.warn("일괄 수집 거절 - {}: {}", candidate.key(), e.getMessage());
+
+        try {
+            checkpoint.record(candidate.key(), IngestCheckpoint.Status.REJECTED, candidate.size(), candidate.modifiedMs());
+        } catch (UncheckedIOException ioException) {
+            log.warn("일괄 수집 체크포인트 기록 실패 - {}: {}", candidate.key(), ioException.getMessage());
+        }
+        inFlight.remove(candidate.key());
+    }
+
+    private void fail(Candidate candidate, Throwable e) {
+        failedCounter.increment();
+        int attempt = attempts.recordFailure(candidate.key(), candidate.size(), candidate.modifiedMs());
+        log.warn("일괄 수집 실패 ({}/{}) - {}: {}", attempt, attempts.maxAttempts(), candidate.key(), e.getMessage());
+
+        inFlight.remove(candidate.key());
+    }
+
+    /**
+     * 단계마다 전용 스레드가 큐에서 꺼내 처리합니다. 예상하지 못한 오류는 해당 파일의 실패로 기록하여
+     * 처리 중 표시를 풀고(다음 주기에 재시도), 다음 파일을 계속 처리합니다.
+     */
+    private <T> void startStage(String name, int threads, BlockingQueue<T> queue,
+                                Function<T, Candidate> candidateOf, Stage<T> stage) {
+        for (int i = 0; i < threads; i++) {
+            workers.add(Thread.ofPlatform().name(name + "-" + i).daemon().start(() -> {
+                while (running) {
+                    T item;
+                    try {
+                        item = queue.take();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+
+                    try {
+                        stage.process(item);
+                    } catch (InterruptedException e) {
+                        return;
+                    } catch (RuntimeException | Error e) {
+                        log.error("일괄 수집 단계 오류: {}", name, e);
+                        fail(candidateOf.apply(item), e);
+                    }
+                }
+            }));
+        }
+    }
+
+    private String keyOf(Path path) {
+        return inputDir.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private static Counter fileCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("stt.ingest.files")
+                .description("일괄 수집 처리 결과별 파일 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static void queueGauge(MeterRegistry meterRegistry, String stage, BlockingQueue<?> queue) {
+        Gauge.builder("stt.ingest.queue", queue, BlockingQueue::size)
+                .description("일괄 수집 단계별 대기 파일 수")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 중이던 파일은 체크포인트에 없으므로 재시작 후 다시 처리됩니다.
+     */
+    @Override
+    public void destroy() {
+        running = false;
+        scanner.shutdownNow();
+        workers.forEach(Thread::interrupt);
+        checkpoint.close();
+    }
+}
@@ -0,0 +1,56 @@
+package com.kjung.springsst.app.ingest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일괄 수집 파일별 일시적 실패 횟수 (메모리에만 보관, 재시작하면 초기화).
+ * <p>
+ * 실패한 시점의 크기와 수정 시각을 함께 기억하여, 파일이 바뀌면 횟수를 처음부터 다시 셉니다.
+ * 최대 횟수를 넘긴 파일도 다시 기록되면 재시도 대상이 됩니다.
+ * </p>
+ */
+final class IngestAttempts {
+
+    private record Failures(long size, long modifiedMs, int count) {
+
+        boolean isSameFile(long size, long modifiedMs) {
+            return this.size == size && this.modifiedMs == modifiedMs;
+        }
+    }
+
+    private final int maxAttempts;
+
+    private final Map<String, Failures> failures = new ConcurrentHashMap<>();
+
+    IngestAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 같은 크기와 수정 시각으로 최대 횟수만큼 실패한 파일인지 여부
+     */
+    boolean isExhausted(String key, long size, long modifiedMs) {
+        Failures previous = failures.get(key);
+        return previous != null && previous.isSameFile(size, modifiedMs) && previous.count() >= maxAttempts;
+    }
+
+    /**
+     * 실패 한 번을 기록합니다. 파일이 바뀌었으면 첫 실패로 셉니다.
+     *
+     * @return 현재 파일 기준 실패 횟수
+     */
+    int recordFailure(String key, long size, long modifiedMs) {
+        return failures.compute(key, (k, previous) -> previous != null && previous.isSameFile(size, modifiedMs)
+                ? new Failures(size, modifiedMs, previous.count() + 1)
+                : new Failures(size, modifiedMs, 1)).count();
+    }
+
+    void clear(String key) {
+        failures.remove(key);
+    }
+
+    int maxAttempts() {
+        return maxAttempts;
+    }
+}
@@ -0,0 +1,111 @@
+package com.kjung.springsst.app.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일괄 수집의 체크포인트 로그 (추가 전용).
+ * <p>
+ * 처리가 끝난 파일마다 {@code 상태\t크기\t수정시각\t상대경로} 한 줄을 추가하고 디스크에 동기화합니다.
+ * 재시작 시 로그를 다시 읽어 같은 크기와 수정 시각의 파일은 건너뛰므로, 완료된 파일을 다시 인식(과금)하지 않습니다.
+ * 기록 도중 중단되어 잘린 마지막 줄은 무시합니다.
+ * </p>
+ */
+@Slf4j
+final class IngestCheckpoint implements AutoCloseable {
+
+    enum Status {
+        // 인식 결과를 출력 디렉터리에 기록함
+        DONE,
+        // 검증에 실패해 인식하지 않음, 파일이 바뀌기 전까지 다시 시도하지 않음
+        REJECTED
+    }
+
+    record Entry(Status status, long size, long modifiedMs) {
+    }
+
+    private final FileChannel channel;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    IngestCheckpoint(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            if (Files.exists(file))
+                load(Files.readAllLines(file, StandardCharsets.UTF_8));
+
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트 로그를 열 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 같은 크기와 수정 시각으로 이미 처리한 파일인지 여부
+     */
+    boolean isProcessed(String key, long size, long modifiedMs) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.size() == size && entry.modifiedMs() == modifiedMs;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 한 줄을 추가하고 디스크에 동기화합니다.
+     *
+     * @throws UncheckedIOException 기록에 실패한 경우
+     */
+    synchronized void record(String key, Status status, long size, long modifiedMs) {
+        String line = String.join("\t", status.name(), Long.toString(size), Long.toString(modifiedMs), key) + "\n";
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트 기록 실패: " + key, e);
+        }
+
+        entries.put(key, new Entry(status, size, modifiedMs));
+    }
+
+    private void load(List<String> lines) {
+        int skipped = 0;
+        for (String line : lines) {
+            String[] fields = line.split("\t", 4);
+            try {
+                entries.put(fields[3], new Entry(Status.valueOf(fields[0]),
+                        Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+            } catch (RuntimeException e) {
+                skipped++;
+            }
+        }
+
+        if (skipped > 0)
+            log.warn("체크포인트 로그에서 읽을 수 없는 줄 {}개를 건너뜁니다.", skipped);
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Error closing ingest checkpoint", e);
+        }
+    }
+}
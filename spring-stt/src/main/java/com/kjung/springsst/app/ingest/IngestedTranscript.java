@@ -0,0 +1,31 @@
+package com.kjung.springsst.app.ingest;
+
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
+
+import java.time.Instant;
+
+/**
+ * 일괄 수집 결과 파일 ({@code <출력 디렉터리>/<상대경로>.json}) 형식.
+ *
+ * @param source           입력 디렉터리 기준 상대 경로
+ * @param fileSize         파일 크기 (bytes)
+ * @param durationMs       오디오 길이 (ms), 알 수 없으면 -1
+ * @param profile          인식 프로필
+ * @param transcribedText  인식 텍스트
+ * @param confidenceScore  평균 신뢰도
+ * @param words            단어별 시간 정보 (word-time-offsets 설정 시)
+ * @param processingTimeMs 인식 시간 (ms)
+ * @param completedAt      완료 시각
+ */
+public record IngestedTranscript(
+        String source,
+        long fileSize,
+        long durationMs,
+        String profile,
+        String transcribedText,
+        float confidenceScore,
+        WordTimings words,
+        long processingTimeMs,
+        Instant completedAt
+) {
+}
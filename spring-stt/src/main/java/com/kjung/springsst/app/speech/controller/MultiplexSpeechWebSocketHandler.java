@@ -0,0 +1,386 @@
+package com.kjung.springsst.app.speech.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjung.springsst.core.jfr.ResultDeliveredEvent;
+import com.kjung.springsst.app.speech.session.StreamDrainParticipant;
+import com.kjung.springsst.app.speech.session.StreamingDrainLifecycle;
+import com.kjung.springsst.infra.engine.RecognitionEngineRouter;
+import com.kjung.springsst.infra.engine.StreamingRecognition;
+import com.kjung.springsst.infra.engine.scheduling.CapacityExceededException;
+import com.kjung.springsst.infra.googleStt.stream.AudioSendQueue;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 하나의 WebSocket 연결에서 여러 논리 스트림을 처리하는 다중화 핸들러 ({@code /ws/speech/mux}).
+ * <p>
+ * 전화 게이트웨이처럼 통화마다 연결을 여는 비용이 큰 클라이언트를 위한 모드입니다.
+ * 논리 스트림마다 별도의 엔진 스트림을 사용하며, 서로 독립적으로 열고 닫을 수 있습니다.
+ * </p>
+ * <ul>
+ * <li>바이너리 프레임: 4바이트 스트림 ID(big-endian) + 오디오 데이터</li>
+ * <li>스트림 열기: {@code {"type": "open", "streamId": 7, "encoding": "MULAW", "sampleRateHertz": 8000, ...}}</li>
+ * <li>스트림 닫기: {@code {"type": "close", "streamId": 7}} - 남은 오디오 전송 후 최종 결과까지 수신</li>
+ * <li>서버 메시지: 모든 결과/제어 메시지에 {@code streamId} 포함,
+ * Google 스트림 종료 시 {@code {"type": "stream-end", "streamId": 7}}</li>
+ * </ul>
+ * 잘못된 설정이나 오디오, 스트림을 열 수 없는 경우(스트림 한도 초과, 엔진 오류)는 해당 논리 스트림에만 오류를 보내고 연결은 유지합니다.
+ * 스트림을 여는 동안 연결의 다른 스트림 오디오 수신이 멈추지 않도록 스트림 슬롯은 {@code open-max-wait-ms}까지만 기다립니다.
+ * <p>
+ * 서버 종료 드레인 중에는 {@code {"type": "drain", "reconnectWithinMs": ...}}를 보내고 새 스트림을 열지 않으며,
+ * 논리 스트림마다 진행 중인 발화의 최종 결과를 보낸 뒤 닫습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class MultiplexSpeechWebSocketHandler extends BinaryWebSocketHandler implements StreamDrainParticipant {
+
+    private static final int STREAM_ID_SIZE = Integer.BYTES;
+
+    private static final String TYPE_OPEN = "open";
+    private static final String TYPE_CLOSE = "close";
+
+    private final RecognitionEngineRouter engineRouter;
+
+    private final StreamingDrainLifecycle drainLifecycle;
+
+    private final int maxStreamsPerConnection;
+
+    private final int sendTimeLimitMs;
+
+    private final int sendBufferSizeLimit;
+
+    private final long openMaxWaitMs;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final StreamingConfigReader configReader = new StreamingConfigReader(objectMapper);
+
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    public MultiplexSpeechWebSocketHandler(RecognitionEngineRouter engineRouter,
+                                           StreamingDrainLifecycle drainLifecycle,
+                                           @Value("${app.stt.streaming.mux.max-streams-per-connection:512}") int maxStreamsPerConnection,
+                                           @Value("${app.stt.streaming.mux.send-time-limit-ms:5000}") int sendTimeLimitMs,
+                                           @Value("${app.stt.streaming.mux.send-buffer-size-limit:1048576}") int sendBufferSizeLimit,
+                                           @Value("${app.stt.streaming.mux.open-max-wait-ms:0}") long openMaxWaitMs) {
+        this.engineRouter = engineRouter;
+        this.drainLifecycle = drainLifecycle;
+        this.maxStreamsPerConnection = maxStreamsPerConnection;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.openMaxWaitMs = openMaxWaitMs;
+    }
+
+    /**
+     * 연결 단위 상태. 여러 gRPC 스레드가 동시에 결과를 보내므로 세션을 직렬화 데코레이터로 감쌉니다.
+     */
+    private record Connection(WebSocketSession session,
+                              Map<Integer, StreamingRecognition> streams,
+                              // 열려 있지 않은 스트림으로 온 오디오를 이미 알린 스트림 ID, 프레임마다 오류를 보내지 않기 위함
+                              Set<Integer> unknownStreamsReported) {
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        log.info("Multiplexed WebSocket connection established: {}", session.getId());
+
+        WebSocketSession concurrentSession =
+                new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, sendBufferSizeLimit);
+        connections.put(session.getId(),
+                new Connection(concurrentSession, new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet()));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) return;
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(message.getPayload());
+        } catch (JsonProcessingException e) {
+            sendError(connection, null, "메시지를 해석할 수 없습니다: " + e.getOriginalMessage(), "INVALID_MESSAGE");
+            return;
+        }
+
+        if (!node.path("streamId").canConvertToInt()) {
+            sendError(connection, null, "streamId가 필요합니다.", "INVALID_MESSAGE");
+            return;
+        }
+
+        int streamId = node.path("streamId").asInt();
+        String type = node.path("type").asText();
+
+        switch (type) {
+            case TYPE_OPEN -> openStream(connection, streamId, node);
+            case TYPE_CLOSE -> closeStream(connection, streamId);
+            default -> sendError(connection, streamId, "알 수 없는 메시지 유형입니다: " + type, "INVALID_MESSAGE");
+        }
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) return;
+
+        ByteBuffer buffer = message.getPayload();
+        if (buffer.remaining() < STREAM_ID_SIZE) {
+            sendError(connection, null, "바이너리 프레임에 스트림 ID가 없습니다.", "INVALID_FRAME");
+            return;
+        }
+
+        int streamId = buffer.getInt();
+        byte[] audioData = new byte[buffer.remaining()];
+        buffer.get(audioData);
+
+        StreamingRecognition client = connection.streams().get(streamId);
+        if (client == null) {
+            reportOnce(connection, streamId, "열려 있지 않은 스트림입니다.", "UNKNOWN_STREAM");
+            return;
+        }
+
+        AudioSendQueue.OfferResult result;
+        try {
+            result = client.sendAudioData(audioData);
+        } catch (IllegalArgumentException e) {
+            abortStream(connection, streamId, e.getMessage(), "INVALID_AUDIO");
+            return;
+        }
+
+        if (result == AudioSendQueue.OfferResult.REJECTED) {
+            abortStream(connection, streamId, "오디오 전송 큐가 가득 찼습니다.", "QUEUE_OVERFLOW");
+        } else if (result == AudioSendQueue.OfferResult.CLOSED) {
+            // close 요청 이후나 종료된 스트림에 이어지는 프레임은 버림 (최종 결과와 stream-end는 종료 콜백이 보냄)
+            reportOnce(connection, streamId, "닫히는 중인 스트림입니다.", "STREAM_CLOSED");
+        }
+    }
+
+    /**
+     * 닫혔거나 없는 스트림에 이어지는 프레임은 스트림 ID마다 한 번만 알림 (ID 수는 연결당 최대 스트림 수로 제한)
+     */
+    private void reportOnce(Connection connection, int streamId, String errorMessage, String errorType) throws IOException {
+        if (connection.unknownStreamsReported().size() < maxStreamsPerConnection
+                && connection.unknownStreamsReported().add(streamId))
+            sendError(connection, streamId, errorMessage, errorType);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        log.error("Multiplexed WebSocket transport error: {}", session.getId(), exception);
+        closeConnection(session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+        log.info("Multiplexed WebSocket connection closed: {}", session.getId());
+        closeConnection(session.getId());
+    }
+
+    private void openStream(Connection connection, int streamId, JsonNode node) throws IOException {
+        if (drainLifecycle.isDraining()) {
+            drainLifecycle.recordRefused();
+            sendError(connection, streamId, "서버가 종료 중입니다. 다른 노드로 다시 연결하세요.", "DRAINING");
+            return;
+        }
+
+        if (connection.streams().containsKey(streamId)) {
+            sendError(connection, streamId, "이미 열려 있는 스트림입니다.", "DUPLICATE_STREAM");
+            return;
+        }
+
+        if (connection.streams().size() >= maxStreamsPerConnection) {
+            sendError(connection, streamId,
+                    "연결당 최대 스트림 수를 초과했습니다. (최대: " + maxStreamsPerConnection + ")", "TOO_MANY_STREAMS");
+            return;
+        }
+
+        StreamingSessionConfig sessionConfig;
+        try {
+            sessionConfig = configReader.read(node);
+        } catch (IllegalArgumentException e) {
+            sendError(connection, streamId, e.getMessage(), "INVALID_CONFIG");
+            return;
+        }
+
+        // 같은 ID로 재사용된 스트림을 잘못 제거하지 않도록 종료 시 자신의 클라이언트만 제거
+        AtomicReference<StreamingRecognition> self = new AtomicReference<>();
+        StreamingRecognition client;
+        try {
+            client = engineRouter.openStream(
+                    sessionConfig,
+                    resultMap -> {
+                        Map<String, Object> data = new LinkedHashMap<>();
+                        data.put("streamId", streamId);
+                        data.putAll(resultMap);
+
+                        StreamingRecognition stream = self.get();
+                        ResultDeliveredEvent event = ResultDeliveredEvent.begin(connection.session().getId(),
+                                stream != null ? stream.getStreamId() : 0, Boolean.TRUE.equals(resultMap.get("isFinal")));
+                        ResultDeliveredEvent.end(event, send(connection, data));
+
+                        // 드레인 중에는 진행 중이던 발화가 끝나면 스트림을 닫음
+                        if (drainLifecycle.isDraining() && Boolean.TRUE.equals(resultMap.get("isFinal"))
+                                && self.get() != null)
+                            self.get().close();
+                    },
+                    error -> {
+                        if (self.get() != null)
+                            connection.streams().remove(streamId, self.get());
+
+                        Map<String, Object> data = new LinkedHashMap<>();
+                        data.put("type", "stream-end");
+                        data.put("streamId", streamId);
+                        if (error != null)
+                            data.put("error", error.getMessage());
+                        send(connection, data);
+                    },
+                    openMaxWaitMs
+            );
+        } catch (CapacityExceededException e) {
+            sendError(connection, streamId, e.getMessage(), "CAPACITY_EXCEEDED");
+            return;
+        } catch (IllegalArgumentException e) {
+            sendError(connection, streamId, e.getMessage(), "INVALID_CONFIG");
+            return;
+        } catch (RuntimeException e) {
+            log.error("Failed to open multiplexed stream: {}/{}", connection.session().getId(), streamId, e);
+            sendError(connection, streamId, "음성 인식 엔진에 연결할 수 없습니다.", "ENGINE_UNAVAILABLE");
+            return;
+        }
+
+        self.set(client);
+        client.setSessionId(connection.session().getId() + "/" + streamId);
+        connection.streams().put(streamId, client);
+        connection.unknownStreamsReported().remove(streamId);
+
+        // 등록 전에 스트림이 끝났으면 종료 콜백의 제거가 먼저 실행되었으므로 직접 제거 (stream-end는 콜백이 보냄)
+        if (client.isTerminated()) {
+            connection.streams().remove(streamId, client);
+            return;
+        }
+
+        Map<String, Object> ack = new LinkedHashMap<>();
+        ack.put("type", "open-ack");
+        ack.put("streamId", streamId);
+        ack.put("config", sessionConfig);
+        send(connection, ack);
+    }
+
+    /**
+     * 남은 오디오를 모두 전송한 뒤 Google 스트림을 닫습니다. 최종 결과는 이후에도 계속 전달됩니다.
+     */
+    private void closeStream(Connection connection, int streamId) throws IOException {
+        StreamingRecognition client = connection.streams().get(streamId);
+        if (client == null) {
+            sendError(connection, streamId, "열려 있지 않은 스트림입니다.", "UNKNOWN_STREAM");
+            return;
+        }
+
+        client.close();
+    }
+
+    private void abortStream(Connection connection, int streamId, String errorMessage, String errorType) throws IOException {
+        StreamingRecognition client = connection.streams().remove(streamId);
+        if (client != null)
+            client.close();
+
+        sendError(connection, streamId, errorMessage, errorType);
+    }
+
+    @Override
+    public void beginDrain(long reconnectWithinMs) {
+        connections.values().forEach(connection -> {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("type", "drain");
+            data.put("reconnectWithinMs", reconnectWithinMs);
+            send(connection, data);
+        });
+    }
+
+    @Override
+    public void endStreams() {
+        connections.values().forEach(connection -> connection.streams().values().forEach(StreamingRecognition::close));
+    }
+
+    /**
+     * 논리 스트림은 Google 스트림이 끝날 때 제거되므로 남은 스트림 수가 곧 진행 중인 스트림 수
+     */
+    @Override
+    public int getActiveStreamCount() {
+        return connections.values().stream().mapToInt(connection -> connection.streams().size()).sum();
+    }
+
+    @Override
+    public int closeRemaining() {
+        int remaining = getActiveStreamCount();
+
+        connections.values().forEach(connection -> {
+            try {
+                if (connection.session().isOpen())
+                    connection.session().close(CloseStatus.SERVICE_RESTARTED);
+            } catch (IOException e) {
+                log.debug("Error closing multiplexed connection on drain: {}", connection.session().getId(), e);
+            }
+        });
+        connections.keySet().forEach(this::closeConnection);
+
+        return remaining;
+    }
+
+    private void closeConnection(String sessionId) {
+        Connection connection = connections.remove(sessionId);
+        if (connection == null) return;
+
+        connection.streams().values().forEach(StreamingRecognition::close);
+        connection.streams().clear();
+    }
+
+    private void sendError(Connection connection, Integer streamId, String errorMessage, String errorType) throws IOException {
+        log.warn("Multiplexed stream error: {}/{} - {} ({})",
+                connection.session().getId(), streamId, errorMessage, errorType);
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("type", "error");
+        if (streamId != null)
+            data.put("streamId", streamId);
+        data.put("error", errorMessage);
+        data.put("errorType", errorType);
+
+        connection.session().sendMessage(new TextMessage(objectMapper.writeValueAsString(data)));
+    }
+
+    /**
+     * @return 전송한 메시지 크기, 전송하지 못한 경우 0
+     */
+    private int send(Connection connection, Map<String, Object> data) {
+        try {
+            if (connection.session().isOpen()) {
+                String payload = objectMapper.writeValueAsString(data);
+                connection.session().sendMessage(new TextMessage(payload));
+                return payload.length();
+            }
+        } catch (IOException e) {
+            log.error("Error sending multiplexed message", e);
+        }
+        return 0;
+    }
+}
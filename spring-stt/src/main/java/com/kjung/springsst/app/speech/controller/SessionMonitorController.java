@@ -0,0 +1,80 @@
+package com.kjung.springsst.app.speech.controller;
+
+import com.kjung.springsst.app.speech.monitor.ResultSubscriberSink;
+import com.kjung.springsst.app.speech.monitor.SessionResultHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * 진행 중인 세션의 결과를 SSE로 구독합니다. WebSocket 구독({@code /ws/speech/monitor})과 같은 허브를 사용합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/speech/sessions")
+public class SessionMonitorController {
+
+    private static final String EVENT_RESULT = "result";
+
+    private static final String EVENT_END = "end";
+
+    private final SessionResultHub resultHub;
+
+    private final long timeoutMs;
+
+    public SessionMonitorController(SessionResultHub resultHub,
+                                    @Value("${app.stt.monitor.sse-timeout-ms:3600000}") long timeoutMs) {
+        this.resultHub = resultHub;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 결과는 {@code result} 이벤트, 구독 종료는 사유({@link SessionResultHub.CloseReason})를 담은 {@code end} 이벤트로 전달합니다.
+     *
+     * @throws IllegalArgumentException 진행 중인 세션이 아닌 경우
+     * @throws IllegalStateException    세션당 최대 구독자 수를 넘은 경우
+     */
+    @GetMapping(value = "/{sessionId}/results", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable String sessionId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        SessionResultHub.Subscription subscription = resultHub.subscribe(sessionId, new Sink(emitter));
+
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+
+        return emitter;
+    }
+
+    @RequiredArgsConstructor
+    private static class Sink implements ResultSubscriberSink {
+
+        private final SseEmitter emitter;
+
+        @Override
+        public void send(String payload) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_RESULT)
+                    .data(payload, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void close(SessionResultHub.CloseReason reason) {
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_END).data(reason.name()));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 이미 끊긴 연결
+                log.debug("Error closing monitor event stream: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.kjung.springsst.app.speech.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjung.springsst.app.speech.monitor.ResultSubscriberSink;
+import com.kjung.springsst.app.speech.monitor.SessionResultHub;
+import com.kjung.springsst.infra.googleStt.vo.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 세션의 결과를 구독하는 읽기 전용 WebSocket ({@code /ws/speech/monitor?sessionId=...}).
+ * <p>
+ * 세션 소유 연결과 같은 결과 메시지를 받습니다. 세션이 끝나면 {@link CloseStatus#NORMAL},
+ * 버퍼를 넘길 만큼 느리면 {@link CloseStatus#SESSION_NOT_RELIABLE}로 연결을 닫습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionMonitorWebSocketHandler extends TextWebSocketHandler {
+
+    private final SessionResultHub resultHub;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, SessionResultHub.Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String sessionId = session.getUri() == null ? null : UriComponentsBuilder.fromUri(session.getUri())
+                .build()
+                .getQueryParams()
+                .getFirst("sessionId");
+
+        if (sessionId == null || sessionId.isBlank()) {
+            closeWithError(session, "구독할 sessionId가 필요합니다.", "INVALID_SESSION");
+            return;
+        }
+
+        try {
+            subscriptions.put(session.getId(), resultHub.subscribe(sessionId, new Sink(session)));
+            log.info("Session monitor subscribed: {} -> {}", session.getId(), sessionId);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            closeWithError(session, e.getMessage(), "SUBSCRIBE_REJECTED");
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        SessionResultHub.Subscription subscription = subscriptions.remove(session.getId());
+        if (subscription != null)
+            subscription.cancel();
+    }
+
+    private void closeWithError(WebSocketSession session, String errorMessage, String errorType) throws IOException {
+        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(new ErrorResponse(errorMessage, errorType))));
+        session.close(CloseStatus.POLICY_VIOLATION.withReason(errorType));
+    }
+
+    /**
+     * 구독 전송 스레드에서만 호출되므로 세션 전송을 따로 직렬화하지 않음
+     */
+    @RequiredArgsConstructor
+    private static class Sink implements ResultSubscriberSink {
+
+        private final WebSocketSession session;
+
+        @Override
+        public void send(String payload) throws IOException {
+            session.sendMessage(new TextMessage(payload));
+        }
+
+        @Override
+        public void close(SessionResultHub.CloseReason reason) {
+            if (!session.isOpen()) return;
+
+            CloseStatus status = switch (reason) {
+                case SESSION_ENDED, UNSUBSCRIBED -> CloseStatus.NORMAL;
+                case SLOW_SUBSCRIBER -> CloseStatus.SESSION_NOT_RELIABLE;
+                case SHUTDOWN -> CloseStatus.SERVICE_RESTARTED;
+            };
+
+            try {
+                session.close(status.withReason(reason.name()));
+            } catch (IOException e) {
+                log.debug("Error closing monitor connection: {}", session.getId(), e);
+            }
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package com.kjung.springsst.app.speech.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.kjung.springsst.infra.googleStt.GoogleSTTService;
+import com.kjung.springsst.app.speech.session.SpeechSession;
+import com.kjung.springsst.app.speech.session.SpeechSessionRegistry;
+import com.kjung.springsst.app.speech.session.StreamDrainParticipant;
+import com.kjung.springsst.app.speech.session.StreamingDrainLifecycle;
+import com.kjung.springsst.infra.engine.scheduling.CapacityExceededException;
+import com.kjung.springsst.infra.googleStt.stream.AudioSendQueue;
+import com.kjung.springsst.infra.googleStt.stream.AudioSendScheduler;
+import com.kjung.springsst.infra.googleStt.vo.ErrorResponse;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -10,73 +20,327 @@ import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 
+/**
+ * 실시간 음성 인식 WebSocket 핸들러.
+ * <p>
+ * 클라이언트는 오디오 전송 전에 다음과 같은 텍스트 프레임으로 인식 설정을 선언할 수 있습니다.
+ * 설정 없이 오디오가 먼저 들어오면 기본 설정(LINEAR16, 16kHz, ko-KR)으로 스트림을 시작합니다.
+ * </p>
+ * <p>
+ * OGG_OPUS / WEBM_OPUS를 선언하면 MediaRecorder 등이 만든 컨테이너 청크를 그대로 받아 Google로 전달하며,
+ * LINEAR16 대비 약 1/10의 대역폭으로 스트리밍할 수 있습니다.
+ * </p>
+ * <pre>
+ * {"type": "config", "encoding": "LINEAR16", "sampleRateHertz": 8000,
+ *  "languageCode": "ko-KR", "interimResults": true, "model": "phone_call"}
+ * </pre>
+ * <p>
+ * 스트림이 시작되면 {@code config-ack} 메시지로 재연결 토큰을 전달합니다. 연결이 비정상 종료된 경우
+ * 유예 시간 안에 새 연결에서 {@code {"type": "resume", "resumeToken": "..."}}를 보내면 설정 재전송 없이
+ * 같은 세션을 이어가며, 끊긴 동안의 인식 결과를 재전송받습니다.
+ * </p>
+ * <p>
+ * 서버 종료 드레인 중에는 {@code {"type": "drain", "reconnectWithinMs": ...}}를 보내고 새 세션을 받지 않으며,
+ * 진행 중인 발화의 최종 결과를 보낸 뒤 {@link CloseStatus#SERVICE_RESTARTED}로 연결을 닫습니다.
+ * 클라이언트는 제한 시간 안에 다른 노드로 새 세션을 시작해야 합니다.
+ * </p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class SpeechWebSocketHandler extends BinaryWebSocketHandler {
+public class SpeechWebSocketHandler extends BinaryWebSocketHandler implements StreamDrainParticipant {
 
-    private final GoogleSTTService googleSTTService;
+    private static final String TYPE_CONFIG = "config";
+    private static final String TYPE_RESUME = "resume";
+
+    // 이전 버전 클라이언트가 보내는 제어 메시지
+    private static final String LEGACY_START_STREAM = "START_STREAM";
+    private static final String LEGACY_END_STREAM = "END_STREAM";
+
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+
+    private final SpeechSessionRegistry speechSessionRegistry;
+
+    private final AudioSendScheduler audioSendScheduler;
+
+    private final StreamingDrainLifecycle drainLifecycle;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    private final Map<String, GoogleSTTService.StreamingRecognizeClient> clientStreams = new ConcurrentHashMap<>();
+    private final StreamingConfigReader configReader = new StreamingConfigReader(objectMapper);
+
+    private final Map<String, WebSocketSession> concurrentSessions = new ConcurrentHashMap<>();
+
+    private final Map<String, SpeechSession> speechSessions = new ConcurrentHashMap<>();
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         log.info("WebSocket connection established: {}", session.getId());
 
-        // Google STT 스트리밍 클라이언트 생성
-        GoogleSTTService.StreamingRecognizeClient client = googleSTTService.createStreamingClient(
-                resultMap -> {
-                    try {
-                        if (session.isOpen()) {
-                            // Map 객체를 JSON 문자열로 변환하여 전송
-                            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(resultMap)));
-                        }
-                    } catch (IOException e) {
-                        log.error("Error sending transcript", e);
-                    }
-                }
-        );
+        // 결과는 gRPC 스레드, 제어 메시지는 WebSocket 스레드에서 전송되므로 전송을 직렬화
+        concurrentSessions.put(session.getId(),
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_SIZE_LIMIT));
+
+        if (drainLifecycle.isDraining())
+            refuseDraining(session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        String payload = message.getPayload().trim();
+
+        if (LEGACY_START_STREAM.equals(payload)) return;
+
+        if (LEGACY_END_STREAM.equals(payload)) {
+            // 같은 연결에서 다음 설정으로 새 세션을 시작할 수 있도록 연결에서 분리
+            endSession(session.getId());
+            return;
+        }
+
+        if (speechSessions.containsKey(session.getId())) {
+            closeWithError(session, "인식 설정은 오디오 전송 전에 한 번만 보낼 수 있습니다.", "INVALID_CONFIG");
+            return;
+        }
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            closeWithError(session, "메시지를 해석할 수 없습니다: " + e.getOriginalMessage(), "INVALID_CONFIG");
+            return;
+        }
+
+        String type = node.path("type").asText();
+
+        if (drainLifecycle.isDraining()) {
+            refuseDraining(session);
+            return;
+        }
+
+        if (TYPE_RESUME.equals(type)) {
+            resumeSession(session, node.path("resumeToken").asText());
+            return;
+        }
+
+        if (!TYPE_CONFIG.equals(type)) {
+            closeWithError(session, "알 수 없는 메시지 유형입니다: " + type, "INVALID_CONFIG");
+            return;
+        }
+
+        StreamingSessionConfig sessionConfig;
+        try {
+            sessionConfig = configReader.read(node);
+        } catch (IllegalArgumentException e) {
+            closeWithError(session, e.getMessage(), "INVALID_CONFIG");
+            return;
+        }
 
-        clientStreams.put(session.getId(), client);
+        startSession(session, sessionConfig);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        long receivedAt = System.nanoTime();
         ByteBuffer buffer = message.getPayload();
         byte[] audioData = new byte[buffer.remaining()];
         buffer.get(audioData);
 
-        GoogleSTTService.StreamingRecognizeClient client = clientStreams.get(session.getId());
-        if (client != null) {
-            client.sendAudioData(audioData);
+        // 핸드셰이크 없이 오디오가 먼저 들어온 경우 기본 설정으로 시작
+        SpeechSession speechSession = speechSessions.get(session.getId());
+        if (speechSession == null) {
+            if (drainLifecycle.isDraining()) {
+                refuseDraining(session);
+                return;
+            }
+            speechSession = startSession(session, StreamingSessionConfig.defaults());
+            if (speechSession == null) return;
+        }
+
+        AudioSendQueue.OfferResult result;
+        try {
+            result = speechSession.sendAudio(audioData, receivedAt);
+        } catch (IllegalArgumentException e) {
+            // 선언한 인코딩과 컨테이너 구조가 맞지 않는 경우
+            closeWithError(session, e.getMessage(), "INVALID_AUDIO");
+            return;
+        }
+
+        // 전송 큐가 가득 차 CLOSE 정책에 의해 거부된 경우 세션 종료
+        if (result == AudioSendQueue.OfferResult.REJECTED) {
+            log.warn("Audio send queue overflow, closing session: {}", session.getId());
+            closeSession(session.getId());
+            session.close(new CloseStatus(audioSendScheduler.getOverflowCloseCode(), "Audio send queue overflow"));
         }
     }
 
     @Override
     public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
         log.error("WebSocket transport error: {}", session.getId(), exception);
-        closeClient(session.getId());
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-        log.info("WebSocket connection closed: {}", session.getId());
-        closeClient(session.getId());
+        log.info("WebSocket connection closed: {} ({})", session.getId(), status);
+        concurrentSessions.remove(session.getId());
+
+        SpeechSession speechSession = speechSessions.remove(session.getId());
+        if (speechSession == null) return;
+
+        // 클라이언트가 의도적으로 닫은 경우에만 즉시 종료하고, 그 외에는 재연결을 기다림
+        if (CloseStatus.NORMAL.equalsCode(status) || CloseStatus.GOING_AWAY.equalsCode(status))
+            speechSessionRegistry.close(speechSession);
+        else
+            speechSessionRegistry.detach(speechSession);
+    }
+
+    /**
+     * 세션이 없는 연결에만 드레인을 알림. 세션이 있는 연결은 {@link SpeechSessionRegistry}가 알림
+     */
+    @Override
+    public void beginDrain(long reconnectWithinMs) {
+        concurrentSessions.forEach((sessionId, session) -> {
+            if (speechSessions.containsKey(sessionId)) return;
+
+            sendDrain(session, reconnectWithinMs);
+        });
+    }
+
+    @Override
+    public void endStreams() {
+        // 스트림은 SpeechSessionRegistry가 마감
+    }
+
+    @Override
+    public int getActiveStreamCount() {
+        return 0;
+    }
+
+    /**
+     * 남은 연결 종료. 스트림 수는 {@link SpeechSessionRegistry}에서 집계
+     */
+    @Override
+    public int closeRemaining() {
+        concurrentSessions.values().forEach(session -> {
+            try {
+                if (session.isOpen())
+                    session.close(CloseStatus.SERVICE_RESTARTED);
+            } catch (IOException e) {
+                log.debug("Error closing WebSocket connection on drain: {}", session.getId(), e);
+            }
+        });
+        return 0;
+    }
+
+    private void refuseDraining(WebSocketSession session) throws IOException {
+        drainLifecycle.recordRefused();
+
+        WebSocketSession concurrentSession = concurrentSessions.getOrDefault(session.getId(), session);
+        sendDrain(concurrentSession, 0);
+        if (concurrentSession.isOpen())
+            concurrentSession.close(CloseStatus.SERVICE_RESTARTED);
+    }
+
+    private void sendDrain(WebSocketSession session, long reconnectWithinMs) {
+        try {
+            if (session.isOpen())
+                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(Map.of(
+                        "type", "drain",
+                        "reconnectWithinMs", reconnectWithinMs))));
+        } catch (IOException e) {
+            log.debug("Error sending drain message: {}", session.getId(), e);
+        }
+    }
+
+    /**
+     * @return 시작한 세션, 스트림을 열지 못해 연결을 닫은 경우 {@code null}
+     */
+    private SpeechSession startSession(WebSocketSession session, StreamingSessionConfig sessionConfig) throws IOException {
+        log.info("Starting STT stream: {} ({})", session.getId(), sessionConfig);
+
+        WebSocketSession concurrentSession = concurrentSessions.getOrDefault(session.getId(), session);
+
+        SpeechSession speechSession;
+        try {
+            speechSession = speechSessionRegistry.open(sessionConfig, concurrentSession);
+        } catch (CapacityExceededException e) {
+            closeWithError(session, e.getMessage(), "CAPACITY_EXCEEDED", CloseStatus.SERVICE_OVERLOAD);
+            return null;
+        } catch (IllegalArgumentException e) {
+            closeWithError(session, e.getMessage(), "INVALID_CONFIG");
+            return null;
+        } catch (RuntimeException e) {
+            log.error("Failed to open STT stream: {}", session.getId(), e);
+            closeWithError(session, "음성 인식 엔진에 연결할 수 없습니다.", "ENGINE_UNAVAILABLE", CloseStatus.SERVER_ERROR);
+            return null;
+        }
+        speechSessions.put(session.getId(), speechSession);
+
+        Map<String, Object> ack = new LinkedHashMap<>();
+        ack.put("type", "config-ack");
+        ack.put("sessionId", speechSession.getSessionId());
+        ack.put("resumeToken", speechSession.getResumeToken());
+        ack.put("config", sessionConfig);
+        concurrentSession.sendMessage(new TextMessage(objectMapper.writeValueAsString(ack)));
+
+        return speechSession;
+    }
+
+    private void resumeSession(WebSocketSession session, String resumeToken) throws IOException {
+        WebSocketSession concurrentSession = concurrentSessions.getOrDefault(session.getId(), session);
+
+        try {
+            SpeechSession speechSession = speechSessionRegistry.resume(resumeToken, concurrentSession);
+            speechSessions.put(session.getId(), speechSession);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // 연결은 유지하여 클라이언트가 새 설정으로 시작할 수 있게 함
+            log.warn("Speech session resume failed: {} - {}", session.getId(), e.getMessage());
+            concurrentSession.sendMessage(new TextMessage(objectMapper.writeValueAsString(
+                    new ErrorResponse(e.getMessage(), "RESUME_FAILED"))));
+        }
+    }
+
+    private void closeWithError(WebSocketSession session, String errorMessage, String errorType) throws IOException {
+        closeWithError(session, errorMessage, errorType, CloseStatus.BAD_DATA);
+    }
+
+    private void closeWithError(WebSocketSession session, String errorMessage, String errorType,
+                                CloseStatus closeStatus) throws IOException {
+        log.warn("Closing streaming session: {} - {} ({})", session.getId(), errorMessage, errorType);
+        closeSession(session.getId());
+
+        WebSocketSession concurrentSession = concurrentSessions.getOrDefault(session.getId(), session);
+        if (concurrentSession.isOpen()) {
+            concurrentSession.sendMessage(new TextMessage(objectMapper.writeValueAsString(
+                    new ErrorResponse(errorMessage, errorType))));
+            concurrentSession.close(closeStatus.withReason(errorType));
+        }
+    }
+
+    /**
+     * 연결에서 세션을 분리하고, 남은 오디오의 최종 결과까지 보낸 뒤 종료되도록 합니다.
+     * 종료되면 {@link SpeechSessionRegistry}에서 제거됩니다.
+     */
+    private void endSession(String sessionId) {
+        SpeechSession speechSession = speechSessions.remove(sessionId);
+        if (speechSession != null) {
+            speechSession.end();
+        }
     }
 
-    private void closeClient(String sessionId) {
-        GoogleSTTService.StreamingRecognizeClient client = clientStreams.remove(sessionId);
-        if (client != null) {
-            client.close();
+    private void closeSession(String sessionId) {
+        SpeechSession speechSession = speechSessions.remove(sessionId);
+        if (speechSession != null) {
+            speechSessionRegistry.close(speechSession);
         }
     }
-}
\ No newline at end of file
+}
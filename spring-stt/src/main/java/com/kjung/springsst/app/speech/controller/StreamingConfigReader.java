@@ -0,0 +1,33 @@
+package com.kjung.springsst.app.speech.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WebSocket 텍스트 프레임의 인식 설정 해석기.
+ */
+@RequiredArgsConstructor
+class StreamingConfigReader {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * JSON 노드를 세션 설정으로 변환합니다.
+     *
+     * @throws IllegalArgumentException 해석할 수 없거나 검증에 실패한 경우, 클라이언트에 전달할 메시지를 포함
+     */
+    StreamingSessionConfig read(JsonNode node) {
+        try {
+            return objectMapper.treeToValue(node, StreamingSessionConfig.class);
+        } catch (JsonProcessingException e) {
+            // 레코드 생성자의 검증 오류는 원인 메시지를 그대로 사용
+            if (e.getCause() instanceof IllegalArgumentException cause)
+                throw cause;
+
+            throw new IllegalArgumentException("인식 설정을 해석할 수 없습니다: " + e.getOriginalMessage(), e);
+        }
+    }
+}
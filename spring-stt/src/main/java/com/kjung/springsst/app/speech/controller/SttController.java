@@ -1,10 +1,18 @@
 package com.kjung.springsst.app.speech.controller;
 
+import com.kjung.springsst.app.speech.dto.BatchSttItemResponse;
+import com.kjung.springsst.app.speech.dto.BatchSttRequest;
+import com.kjung.springsst.app.speech.dto.MultiChannelSttRequest;
+import com.kjung.springsst.app.speech.dto.MultiChannelSttResponse;
 import com.kjung.springsst.app.speech.dto.SttRequest;
 import com.kjung.springsst.app.speech.dto.SttResponse;
+import com.kjung.springsst.app.speech.service.BatchSttService;
+import com.kjung.springsst.app.speech.service.DraftRefineSttService;
+import com.kjung.springsst.app.speech.service.MultiChannelSttService;
 import com.kjung.springsst.app.speech.service.SttService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -19,12 +27,47 @@ public class SttController {
 
     private final SttService sttService;
 
+    private final BatchSttService batchSttService;
+
+    private final MultiChannelSttService multiChannelSttService;
+
+    private final DraftRefineSttService draftRefineSttService;
+
 
     @PostMapping(value = "/convert", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public SttResponse convertSpeechToText(SttRequest request) {
         return sttService.convertSpeechToText(request);
     }
 
+    /**
+     * 빠른 초안({@code draft})을 먼저 보내고, 신뢰도가 낮은 구간만 요청 프로필로 다시 인식해
+     * 구간별 정제 결과({@code refined})와 합친 최종 결과({@code final})를 이어서 보냅니다.
+     */
+    @PostMapping(value = "/convert/refine",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> convertWithRefinement(SttRequest request) {
+        return draftRefineSttService.convert(request);
+    }
+
+    /**
+     * 다채널 WAV 파일을 채널별로 동시에 인식하고, 화자가 붙은 시간순 녹취록으로 합쳐 응답합니다.
+     */
+    @PostMapping(value = "/convert/channels", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public MultiChannelSttResponse convertChannels(MultiChannelSttRequest request) {
+        return multiChannelSttService.convert(request);
+    }
+
+    /**
+     * 여러 오디오 파일(또는 ZIP)을 한 번에 변환합니다. 파일마다 처리가 끝나는 순서대로 한 줄씩(NDJSON) 응답합니다.
+     */
+    @PostMapping(value = "/batch",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BatchSttItemResponse> convertBatch(BatchSttRequest request) {
+        return batchSttService.convertBatch(request);
+    }
+
     @PostMapping(value = "/stream",
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
             produces = MediaType.TEXT_EVENT_STREAM_VALUE)
@@ -0,0 +1,55 @@
+package com.kjung.springsst.app.speech.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 변환 결과 한 줄 (NDJSON). 파일마다 처리가 끝나는 순서대로 전송됩니다.
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchSttItemResponse {
+    private int index;
+    private boolean success;
+    private String originalFilename;
+    private String transcribedText;
+    private Float confidenceScore;
+    // 단어별 시간 정보 (enableWordTimeOffsets 요청 시, 열 단위 표현)
+    private WordTimings words;
+    private Long processingTimeMs;
+    private Long fileSize;
+    private String errorMessage;
+
+    public static BatchSttItemResponse createSuccessResponse(int index,
+                                                             String filename,
+                                                             long fileSize,
+                                                             TranscriptionResult result,
+                                                             long processingTime) {
+        return BatchSttItemResponse.builder()
+                .index(index)
+                .success(true)
+                .originalFilename(filename)
+                .transcribedText(result.transcription())
+                .confidenceScore(result.averageConfidence())
+                .words(result.words().isEmpty() ? null : result.words())
+                .processingTimeMs(processingTime)
+                .fileSize(fileSize)
+                .build();
+    }
+
+    public static BatchSttItemResponse createErrorResponse(int index,
+                                                           String filename,
+                                                           String errorMessage) {
+        return BatchSttItemResponse.builder()
+                .index(index)
+                .success(false)
+                .originalFilename(filename)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
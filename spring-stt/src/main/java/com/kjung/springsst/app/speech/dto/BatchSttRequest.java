@@ -0,0 +1,28 @@
+package com.kjung.springsst.app.speech.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * 다중 파일 일괄 변환 요청. 개별 오디오 파트({@code files})와 ZIP 압축 파일({@code archive})을 함께 보낼 수 있습니다.
+ */
+@Getter
+@Setter
+public class BatchSttRequest {
+    private List<MultipartFile> files;
+
+    private MultipartFile archive;
+
+    /**
+     * 인식 프로필 이름 (app.stt.profiles), 비어있으면 기본 프로필
+     */
+    private String profile;
+
+    private boolean enableAutomaticPunctuation = true;
+
+    private boolean enableWordTimeOffsets = false;
+
+}
@@ -0,0 +1,36 @@
+package com.kjung.springsst.app.speech.dto;
+
+import java.util.List;
+
+/**
+ * 두 단계 변환의 초안 결과 ({@code draft} 이벤트).
+ *
+ * @param originalFilename 원본 파일명
+ * @param profile          초안 인식 프로필
+ * @param transcribedText  초안 텍스트
+ * @param confidenceScore  초안 평균 신뢰도
+ * @param segments         발화 구간과 재인식 대상 여부
+ * @param processingTimeMs 요청부터 초안까지의 시간 (ms)
+ */
+public record DraftTranscript(
+        String originalFilename,
+        String profile,
+        String transcribedText,
+        float confidenceScore,
+        List<Segment> segments,
+        long processingTimeMs
+) {
+
+    /**
+     * 초안의 발화 구간. 시각은 오디오 시작 기준 ms이며, {@code refine}이면 정제 결과가 뒤따릅니다.
+     */
+    public record Segment(
+            int index,
+            long startMs,
+            long endMs,
+            String text,
+            float confidence,
+            boolean refine
+    ) {
+    }
+}
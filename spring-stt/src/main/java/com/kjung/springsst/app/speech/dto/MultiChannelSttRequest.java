@@ -0,0 +1,29 @@
+package com.kjung.springsst.app.speech.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * 채널 분리 변환 요청. 상담 녹음처럼 채널마다 화자가 다른 다채널 WAV 파일을 채널별로 인식합니다.
+ */
+@Getter
+@Setter
+public class MultiChannelSttRequest {
+    private MultipartFile file;
+
+    /**
+     * 인식 프로필 이름 (app.stt.profiles), 비어있으면 기본 프로필
+     */
+    private String profile;
+
+    private boolean enableAutomaticPunctuation = true;
+
+    /**
+     * 채널 순서대로의 화자 이름 (예: agent,customer), 없는 채널은 ch1, ch2 ...
+     */
+    private List<String> channelLabels;
+
+}
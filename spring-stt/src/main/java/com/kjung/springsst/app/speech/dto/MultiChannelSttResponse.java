@@ -0,0 +1,50 @@
+package com.kjung.springsst.app.speech.dto;
+
+import java.util.List;
+
+/**
+ * 채널 분리 변환 결과.
+ *
+ * @param originalFilename 원본 파일명
+ * @param fileSize         파일 크기 (bytes)
+ * @param durationMs       오디오 길이 (ms)
+ * @param processingTimeMs 처리 시간 (ms), 채널은 동시에 인식하므로 가장 느린 채널의 시간에 가까움
+ * @param transcribedText  화자를 붙여 시간순으로 합친 전체 텍스트 (구간마다 한 줄)
+ * @param channels         채널별 인식 결과
+ * @param segments         시간순으로 정렬한 화자별 발화 구간
+ */
+public record MultiChannelSttResponse(
+        String originalFilename,
+        long fileSize,
+        long durationMs,
+        long processingTimeMs,
+        String transcribedText,
+        List<Channel> channels,
+        List<Segment> segments
+) {
+
+    /**
+     * 채널별 인식 결과. 인식에 실패한 채널은 {@code errorMessage}만 채워집니다.
+     */
+    public record Channel(
+            int channel,
+            String label,
+            boolean success,
+            String transcribedText,
+            Float confidenceScore,
+            String errorMessage
+    ) {
+    }
+
+    /**
+     * 화자별 발화 구간. 시각은 오디오 시작 기준 ms입니다.
+     */
+    public record Segment(
+            int channel,
+            String label,
+            long startMs,
+            long endMs,
+            String text
+    ) {
+    }
+}
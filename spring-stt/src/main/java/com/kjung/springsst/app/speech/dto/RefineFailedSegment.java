@@ -0,0 +1,19 @@
+package com.kjung.springsst.app.speech.dto;
+
+/**
+ * 재인식에 실패해 초안을 유지한 구간 ({@code refine-failed} 이벤트).
+ *
+ * @param index     초안 구간 번호
+ * @param startMs   구간 시작 (ms)
+ * @param endMs     구간 끝 (ms)
+ * @param draftText 유지된 초안 텍스트
+ * @param error     실패 원인
+ */
+public record RefineFailedSegment(
+        int index,
+        long startMs,
+        long endMs,
+        String draftText,
+        String error
+) {
+}
@@ -0,0 +1,21 @@
+package com.kjung.springsst.app.speech.dto;
+
+/**
+ * 신뢰도가 낮아 정제 프로필로 다시 인식한 구간 ({@code refined} 이벤트). 구간마다 완료되는 순서대로 전달됩니다.
+ *
+ * @param index      초안 구간 번호
+ * @param startMs    구간 시작 (ms)
+ * @param endMs      구간 끝 (ms)
+ * @param draftText  초안 텍스트
+ * @param text       정제 텍스트
+ * @param confidence 정제 결과 신뢰도
+ */
+public record RefinedSegment(
+        int index,
+        long startMs,
+        long endMs,
+        String draftText,
+        String text,
+        float confidence
+) {
+}
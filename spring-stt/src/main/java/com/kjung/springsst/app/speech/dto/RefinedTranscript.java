@@ -0,0 +1,25 @@
+package com.kjung.springsst.app.speech.dto;
+
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
+
+/**
+ * 두 단계 변환의 최종 결과 ({@code final} 이벤트). 정제한 구간은 정제 결과로, 나머지는 초안 그대로 합칩니다.
+ *
+ * @param profile          정제 인식 프로필
+ * @param transcribedText  최종 텍스트
+ * @param confidenceScore  구간 신뢰도 평균
+ * @param words            단어별 시간 정보 (enableWordTimeOffsets 요청 시)
+ * @param refinedSegments  정제한 구간 수
+ * @param wholeFile        구간 대신 파일 전체를 다시 인식했는지 여부
+ * @param processingTimeMs 요청부터 최종 결과까지의 시간 (ms)
+ */
+public record RefinedTranscript(
+        String profile,
+        String transcribedText,
+        float confidenceScore,
+        WordTimings words,
+        int refinedSegments,
+        boolean wholeFile,
+        long processingTimeMs
+) {
+}
@@ -9,6 +9,11 @@ import org.springframework.web.multipart.MultipartFile;
 public class SttRequest {
     private MultipartFile file;
 
+    /**
+     * 인식 프로필 이름 (app.stt.profiles), 비어있으면 기본 프로필
+     */
+    private String profile;
+
     private boolean enableAutomaticPunctuation = true;
 
     private boolean enableWordTimeOffsets = false;
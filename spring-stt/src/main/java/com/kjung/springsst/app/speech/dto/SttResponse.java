@@ -1,6 +1,7 @@
 package com.kjung.springsst.app.speech.dto;
 
 import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,6 +13,8 @@ public class SttResponse {
     private String originalFilename;
     private String transcribedText;
     private Float confidenceScore;
+    // 단어별 시간 정보 (enableWordTimeOffsets 요청 시, 열 단위 표현)
+    private WordTimings words;
     private Long processingTimeMs;
     private Long fileSize;
     private String errorMessage;
@@ -28,6 +31,7 @@ public class SttResponse {
                 .originalFilename(request.getFile().getOriginalFilename())
                 .transcribedText(result.transcription())
                 .confidenceScore(result.averageConfidence())
+                .words(result.words().isEmpty() ? null : result.words())
                 .processingTimeMs(processingTime)
                 .fileSize(request.getFile().getSize())
                 .build();
@@ -0,0 +1,23 @@
+package com.kjung.springsst.app.speech.monitor;
+
+import java.io.IOException;
+
+/**
+ * 구독자에게 결과를 보내는 전송 수단 (WebSocket, SSE).
+ * <p>
+ * 구독자마다 전용 전송 스레드에서만 호출되므로 구현체가 전송을 직렬화할 필요는 없습니다.
+ * 전송이 막히면 해당 구독자의 버퍼만 차고, 버퍼가 넘치면 구독이 끊깁니다.
+ * </p>
+ */
+public interface ResultSubscriberSink {
+
+    /**
+     * 직렬화된 메시지(JSON) 전송
+     */
+    void send(String payload) throws IOException;
+
+    /**
+     * 구독 종료. 세션 종료, 느린 구독자 차단, 서버 종료 시 한 번 호출됩니다.
+     */
+    void close(SessionResultHub.CloseReason reason);
+}
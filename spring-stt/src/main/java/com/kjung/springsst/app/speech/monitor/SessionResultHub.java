@@ -0,0 +1,236 @@
+package com.kjung.springsst.app.speech.monitor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실시간 세션 결과의 발행/구독 허브.
+ * <p>
+ * 세션은 결과를 한 번만 발행하고, 대시보드나 QA 도구는 세션 ID로 구독하여 같은 결과를 받습니다.
+ * 구독자가 늘어도 Google 스트림은 세션당 하나이며, 결과는 발행 시 한 번만 직렬화하여 모든 구독자가 공유합니다.
+ * </p>
+ * <p>
+ * 발행은 구독자별 제한 버퍼에 넣기만 하고 바로 반환하며, 전송은 구독자마다 전용 (가상) 스레드가 수행합니다.
+ * 버퍼가 가득 찬 구독자는 느린 구독자로 보고 구독을 끊으므로, 느린 구독자가 세션이나 다른 구독자를 지연시키지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SessionResultHub implements DisposableBean {
+
+    // 세션 종료를 전송 스레드에 알리는 표식 (동일성으로 비교)
+    private static final String END_OF_STREAM = new String("end-of-stream");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final int bufferSize;
+
+    private final int maxSubscribersPerSession;
+
+    private final Counter droppedCounter;
+
+    private final Counter deliveredCounter;
+
+    public SessionResultHub(MeterRegistry meterRegistry,
+                            @Value("${app.stt.monitor.buffer-size:256}") int bufferSize,
+                            @Value("${app.stt.monitor.max-subscribers-per-session:16}") int maxSubscribersPerSession) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxSubscribersPerSession = maxSubscribersPerSession;
+
+        this.droppedCounter = Counter.builder("stt.monitor.dropped")
+                .description("버퍼가 가득 차 끊은 느린 구독자 수")
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("stt.monitor.delivered")
+                .description("구독자에게 전송한 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("stt.monitor.subscribers", topics,
+                        map -> map.values().stream().mapToInt(topic -> topic.subscriptions.size()).sum())
+                .description("현재 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 종료 사유
+     */
+    public enum CloseReason {
+        SESSION_ENDED,
+        SLOW_SUBSCRIBER,
+        UNSUBSCRIBED,
+        SHUTDOWN
+    }
+
+    private static class Topic {
+        private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * 구독 하나. 전송 스레드가 버퍼를 비우며 전송합니다.
+     */
+    public class Subscription {
+
+        private final String sessionId;
+
+        private final ResultSubscriberSink sink;
+
+        private final BlockingQueue<String> buffer = new ArrayBlockingQueue<>(bufferSize);
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private volatile CloseReason closeReason;
+
+        private Subscription(String sessionId, ResultSubscriberSink sink) {
+            this.sessionId = sessionId;
+            this.sink = sink;
+        }
+
+        /**
+         * 구독 해지 (구독자 연결이 닫힌 경우)
+         */
+        public void cancel() {
+            close(CloseReason.UNSUBSCRIBED);
+        }
+
+        private boolean offer(String payload) {
+            return buffer.offer(payload);
+        }
+
+        private void close(CloseReason reason) {
+            if (!closed.compareAndSet(false, true)) return;
+
+            closeReason = reason;
+            Topic topic = topics.get(sessionId);
+            if (topic != null)
+                topic.subscriptions.remove(this);
+
+            // 전송 스레드가 대기 중이면 깨움
+            buffer.clear();
+            buffer.offer(END_OF_STREAM);
+        }
+
+        private void run() {
+            try {
+                while (true) {
+                    String payload = buffer.poll(30, TimeUnit.SECONDS);
+                    if (payload == END_OF_STREAM || (payload == null && closed.get())) break;
+                    if (payload == null || closed.get() && closeReason != CloseReason.SESSION_ENDED) continue;
+
+                    sink.send(payload);
+                    deliveredCounter.increment();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                closeReason = CloseReason.SHUTDOWN;
+            } catch (IOException | RuntimeException e) {
+                log.debug("구독자 전송 실패, 구독 종료: {} - {}", sessionId, e.getMessage());
+                close(CloseReason.UNSUBSCRIBED);
+            }
+
+            sink.close(closeReason != null ? closeReason : CloseReason.UNSUBSCRIBED);
+        }
+    }
+
+    /**
+     * 발행자(세션) 등록. 등록된 세션만 구독할 수 있습니다.
+     */
+    public void open(String sessionId) {
+        topics.putIfAbsent(sessionId, new Topic());
+    }
+
+    /**
+     * 결과 발행. 구독자가 없으면 직렬화하지 않고 바로 반환하며, 호출 스레드를 막지 않습니다.
+     */
+    public void publish(String sessionId, Map<String, Object> data) {
+        Topic topic = topics.get(sessionId);
+        if (topic == null || topic.subscriptions.isEmpty()) return;
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.warn("구독자 메시지 직렬화 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (Subscription subscription : topic.subscriptions) {
+            if (!subscription.offer(payload)) {
+                droppedCounter.increment();
+                log.info("느린 구독자 구독 종료: {} (버퍼: {})", sessionId, bufferSize);
+                subscription.close(CloseReason.SLOW_SUBSCRIBER);
+            }
+        }
+    }
+
+    /**
+     * 세션 종료. 구독자는 버퍼에 남은 결과까지 받은 뒤 종료됩니다.
+     */
+    public void close(String sessionId) {
+        Topic topic = topics.remove(sessionId);
+        if (topic == null) return;
+
+        for (Subscription subscription : topic.subscriptions) {
+            if (!subscription.closed.compareAndSet(false, true)) continue;
+
+            subscription.closeReason = CloseReason.SESSION_ENDED;
+            // 버퍼가 가득 차 표식을 넣지 못하면 남은 결과를 버리고 종료
+            if (!subscription.buffer.offer(END_OF_STREAM)) {
+                subscription.buffer.clear();
+                subscription.buffer.offer(END_OF_STREAM);
+            }
+        }
+    }
+
+    /**
+     * 세션 결과 구독
+     *
+     * @throws IllegalArgumentException 진행 중인 세션이 아닌 경우
+     * @throws IllegalStateException    세션당 최대 구독자 수를 넘은 경우
+     */
+    public Subscription subscribe(String sessionId, ResultSubscriberSink sink) {
+        Topic topic = topics.get(sessionId);
+        if (topic == null)
+            throw new IllegalArgumentException("진행 중인 세션이 아닙니다: " + sessionId);
+
+        if (topic.subscriptions.size() >= maxSubscribersPerSession)
+            throw new IllegalStateException("세션당 최대 구독자 수를 초과했습니다. (최대: " + maxSubscribersPerSession + ")");
+
+        Subscription subscription = new Subscription(sessionId, sink);
+        topic.subscriptions.add(subscription);
+        senders.execute(subscription::run);
+
+        // 구독 중 세션이 끝난 경우
+        if (!topics.containsKey(sessionId))
+            subscription.close(CloseReason.SESSION_ENDED);
+
+        return subscription;
+    }
+
+    @Override
+    public void destroy() {
+        topics.values().forEach(topic -> topic.subscriptions.forEach(subscription -> subscription.close(CloseReason.SHUTDOWN)));
+        topics.clear();
+        senders.shutdown();
+    }
+}
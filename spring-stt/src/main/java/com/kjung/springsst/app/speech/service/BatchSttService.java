@@ -0,0 +1,161 @@
+package com.kjung.springsst.app.speech.service;
+
+import com.kjung.springsst.app.speech.dto.BatchSttItemResponse;
+import com.kjung.springsst.app.speech.dto.BatchSttRequest;
+import com.kjung.springsst.infra.engine.RecognitionEngineRouter;
+import com.kjung.springsst.infra.engine.RecognitionRequestFactory;
+import com.kjung.springsst.infra.engine.scheduling.PriorityClass;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 다중 파일 일괄 변환 서비스.
+ * <p>
+ * 업로드된 오디오 파트와 ZIP 압축 파일의 항목을 제한된 동시성으로 인식하고,
+ * 파일마다 처리가 끝나는 즉시(완료 순서) 결과를 내보냅니다. 개별 파일의 실패는 해당 줄의 오류로만 기록됩니다.
+ * 실시간 요청이 밀리지 않도록 {@link PriorityClass#BATCH} 등급으로 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class BatchSttService {
+
+    // macOS에서 압축 시 함께 들어가는 메타데이터 디렉터리
+    private static final String MACOS_METADATA_PREFIX = "__MACOSX/";
+
+    private final RecognitionRequestFactory recognitionRequestFactory;
+
+    private final RecognitionEngineRouter engineRouter;
+
+    private final int parallelism;
+
+    private final int maxFiles;
+
+    public BatchSttService(RecognitionRequestFactory recognitionRequestFactory,
+                           RecognitionEngineRouter engineRouter,
+                           @Value("${app.stt.batch.parallelism:4}") int parallelism,
+                           @Value("${app.stt.batch.max-files:200}") int maxFiles) {
+        this.recognitionRequestFactory = recognitionRequestFactory;
+        this.engineRouter = engineRouter;
+        this.parallelism = parallelism;
+        this.maxFiles = maxFiles;
+    }
+
+    /**
+     * 배치 항목. 오디오 데이터는 처리 스레드에서 읽습니다.
+     */
+    private record BatchEntry(String filename, long fileSize, Callable<RecognitionRequest> requestReader) {
+    }
+
+    /**
+     * 일괄 변환 수행.
+     *
+     * @throws IllegalArgumentException 변환할 파일이 없는 경우
+     */
+    public Flux<BatchSttItemResponse> convertBatch(BatchSttRequest request) {
+        List<MultipartFile> files = request.getFiles() != null ? request.getFiles() : List.of();
+        MultipartFile archive = request.getArchive();
+
+        if (files.isEmpty() && (archive == null || archive.isEmpty()))
+            throw new IllegalArgumentException("변환할 파일이 없습니다.");
+
+        String profile = request.getProfile();
+        boolean punctuation = request.isEnableAutomaticPunctuation();
+        boolean wordTimeOffsets = request.isEnableWordTimeOffsets();
+
+        Flux<BatchEntry> parts = Flux.fromIterable(files)
+                .map(file -> new BatchEntry(file.getOriginalFilename(), file.getSize(),
+                        () -> recognitionRequestFactory.create(file, profile, punctuation, wordTimeOffsets)));
+
+        // 최대 개수를 넘는 첫 항목까지만 읽어 초과 여부를 알림
+        return Flux.concat(parts, archiveEntries(archive, profile, punctuation, wordTimeOffsets))
+                .take(maxFiles + 1L)
+                .index()
+                .flatMap(indexed -> process(indexed.getT1().intValue(), indexed.getT2()), parallelism);
+    }
+
+    private Mono<BatchSttItemResponse> process(int index, BatchEntry entry) {
+        if (index >= maxFiles)
+            return Mono.just(BatchSttItemResponse.createErrorResponse(index, entry.filename(),
+                    String.format("한 번에 최대 %d개 파일까지 처리합니다. 이후 파일은 처리하지 않았습니다.", maxFiles)));
+
+        return Mono.fromCallable(() -> {
+                    long startTime = System.currentTimeMillis();
+
+                    RecognitionRequest recognitionRequest = entry.requestReader().call();
+                    TranscriptionResult result = engineRouter.recognize(recognitionRequest, PriorityClass.BATCH);
+
+                    long processingTime = System.currentTimeMillis() - startTime;
+                    return BatchSttItemResponse.createSuccessResponse(
+                            index, entry.filename(), entry.fileSize(), result, processingTime);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("일괄 변환 실패 - [{}] {}: {}", index, entry.filename(), e.getMessage());
+                    return Mono.just(BatchSttItemResponse.createErrorResponse(index, entry.filename(), e.getMessage()));
+                });
+    }
+
+    /**
+     * ZIP 항목을 요청받는 만큼만 순차적으로 읽습니다. 파일 크기 제한을 넘는 항목은 제한 + 1 바이트까지만 읽어
+     * 요청 변환 시 크기 검증에서 실패하도록 합니다.
+     */
+    private Flux<BatchEntry> archiveEntries(MultipartFile archive,
+                                            String profile,
+                                            boolean punctuation,
+                                            boolean wordTimeOffsets) {
+        if (archive == null || archive.isEmpty()) return Flux.empty();
+
+        int readLimit = (int) Math.min(recognitionRequestFactory.getMaxFileSize() + 1, Integer.MAX_VALUE - 8);
+
+        return Flux.using(
+                () -> new ZipInputStream(archive.getInputStream()),
+                zip -> Flux.<BatchEntry>generate(sink -> {
+                    try {
+                        ZipEntry zipEntry = zip.getNextEntry();
+                        while (zipEntry != null
+                                && (zipEntry.isDirectory() || zipEntry.getName().startsWith(MACOS_METADATA_PREFIX))) {
+                            zipEntry = zip.getNextEntry();
+                        }
+
+                        if (zipEntry == null) {
+                            sink.complete();
+                            return;
+                        }
+
+                        String filename = zipEntry.getName();
+                        byte[] audio = zip.readNBytes(readLimit);
+
+                        sink.next(new BatchEntry(filename, audio.length,
+                                () -> recognitionRequestFactory.create(filename, audio, profile, punctuation, wordTimeOffsets)));
+
+                    } catch (IOException e) {
+                        // 손상된 압축 파일은 오류 한 줄로 알리고 이후 항목은 읽지 않음
+                        sink.next(new BatchEntry(archive.getOriginalFilename(), archive.getSize(), () -> {
+                            throw new IllegalArgumentException("압축 파일을 읽을 수 없습니다: " + e.getMessage());
+                        }));
+                        sink.complete();
+                    }
+                }),
+                zip -> {
+                    try {
+                        zip.close();
+                    } catch (IOException e) {
+                        log.debug("Error closing batch archive", e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,271 @@
+package com.kjung.springsst.app.speech.service;
+
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.kjung.springsst.app.file.util.WavHeader;
+import com.kjung.springsst.app.speech.dto.DraftTranscript;
+import com.kjung.springsst.app.speech.dto.RefineFailedSegment;
+import com.kjung.springsst.app.speech.dto.RefinedSegment;
+import com.kjung.springsst.app.speech.dto.RefinedTranscript;
+import com.kjung.springsst.app.speech.dto.SttRequest;
+import com.kjung.springsst.infra.engine.RecognitionEngineRouter;
+import com.kjung.springsst.infra.engine.RecognitionRequestFactory;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 두 단계(초안 → 정제) 파일 변환 서비스.
+ * <p>
+ * 빠른 초안 프로필로 먼저 인식해 {@code draft} 이벤트로 바로 보내고, 단어 간격으로 나눈 발화 구간 중
+ * 신뢰도가 임계치보다 낮은 구간만 요청 프로필(정확도 우선)로 다시 인식합니다. 정제 결과는 구간마다
+ * {@code refined} 이벤트로, 합친 결과는 {@code final} 이벤트로 보냅니다.
+ * </p>
+ * <p>
+ * 구간 재인식은 PCM WAV를 잘라 동시에 실행합니다. 구간을 자를 수 없는 압축 포맷이거나 재인식 구간이 너무 많으면
+ * 파일 전체를 한 번 다시 인식합니다. 구간 재인식이 실패하면 해당 구간은 초안을 유지하고 {@code refine-failed} 이벤트를 보냅니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class DraftRefineSttService {
+
+    private static final String EVENT_DRAFT = "draft";
+
+    private static final String EVENT_REFINED = "refined";
+
+    private static final String EVENT_REFINE_FAILED = "refine-failed";
+
+    private static final String EVENT_FINAL = "final";
+
+    private final RecognitionRequestFactory recognitionRequestFactory;
+
+    private final RecognitionEngineRouter engineRouter;
+
+    private final String draftProfile;
+
+    private final float confidenceThreshold;
+
+    private final int maxSegments;
+
+    private final long segmentPauseMs;
+
+    private final long segmentMaxMs;
+
+    private final long paddingMs;
+
+    private final Counter refinedCounter;
+
+    private final Counter failedCounter;
+
+    private final Counter wholeFileCounter;
+
+    public DraftRefineSttService(RecognitionRequestFactory recognitionRequestFactory,
+                                 RecognitionEngineRouter engineRouter,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.stt.refine.draft-profile:draft-fast}") String draftProfile,
+                                 @Value("${app.stt.refine.confidence-threshold:0.85}") float confidenceThreshold,
+                                 @Value("${app.stt.refine.max-segments:20}") int maxSegments,
+                                 @Value("${app.stt.refine.segment-pause-ms:700}") long segmentPauseMs,
+                                 @Value("${app.stt.refine.segment-max-ms:15000}") long segmentMaxMs,
+                                 @Value("${app.stt.refine.padding-ms:150}") long paddingMs) {
+        this.recognitionRequestFactory = recognitionRequestFactory;
+        this.engineRouter = engineRouter;
+        this.draftProfile = draftProfile;
+        this.confidenceThreshold = confidenceThreshold;
+        this.maxSegments = maxSegments;
+        this.segmentPauseMs = segmentPauseMs;
+        this.segmentMaxMs = segmentMaxMs;
+        this.paddingMs = paddingMs;
+
+        this.refinedCounter = segmentCounter(meterRegistry, "refined");
+        this.failedCounter = segmentCounter(meterRegistry, "failed");
+        this.wholeFileCounter = Counter.builder("stt.refine.whole-file")
+                .description("구간 대신 파일 전체를 다시 인식한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 두 단계 변환 수행. 요청의 프로필이 정제 프로필이며, 비어있으면 기본 프로필입니다.
+     *
+     * @throws IllegalArgumentException 파일이 잘못되었거나 존재하지 않는 프로필인 경우
+     */
+    public Flux<ServerSentEvent<Object>> convert(SttRequest sttRequest) {
+        // 응답이 끝나기 전에 업로드 임시 파일이 정리될 수 있으므로 요청 스레드에서 먼저 읽음
+        // 구간을 나누려면 단어 시각이 필요하므로 항상 요청
+        RecognitionRequest refineRequest = recognitionRequestFactory.create(
+                sttRequest.getFile(),
+                sttRequest.getProfile(),
+                sttRequest.isEnableAutomaticPunctuation(),
+                true
+        );
+        RecognitionRequest draftRequest = recognitionRequestFactory.withProfile(refineRequest, draftProfile);
+        boolean includeWords = sttRequest.isEnableWordTimeOffsets();
+
+        return Flux.<ServerSentEvent<Object>>create(sink -> {
+                    try {
+                        run(draftRequest, refineRequest, includeWords, sink);
+                        sink.complete();
+                    } catch (RuntimeException e) {
+                        log.warn("두 단계 변환 실패 - {}: {}", refineRequest.filename(), e.getMessage());
+                        sink.error(e);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void run(RecognitionRequest draftRequest,
+                     RecognitionRequest refineRequest,
+                     boolean includeWords,
+                     FluxSink<ServerSentEvent<Object>> sink) {
+        long startTime = System.currentTimeMillis();
+
+        TranscriptionResult draft = engineRouter.recognize(draftRequest);
+        WordTimings words = draft.words();
+        List<WordTimings.Span> spans = words.splitAtPauses(segmentPauseMs, segmentMaxMs);
+
+        List<DraftTranscript.Segment> segments = new ArrayList<>(spans.size());
+        for (int i = 0; i < spans.size(); i++) {
+            WordTimings.Span span = spans.get(i);
+            // 단어 신뢰도를 주지 않는 프로필이면 결과 평균으로 판단
+            float confidence = words.averageConfidence(span);
+            if (confidence == 0f) confidence = draft.averageConfidence();
+
+            segments.add(new DraftTranscript.Segment(i, words.startMs(span.from()), words.endMs(span.to() - 1),
+                    words.text(span), confidence, confidence < confidenceThreshold));
+        }
+
+        long refineCount = segments.stream().filter(DraftTranscript.Segment::refine).count();
+        WavHeader header = refineRequest.encoding() == RecognitionConfig.AudioEncoding.LINEAR16
+                ? WavHeader.parse(refineRequest.audio())
+                : null;
+        boolean wholeFile = (spans.isEmpty() && draft.averageConfidence() < confidenceThreshold)
+                || (refineCount > 0 && (header == null || refineCount > maxSegments));
+
+        sink.next(event(EVENT_DRAFT, new DraftTranscript(draftRequest.filename(), draftRequest.profile(),
+                draft.transcription(), draft.averageConfidence(), segments,
+                System.currentTimeMillis() - startTime)));
+
+        if (sink.isCancelled()) return;
+
+        if (wholeFile) {
+            wholeFileCounter.increment();
+            TranscriptionResult refined = engineRouter.recognize(refineRequest);
+
+            sink.next(event(EVENT_FINAL, new RefinedTranscript(refineRequest.profile(), refined.transcription(),
+                    refined.averageConfidence(), wordsOrNull(refined.words(), includeWords), segments.size(), true,
+                    System.currentTimeMillis() - startTime)));
+            return;
+        }
+
+        TranscriptionResult[] refined = refineSegments(refineRequest, header, segments, sink);
+
+        StringBuilder text = new StringBuilder();
+        WordTimings.Builder merged = WordTimings.builder();
+        float totalConfidence = 0f;
+        int refinedSegments = 0;
+
+        for (DraftTranscript.Segment segment : segments) {
+            TranscriptionResult result = refined[segment.index()];
+            if (!text.isEmpty()) text.append(' ');
+
+            if (result == null) {
+                text.append(segment.text());
+                merged.addAll(words, spans.get(segment.index()), 0);
+                totalConfidence += segment.confidence();
+                continue;
+            }
+
+            text.append(result.transcription());
+            // 정제 결과의 단어 시각은 잘라낸 구간 시작 기준
+            merged.addAll(result.words(), new WordTimings.Span(0, result.words().size()), clipStartMs(segment));
+            totalConfidence += result.averageConfidence();
+            refinedSegments++;
+        }
+
+        // 단어 시각이 없어 구간을 나누지 못한 초안은 그대로 최종 결과
+        String finalText = segments.isEmpty() ? draft.transcription() : text.toString();
+        float finalConfidence = segments.isEmpty() ? draft.averageConfidence() : totalConfidence / segments.size();
+
+        sink.next(event(EVENT_FINAL, new RefinedTranscript(refineRequest.profile(), finalText, finalConfidence,
+                wordsOrNull(merged.build(), includeWords), refinedSegments, false,
+                System.currentTimeMillis() - startTime)));
+    }
+
+    /**
+     * 재인식 대상 구간을 가상 스레드에서 동시에 인식하고, 끝나는 순서대로 {@code refined} 이벤트를 보냅니다.
+     *
+     * @return 구간 번호별 정제 결과, 대상이 아니거나 실패한 구간은 {@code null}
+     */
+    private TranscriptionResult[] refineSegments(RecognitionRequest refineRequest,
+                                                 WavHeader header,
+                                                 List<DraftTranscript.Segment> segments,
+                                                 FluxSink<ServerSentEvent<Object>> sink) {
+        TranscriptionResult[] refined = new TranscriptionResult[segments.size()];
+
+        // close()가 모든 작업의 종료를 기다리므로 이후 배열 읽기는 작업의 쓰기 이후에 일어남
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (DraftTranscript.Segment segment : segments) {
+                if (!segment.refine()) continue;
+
+                executor.submit(() -> {
+                    long clipStartMs = clipStartMs(segment);
+                    long clipEndMs = segment.endMs() + paddingMs;
+                    byte[] clip = header.slice(refineRequest.audio(), clipStartMs, clipEndMs);
+
+                    try {
+                        TranscriptionResult result = engineRouter.recognize(refineRequest.withAudio(
+                                refineRequest.filename() + "#" + segment.index(), clip, clipEndMs - clipStartMs));
+                        refined[segment.index()] = result;
+                        refinedCounter.increment();
+
+                        sink.next(event(EVENT_REFINED, new RefinedSegment(segment.index(), segment.startMs(),
+                                segment.endMs(), segment.text(), result.transcription(), result.averageConfidence())));
+
+                    } catch (RuntimeException e) {
+                        failedCounter.increment();
+                        log.warn("구간 재인식 실패, 초안 유지 - {}#{}: {}",
+                                refineRequest.filename(), segment.index(), e.getMessage());
+
+                        sink.next(event(EVENT_REFINE_FAILED, new RefineFailedSegment(segment.index(), segment.startMs(),
+                                segment.endMs(), segment.text(), e.getMessage())));
+                    }
+                });
+            }
+        }
+
+        return refined;
+    }
+
+    private long clipStartMs(DraftTranscript.Segment segment) {
+        return Math.max(0, segment.startMs() - paddingMs);
+    }
+
+    private static WordTimings wordsOrNull(WordTimings words, boolean includeWords) {
+        return includeWords && !words.isEmpty() ? words : null;
+    }
+
+    private static ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
+
+    private static Counter segmentCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("stt.refine.segments")
+                .description("초안에서 신뢰도가 낮아 다시 인식한 구간 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
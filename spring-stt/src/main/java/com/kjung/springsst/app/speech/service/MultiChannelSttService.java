@@ -0,0 +1,246 @@
+package com.kjung.springsst.app.speech.service;
+
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.kjung.springsst.app.file.util.WavHeader;
+import com.kjung.springsst.app.speech.dto.MultiChannelSttRequest;
+import com.kjung.springsst.app.speech.dto.MultiChannelSttResponse;
+import com.kjung.springsst.app.transcript.index.TranscriptIndex;
+import com.kjung.springsst.infra.engine.NoSpeechRecognizedException;
+import com.kjung.springsst.infra.engine.RecognitionEngineRouter;
+import com.kjung.springsst.infra.engine.RecognitionRequestFactory;
+import com.kjung.springsst.infra.engine.scheduling.CapacityExceededException;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 다채널 녹음의 채널 분리 인식 서비스.
+ * <p>
+ * 섞인 스트림 하나로 인식하면 화자가 구분되지 않으므로, 서버에서 PCM 채널을 모노 WAV로 나누어
+ * 채널마다 별도의 인식 요청으로 동시에 실행합니다. 전체 처리 시간은 가장 느린 채널 하나의 시간에 가깝습니다.
+ * 채널별 단어 시각으로 발화 구간을 나눈 뒤, 시작 시각 순으로 합쳐 화자가 붙은 녹취록을 만듭니다.
+ * </p>
+ * <p>
+ * 일부 채널만 실패하면 해당 채널에 오류를 기록하고 나머지 결과를 반환합니다. 음성이 없는 채널은 빈 텍스트로 성공 처리하며,
+ * 모든 채널에 음성이 없을 때만 요청 전체의 실패로 처리합니다. 잘못된 요청과 실행 슬롯 부족도 요청 전체의 실패입니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class MultiChannelSttService {
+
+    private final RecognitionRequestFactory recognitionRequestFactory;
+
+    private final RecognitionEngineRouter engineRouter;
+
+    // 녹취록 색인을 켠 경우에만 존재
+    private final ObjectProvider<TranscriptIndex> transcriptIndex;
+
+    private final int maxChannels;
+
+    private final long segmentPauseMs;
+
+    public MultiChannelSttService(RecognitionRequestFactory recognitionRequestFactory,
+                                  RecognitionEngineRouter engineRouter,
+                                  ObjectProvider<TranscriptIndex> transcriptIndex,
+                                  @Value("${app.stt.multi-channel.max-channels:8}") int maxChannels,
+                                  @Value("${app.stt.multi-channel.segment-pause-ms:700}") long segmentPauseMs) {
+        this.recognitionRequestFactory = recognitionRequestFactory;
+        this.engineRouter = engineRouter;
+        this.transcriptIndex = transcriptIndex;
+        this.maxChannels = maxChannels;
+        this.segmentPauseMs = segmentPauseMs;
+    }
+
+    /**
+     * 채널별 인식 결과 또는 오류
+     */
+    private record ChannelOutcome(TranscriptionResult result, RuntimeException error) {
+    }
+
+    /**
+     * 채널 분리 변환 수행.
+     *
+     * @throws IllegalArgumentException PCM WAV가 아니거나 채널 수/화자 이름이 제한을 벗어난 경우, 잘못된 요청인 경우
+     * @throws RuntimeException         모든 채널의 인식이 실패한 경우 첫 채널의 오류
+     */
+    public MultiChannelSttResponse convert(MultiChannelSttRequest request) {
+        long startTime = System.currentTimeMillis();
+
+        // 채널을 시간순으로 합치려면 단어 시각이 필요
+        RecognitionRequest recognitionRequest = recognitionRequestFactory.create(
+                request.getFile(),
+                request.getProfile(),
+                request.isEnableAutomaticPunctuation(),
+                true
+        );
+
+        // 압축 포맷(FLAC 등)은 디코딩 없이 채널을 나눌 수 없음
+        if (recognitionRequest.encoding() != RecognitionConfig.AudioEncoding.LINEAR16)
+            throw new IllegalArgumentException(String.format(
+                    "채널 분리 변환은 PCM WAV 파일만 지원합니다. (입력: %s)", recognitionRequest.encoding()));
+
+        WavHeader header = WavHeader.parse(recognitionRequest.audio());
+        if (header == null)
+            throw new IllegalArgumentException("WAV 헤더를 읽을 수 없습니다.");
+
+        if (header.channels() > maxChannels)
+            throw new IllegalArgumentException(String.format(
+                    "채널 수가 제한을 초과합니다. (현재: %d, 최대: %d)", header.channels(), maxChannels));
+
+        List<String> labels = labels(request.getChannelLabels(), header.channels());
+
+        // 채널 오디오는 원본 샘플 레이트의 모노 WAV 헤더를 가지며, 엔진은 프로필 대신 이 헤더 값으로 요청함
+        byte[][] channelAudio = header.splitChannels(recognitionRequest.audio());
+        List<RecognitionRequest> channelRequests = new ArrayList<>(channelAudio.length);
+        for (int channel = 0; channel < channelAudio.length; channel++) {
+            channelRequests.add(recognitionRequest.withAudio(
+                    recognitionRequest.filename() + "#" + labels.get(channel), channelAudio[channel],
+                    recognitionRequest.durationMs()));
+        }
+
+        List<ChannelOutcome> outcomes = recognizeChannels(channelRequests);
+        if (outcomes.stream().allMatch(outcome -> outcome.error() != null))
+            throw outcomes.getFirst().error();
+        if (outcomes.stream().allMatch(outcome -> outcome.result() != null && outcome.result().transcription().isEmpty()))
+            throw new NoSpeechRecognizedException("모든 채널에서 음성을 인식할 수 없습니다. 오디오 파일을 확인해주세요.");
+
+        List<MultiChannelSttResponse.Channel> channels = new ArrayList<>(outcomes.size());
+        List<MultiChannelSttResponse.Segment> segments = new ArrayList<>();
+        String requestId = UUID.randomUUID().toString();
+
+        for (int channel = 0; channel < outcomes.size(); channel++) {
+            ChannelOutcome outcome = outcomes.get(channel);
+            String label = labels.get(channel);
+
+            if (outcome.error() != null) {
+                log.warn("채널 인식 실패 - {} [{}]: {}", recognitionRequest.filename(), label, outcome.error().getMessage());
+                channels.add(new MultiChannelSttResponse.Channel(
+                        channel + 1, label, false, null, null, outcome.error().getMessage()));
+                continue;
+            }
+
+            TranscriptionResult result = outcome.result();
+            if (result.transcription().isEmpty()) {
+                // 무음 채널 (보류 중인 상담원, 한쪽만 녹음된 통화 등)
+                channels.add(new MultiChannelSttResponse.Channel(channel + 1, label, true, "", null, null));
+                continue;
+            }
+
+            channels.add(new MultiChannelSttResponse.Channel(
+                    channel + 1, label, true, result.transcription(), result.averageConfidence(), null));
+            addSegments(segments, channel + 1, label, result, header.durationMs());
+
+            String channelFilename = channelRequests.get(channel).filename();
+            transcriptIndex.ifAvailable(index -> index.addFileTranscript(requestId,
+                    channelFilename, result, header.durationMs()));
+        }
+
+        segments.sort(Comparator.comparingLong(MultiChannelSttResponse.Segment::startMs)
+                .thenComparingInt(MultiChannelSttResponse.Segment::channel));
+
+        String transcribedText = segments.stream()
+                .map(segment -> segment.label() + ": " + segment.text())
+                .collect(Collectors.joining("\n"));
+
+        return new MultiChannelSttResponse(
+                recognitionRequest.filename(),
+                request.getFile().getSize(),
+                header.durationMs(),
+                System.currentTimeMillis() - startTime,
+                transcribedText,
+                channels,
+                segments
+        );
+    }
+
+    /**
+     * 채널마다 가상 스레드에서 라우터를 호출하고 모든 채널이 끝날 때까지 기다립니다.
+     * 채널마다 인식 실행 슬롯을 따로 받습니다.
+     */
+    private List<ChannelOutcome> recognizeChannels(List<RecognitionRequest> channelRequests) {
+        List<Future<TranscriptionResult>> futures;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            futures = channelRequests.stream()
+                    .map(channelRequest -> executor.submit(() -> engineRouter.recognize(channelRequest)))
+                    .toList();
+        }
+
+        List<ChannelOutcome> outcomes = new ArrayList<>(futures.size());
+        for (Future<TranscriptionResult> future : futures) {
+            try {
+                outcomes.add(new ChannelOutcome(future.get(), null));
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("채널 인식 대기 중 인터럽트가 발생했습니다.", e);
+            } catch (ExecutionException e) {
+                // 음성이 없는 채널은 빈 결과, 그 외 잘못된 요청은 요청 전체의 오류
+                if (e.getCause() instanceof NoSpeechRecognizedException) {
+                    outcomes.add(new ChannelOutcome(new TranscriptionResult("", 0f), null));
+                    continue;
+                }
+                if (e.getCause() instanceof IllegalArgumentException
+                        || e.getCause() instanceof CapacityExceededException)
+                    throw (RuntimeException) e.getCause();
+
+                RuntimeException error = e.getCause() instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new RuntimeException(e.getCause());
+                outcomes.add(new ChannelOutcome(null, error));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * 단어 사이 간격이 {@code segmentPauseMs} 이상이면 구간을 나눕니다. 단어 시각이 없으면 채널 전체를 한 구간으로 둡니다.
+     */
+    private void addSegments(List<MultiChannelSttResponse.Segment> segments,
+                             int channel,
+                             String label,
+                             TranscriptionResult result,
+                             long durationMs) {
+        WordTimings words = result.words();
+        if (words.isEmpty()) {
+            segments.add(new MultiChannelSttResponse.Segment(channel, label, 0, durationMs, result.transcription()));
+            return;
+        }
+
+        for (WordTimings.Span span : words.splitAtPauses(segmentPauseMs, Long.MAX_VALUE)) {
+            segments.add(new MultiChannelSttResponse.Segment(
+                    channel, label, words.startMs(span.from()), words.endMs(span.to() - 1), words.text(span)));
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 화자 이름이 채널 수보다 많은 경우
+     */
+    private static List<String> labels(List<String> channelLabels, int channels) {
+        List<String> given = channelLabels != null ? channelLabels : List.of();
+        if (given.size() > channels)
+            throw new IllegalArgumentException(String.format(
+                    "화자 이름이 채널 수보다 많습니다. (채널: %d, 화자: %s)", channels, given));
+
+        List<String> labels = new ArrayList<>(channels);
+        for (int channel = 0; channel < channels; channel++) {
+            String label = channel < given.size() ? given.get(channel).trim() : "";
+            labels.add(label.isEmpty() ? "ch" + (channel + 1) : label);
+        }
+        return labels;
+    }
+}
@@ -1,50 +1,58 @@
 package com.kjung.springsst.app.speech.service;
 
-import com.google.api.gax.rpc.ApiStreamObserver;
-import com.google.api.gax.rpc.BidiStreamingCallable;
-import com.google.cloud.speech.v1.*;
-import com.google.protobuf.ByteString;
+import com.google.cloud.speech.v1.RecognitionConfig;
 import com.kjung.springsst.app.speech.dto.SttRequest;
 import com.kjung.springsst.app.speech.dto.SttResponse;
-import com.kjung.springsst.infra.googleStt.GoogleSttHelper;
+import com.kjung.springsst.app.transcript.index.TranscriptIndex;
+import com.kjung.springsst.infra.engine.RecognitionEngineRouter;
+import com.kjung.springsst.infra.engine.RecognitionRequestFactory;
+import com.kjung.springsst.infra.engine.StreamingRecognition;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.constants.GoogleSttModel;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
 import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import reactor.core.publisher.Flux;
 
-import java.util.concurrent.CountDownLatch;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SttService {
 
-    private final GoogleSttHelper googleSttHelper;
+    private final RecognitionRequestFactory recognitionRequestFactory;
 
-    private final SpeechClient speechClient;
+    private final RecognitionEngineRouter engineRouter;
 
-    public SpeechClient getSpeechClient() {
-        return speechClient;
-    }
+    // 녹취록 색인을 켠 경우에만 존재
+    private final ObjectProvider<TranscriptIndex> transcriptIndex;
 
     /**
-     * 동기식 음성 인식 수행 (Google Cloud Speech-to-Text).
+     * 동기식 음성 인식 수행. 요청마다 라우터가 인식 엔진을 선택합니다.
      */
     public SttResponse convertSpeechToText(SttRequest sttRequest) {
 
         long startTime = System.currentTimeMillis();
 
-        TranscriptionResult transcriptionResult =
-                googleSttHelper.recognizeSync(
-                        sttRequest.getFile(),
-                        sttRequest.isEnableAutomaticPunctuation(),
-                        sttRequest.isEnableWordTimeOffsets()
-                );
+        RecognitionRequest recognitionRequest = recognitionRequestFactory.create(
+                sttRequest.getFile(),
+                sttRequest.getProfile(),
+                sttRequest.isEnableAutomaticPunctuation(),
+                sttRequest.isEnableWordTimeOffsets()
+        );
+
+        TranscriptionResult transcriptionResult = engineRouter.recognize(recognitionRequest);
 
         long processingTime = System.currentTimeMillis() - startTime;
 
+        transcriptIndex.ifAvailable(index -> index.addFileTranscript(UUID.randomUUID().toString(),
+                recognitionRequest.filename(), transcriptionResult, recognitionRequest.durationMs()));
+
         return SttResponse.createSuccessResponse(sttRequest, transcriptionResult, processingTime);
 
     }
@@ -52,74 +60,41 @@ public class SttService {
     public Flux<String> streamSpeechToText(MultipartFile audio) {
         return Flux.create(sink -> {
             try {
-                ByteString audioData = ByteString.copyFrom(audio.getBytes());
+                byte[] audioData = audio.getBytes();
 
                 // 스트리밍 설정
-                StreamingRecognitionConfig config = StreamingRecognitionConfig.newBuilder()
-                        .setConfig(RecognitionConfig.newBuilder()
-//                                .setEncoding(RecognitionConfig.AudioEncoding.WEBM_OPUS)
-                                .setEncoding(RecognitionConfig.AudioEncoding.LINEAR16)
-                                .setSampleRateHertz(16000)
-                                .setLanguageCode("ko-KR")
-                                .setEnableAutomaticPunctuation(false)
-                                .build())
-                        .setInterimResults(false) // 중간 결과도 반환
-                        .build();
-
-                BidiStreamingCallable<StreamingRecognizeRequest, StreamingRecognizeResponse> callable =
-                        speechClient.streamingRecognizeCallable();
-
-                CountDownLatch finishLatch = new CountDownLatch(1);
-
-                ApiStreamObserver<StreamingRecognizeResponse> responseObserver =
-                        new ApiStreamObserver<StreamingRecognizeResponse>() {
-                            @Override
-                            public void onNext(StreamingRecognizeResponse response) {
-                                for (StreamingRecognitionResult result : response.getResultsList()) {
-                                    SpeechRecognitionAlternative alternative = result.getAlternativesList().get(0);
-                                    sink.next(alternative.getTranscript());
-
-                                    if (result.getIsFinal()) {
-                                        sink.complete();
-                                        finishLatch.countDown();
-                                    }
-                                }
-                            }
-
-                            @Override
-                            public void onError(Throwable t) {
-                                sink.error(t);
-                                finishLatch.countDown();
-                            }
-
-                            @Override
-                            public void onCompleted() {
+                StreamingSessionConfig config = new StreamingSessionConfig(
+//                        RecognitionConfig.AudioEncoding.WEBM_OPUS,
+                        RecognitionConfig.AudioEncoding.LINEAR16,
+                        16000,
+                        "ko-KR",
+                        false, // 최종 결과만 반환
+                        GoogleSttModel.DEFAULT_MODEL,
+                        false,
+                        false
+                );
+
+                StreamingRecognition stream = engineRouter.openStream(
+                        config,
+                        result -> {
+                            sink.next((String) result.get("transcript"));
+
+                            if (Boolean.TRUE.equals(result.get("isFinal")))
+                                sink.complete();
+                        },
+                        error -> {
+                            if (error != null)
+                                sink.error(error);
+                            else
                                 sink.complete();
-                                finishLatch.countDown();
-                            }
-                        };
-
-                ApiStreamObserver<StreamingRecognizeRequest> requestObserver =
-                        callable.bidiStreamingCall(responseObserver);
-
-                // 첫 번째 요청 - 설정
-                StreamingRecognizeRequest.Builder requestBuilder = StreamingRecognizeRequest.newBuilder()
-                        .setStreamingConfig(config);
-                requestObserver.onNext(requestBuilder.build());
-
-                // 두 번째 요청 - 오디오 데이터
-                requestBuilder.clearStreamingConfig();
-                requestBuilder.setAudioContent(audioData);
-                requestObserver.onNext(requestBuilder.build());
-
-                requestObserver.onCompleted();
-
-                try {
-                    finishLatch.await();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    sink.error(e);
-                }
+                        });
+
+                // 오디오 데이터 전송 후 스트림 종료
+                stream.sendAudioData(audioData);
+                stream.close();
+
+                sink.onCancel(stream::close);
+
             } catch (Exception e) {
                 log.error("streaming error", e);
                 sink.error(e);
@@ -127,4 +102,4 @@ public class SttService {
         });
     }
 
-}
\ No newline at end of file
+}
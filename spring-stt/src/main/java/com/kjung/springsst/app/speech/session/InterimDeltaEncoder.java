@@ -0,0 +1,95 @@
+package com.kjung.springsst.app.speech.session;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 중간 결과 델타 인코더 (세션 설정 {@code interimDelta: true}).
+ * <p>
+ * 중간 결과는 수정될 때마다 발화 전체 텍스트가 다시 오므로, 직전에 보낸 중간 결과와의 공통 접두사 길이와
+ * 바뀐 접미사만 보냅니다. 최종 결과는 전체 텍스트를 그대로 보내고 다음 발화를 위해 상태를 초기화합니다.
+ * </p>
+ * <pre>
+ * {"isFinal": false, "stablePrefix": 12, "suffix": "...", ...}
+ * 클라이언트: transcript = previous.slice(0, stablePrefix) + suffix
+ * </pre>
+ * 길이는 UTF-16 코드 단위(Java {@code String}, JavaScript 문자열 인덱스)이며 서로게이트 쌍을 나누지 않습니다.
+ * 실제로 전송하는 순서대로 호출해야 하며, 연결이 바뀌거나 인코딩한 결과를 전달하지 못하면
+ * {@link #reset()}으로 다음 중간 결과를 전체로 보냅니다.
+ */
+final class InterimDeltaEncoder {
+
+    private final Counter savedBytesCounter;
+
+    private final Counter sentBytesCounter;
+
+    private String previous = "";
+
+    InterimDeltaEncoder(Counter savedBytesCounter, Counter sentBytesCounter) {
+        this.savedBytesCounter = savedBytesCounter;
+        this.sentBytesCounter = sentBytesCounter;
+    }
+
+    /**
+     * 결과 메시지를 전송 형식으로 변환합니다. 결과가 아닌 메시지와 최종 결과는 그대로 반환합니다.
+     */
+    Map<String, Object> encode(Map<String, Object> data) {
+        if (!(data.get("transcript") instanceof String transcript)) return data;
+
+        if (Boolean.TRUE.equals(data.get("isFinal"))) {
+            previous = "";
+            return data;
+        }
+
+        int prefix = commonPrefixLength(previous, transcript);
+        String suffix = transcript.substring(prefix);
+        previous = transcript;
+
+        savedBytesCounter.increment(utf8Length(transcript, 0, prefix));
+        sentBytesCounter.increment(utf8Length(transcript, prefix, transcript.length()));
+
+        Map<String, Object> delta = new LinkedHashMap<>(data);
+        delta.remove("transcript");
+        delta.put("stablePrefix", prefix);
+        delta.put("suffix", suffix);
+        return delta;
+    }
+
+    void reset() {
+        previous = "";
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+
+        // 서로게이트 쌍 중간에서 자르지 않음
+        if (i > 0 && i < b.length() && Character.isHighSurrogate(b.charAt(i - 1)))
+            i--;
+
+        return i;
+    }
+
+    private static int utf8Length(String text, int from, int to) {
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,371 @@
+package com.kjung.springsst.app.speech.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjung.springsst.app.speech.monitor.SessionResultHub;
+import com.kjung.springsst.app.transcript.index.TranscriptIndex;
+import com.kjung.springsst.core.jfr.ResultDeliveredEvent;
+import com.kjung.springsst.core.tracing.UtteranceTrace;
+import com.kjung.springsst.core.tracing.UtteranceTracer;
+import com.kjung.springsst.infra.engine.RecognitionEngineRouter;
+import com.kjung.springsst.infra.engine.StreamingRecognition;
+import com.kjung.springsst.infra.googleStt.stream.AudioContainerValidator;
+import com.kjung.springsst.infra.googleStt.stream.AudioSendQueue;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 재연결 가능한 스트리밍 인식 세션.
+ * <p>
+ * WebSocket 연결과 Google 스트림의 수명을 분리합니다. 연결이 비정상 종료되면 세션은 분리(detach) 상태로
+ * 유예 시간 동안 유지되며, 그 사이의 인식 결과는 버퍼에 보관했다가 재연결 시 순서대로 재전송합니다.
+ * 마지막 최종 결과 이후의 오디오는 링 버퍼에 보관하여, 유예 중 Google 스트림이 끊긴 경우 새 스트림에 재전송합니다.
+ * </p>
+ */
+@Slf4j
+public class SpeechSession {
+
+    @Getter
+    private final String sessionId = UUID.randomUUID().toString();
+
+    @Getter
+    private final String resumeToken = UUID.randomUUID().toString();
+
+    @Getter
+    private final StreamingSessionConfig config;
+
+    private final RecognitionEngineRouter engineRouter;
+
+    private final ObjectMapper objectMapper;
+
+    private final int resultBufferSize;
+
+    private final int audioBufferBytes;
+
+    private final Consumer<SpeechSession> finishListener;
+
+    // 발화 단위 지연 추적, 꺼져 있으면 null
+    private final UtteranceTrace trace;
+
+    // 녹취록 색인, 꺼져 있으면 null
+    private final TranscriptIndex transcriptIndex;
+
+    // 모니터링 구독자에게 결과 발행
+    private final SessionResultHub resultHub;
+
+    // 중간 결과 델타 전송, 꺼져 있으면 null
+    private final InterimDeltaEncoder deltaEncoder;
+
+    // 색인용 발화 순번과 직전 최종 결과의 종료 시각 (스트림 시작 기준)
+    private int finalCount = 0;
+
+    private long lastFinalEndMs = 0;
+
+    private final Deque<Map<String, Object>> pendingResults = new ArrayDeque<>();
+
+    private final Deque<byte[]> recentAudio = new ArrayDeque<>();
+
+    private int recentAudioBytes = 0;
+
+    private WebSocketSession attachedSession;
+
+    // 델타 인코딩 순서와 전송 순서를 맞추기 위한 전송 잠금, 세션 모니터와 분리해 느린 전송이 연결/분리를 막지 않게 함
+    private final Object sendLock = new Object();
+
+    @Getter
+    private volatile long detachedAt = 0;
+
+    private volatile StreamingRecognition client;
+
+    @Getter
+    private volatile boolean ending = false;
+
+    private volatile boolean drainRequested = false;
+
+    // 마지막 최종 결과 이후 오디오를 받았는지 여부 (진행 중인 발화 판단)
+    private volatile boolean audioSinceFinal = false;
+
+    SpeechSession(StreamingSessionConfig config,
+                  RecognitionEngineRouter engineRouter,
+                  ObjectMapper objectMapper,
+                  int resultBufferSize,
+                  int audioBufferBytes,
+                  UtteranceTracer tracer,
+                  TranscriptIndex transcriptIndex,
+                  SessionResultHub resultHub,
+                  InterimDeltaEncoder deltaEncoder,
+                  Consumer<SpeechSession> finishListener) {
+        this.config = config;
+        this.engineRouter = engineRouter;
+        this.objectMapper = objectMapper;
+        this.resultBufferSize = resultBufferSize;
+        this.audioBufferBytes = audioBufferBytes;
+        this.finishListener = finishListener;
+        this.trace = tracer.newTrace(sessionId);
+        this.transcriptIndex = transcriptIndex;
+        this.resultHub = resultHub;
+        this.deltaEncoder = deltaEncoder;
+    }
+
+    void start() {
+        client = createClient();
+    }
+
+    /**
+     * 오디오 프레임 전송. 재연결 후 재전송할 수 있도록 최근 오디오를 함께 보관합니다.
+     *
+     * @param receivedNanos 프레임 수신 시각 ({@link System#nanoTime()}), 발화 지연 추적의 시작점
+     * @throws IllegalArgumentException 컨테이너 구조가 선언한 인코딩과 맞지 않는 경우
+     */
+    public AudioSendQueue.OfferResult sendAudio(byte[] audioData, long receivedNanos) {
+        if (trace != null)
+            trace.markAudioReceived(receivedNanos, audioData.length);
+
+        AudioSendQueue.OfferResult result = client.sendAudioData(audioData);
+        audioSinceFinal = true;
+
+        if (isReplayable())
+            rememberAudio(audioData);
+
+        return result;
+    }
+
+    /**
+     * 남은 오디오를 전송하고 최종 결과까지 받은 뒤 세션을 종료합니다.
+     */
+    public void end() {
+        ending = true;
+        client.close();
+    }
+
+    /**
+     * 서버 드레인 시작. 클라이언트에 알리고, 진행 중인 발화가 없으면 바로, 있으면 다음 최종 결과를 받은 뒤 스트림을 닫습니다.
+     * 스트림이 끝나면 연결을 {@link CloseStatus#SERVICE_RESTARTED}로 닫습니다.
+     */
+    synchronized void drain(long reconnectWithinMs) {
+        drainRequested = true;
+
+        if (attachedSession != null && attachedSession.isOpen())
+            send(attachedSession, Map.of(
+                    "type", "drain",
+                    "sessionId", sessionId,
+                    "reconnectWithinMs", reconnectWithinMs));
+
+        if (!audioSinceFinal)
+            end();
+    }
+
+    /**
+     * 연결되어 있으면 연결을 닫습니다.
+     */
+    synchronized void closeConnection(CloseStatus status) {
+        if (attachedSession == null || !attachedSession.isOpen()) return;
+
+        try {
+            attachedSession.close(status);
+        } catch (IOException e) {
+            log.debug("Error closing speech session connection: {}", sessionId, e);
+        }
+    }
+
+    /**
+     * 결과 대기 없이 세션을 종료합니다.
+     */
+    void terminate() {
+        ending = true;
+        client.close();
+
+        synchronized (this) {
+            attachedSession = null;
+            pendingResults.clear();
+            recentAudio.clear();
+            recentAudioBytes = 0;
+        }
+    }
+
+    synchronized void attach(WebSocketSession session) {
+        attachedSession = session;
+        detachedAt = 0;
+    }
+
+    synchronized void detach() {
+        attachedSession = null;
+        detachedAt = System.currentTimeMillis();
+    }
+
+    public synchronized boolean isDetached() {
+        return attachedSession == null && detachedAt > 0;
+    }
+
+    /**
+     * 새 연결에 세션을 다시 연결하고, 분리 중 쌓인 결과를 재전송합니다.
+     * 유예 중 Google 스트림이 끊긴 경우 새 스트림을 열고 보관된 오디오를 재전송합니다.
+     *
+     * @return 재연결 결과
+     * @throws IllegalStateException 컨테이너 인코딩이라 끊긴 스트림을 이어갈 수 없는 경우
+     */
+    synchronized ResumeResult resume(WebSocketSession session) {
+        boolean streamRestarted = false;
+
+        if (client.isTerminated() && !ending) {
+            if (!isReplayable())
+                throw new IllegalStateException("Opus 컨테이너 스트림은 Google 스트림이 끊긴 뒤 이어갈 수 없습니다.");
+
+            client = createClient();
+            recentAudio.forEach(client::sendAudioData);
+            streamRestarted = true;
+        }
+
+        attach(session);
+
+        // 끊기기 직전 메시지의 수신 여부를 알 수 없으므로 다음 중간 결과는 전체 텍스트로 보냄
+        if (deltaEncoder != null)
+            deltaEncoder.reset();
+
+        ResumeResult result = new ResumeResult(pendingResults.size(), recentAudioBytes, streamRestarted);
+        send(session, Map.of(
+                "type", "resumed",
+                "sessionId", sessionId,
+                "replayedResults", result.replayedResults(),
+                "replayedAudioBytes", streamRestarted ? result.replayedAudioBytes() : 0,
+                "streamRestarted", streamRestarted));
+
+        while (!pendingResults.isEmpty()) {
+            send(session, pendingResults.poll());
+        }
+
+        return result;
+    }
+
+    /**
+     * 연결되어 있으면 즉시 전송, 분리 상태이면 버퍼에 보관합니다. 연결 상태와 관계없이 구독자에게 발행합니다.
+     * 소켓 전송은 세션 모니터 밖에서 수행합니다.
+     */
+    public void deliver(Map<String, Object> data) {
+        resultHub.publish(sessionId, data);
+
+        WebSocketSession target;
+        synchronized (this) {
+            boolean isFinal = Boolean.TRUE.equals(data.get("isFinal"));
+            if (isFinal) {
+                // 최종 결과 이후의 오디오만 재전송 대상
+                recentAudio.clear();
+                recentAudioBytes = 0;
+                audioSinceFinal = false;
+
+                index(data);
+
+                // 드레인 중에는 진행 중이던 발화가 끝나면 스트림을 닫음
+                if (drainRequested && !ending)
+                    end();
+            }
+
+            target = attachedSession;
+            if (target == null || !target.isOpen()) {
+                // 분리 상태가 아니면(정상 종료된 연결) 보관하지 않음
+                if (detachedAt == 0) return;
+
+                if (pendingResults.size() >= resultBufferSize)
+                    pendingResults.poll();
+
+                pendingResults.offer(data);
+                return;
+            }
+        }
+
+        send(target, data);
+    }
+
+    /**
+     * 최종 결과를 색인 큐에 넣습니다. 발화 구간은 직전 최종 결과의 종료 시각부터 이번 결과의 종료 시각까지입니다.
+     */
+    private void index(Map<String, Object> data) {
+        long endMs = data.get("resultEndMs") instanceof Number number ? number.longValue() : lastFinalEndMs;
+        // 재연결로 스트림이 다시 열리면 시각이 0부터 다시 시작됨
+        long startMs = endMs >= lastFinalEndMs ? lastFinalEndMs : 0;
+
+        if (transcriptIndex != null)
+            transcriptIndex.addStreamingFinal(sessionId, finalCount, startMs, endMs, (String) data.get("transcript"));
+
+        finalCount++;
+        lastFinalEndMs = endMs;
+    }
+
+    private synchronized void rememberAudio(byte[] audioData) {
+        recentAudio.offer(audioData);
+        recentAudioBytes += audioData.length;
+
+        while (recentAudioBytes > audioBufferBytes && !recentAudio.isEmpty()) {
+            recentAudioBytes -= recentAudio.poll().length;
+        }
+    }
+
+    private boolean isReplayable() {
+        return !AudioContainerValidator.isContainerEncoding(config.encoding());
+    }
+
+    private StreamingRecognition createClient() {
+        StreamingRecognition stream = engineRouter.openStream(config, this::deliver, error -> {
+            if (error != null)
+                log.warn("Google stream ended with error: {} - {}", sessionId, error.getMessage());
+
+            // 드레인 중에는 오류로 끝난 스트림도 다시 열지 않음
+            if (drainRequested)
+                ending = true;
+
+            if (ending)
+                finishListener.accept(this);
+
+            if (drainRequested)
+                closeConnection(CloseStatus.SERVICE_RESTARTED);
+        });
+
+        stream.setSessionId(sessionId);
+        stream.attachTrace(trace);
+        return stream;
+    }
+
+    private void send(WebSocketSession target, Map<String, Object> data) {
+        synchronized (sendLock) {
+            boolean isResult = data.containsKey("transcript");
+            boolean sent = false;
+            try {
+                // 실제 전송 순서대로 인코딩해야 클라이언트가 복원할 수 있음
+                String payload = objectMapper.writeValueAsString(
+                        isResult && deltaEncoder != null ? deltaEncoder.encode(data) : data);
+
+                boolean isFinal = Boolean.TRUE.equals(data.get("isFinal"));
+
+                ResultDeliveredEvent event = isResult
+                        ? ResultDeliveredEvent.begin(sessionId, client.getStreamId(), isFinal)
+                        : null;
+                target.sendMessage(new TextMessage(payload));
+                sent = true;
+                ResultDeliveredEvent.end(event, payload.length());
+
+                if (isResult && isFinal && trace != null)
+                    trace.markFinalDelivered();
+
+            } catch (IOException e) {
+                log.error("Error sending transcript", e);
+            } finally {
+                // 인코더는 이미 이번 결과 기준으로 바뀌었으므로, 전달되지 않았으면 다음 중간 결과를 전체로 보냄
+                if (!sent && isResult && deltaEncoder != null)
+                    deltaEncoder.reset();
+            }
+        }
+    }
+
+    record ResumeResult(int replayedResults, int replayedAudioBytes, boolean streamRestarted) {
+    }
+}
@@ -0,0 +1,219 @@
+package com.kjung.springsst.app.speech.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjung.springsst.app.speech.monitor.SessionResultHub;
+import com.kjung.springsst.app.transcript.index.TranscriptIndex;
+import com.kjung.springsst.core.tracing.UtteranceTracer;
+import com.kjung.springsst.infra.engine.RecognitionEngineRouter;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스트리밍 인식 세션 저장소.
+ * <p>
+ * 재연결 토큰으로 세션을 조회하며, 유예 시간이 지난 분리 세션은 주기적으로 정리합니다.
+ * 종료 드레인 시 세션마다 최종 결과까지 받은 뒤 연결을 닫습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SpeechSessionRegistry implements DisposableBean, StreamDrainParticipant {
+
+    private final RecognitionEngineRouter engineRouter;
+
+    private final UtteranceTracer tracer;
+
+    // 녹취록 색인을 켠 경우에만 존재
+    private final TranscriptIndex transcriptIndex;
+
+    private final SessionResultHub resultHub;
+
+    // 중간 결과 델타 전송 시 생략한 접두사 / 실제 전송한 접미사 바이트
+    private final Counter deltaSavedBytesCounter;
+
+    private final Counter deltaSentBytesCounter;
+
+    private final long gracePeriodMs;
+
+    private final int resultBufferSize;
+
+    private final int audioBufferBytes;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, SpeechSession> sessionsByToken = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stt-session-reaper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SpeechSessionRegistry(RecognitionEngineRouter engineRouter,
+                                 UtteranceTracer tracer,
+                                 ObjectProvider<TranscriptIndex> transcriptIndex,
+                                 SessionResultHub resultHub,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.stt.streaming.resume.grace-period-ms:15000}") long gracePeriodMs,
+                                 @Value("${app.stt.streaming.resume.result-buffer-size:100}") int resultBufferSize,
+                                 @Value("${app.stt.streaming.resume.audio-buffer-bytes:320000}") int audioBufferBytes) {
+        this.engineRouter = engineRouter;
+        this.tracer = tracer;
+        this.transcriptIndex = transcriptIndex.getIfAvailable();
+        this.resultHub = resultHub;
+        this.deltaSavedBytesCounter = Counter.builder("stt.interim.delta.bytes")
+                .description("중간 결과 델타 전송의 텍스트 바이트 (saved: 생략한 접두사, sent: 전송한 접미사)")
+                .tag("kind", "saved")
+                .register(meterRegistry);
+        this.deltaSentBytesCounter = Counter.builder("stt.interim.delta.bytes")
+                .description("중간 결과 델타 전송의 텍스트 바이트 (saved: 생략한 접두사, sent: 전송한 접미사)")
+                .tag("kind", "sent")
+                .register(meterRegistry);
+        this.gracePeriodMs = gracePeriodMs;
+        this.resultBufferSize = resultBufferSize;
+        this.audioBufferBytes = audioBufferBytes;
+
+        reaper.scheduleWithFixedDelay(this::reapExpired, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 새 세션을 시작하고 연결에 붙입니다. 스트림을 열지 못하면 등록을 되돌리고 예외를 그대로 던집니다.
+     *
+     * @throws IllegalArgumentException                                         처리 가능한 엔진이 없는 경우
+     * @throws com.kjung.springsst.infra.engine.scheduling.CapacityExceededException 스트림 슬롯을 얻지 못한 경우
+     */
+    public SpeechSession open(StreamingSessionConfig config, WebSocketSession webSocketSession) {
+        SpeechSession session = new SpeechSession(config, engineRouter, objectMapper,
+                resultBufferSize, audioBufferBytes, tracer, transcriptIndex, resultHub,
+                config.interimDelta() ? new InterimDeltaEncoder(deltaSavedBytesCounter, deltaSentBytesCounter) : null,
+                this::remove);
+
+        session.attach(webSocketSession);
+        resultHub.open(session.getSessionId());
+        // 스트림이 바로 끝나도 종료 콜백이 세션을 제거할 수 있도록 시작 전에 등록
+        sessionsByToken.put(session.getResumeToken(), session);
+        try {
+            session.start();
+        } catch (RuntimeException e) {
+            remove(session);
+            throw e;
+        }
+
+        return session;
+    }
+
+    /**
+     * 분리된 세션을 새 연결에 다시 붙입니다.
+     *
+     * @throws IllegalArgumentException 토큰이 없거나 만료된 경우, 이미 연결된 세션인 경우
+     * @throws IllegalStateException    세션을 이어갈 수 없는 경우
+     */
+    public SpeechSession resume(String resumeToken, WebSocketSession webSocketSession) {
+        SpeechSession session = sessionsByToken.get(resumeToken);
+        if (session == null)
+            throw new IllegalArgumentException("만료되었거나 존재하지 않는 재연결 토큰입니다.");
+
+        if (!session.isDetached())
+            throw new IllegalArgumentException("이미 연결되어 있는 세션입니다.");
+
+        SpeechSession.ResumeResult result;
+        try {
+            result = session.resume(webSocketSession);
+        } catch (IllegalStateException e) {
+            close(session);
+            throw e;
+        }
+
+        log.info("Speech session resumed: {} (replayedResults: {}, streamRestarted: {})",
+                session.getSessionId(), result.replayedResults(), result.streamRestarted());
+        return session;
+    }
+
+    /**
+     * 연결이 비정상 종료된 세션을 유예 상태로 전환합니다.
+     */
+    public void detach(SpeechSession session) {
+        if (session.isEnding()) {
+            close(session);
+            return;
+        }
+
+        session.detach();
+        log.info("Speech session detached: {} (grace period: {}ms)", session.getSessionId(), gracePeriodMs);
+    }
+
+    /**
+     * 세션을 즉시 종료합니다.
+     */
+    public void close(SpeechSession session) {
+        remove(session);
+        session.terminate();
+    }
+
+    private void remove(SpeechSession session) {
+        if (sessionsByToken.remove(session.getResumeToken(), session))
+            resultHub.close(session.getSessionId());
+    }
+
+    @Override
+    public void beginDrain(long reconnectWithinMs) {
+        sessionsByToken.values().forEach(session -> session.drain(reconnectWithinMs));
+    }
+
+    @Override
+    public void endStreams() {
+        sessionsByToken.values().forEach(SpeechSession::end);
+    }
+
+    /**
+     * 종료 중인 세션은 Google 스트림이 끝날 때 저장소에서 제거되므로 남은 세션 수가 곧 진행 중인 스트림 수
+     */
+    @Override
+    public int getActiveStreamCount() {
+        return sessionsByToken.size();
+    }
+
+    @Override
+    public int closeRemaining() {
+        int remaining = 0;
+        for (SpeechSession session : sessionsByToken.values()) {
+            session.closeConnection(CloseStatus.SERVICE_RESTARTED);
+            close(session);
+            remaining++;
+        }
+        return remaining;
+    }
+
+    private void reapExpired() {
+        long now = System.currentTimeMillis();
+
+        sessionsByToken.values().stream()
+                .filter(SpeechSession::isDetached)
+                .filter(session -> now - session.getDetachedAt() > gracePeriodMs)
+                .forEach(session -> {
+                    log.info("Speech session expired: {}", session.getSessionId());
+                    close(session);
+                });
+    }
+
+    @Override
+    public void destroy() {
+        reaper.shutdownNow();
+        sessionsByToken.values().forEach(SpeechSession::terminate);
+        sessionsByToken.clear();
+    }
+}
@@ -0,0 +1,36 @@
+package com.kjung.springsst.app.speech.session;
+
+/**
+ * 종료 전 드레인에 참여하는 스트리밍 구성 요소.
+ * <p>
+ * {@link StreamingDrainLifecycle}이 아래 순서로 호출합니다.
+ * </p>
+ * <ol>
+ * <li>{@link #beginDrain}: 클라이언트에 드레인을 알리고, 진행 중인 발화는 다음 최종 결과에서 스트림을 닫도록 표시</li>
+ * <li>{@link #endStreams}: 최종 결과를 기다릴 시간만 남은 시점에 남은 스트림의 오디오 전송을 마감</li>
+ * <li>{@link #closeRemaining}: 마감 시각이 지나면 남은 연결을 강제로 종료</li>
+ * </ol>
+ */
+public interface StreamDrainParticipant {
+
+    /**
+     * 드레인 시작.
+     *
+     * @param reconnectWithinMs 클라이언트가 다른 노드로 재연결해야 하는 시간 (ms)
+     */
+    void beginDrain(long reconnectWithinMs);
+
+    void endStreams();
+
+    /**
+     * 아직 최종 결과를 기다리는 스트림 수
+     */
+    int getActiveStreamCount();
+
+    /**
+     * 남은 연결을 종료합니다.
+     *
+     * @return 강제로 종료한 스트림 수
+     */
+    int closeRemaining();
+}
@@ -0,0 +1,185 @@
+package com.kjung.springsst.app.speech.session;
+
+import com.kjung.springsst.infra.engine.scheduling.RecognitionScheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종료 시 진행 중인 스트리밍 세션과 인식 호출을 정리하는 드레인 단계.
+ * <p>
+ * 웹 서버의 graceful shutdown보다 높은 phase에서 먼저 멈추며, SpeechClient 등 빈 소멸은 이 단계가 끝난 뒤에 진행됩니다.
+ * </p>
+ * <ol>
+ * <li>새 세션과 새 인식 호출을 거부하고 연결된 클라이언트에 {@code {"type": "drain", "reconnectWithinMs": ...}}를 보냄</li>
+ * <li>진행 중인 발화는 다음 최종 결과를 받으면 스트림을 닫음</li>
+ * <li>마감 {@code finalWaitMs} 전까지 끝나지 않은 스트림은 오디오 전송을 마감해 최종 결과를 받게 함</li>
+ * <li>스트림과 실행 중인 인식 호출({@link RecognitionScheduler} 슬롯)이 모두 끝나거나 마감 시각이 되면 남은 연결을 종료</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+public class StreamingDrainLifecycle implements SmartLifecycle {
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private static final long PROGRESS_LOG_INTERVAL_MS = 1000;
+
+    private final ObjectProvider<StreamDrainParticipant> participants;
+
+    private final RecognitionScheduler recognitionScheduler;
+
+    private final long timeoutMs;
+
+    private final long finalWaitMs;
+
+    private final Counter refusedCounter;
+
+    private final Counter forcedCloseCounter;
+
+    private final Timer drainTimer;
+
+    private volatile boolean running = false;
+
+    private volatile boolean draining = false;
+
+    public StreamingDrainLifecycle(ObjectProvider<StreamDrainParticipant> participants,
+                                   RecognitionScheduler recognitionScheduler,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.stt.drain.timeout-ms:30000}") long timeoutMs,
+                                   @Value("${app.stt.drain.final-wait-ms:5000}") long finalWaitMs) {
+        this.participants = participants;
+        this.recognitionScheduler = recognitionScheduler;
+        this.timeoutMs = timeoutMs;
+        this.finalWaitMs = Math.min(finalWaitMs, timeoutMs);
+
+        Gauge.builder("stt.drain.active", this, lifecycle -> lifecycle.draining ? 1 : 0)
+                .description("드레인 진행 여부")
+                .register(meterRegistry);
+        Gauge.builder("stt.drain.streams", this, StreamingDrainLifecycle::activeStreamCount)
+                .description("최종 결과를 기다리는 스트림 수")
+                .register(meterRegistry);
+        this.refusedCounter = Counter.builder("stt.drain.refused")
+                .description("드레인 중 거부한 새 세션 수")
+                .register(meterRegistry);
+        this.forcedCloseCounter = Counter.builder("stt.drain.forced-closes")
+                .description("마감 시각까지 끝나지 않아 강제로 종료한 스트림 수")
+                .register(meterRegistry);
+        this.drainTimer = Timer.builder("stt.drain.duration")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 드레인 중이면 새 세션 요청을 거부해야 합니다.
+     */
+    public boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * 드레인 중 거부한 세션 기록
+     */
+    public void recordRefused() {
+        refusedCounter.increment();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        drain();
+        running = false;
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        Thread thread = new Thread(() -> {
+            try {
+                stop();
+            } finally {
+                callback.run();
+            }
+        }, "stt-drain");
+        thread.start();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)보다 먼저 멈춤
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+
+    private void drain() {
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + timeoutMs;
+        List<StreamDrainParticipant> drainParticipants = participants.orderedStream().toList();
+
+        draining = true;
+        // 드레인 중 들어온 파일 인식이 실행 중인 호출 수를 계속 늘리지 않도록 거부
+        recognitionScheduler.stopAccepting();
+        log.info("드레인 시작 - 스트림: {}, 실행 중인 인식: {}, 제한 시간: {}ms",
+                activeStreamCount(), recognitionScheduler.getInUse(), timeoutMs);
+
+        drainParticipants.forEach(participant -> participant.beginDrain(timeoutMs));
+
+        boolean streamsEnded = false;
+        long lastProgressLog = startTime;
+
+        try {
+            while (true) {
+                long now = System.currentTimeMillis();
+                int streams = activeStreamCount();
+                int inFlight = recognitionScheduler.getInUse();
+
+                if ((streams == 0 && inFlight == 0) || now >= deadline) break;
+
+                if (!streamsEnded && now >= deadline - finalWaitMs) {
+                    log.info("드레인 - 남은 스트림 {}개의 오디오 전송 마감", streams);
+                    drainParticipants.forEach(StreamDrainParticipant::endStreams);
+                    streamsEnded = true;
+                }
+
+                if (now - lastProgressLog >= PROGRESS_LOG_INTERVAL_MS) {
+                    log.info("드레인 진행 - 스트림: {}, 실행 중인 인식: {}, 남은 시간: {}ms",
+                            streams, inFlight, deadline - now);
+                    lastProgressLog = now;
+                }
+
+                TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int forced = drainParticipants.stream().mapToInt(StreamDrainParticipant::closeRemaining).sum();
+        forcedCloseCounter.increment(forced);
+
+        long elapsedMs = System.currentTimeMillis() - startTime;
+        drainTimer.record(elapsedMs, TimeUnit.MILLISECONDS);
+        log.info("드레인 완료 - {}ms, 강제 종료: {}, 실행 중인 인식: {}",
+                elapsedMs, forced, recognitionScheduler.getInUse());
+    }
+
+    private int activeStreamCount() {
+        return participants.orderedStream().mapToInt(StreamDrainParticipant::getActiveStreamCount).sum();
+    }
+}
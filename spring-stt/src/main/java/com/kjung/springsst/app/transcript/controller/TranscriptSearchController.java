@@ -0,0 +1,53 @@
+package com.kjung.springsst.app.transcript.controller;
+
+import com.kjung.springsst.app.transcript.dto.TranscriptSearchResponse;
+import com.kjung.springsst.app.transcript.index.TranscriptIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 확정 녹취록 검색 ({@code app.stt.transcript-index.enabled=true}일 때만 등록).
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/transcripts")
+@ConditionalOnProperty(name = "app.stt.transcript-index.enabled", havingValue = "true")
+public class TranscriptSearchController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final TranscriptIndex transcriptIndex;
+
+    /**
+     * 예: {@code GET /api/v1/transcripts/search?q=환불&within=PT24H}
+     *
+     * @param q      검색어 (공백 무시, 부분 일치)
+     * @param within 현재 기준 조회 구간 (ISO-8601 기간), {@code from}이 있으면 무시
+     * @param from   조회 구간 시작 (ISO-8601 시각)
+     * @param to     조회 구간 끝 (ISO-8601 시각)
+     * @param limit  최대 결과 수
+     */
+    @GetMapping("/search")
+    public TranscriptSearchResponse search(@RequestParam String q,
+                                           @RequestParam(required = false) Duration within,
+                                           @RequestParam(required = false) Instant from,
+                                           @RequestParam(required = false) Instant to,
+                                           @RequestParam(defaultValue = "50") int limit) {
+        if (from == null && within != null)
+            from = Instant.now().minus(within);
+
+        int effectiveLimit = Math.clamp(limit, 1, MAX_LIMIT);
+
+        return new TranscriptSearchResponse(q, from, to,
+                transcriptIndex.search(q, from, to, effectiveLimit).stream()
+                        .map(TranscriptSearchResponse.Hit::of)
+                        .toList());
+    }
+}
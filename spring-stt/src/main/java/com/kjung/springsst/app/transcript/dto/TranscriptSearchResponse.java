@@ -0,0 +1,41 @@
+package com.kjung.springsst.app.transcript.dto;
+
+import com.kjung.springsst.app.transcript.index.TranscriptDocument;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 녹취록 검색 결과.
+ *
+ * @param query 검색어
+ * @param from  검색 구간 시작
+ * @param to    검색 구간 끝
+ * @param hits  일치한 발화 (최신순)
+ */
+public record TranscriptSearchResponse(
+        String query,
+        Instant from,
+        Instant to,
+        List<Hit> hits
+) {
+
+    /**
+     * 일치한 발화. 시각은 세션(파일) 시작 기준 ms입니다.
+     */
+    public record Hit(
+            String source,
+            String sessionId,
+            String name,
+            int utterance,
+            Instant receivedAt,
+            long startOffsetMs,
+            long endOffsetMs,
+            String text
+    ) {
+        public static Hit of(TranscriptDocument document) {
+            return new Hit(document.source(), document.sessionId(), document.name(), document.utterance(),
+                    document.receivedAt(), document.startOffsetMs(), document.endOffsetMs(), document.text());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.kjung.springsst.app.transcript.index;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 변경되지 않는 색인 세그먼트. 문서는 색인 순서(대체로 확정 시각 순)로 저장되고,
+ * 토큰별 포스팅은 세그먼트 내 문서 번호의 오름차순 배열입니다.
+ */
+final class IndexSegment {
+
+    private final TranscriptDocument[] documents;
+
+    // 부분 문자열 재확인용 (문서와 같은 순서)
+    private final String[] compactTexts;
+
+    private final Map<String, int[]> postings;
+
+    private final Instant minReceivedAt;
+
+    private final Instant maxReceivedAt;
+
+    private IndexSegment(TranscriptDocument[] documents, String[] compactTexts, Map<String, int[]> postings) {
+        this.documents = documents;
+        this.compactTexts = compactTexts;
+        this.postings = postings;
+
+        // 수집 스레드마다 확정 시각을 따로 정하므로 색인 순서와 시각 순서가 어긋날 수 있음
+        Instant min = documents[0].receivedAt();
+        Instant max = min;
+        for (TranscriptDocument document : documents) {
+            if (document.receivedAt().isBefore(min)) min = document.receivedAt();
+            if (document.receivedAt().isAfter(max)) max = document.receivedAt();
+        }
+        this.minReceivedAt = min;
+        this.maxReceivedAt = max;
+    }
+
+    /**
+     * 새 문서들로 세그먼트 생성
+     */
+    static IndexSegment build(List<TranscriptDocument> batch) {
+        TranscriptDocument[] documents = batch.toArray(TranscriptDocument[]::new);
+        String[] compactTexts = new String[documents.length];
+        Map<String, IntList> building = new HashMap<>();
+
+        for (int ord = 0; ord < documents.length; ord++) {
+            compactTexts[ord] = TranscriptTokenizer.compact(documents[ord].text());
+            for (String token : TranscriptTokenizer.tokenize(documents[ord].text())) {
+                building.computeIfAbsent(token, key -> new IntList()).add(ord);
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(building.size() * 4 / 3 + 1);
+        building.forEach((token, ords) -> postings.put(token, ords.toArray()));
+        return new IndexSegment(documents, compactTexts, postings);
+    }
+
+    /**
+     * 순서대로 이어지는 세그먼트들을 하나로 합칩니다. 다시 토큰화하지 않고 포스팅의 문서 번호만 이동합니다.
+     */
+    static IndexSegment merge(List<IndexSegment> segments) {
+        int total = segments.stream().mapToInt(IndexSegment::size).sum();
+        TranscriptDocument[] documents = new TranscriptDocument[total];
+        String[] compactTexts = new String[total];
+        Map<String, IntList> building = new HashMap<>();
+
+        int base = 0;
+        for (IndexSegment segment : segments) {
+            System.arraycopy(segment.documents, 0, documents, base, segment.size());
+            System.arraycopy(segment.compactTexts, 0, compactTexts, base, segment.size());
+
+            int offset = base;
+            segment.postings.forEach((token, ords) -> {
+                IntList merged = building.computeIfAbsent(token, key -> new IntList());
+                for (int ord : ords) {
+                    merged.add(ord + offset);
+                }
+            });
+            base += segment.size();
+        }
+
+        Map<String, int[]> postings = new HashMap<>(building.size() * 4 / 3 + 1);
+        building.forEach((token, ords) -> postings.put(token, ords.toArray()));
+        return new IndexSegment(documents, compactTexts, postings);
+    }
+
+    int size() {
+        return documents.length;
+    }
+
+    Instant getMinReceivedAt() {
+        return minReceivedAt;
+    }
+
+    Instant getMaxReceivedAt() {
+        return maxReceivedAt;
+    }
+
+    /**
+     * 모든 토큰을 포함하고 압축 텍스트에 질의가 들어있는 문서를 최신순으로 최대 {@code limit}개 찾습니다.
+     */
+    List<TranscriptDocument> search(Collection<String> tokens,
+                                    String compactQuery,
+                                    Predicate<TranscriptDocument> filter,
+                                    int limit) {
+        List<TranscriptDocument> hits = new ArrayList<>();
+        if (limit <= 0) return hits;
+
+        int[][] lists = new int[tokens.size()][];
+        int i = 0;
+        for (String token : tokens) {
+            int[] ords = postings.get(token);
+            if (ords == null) return hits;
+            lists[i++] = ords;
+        }
+
+        // 가장 짧은 포스팅을 기준으로 나머지에서 이진 탐색
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] shortest = lists[0];
+
+        for (int k = shortest.length - 1; k >= 0 && hits.size() < limit; k--) {
+            int ord = shortest[k];
+
+            boolean matches = true;
+            for (int j = 1; j < lists.length && matches; j++) {
+                matches = Arrays.binarySearch(lists[j], ord) >= 0;
+            }
+
+            if (matches && compactTexts[ord].contains(compactQuery) && filter.test(documents[ord]))
+                hits.add(documents[ord]);
+        }
+
+        return hits;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
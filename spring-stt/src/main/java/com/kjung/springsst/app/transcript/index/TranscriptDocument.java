@@ -0,0 +1,32 @@
+package com.kjung.springsst.app.transcript.index;
+
+import java.time.Instant;
+
+/**
+ * 색인 단위인 확정 발화 하나.
+ *
+ * @param id            색인 내 일련번호
+ * @param source        출처 ({@link #SOURCE_STREAMING}, {@link #SOURCE_FILE})
+ * @param sessionId     스트리밍 세션 ID 또는 파일 변환 요청 ID
+ * @param name          파일명 (스트리밍이면 {@code null})
+ * @param utterance     세션 내 발화 순번 (0부터)
+ * @param receivedAt    확정 시각
+ * @param startOffsetMs 세션(파일) 시작 기준 발화 시작 시각
+ * @param endOffsetMs   세션(파일) 시작 기준 발화 종료 시각
+ * @param text          확정 텍스트
+ */
+public record TranscriptDocument(
+        long id,
+        String source,
+        String sessionId,
+        String name,
+        int utterance,
+        Instant receivedAt,
+        long startOffsetMs,
+        long endOffsetMs,
+        String text
+) {
+    public static final String SOURCE_STREAMING = "streaming";
+
+    public static final String SOURCE_FILE = "file";
+}
@@ -0,0 +1,339 @@
+package com.kjung.springsst.app.transcript.index;
+
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 확정 녹취록의 프로세스 내 역색인 ({@code app.stt.transcript-index.enabled=true}일 때만 등록).
+ * <p>
+ * <ul>
+ * <li>수집: 결과 전송 경로에서는 제한된 큐에 넣기만 하고 바로 반환하며, 큐가 가득 차면 문서를 버립니다.</li>
+ * <li>색인: 전용 스레드가 큐를 비우며 문서를 모아 일정 주기(또는 일정 개수)마다 변경되지 않는 세그먼트로 공개합니다.</li>
+ * <li>병합: 세그먼트가 많아지면 백그라운드에서 인접한 작은 세그먼트들을 합치고, 보관 기간이 지난 세그먼트를 버립니다.</li>
+ * <li>검색: 공개된 세그먼트 목록의 스냅샷을 최신 세그먼트부터 조회하므로 색인, 병합과 잠금 없이 동시에 실행됩니다.</li>
+ * </ul>
+ * 색인은 메모리에만 있으며 재시작 시 사라집니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.stt.transcript-index.enabled", havingValue = "true")
+public class TranscriptIndex implements DisposableBean {
+
+    // 파일 녹취록을 발화 단위로 나누는 기준
+    private static final long FILE_SEGMENT_MAX_MS = 30_000;
+
+    private static final long FILE_SEGMENT_PAUSE_MS = 1_000;
+
+    private final BlockingQueue<TranscriptDocument> ingestQueue;
+
+    private final int maxBufferedDocuments;
+
+    private final long refreshIntervalMs;
+
+    private final int maxSegments;
+
+    private final int mergeFactor;
+
+    private final Duration retention;
+
+    private final AtomicLong documentIds = new AtomicLong();
+
+    private final Object segmentsLock = new Object();
+
+    // 최신 세그먼트가 마지막, 교체는 segmentsLock 아래에서만
+    private volatile List<IndexSegment> segments = List.of();
+
+    private final Thread indexer;
+
+    private final ScheduledExecutorService merger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "transcript-index-merger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running = true;
+
+    private final Counter ingestedCounter;
+
+    private final Counter droppedCounter;
+
+    private final Timer refreshTimer;
+
+    private final Timer mergeTimer;
+
+    public TranscriptIndex(MeterRegistry meterRegistry,
+                           @Value("${app.stt.transcript-index.queue-capacity:100000}") int queueCapacity,
+                           @Value("${app.stt.transcript-index.max-buffered-docs:2000}") int maxBufferedDocuments,
+                           @Value("${app.stt.transcript-index.refresh-interval-ms:1000}") long refreshIntervalMs,
+                           @Value("${app.stt.transcript-index.max-segments:16}") int maxSegments,
+                           @Value("${app.stt.transcript-index.merge-factor:4}") int mergeFactor,
+                           @Value("${app.stt.transcript-index.retention-hours:168}") long retentionHours) {
+        this.ingestQueue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.maxBufferedDocuments = Math.max(1, maxBufferedDocuments);
+        this.refreshIntervalMs = Math.max(10, refreshIntervalMs);
+        this.maxSegments = Math.max(2, maxSegments);
+        this.mergeFactor = Math.max(2, mergeFactor);
+        this.retention = Duration.ofHours(retentionHours);
+
+        this.ingestedCounter = Counter.builder("stt.transcript-index.ingested")
+                .description("색인에 반영된 발화 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("stt.transcript-index.dropped")
+                .description("수집 큐가 가득 차 버린 발화 수")
+                .register(meterRegistry);
+        this.refreshTimer = Timer.builder("stt.transcript-index.refresh")
+                .description("새 세그먼트 생성 시간")
+                .register(meterRegistry);
+        this.mergeTimer = Timer.builder("stt.transcript-index.merge")
+                .description("세그먼트 병합 시간")
+                .register(meterRegistry);
+        Gauge.builder("stt.transcript-index.queue.depth", ingestQueue, BlockingQueue::size)
+                .register(meterRegistry);
+        Gauge.builder("stt.transcript-index.segments", this, index -> index.segments.size())
+                .register(meterRegistry);
+        Gauge.builder("stt.transcript-index.documents", this, index -> index.getDocumentCount())
+                .register(meterRegistry);
+
+        this.indexer = Thread.ofPlatform().name("transcript-indexer").daemon().start(this::runIndexer);
+        merger.scheduleWithFixedDelay(this::maintain, this.refreshIntervalMs * 5, this.refreshIntervalMs * 5,
+                TimeUnit.MILLISECONDS);
+
+        log.info("녹취록 색인 활성화 - 세그먼트 주기: {}ms, 보관: {}h", this.refreshIntervalMs, retentionHours);
+    }
+
+    /**
+     * 스트리밍 세션의 최종 결과 수집. 호출 스레드를 막지 않습니다.
+     *
+     * @return 큐가 가득 차 버려진 경우 {@code false}
+     */
+    public boolean addStreamingFinal(String sessionId, int utterance, long startOffsetMs, long endOffsetMs, String text) {
+        if (text == null || text.isBlank()) return true;
+
+        return offer(new TranscriptDocument(documentIds.incrementAndGet(), TranscriptDocument.SOURCE_STREAMING,
+                sessionId, null, utterance, Instant.now(), startOffsetMs, endOffsetMs, text.trim()));
+    }
+
+    /**
+     * 파일 변환 결과 수집. 단어별 시간 정보가 있으면 쉼(pause)과 최대 길이 기준으로 발화 단위로 나누어
+     * 검색 결과가 파일 내 위치를 가리키도록 합니다. 없으면 파일 전체를 한 문서로 넣습니다.
+     */
+    public void addFileTranscript(String requestId, String filename, TranscriptionResult result, long durationMs) {
+        WordTimings words = result.words();
+        Instant now = Instant.now();
+
+        if (words.isEmpty()) {
+            offer(new TranscriptDocument(documentIds.incrementAndGet(), TranscriptDocument.SOURCE_FILE,
+                    requestId, filename, 0, now, 0, Math.max(0, durationMs), result.transcription()));
+            return;
+        }
+
+        int utterance = 0;
+        for (WordTimings.Span span : words.splitAtPauses(FILE_SEGMENT_PAUSE_MS, FILE_SEGMENT_MAX_MS)) {
+            offer(new TranscriptDocument(documentIds.incrementAndGet(), TranscriptDocument.SOURCE_FILE,
+                    requestId, filename, utterance++, now, words.startMs(span.from()), words.endMs(span.to() - 1),
+                    words.text(span)));
+        }
+    }
+
+    /**
+     * 질의어를 포함하는 발화를 최신순으로 찾습니다. 공백은 무시하고 부분 문자열로 일치시킵니다.
+     *
+     * @param from  확정 시각 하한 (포함), {@code null}이면 제한 없음
+     * @param to    확정 시각 상한 (제외), {@code null}이면 제한 없음
+     * @param limit 최대 결과 수
+     * @throws IllegalArgumentException 질의어에 검색 가능한 문자가 없는 경우
+     */
+    public List<TranscriptDocument> search(String query, Instant from, Instant to, int limit) {
+        Set<String> tokens = TranscriptTokenizer.queryTokens(query);
+        if (tokens.isEmpty())
+            throw new IllegalArgumentException("검색어에 글자나 숫자가 포함되어야 합니다.");
+
+        String compactQuery = TranscriptTokenizer.compact(query);
+        Predicate<TranscriptDocument> inRange = document ->
+                (from == null || !document.receivedAt().isBefore(from))
+                        && (to == null || document.receivedAt().isBefore(to));
+
+        List<IndexSegment> snapshot = segments;
+        List<TranscriptDocument> hits = new ArrayList<>();
+
+        for (int i = snapshot.size() - 1; i >= 0 && hits.size() < limit; i--) {
+            IndexSegment segment = snapshot.get(i);
+            // 세그먼트 사이의 시각 범위가 겹칠 수 있으므로 중단하지 않고 건너뜀
+            if (from != null && segment.getMaxReceivedAt().isBefore(from)) continue;
+            if (to != null && !segment.getMinReceivedAt().isBefore(to)) continue;
+
+            hits.addAll(segment.search(tokens, compactQuery, inRange, limit - hits.size()));
+        }
+
+        return hits;
+    }
+
+    public int getDocumentCount() {
+        return segments.stream().mapToInt(IndexSegment::size).sum();
+    }
+
+    private boolean offer(TranscriptDocument document) {
+        if (ingestQueue.offer(document)) return true;
+
+        droppedCounter.increment();
+        return false;
+    }
+
+    /**
+     * 색인 스레드. 큐를 비우며 모은 문서를 주기마다 새 세그먼트로 공개합니다.
+     */
+    private void runIndexer() {
+        List<TranscriptDocument> buffer = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(refreshIntervalMs);
+
+        while (running || !ingestQueue.isEmpty()) {
+            try {
+                long waitNanos = deadline - System.nanoTime();
+                TranscriptDocument document = waitNanos > 0
+                        ? ingestQueue.poll(waitNanos, TimeUnit.NANOSECONDS)
+                        : ingestQueue.poll();
+                if (document != null) {
+                    buffer.add(document);
+                    ingestQueue.drainTo(buffer, maxBufferedDocuments - buffer.size());
+                }
+
+                if (buffer.size() >= maxBufferedDocuments || System.nanoTime() >= deadline) {
+                    publish(buffer);
+                    buffer = new ArrayList<>();
+                    deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(refreshIntervalMs);
+                }
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("녹취록 색인 실패 - 문서 {}건을 버립니다.", buffer.size(), e);
+                buffer = new ArrayList<>();
+            }
+        }
+
+        publish(buffer);
+    }
+
+    private void publish(List<TranscriptDocument> buffer) {
+        if (buffer.isEmpty()) return;
+
+        IndexSegment segment = refreshTimer.record(() -> IndexSegment.build(buffer));
+        synchronized (segmentsLock) {
+            List<IndexSegment> updated = new ArrayList<>(segments);
+            updated.add(segment);
+            segments = Collections.unmodifiableList(updated);
+        }
+        ingestedCounter.increment(buffer.size());
+    }
+
+    /**
+     * 보관 기간이 지난 세그먼트 제거 후, 세그먼트 수가 한도를 넘으면 문서 수 합이 가장 작은 인접 구간을 병합합니다.
+     * 병합은 잠금 밖에서 수행하고, 교체 시점에 대상 세그먼트가 그대로인지 확인합니다.
+     */
+    private void maintain() {
+        try {
+            expire();
+
+            while (running) {
+                List<IndexSegment> snapshot = segments;
+                if (snapshot.size() <= maxSegments) return;
+
+                int window = Math.min(mergeFactor, snapshot.size());
+                int bestStart = 0;
+                long bestSize = Long.MAX_VALUE;
+                for (int start = 0; start + window <= snapshot.size(); start++) {
+                    long size = 0;
+                    for (int i = start; i < start + window; i++) {
+                        size += snapshot.get(i).size();
+                    }
+                    if (size < bestSize) {
+                        bestSize = size;
+                        bestStart = start;
+                    }
+                }
+
+                List<IndexSegment> targets = snapshot.subList(bestStart, bestStart + window);
+                long startTime = System.nanoTime();
+                IndexSegment merged = IndexSegment.merge(targets);
+                mergeTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+                if (!replace(targets, merged)) return;
+            }
+        } catch (RuntimeException e) {
+            log.error("녹취록 색인 병합 실패", e);
+        }
+    }
+
+    private boolean replace(List<IndexSegment> targets, IndexSegment merged) {
+        synchronized (segmentsLock) {
+            List<IndexSegment> current = segments;
+            int start = indexOfIdentity(current, targets.getFirst());
+            if (start < 0 || start + targets.size() > current.size()) return false;
+
+            for (int i = 0; i < targets.size(); i++) {
+                if (current.get(start + i) != targets.get(i)) return false;
+            }
+
+            List<IndexSegment> updated = new ArrayList<>(current.subList(0, start));
+            updated.add(merged);
+            updated.addAll(current.subList(start + targets.size(), current.size()));
+            segments = Collections.unmodifiableList(updated);
+            return true;
+        }
+    }
+
+    private void expire() {
+        Instant cutoff = Instant.now().minus(retention);
+
+        synchronized (segmentsLock) {
+            List<IndexSegment> current = segments;
+            int expired = 0;
+            while (expired < current.size() && current.get(expired).getMaxReceivedAt().isBefore(cutoff)) {
+                expired++;
+            }
+            if (expired == 0) return;
+
+            segments = List.copyOf(current.subList(expired, current.size()));
+            log.debug("보관 기간이 지난 색인 세그먼트 {}개 제거", expired);
+        }
+    }
+
+    private static int indexOfIdentity(List<IndexSegment> segments, IndexSegment target) {
+        for (int i = 0; i < segments.size(); i++) {
+            if (segments.get(i) == target) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        merger.shutdownNow();
+        indexer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
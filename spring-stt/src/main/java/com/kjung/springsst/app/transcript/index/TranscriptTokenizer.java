@@ -0,0 +1,112 @@
+package com.kjung.springsst.app.transcript.index;
+
+import lombok.experimental.UtilityClass;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 녹취록 색인용 토크나이저.
+ * <p>
+ * 한글(및 한자, 가나)은 형태소 분석 없이 글자 바이그램(2-gram)으로 나눕니다. 음성 인식 결과는 띄어쓰기가
+ * 일정하지 않으므로 한글 사이의 공백은 무시하고 이어서 바이그램을 만듭니다("고객 센터"와 "고객센터"가 같은 토큰).
+ * 그 밖의 문자(영문, 숫자)는 공백과 문장 부호로 나눈 단어 단위입니다.
+ * 한 글자 검색어도 찾을 수 있도록 색인에는 한 글자 토큰(유니그램)도 함께 넣고, 검색어는 두 글자 이상이면 바이그램만 사용합니다.
+ * 바이그램 교집합은 실제 일치보다 넓으므로 검색 시 {@link #compact(String)}로 부분 문자열 일치를 다시 확인합니다.
+ * </p>
+ */
+@UtilityClass
+public class TranscriptTokenizer {
+
+    /**
+     * 색인용 토큰: 중복을 제거한 바이그램과 유니그램 (등장 순서 유지)
+     */
+    public Set<String> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색용 토큰: 한글은 두 글자 이상이면 바이그램만, 한 글자면 유니그램
+     */
+    public Set<String> queryTokens(String text) {
+        return tokenize(text, false);
+    }
+
+    private Set<String> tokenize(String text, boolean unigrams) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        String normalized = normalize(text);
+        StringBuilder cjkRun = new StringBuilder();
+        StringBuilder wordRun = new StringBuilder();
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (isCjk(codePoint)) {
+                flushWord(wordRun, tokens);
+                cjkRun.appendCodePoint(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                flushCjk(cjkRun, tokens, unigrams);
+                wordRun.appendCodePoint(codePoint);
+            } else if (Character.isWhitespace(codePoint)) {
+                // 한글 사이 공백은 바이그램을 끊지 않음
+                flushWord(wordRun, tokens);
+            } else {
+                flushWord(wordRun, tokens);
+                flushCjk(cjkRun, tokens, unigrams);
+            }
+        }
+
+        flushWord(wordRun, tokens);
+        flushCjk(cjkRun, tokens, unigrams);
+        return tokens;
+    }
+
+    /**
+     * 부분 문자열 확인용 표현: 정규화 후 공백 제거
+     */
+    public String compact(String text) {
+        String normalized = normalize(text);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    private String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private void flushWord(StringBuilder run, Set<String> tokens) {
+        if (run.isEmpty()) return;
+
+        tokens.add(run.toString());
+        run.setLength(0);
+    }
+
+    private void flushCjk(StringBuilder run, Set<String> tokens, boolean unigrams) {
+        if (run.isEmpty()) return;
+
+        int[] codePoints = run.codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            if (unigrams || codePoints.length == 1)
+                tokens.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length)
+                tokens.add(new String(codePoints, i, 2));
+        }
+        run.setLength(0);
+    }
+
+    private boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
 
 import java.io.IOException;
+import java.util.Set;
 
 @Slf4j
 @Configuration
@@ -24,20 +25,22 @@ public class SttConfig {
 
     @Bean
     public SpeechClient speechClient() throws IOException {
+        SpeechSettings.Builder settingsBuilder = SpeechSettings.newBuilder();
+
+        // 동기 인식 재시도는 ResilientRecognizer가 예산 안에서 처리하므로 gax 기본 재시도는 끔
+        settingsBuilder.recognizeSettings().setRetryableCodes(Set.of());
+
         try {
 
             GoogleCredentials credentials = GoogleCredentials.fromStream(gcsCredentials.getInputStream());
 
-            SpeechSettings speechSettings = SpeechSettings.newBuilder()
-                    .setCredentialsProvider(() -> credentials)
-                    .build();
-
-            return SpeechClient.create(speechSettings);
+            settingsBuilder.setCredentialsProvider(() -> credentials);
 
         } catch (Exception e) {
             // 개발 환경에서 credentials가 없을 경우 기본 인증 사용
             log.error("Google credentials 파일을 찾을 수 없습니다. 기본 인증을 사용합니다.");
-            return SpeechClient.create();
         }
+
+        return SpeechClient.create(settingsBuilder.build());
     }
 }
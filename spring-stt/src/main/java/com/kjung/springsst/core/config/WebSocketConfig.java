@@ -1,8 +1,10 @@
 package com.kjung.springsst.core.config;
 
+import com.kjung.springsst.app.speech.controller.MultiplexSpeechWebSocketHandler;
+import com.kjung.springsst.app.speech.controller.SessionMonitorWebSocketHandler;
+import com.kjung.springsst.app.speech.controller.SpeechWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
@@ -12,11 +14,23 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketConfigurer {
 
-    private final WebSocketHandler webSocketHandler;
+    private final SpeechWebSocketHandler speechWebSocketHandler;
+
+    private final MultiplexSpeechWebSocketHandler multiplexSpeechWebSocketHandler;
+
+    private final SessionMonitorWebSocketHandler sessionMonitorWebSocketHandler;
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        registry.addHandler(webSocketHandler, "/ws/speech")
+        registry.addHandler(speechWebSocketHandler, "/ws/speech")
+                .setAllowedOrigins("*");
+
+        // 하나의 연결에서 여러 논리 스트림을 처리하는 다중화 모드
+        registry.addHandler(multiplexSpeechWebSocketHandler, "/ws/speech/mux")
+                .setAllowedOrigins("*");
+
+        // 진행 중인 세션의 결과 구독 (읽기 전용)
+        registry.addHandler(sessionMonitorWebSocketHandler, "/ws/speech/monitor")
                 .setAllowedOrigins("*");
     }
 }
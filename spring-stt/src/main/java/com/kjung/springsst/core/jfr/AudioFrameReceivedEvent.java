@@ -0,0 +1,47 @@
+package com.kjung.springsst.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 클라이언트 오디오 프레임을 전송 큐에 적재한 시점
+ */
+@Name("com.kjung.stt.AudioFrameReceived")
+@Label("Audio Frame Received")
+@Category({"STT", "Streaming"})
+@Description("클라이언트 오디오 프레임 적재")
+@StackTrace(false)
+public class AudioFrameReceivedEvent extends Event {
+
+    @Label("Stream Id")
+    long streamId;
+
+    @Label("Frame Size")
+    @DataAmount
+    int bytes;
+
+    @Label("Queue Result")
+    String queueResult;
+
+    @Label("Queue Depth")
+    int queueDepth;
+
+    /**
+     * 기록 중이 아니면 필드 설정 없이 바로 반환
+     */
+    public static void emit(long streamId, int bytes, String queueResult, int queueDepth) {
+        AudioFrameReceivedEvent event = new AudioFrameReceivedEvent();
+        if (!event.isEnabled()) return;
+
+        event.streamId = streamId;
+        event.bytes = bytes;
+        event.queueResult = queueResult;
+        event.queueDepth = queueDepth;
+        event.commit();
+    }
+}
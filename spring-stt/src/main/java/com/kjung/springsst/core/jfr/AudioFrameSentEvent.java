@@ -0,0 +1,40 @@
+package com.kjung.springsst.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 오디오 프레임을 gRPC 스트림으로 전송한 시점
+ */
+@Name("com.kjung.stt.AudioFrameSent")
+@Label("Audio Frame Sent")
+@Category({"STT", "Streaming"})
+@Description("gRPC 스트림으로 오디오 프레임 전송")
+@StackTrace(false)
+public class AudioFrameSentEvent extends Event {
+
+    @Label("Stream Id")
+    long streamId;
+
+    @Label("Frame Size")
+    @DataAmount
+    int bytes;
+
+    @Label("Remaining In Queue")
+    int remaining;
+
+    public static void emit(long streamId, int bytes, int remaining) {
+        AudioFrameSentEvent event = new AudioFrameSentEvent();
+        if (!event.isEnabled()) return;
+
+        event.streamId = streamId;
+        event.bytes = bytes;
+        event.remaining = remaining;
+        event.commit();
+    }
+}
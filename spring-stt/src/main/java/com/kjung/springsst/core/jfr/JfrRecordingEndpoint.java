@@ -0,0 +1,181 @@
+package com.kjung.springsst.core.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 중 JFR 기록을 시작하고 내려받는 actuator 엔드포인트 ({@code /actuator/jfr}).
+ * <ul>
+ * <li>{@code GET /actuator/jfr}: 기록 상태</li>
+ * <li>{@code POST /actuator/jfr} {@code {"settings": "default", "maxAgeSeconds": 600}}: 기록 시작 (이미 기록 중이면 상태만 반환)</li>
+ * <li>{@code GET /actuator/jfr/dump}: 지금까지의 기록을 파일로 내려받음 (기록은 계속됨)</li>
+ * <li>{@code DELETE /actuator/jfr}: 기록 중지</li>
+ * </ul>
+ * 기록하지 않는 동안 STT 이벤트는 {@code isEnabled()} 확인만 하고 바로 반환하므로 비용이 거의 없습니다.
+ * 기록 중에는 오디오 프레임 단위 이벤트가 많으므로 짧은 구간만 기록하는 것을 권장합니다.
+ * <p>
+ * 인증이 없으므로 공개 포트에 노출하지 않습니다 ({@code diagnostics} 프로필에서 별도 관리 포트로 노출).
+ * 환경 변수, 시스템 프로퍼티, JVM 인자는 자격 증명이 들어있을 수 있어 기록하지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint implements DisposableBean {
+
+    private static final String RECORDING_NAME = "stt";
+
+    private static final String DUMP_SELECTOR = "dump";
+
+    private static final List<Class<? extends jdk.jfr.Event>> STT_EVENTS = List.of(
+            AudioFrameReceivedEvent.class,
+            AudioFrameSentEvent.class,
+            ResultReceivedEvent.class,
+            ResultDeliveredEvent.class,
+            SyncRecognizeEvent.class
+    );
+
+    // 자격 증명이 담길 수 있는 기본 설정 이벤트
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation"
+    );
+
+    private final Path dumpDirectory;
+
+    private final long defaultMaxAgeSeconds;
+
+    private Recording recording;
+
+    public JfrRecordingEndpoint(@Value("${app.stt.jfr.dump-dir:${java.io.tmpdir}}") String dumpDirectory,
+                                @Value("${app.stt.jfr.max-age-seconds:600}") long defaultMaxAgeSeconds) {
+        this.dumpDirectory = Path.of(dumpDirectory);
+        this.defaultMaxAgeSeconds = defaultMaxAgeSeconds;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        boolean running = recording != null && recording.getState() == RecordingState.RUNNING;
+
+        status.put("recording", running);
+        if (recording != null) {
+            status.put("state", recording.getState());
+            status.put("startTime", recording.getStartTime());
+            status.put("maxAgeSeconds", recording.getMaxAge() != null ? recording.getMaxAge().toSeconds() : null);
+            status.put("size", recording.getSize());
+        }
+        return status;
+    }
+
+    /**
+     * 기록 시작.
+     *
+     * @param settings      JFR 설정 이름 ({@code default} 또는 {@code profile}), 기본값 {@code default}
+     * @param maxAgeSeconds 보관할 최근 기록 길이 (초)
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings, @Nullable Long maxAgeSeconds) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING)
+            return status();
+
+        closeRecording();
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings != null ? settings : "default");
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("JFR 설정을 읽을 수 없습니다: " + settings, e);
+        }
+
+        recording = new Recording(configuration);
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofSeconds(maxAgeSeconds != null ? maxAgeSeconds : defaultMaxAgeSeconds));
+        STT_EVENTS.forEach(eventType -> recording.enable(eventType).withoutStackTrace());
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        recording.start();
+
+        log.info("JFR 기록 시작 - 설정: {}, 보관: {}", configuration.getName(), recording.getMaxAge());
+        return status();
+    }
+
+    /**
+     * 지금까지의 기록을 파일로 저장해 내려받습니다. 저장한 파일은 응답을 다 보내고 스트림이 닫히면 삭제됩니다.
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump(@Selector String action) {
+        if (!DUMP_SELECTOR.equals(action))
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+
+        if (recording == null || recording.getState() != RecordingState.RUNNING)
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+
+        Path file = dumpDirectory.resolve("stt-" + System.currentTimeMillis() + ".jfr");
+        try {
+            Files.createDirectories(dumpDirectory);
+            recording.dump(file);
+
+            log.info("JFR 기록 저장: {} ({} bytes)", file, Files.size(file));
+            return new WebEndpointResponse<>(new InputStreamResource(
+                    Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("JFR 기록을 저장할 수 없습니다.", e);
+        }
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        closeRecording();
+        log.info("JFR 기록 중지");
+        return status();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("JFR 기록 파일을 삭제할 수 없습니다: {}", file, e);
+        }
+    }
+
+    private void closeRecording() {
+        if (recording == null) return;
+
+        recording.close();
+        recording = null;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        closeRecording();
+    }
+}
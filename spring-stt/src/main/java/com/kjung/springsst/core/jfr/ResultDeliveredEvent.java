@@ -0,0 +1,57 @@
+package com.kjung.springsst.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 인식 결과를 WebSocket 클라이언트에 전송한 시점. 전송에 걸린 시간이 이벤트 구간입니다.
+ */
+@Name("com.kjung.stt.ResultDelivered")
+@Label("Result Delivered")
+@Category({"STT", "Streaming"})
+@Description("클라이언트로 인식 결과 전송")
+@StackTrace(false)
+public class ResultDeliveredEvent extends Event {
+
+    @Label("Session Id")
+    String sessionId;
+
+    @Label("Stream Id")
+    long streamId;
+
+    @Label("Final")
+    boolean isFinal;
+
+    @Label("Message Size")
+    @DataAmount
+    int bytes;
+
+    /**
+     * 기록 중일 때만 구간 측정을 시작합니다. 반환값이 {@code null}이면 {@link #end}를 호출하지 않아도 됩니다.
+     */
+    public static ResultDeliveredEvent begin(String sessionId, long streamId, boolean isFinal) {
+        ResultDeliveredEvent event = new ResultDeliveredEvent();
+        if (!event.isEnabled()) return null;
+
+        event.sessionId = sessionId;
+        event.streamId = streamId;
+        event.isFinal = isFinal;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param bytes 전송한 메시지 크기
+     */
+    public static void end(ResultDeliveredEvent event, int bytes) {
+        if (event == null) return;
+
+        event.bytes = bytes;
+        event.commit();
+    }
+}
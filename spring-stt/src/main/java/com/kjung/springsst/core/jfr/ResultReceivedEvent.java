@@ -0,0 +1,42 @@
+package com.kjung.springsst.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 엔진으로부터 스트리밍 인식 결과를 받은 시점
+ */
+@Name("com.kjung.stt.ResultReceived")
+@Label("Result Received")
+@Category({"STT", "Streaming"})
+@Description("엔진 스트리밍 인식 결과 수신")
+@StackTrace(false)
+public class ResultReceivedEvent extends Event {
+
+    @Label("Stream Id")
+    long streamId;
+
+    @Label("Final")
+    boolean isFinal;
+
+    @Label("Transcript Length")
+    int transcriptLength;
+
+    @Label("Stability")
+    float stability;
+
+    public static void emit(long streamId, boolean isFinal, int transcriptLength, float stability) {
+        ResultReceivedEvent event = new ResultReceivedEvent();
+        if (!event.isEnabled()) return;
+
+        event.streamId = streamId;
+        event.isFinal = isFinal;
+        event.transcriptLength = transcriptLength;
+        event.stability = stability;
+        event.commit();
+    }
+}
@@ -0,0 +1,74 @@
+package com.kjung.springsst.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 엔진 파일 인식 호출 한 번 (시작~종료 구간). 장애 조치로 여러 엔진을 시도하면 엔진마다 기록됩니다.
+ */
+@Name("com.kjung.stt.SyncRecognize")
+@Label("Sync Recognize")
+@Category({"STT", "Recognize"})
+@Description("엔진 파일 인식 호출")
+@StackTrace(false)
+public class SyncRecognizeEvent extends Event {
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Filename")
+    String filename;
+
+    @Label("Audio Size")
+    @DataAmount
+    int audioBytes;
+
+    @Label("Encoding")
+    String encoding;
+
+    @Label("Priority")
+    String priority;
+
+    @Label("Long Running")
+    boolean longRunning;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Transcript Length")
+    int transcriptLength;
+
+    /**
+     * 기록 중일 때만 구간 측정을 시작합니다. 반환값이 {@code null}이면 {@link #end}를 호출하지 않아도 됩니다.
+     */
+    public static SyncRecognizeEvent begin(String engine, String filename, int audioBytes, String encoding,
+                                           String priority, boolean longRunning) {
+        SyncRecognizeEvent event = new SyncRecognizeEvent();
+        if (!event.isEnabled()) return null;
+
+        event.engine = engine;
+        event.filename = filename;
+        event.audioBytes = audioBytes;
+        event.encoding = encoding;
+        event.priority = priority;
+        event.longRunning = longRunning;
+        event.begin();
+        return event;
+    }
+
+    public static void end(SyncRecognizeEvent event, String outcome, int transcriptLength) {
+        if (event == null) return;
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.transcriptLength = transcriptLength;
+            event.commit();
+        }
+    }
+}
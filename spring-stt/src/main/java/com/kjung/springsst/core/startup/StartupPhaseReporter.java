@@ -0,0 +1,92 @@
+package com.kjung.springsst.core.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.StreamSupport;
+
+/**
+ * 기동 단계별 소요 시간 보고.
+ * <p>
+ * 컨텍스트 준비(ApplicationStartedEvent)와 트래픽 수신 가능 시점(ApplicationReadyEvent, 워밍업 포함)까지의 시간을
+ * {@code stt.startup.phase} 타이머와 로그로 남깁니다. {@link BufferingApplicationStartup}으로 기동한 경우
+ * 가장 오래 걸린 빈 생성 단계도 함께 기록하며, 전체 타임라인은 actuator {@code /actuator/startup}에서 볼 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class StartupPhaseReporter {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ApplicationStartup applicationStartup;
+
+    private final int slowestBeans;
+
+    public StartupPhaseReporter(MeterRegistry meterRegistry,
+                                ApplicationStartup applicationStartup,
+                                @Value("${app.stt.startup.report-slowest-beans:5}") int slowestBeans) {
+        this.meterRegistry = meterRegistry;
+        this.applicationStartup = applicationStartup;
+        this.slowestBeans = slowestBeans;
+    }
+
+    @EventListener
+    public void onStarted(ApplicationStartedEvent event) {
+        record("context-refresh", event.getTimeTaken());
+        log.info("기동 단계 - 컨텍스트 준비: {}ms", event.getTimeTaken().toMillis());
+
+        reportSlowestBeans();
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        record("ready", event.getTimeTaken());
+        log.info("기동 단계 - 트래픽 수신 가능: {}ms", event.getTimeTaken().toMillis());
+    }
+
+    private void reportSlowestBeans() {
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingStartup) || slowestBeans <= 0)
+            return;
+
+        // drain하지 않고 조회만 하여 actuator startup 엔드포인트에서도 볼 수 있도록 함
+        StartupTimeline timeline = bufferingStartup.getBufferedTimeline();
+        timeline.getEvents().stream()
+                .filter(event -> BEAN_INSTANTIATE_STEP.equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(slowestBeans)
+                .forEach(event -> log.info("기동 단계 - 빈 생성 {}: {}ms",
+                        beanName(event.getStartupStep()), event.getDuration().toMillis()));
+    }
+
+    private static String beanName(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> "beanName".equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse("?");
+    }
+
+    private void record(String phase, Duration duration) {
+        if (duration == null) return;
+
+        Timer.builder("stt.startup.phase")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(duration);
+    }
+}
@@ -0,0 +1,183 @@
+package com.kjung.springsst.core.startup;
+
+import com.google.api.gax.rpc.ApiException;
+import com.google.cloud.speech.v1.RecognitionAudio;
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.google.cloud.speech.v1.RecognizeRequest;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.longrunning.GetOperationRequest;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.kjung.springsst.infra.engine.RecognitionRequestFactory;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.profile.RecognitionProfile;
+import com.kjung.springsst.infra.googleStt.profile.RecognitionProfileRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 트래픽을 받기 전 Speech 채널과 주요 코드 경로를 미리 데우는 ApplicationRunner.
+ * <p>
+ * ApplicationRunner가 모두 끝나야 {@code ApplicationReadyEvent}가 발행되고 readiness가 ACCEPTING_TRAFFIC이 되므로,
+ * 워밍업이 끝나기 전에는 readiness probe가 실패해 파드로 트래픽이 들어오지 않습니다.
+ * </p>
+ * <ul>
+ * <li>채널: 존재하지 않는 operation을 조회(NOT_FOUND)해 TLS 핸드셰이크, 인증 토큰 발급, HTTP/2 연결을 끝내 둠.
+ * 과금되는 인식 호출은 하지 않음</li>
+ * <li>코드 경로: 프로필 설정 조회, WAV 검증/요청 생성, 요청 직렬화를 반복해 JIT 컴파일을 유도</li>
+ * </ul>
+ * 워밍업 실패는 기동을 막지 않고 경고만 남깁니다.
+ */
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final String WARMUP_OPERATION = "stt-warmup";
+
+    private static final int WARMUP_SAMPLE_RATE = 16000;
+
+    private static final List<RecognitionConfig.AudioEncoding> WARMUP_ENCODINGS = List.of(
+            RecognitionConfig.AudioEncoding.LINEAR16,
+            RecognitionConfig.AudioEncoding.FLAC,
+            RecognitionConfig.AudioEncoding.MP3,
+            RecognitionConfig.AudioEncoding.OGG_OPUS
+    );
+
+    private final SpeechClient speechClient;
+
+    private final RecognitionProfileRegistry profileRegistry;
+
+    private final RecognitionRequestFactory recognitionRequestFactory;
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+
+    private final long channelTimeoutMs;
+
+    private final int iterations;
+
+    public WarmupRunner(SpeechClient speechClient,
+                        RecognitionProfileRegistry profileRegistry,
+                        RecognitionRequestFactory recognitionRequestFactory,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.stt.warmup.enabled:true}") boolean enabled,
+                        @Value("${app.stt.warmup.channel-timeout-ms:5000}") long channelTimeoutMs,
+                        @Value("${app.stt.warmup.iterations:200}") int iterations) {
+        this.speechClient = speechClient;
+        this.profileRegistry = profileRegistry;
+        this.recognitionRequestFactory = recognitionRequestFactory;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.channelTimeoutMs = channelTimeoutMs;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+
+        long channelMs = measure("warmup-channel", this::primeChannel);
+        long codePathMs = measure("warmup-code-paths", this::exerciseCodePaths);
+
+        log.info("워밍업 완료 - 채널: {}ms, 코드 경로: {}ms ({}회)", channelMs, codePathMs, iterations);
+    }
+
+    /**
+     * 존재하지 않는 operation 조회로 채널 연결을 맺습니다. NOT_FOUND 응답이 정상입니다.
+     */
+    private void primeChannel() {
+        GetOperationRequest request = GetOperationRequest.newBuilder()
+                .setName(WARMUP_OPERATION)
+                .build();
+
+        try {
+            speechClient.getOperationsClient().getOperationCallable()
+                    .futureCall(request)
+                    .get(channelTimeoutMs, TimeUnit.MILLISECONDS);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ApiException apiException)
+                log.debug("Speech 채널 준비 응답: {}", apiException.getStatusCode().getCode());
+            else
+                log.warn("Speech 채널 준비 실패: {}", e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            log.warn("Speech 채널 준비 시간 초과 ({}ms)", channelTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Speech 채널 준비 실패: {}", e.getMessage());
+        }
+    }
+
+    private void exerciseCodePaths() {
+        byte[] wav = silentWav(WARMUP_SAMPLE_RATE / 10);
+
+        try {
+            for (int i = 0; i < iterations; i++) {
+                boolean punctuation = i % 2 == 0;
+
+                for (String profileName : profileRegistry.getProfileNames()) {
+                    RecognitionProfile profile = profileRegistry.get(profileName);
+                    WARMUP_ENCODINGS.forEach(encoding -> profile.configFor(encoding, punctuation, false));
+                }
+
+                RecognitionRequest request = recognitionRequestFactory.create("warmup.wav", wav, punctuation, false);
+                RecognitionConfig config = profileRegistry.get(request.profile())
+                        .configFor(request.encoding(), punctuation, false);
+
+                byte[] serialized = RecognizeRequest.newBuilder()
+                        .setConfig(config)
+                        .setAudio(RecognitionAudio.newBuilder().setContent(ByteString.copyFrom(request.audio())))
+                        .build()
+                        .toByteArray();
+                RecognizeRequest.parseFrom(serialized);
+            }
+        } catch (InvalidProtocolBufferException | RuntimeException e) {
+            log.warn("코드 경로 워밍업 실패: {}", e.getMessage());
+        }
+    }
+
+    private long measure(String phase, Runnable step) {
+        long startTime = System.nanoTime();
+        step.run();
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        Timer.builder("stt.startup.phase")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * 16bit 모노 무음 WAV
+     */
+    private static byte[] silentWav(int samples) {
+        int dataLength = samples * 2;
+
+        return ByteBuffer.allocate(44 + dataLength)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + dataLength).put("WAVE".getBytes(StandardCharsets.US_ASCII))
+                .put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16)
+                .putShort((short) 1).putShort((short) 1)
+                .putInt(WARMUP_SAMPLE_RATE).putInt(WARMUP_SAMPLE_RATE * 2)
+                .putShort((short) 2).putShort((short) 16)
+                .put("data".getBytes(StandardCharsets.US_ASCII)).putInt(dataLength)
+                .array();
+    }
+}
@@ -0,0 +1,97 @@
+package com.kjung.springsst.core.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발화 구간을 JSON Lines 파일에 추가하는 내보내기 ({@code app.stt.tracing.file.enabled=true}).
+ * <p>
+ * 결과 전송 스레드를 막지 않도록 제한된 큐에 넣고 전용 스레드에서 기록하며, 큐가 가득 차면 구간을 버립니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.stt.tracing.file.enabled", havingValue = "true")
+public class FileSpanExporter implements SpanExporter, DisposableBean {
+
+    private final ObjectMapper objectMapper;
+
+    private final BlockingQueue<UtteranceSpan> queue;
+
+    private final BufferedWriter writer;
+
+    private final Thread worker;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public FileSpanExporter(ObjectMapper objectMapper,
+                            @Value("${app.stt.tracing.file.path:./traces/utterances.jsonl}") String path,
+                            @Value("${app.stt.tracing.file.queue-capacity:10000}") int queueCapacity) {
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        try {
+            Path file = Path.of(path).toAbsolutePath();
+            Files.createDirectories(file.getParent());
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.info("발화 구간 파일 내보내기: {}", file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("발화 구간 파일을 열 수 없습니다: " + path, e);
+        }
+
+        this.worker = Thread.ofPlatform().name("span-file-exporter").daemon().start(this::drain);
+    }
+
+    @Override
+    public void export(UtteranceSpan span) {
+        if (!queue.offer(span) && dropped.incrementAndGet() % 1000 == 1)
+            log.warn("발화 구간 파일 큐가 가득 차 구간을 버립니다. (누적: {})", dropped.get());
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                UtteranceSpan span = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (span == null) {
+                    writer.flush();
+                    continue;
+                }
+
+                writer.write(objectMapper.writeValueAsString(span));
+                writer.newLine();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                log.warn("발화 구간 기록 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        writer.close();
+    }
+}
@@ -0,0 +1,85 @@
+package com.kjung.springsst.core.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * 최근 발화 구간을 메모리에 보관하는 기본 내보내기. 용량을 넘으면 오래된 구간부터 버립니다.
+ */
+@Component
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int capacity;
+
+    private final Deque<UtteranceSpan> spans;
+
+    public InMemorySpanExporter(@Value("${app.stt.tracing.memory.capacity:1000}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.spans = new ArrayDeque<>(this.capacity);
+    }
+
+    @Override
+    public synchronized void export(UtteranceSpan span) {
+        if (spans.size() == capacity)
+            spans.pollFirst();
+
+        spans.addLast(span);
+    }
+
+    /**
+     * 최근 구간 (최신순)
+     */
+    public synchronized List<UtteranceSpan> recent(int limit) {
+        return spans.reversed().stream().limit(Math.max(0, limit)).toList();
+    }
+
+    /**
+     * 보관 중인 구간의 단계별 지연 분포 (단위: ms, p50/p95/max)
+     */
+    public Map<String, Object> breakdown() {
+        List<UtteranceSpan> snapshot;
+        synchronized (this) {
+            snapshot = List.copyOf(spans);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", snapshot.size());
+        result.put("ingest", distribution(snapshot, UtteranceSpan::ingestMicros));
+        result.put("first-interim", distribution(snapshot, UtteranceSpan::firstInterimMicros));
+        result.put("final", distribution(snapshot, UtteranceSpan::finalMicros));
+        result.put("delivery", distribution(snapshot, UtteranceSpan::deliveryMicros));
+        result.put("total", distribution(snapshot, UtteranceSpan::totalMicros));
+        return result;
+    }
+
+    private static Map<String, Object> distribution(List<UtteranceSpan> spans, ToLongFunction<UtteranceSpan> stage) {
+        long[] values = spans.stream()
+                .mapToLong(stage)
+                .filter(value -> value >= 0)
+                .sorted()
+                .toArray();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", values.length);
+        if (values.length == 0) return result;
+
+        result.put("p50", percentile(values, 0.5));
+        result.put("p95", percentile(values, 0.95));
+        result.put("max", values[values.length - 1] / 1000.0);
+        result.put("mean", Arrays.stream(values).average().orElse(0) / 1000.0);
+        return result;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1000.0;
+    }
+}
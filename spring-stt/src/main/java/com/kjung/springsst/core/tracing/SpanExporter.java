@@ -0,0 +1,12 @@
+package com.kjung.springsst.core.tracing;
+
+/**
+ * 완료된 발화 구간을 내보내는 확장 지점. 등록된 모든 구현체 빈이 구간을 받습니다.
+ * <p>
+ * 결과 전송 스레드에서 호출되므로 구현체는 막히지 않아야 합니다.
+ * </p>
+ */
+public interface SpanExporter {
+
+    void export(UtteranceSpan span);
+}
@@ -0,0 +1,33 @@
+package com.kjung.springsst.core.tracing;
+
+import java.time.Instant;
+
+/**
+ * 발화 하나의 구간별 지연 시간. 구간 값이 없으면 -1입니다.
+ *
+ * @param sessionId          세션 ID
+ * @param streamId           엔진 스트림 ID
+ * @param sequence           세션 내 발화 순번
+ * @param startedAt          발화의 첫 오디오 프레임 수신 시각
+ * @param audioBytes         발화 동안 받은 오디오 크기
+ * @param transcriptLength   최종 결과 텍스트 길이
+ * @param ingestMicros       첫 프레임 수신 → gRPC 전송 (서버 내부 대기)
+ * @param firstInterimMicros 첫 프레임 전송 → 첫 중간 결과 수신
+ * @param finalMicros        첫 프레임 전송 → 최종 결과 수신 (발화 길이 포함)
+ * @param deliveryMicros     최종 결과 수신 → 클라이언트 전송 완료
+ * @param totalMicros        첫 프레임 수신 → 최종 결과 전송 완료
+ */
+public record UtteranceSpan(
+        String sessionId,
+        long streamId,
+        int sequence,
+        Instant startedAt,
+        long audioBytes,
+        int transcriptLength,
+        long ingestMicros,
+        long firstInterimMicros,
+        long finalMicros,
+        long deliveryMicros,
+        long totalMicros
+) {
+}
@@ -0,0 +1,109 @@
+package com.kjung.springsst.core.tracing;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 스트림 하나의 발화별 시각 기록.
+ * <p>
+ * 최종 결과 이후 처음 들어온 오디오 프레임부터 새 발화로 봅니다. 최종 결과를 받은 발화는 전송 대기열로 옮겨지고,
+ * 결과는 받은 순서대로 전송되므로 최종 결과 전송 시 대기열의 가장 오래된 발화를 완료합니다.
+ * 기록 시점마다 다른 스레드(WebSocket 수신, 전송 스케줄러, gRPC 응답)에서 호출됩니다.
+ * </p>
+ */
+public class UtteranceTrace {
+
+    private final UtteranceTracer tracer;
+
+    private final String sessionId;
+
+    private final AtomicReference<Utterance> current = new AtomicReference<>();
+
+    private final Queue<Utterance> awaitingDelivery = new ConcurrentLinkedQueue<>();
+
+    private volatile long streamId;
+
+    private int sequence = 0;
+
+    UtteranceTrace(UtteranceTracer tracer, String sessionId) {
+        this.tracer = tracer;
+        this.sessionId = sessionId;
+    }
+
+    static class Utterance {
+        final int sequence;
+        final long receivedNanos;
+        final long receivedEpochMs;
+        volatile long audioBytes;
+        volatile long sentNanos;
+        volatile long firstInterimNanos;
+        volatile long finalNanos;
+        volatile int transcriptLength;
+        volatile long streamId;
+
+        Utterance(int sequence, long receivedNanos) {
+            this.sequence = sequence;
+            this.receivedNanos = receivedNanos;
+            this.receivedEpochMs = System.currentTimeMillis();
+        }
+    }
+
+    public void setStreamId(long streamId) {
+        this.streamId = streamId;
+    }
+
+    /**
+     * WebSocket으로 오디오 프레임 수신
+     *
+     * @param receivedNanos 수신 시각 ({@link System#nanoTime()})
+     */
+    public void markAudioReceived(long receivedNanos, int bytes) {
+        Utterance utterance = current.get();
+        if (utterance == null) {
+            // 오디오 수신은 연결 스레드 하나에서만 호출됨
+            utterance = new Utterance(++sequence, receivedNanos);
+            current.set(utterance);
+        }
+        utterance.audioBytes += bytes;
+    }
+
+    /**
+     * 오디오 프레임을 gRPC 스트림으로 전송
+     */
+    public void markAudioSent() {
+        Utterance utterance = current.get();
+        if (utterance != null && utterance.sentNanos == 0)
+            utterance.sentNanos = System.nanoTime();
+    }
+
+    /**
+     * 엔진 결과 수신
+     */
+    public void markResult(boolean isFinal, int transcriptLength) {
+        if (!isFinal) {
+            Utterance utterance = current.get();
+            if (utterance != null && utterance.firstInterimNanos == 0)
+                utterance.firstInterimNanos = System.nanoTime();
+            return;
+        }
+
+        Utterance utterance = current.getAndSet(null);
+        if (utterance == null) return;
+
+        utterance.finalNanos = System.nanoTime();
+        utterance.transcriptLength = transcriptLength;
+        utterance.streamId = streamId;
+        awaitingDelivery.offer(utterance);
+    }
+
+    /**
+     * 최종 결과를 클라이언트에 전송 완료
+     */
+    public void markFinalDelivered() {
+        Utterance utterance = awaitingDelivery.poll();
+        if (utterance == null) return;
+
+        tracer.finish(sessionId, utterance, System.nanoTime());
+    }
+}
@@ -0,0 +1,31 @@
+package com.kjung.springsst.core.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 메모리에 보관된 발화 구간과 단계별 지연 분포 조회 ({@code /actuator/utterances}).
+ */
+@Component
+@Endpoint(id = "utterances")
+public class UtteranceTraceEndpoint {
+
+    private final InMemorySpanExporter exporter;
+
+    public UtteranceTraceEndpoint(InMemorySpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> utterances(@Nullable Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("breakdownMs", exporter.breakdown());
+        result.put("recent", exporter.recent(limit != null ? limit : 50));
+        return result;
+    }
+}
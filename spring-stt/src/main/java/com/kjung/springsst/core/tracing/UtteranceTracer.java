@@ -0,0 +1,112 @@
+package com.kjung.springsst.core.tracing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발화 단위 지연 추적기.
+ * <p>
+ * 완료된 발화를 {@link UtteranceSpan}으로 만들어 등록된 모든 {@link SpanExporter}로 내보내고,
+ * 구간별 지연을 {@code stt.trace.stage} 타이머(tag: stage)로 집계합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class UtteranceTracer {
+
+    private static final String STAGE_INGEST = "ingest";
+    private static final String STAGE_FIRST_INTERIM = "first-interim";
+    private static final String STAGE_FINAL = "final";
+    private static final String STAGE_DELIVERY = "delivery";
+    private static final String STAGE_TOTAL = "total";
+
+    private final boolean enabled;
+
+    private final List<SpanExporter> exporters;
+
+    private final Map<String, Timer> stageTimers;
+
+    public UtteranceTracer(ObjectProvider<SpanExporter> exporters,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.stt.tracing.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.exporters = exporters.orderedStream().toList();
+        this.stageTimers = Map.of(
+                STAGE_INGEST, stageTimer(meterRegistry, STAGE_INGEST),
+                STAGE_FIRST_INTERIM, stageTimer(meterRegistry, STAGE_FIRST_INTERIM),
+                STAGE_FINAL, stageTimer(meterRegistry, STAGE_FINAL),
+                STAGE_DELIVERY, stageTimer(meterRegistry, STAGE_DELIVERY),
+                STAGE_TOTAL, stageTimer(meterRegistry, STAGE_TOTAL)
+        );
+    }
+
+    /**
+     * 스트림의 발화 기록 시작
+     *
+     * @return 추적이 꺼져 있으면 {@code null}
+     */
+    public UtteranceTrace newTrace(String sessionId) {
+        return enabled ? new UtteranceTrace(this, sessionId) : null;
+    }
+
+    void finish(String sessionId, UtteranceTrace.Utterance utterance, long deliveredNanos) {
+        long sent = utterance.sentNanos;
+        long firstInterim = utterance.firstInterimNanos;
+
+        UtteranceSpan span = new UtteranceSpan(
+                sessionId,
+                utterance.streamId,
+                utterance.sequence,
+                Instant.ofEpochMilli(utterance.receivedEpochMs),
+                utterance.audioBytes,
+                utterance.transcriptLength,
+                between(utterance.receivedNanos, sent),
+                between(sent, firstInterim),
+                between(sent, utterance.finalNanos),
+                between(utterance.finalNanos, deliveredNanos),
+                between(utterance.receivedNanos, deliveredNanos)
+        );
+
+        record(STAGE_INGEST, span.ingestMicros());
+        record(STAGE_FIRST_INTERIM, span.firstInterimMicros());
+        record(STAGE_FINAL, span.finalMicros());
+        record(STAGE_DELIVERY, span.deliveryMicros());
+        record(STAGE_TOTAL, span.totalMicros());
+
+        for (SpanExporter exporter : exporters) {
+            try {
+                exporter.export(span);
+            } catch (RuntimeException e) {
+                log.warn("발화 구간 내보내기 실패 - {}: {}", exporter.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private void record(String stage, long micros) {
+        if (micros >= 0)
+            stageTimers.get(stage).record(micros, TimeUnit.MICROSECONDS);
+    }
+
+    private static long between(long startNanos, long endNanos) {
+        if (startNanos == 0 || endNanos == 0) return -1;
+
+        return TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos);
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("stt.trace.stage")
+                .description("발화 단위 구간별 지연 시간")
+                .tag("stage", stage)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
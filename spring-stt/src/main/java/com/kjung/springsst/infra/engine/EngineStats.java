@@ -0,0 +1,63 @@
+package com.kjung.springsst.infra.engine;
+
+/**
+ * 엔진별 실시간 통계.
+ * <p>
+ * 지연 시간과 오류율을 지수 이동 평균(EWMA)으로 유지하여 최근 상태를 빠르게 반영합니다.
+ * </p>
+ */
+public class EngineStats {
+
+    private static final double ALPHA = 0.2;
+
+    private double latencyMs = 0;
+
+    private double errorRate = 0;
+
+    private long samples = 0;
+
+    private long lastFailureAt = 0;
+
+    public synchronized void recordSuccess(long elapsedMs) {
+        latencyMs = samples == 0 ? elapsedMs : latencyMs + ALPHA * (elapsedMs - latencyMs);
+        errorRate = errorRate * (1 - ALPHA);
+        samples++;
+    }
+
+    /**
+     * 지연 시간 없이 성공만 기록 (스트리밍 종료 등)
+     */
+    public synchronized void recordSuccess() {
+        errorRate = errorRate * (1 - ALPHA);
+        samples++;
+    }
+
+    public synchronized void recordFailure() {
+        errorRate = errorRate + ALPHA * (1 - errorRate);
+        samples++;
+        lastFailureAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 평균 지연 시간 (ms), 기록이 없으면 0
+     */
+    public synchronized double getLatencyMs() {
+        return latencyMs;
+    }
+
+    public synchronized double getErrorRate() {
+        return errorRate;
+    }
+
+    public synchronized long getSamples() {
+        return samples;
+    }
+
+    /**
+     * 오류율이 임계치 이상이고 마지막 실패 후 회복 대기 시간이 지나지 않았는지 여부.
+     * 회복 대기 시간이 지나면 다시 우선순위 경쟁에 참여시켜 상태를 확인합니다.
+     */
+    public synchronized boolean isDegraded(double errorRateThreshold, long recoveryMs, long now) {
+        return errorRate >= errorRateThreshold && now - lastFailureAt < recoveryMs;
+    }
+}
@@ -0,0 +1,15 @@
+package com.kjung.springsst.infra.engine;
+
+/**
+ * 요청은 정상 처리되었지만 인식된 음성이 없는 경우의 예외.
+ * <p>
+ * 단일 파일 인식에서는 다른 잘못된 요청과 같이 처리되지만, 다채널 인식처럼 일부 구간이 무음일 수 있는 호출자는
+ * 이 유형으로 구분해 빈 결과로 다룰 수 있습니다.
+ * </p>
+ */
+public class NoSpeechRecognizedException extends IllegalArgumentException {
+
+    public NoSpeechRecognizedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,63 @@
+package com.kjung.springsst.infra.engine;
+
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 음성 인식 엔진 SPI.
+ * <p>
+ * 스프링 빈으로 등록된 구현체는 {@link RecognitionEngineRouter}가 모두 수집하여,
+ * 요청 특성(길이, 언어)과 엔진별 지연 시간/오류율/비용을 기준으로 요청마다 엔진을 선택합니다.
+ * </p>
+ * <p>
+ * 구현체는 잘못된 요청에 {@link IllegalArgumentException}을 던져야 합니다.
+ * 그 외 예외는 엔진 장애로 간주되어 다른 엔진으로 넘어갑니다.
+ * </p>
+ */
+public interface RecognitionEngine {
+
+    /**
+     * 엔진 식별자 (메트릭 태그, 로그에 사용)
+     */
+    String getName();
+
+    /**
+     * 오디오 1분당 비용. 단위는 엔진 간 비교만 가능하면 됩니다.
+     */
+    double getCostPerMinute();
+
+    /**
+     * 파일 인식 요청 처리 가능 여부 (언어, 인코딩, 길이 등)
+     */
+    boolean supports(RecognitionRequest request);
+
+    /**
+     * 스트리밍 세션 처리 가능 여부
+     */
+    boolean supportsStreaming(StreamingSessionConfig config);
+
+    /**
+     * 짧은 오디오의 동기식 인식
+     */
+    TranscriptionResult recognize(RecognitionRequest request);
+
+    /**
+     * 긴 오디오의 비동기(long-running) 인식. 완료될 때까지 호출 스레드를 막습니다.
+     */
+    TranscriptionResult recognizeLongRunning(RecognitionRequest request);
+
+    /**
+     * 스트리밍 인식 세션 열기.
+     *
+     * @param config             검증된 세션 설정
+     * @param resultConsumer     인식 결과 수신자 ({@code transcript}, {@code isFinal})
+     * @param completionConsumer 스트림 종료 수신자, 정상 종료 시 {@code null}, 오류 종료 시 원인 예외를 전달
+     */
+    StreamingRecognition openStream(StreamingSessionConfig config,
+                                    Consumer<Map<String, Object>> resultConsumer,
+                                    Consumer<Throwable> completionConsumer);
+}
@@ -0,0 +1,285 @@
+package com.kjung.springsst.infra.engine;
+
+import com.kjung.springsst.core.jfr.SyncRecognizeEvent;
+import com.kjung.springsst.infra.engine.scheduling.PriorityClass;
+import com.kjung.springsst.infra.engine.scheduling.RecognitionScheduler;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 요청마다 인식 엔진을 선택하고, 실패 시 다음 엔진으로 넘기는 라우터.
+ * <p>
+ * <ul>
+ * <li>후보: 요청을 지원하는 엔진 ({@link RecognitionEngine#supports})</li>
+ * <li>순위: 최근 오류율이 임계치를 넘은 엔진은 뒤로 보내고, 나머지는 지연 시간과 비용의 가중합이 낮은 순
+ * (짧은 오디오는 비용 가중치를 별도로 적용)</li>
+ * <li>장애 조치: 엔진 장애로 실패하면 다음 순위 엔진으로 재시도, 잘못된 요청({@link IllegalArgumentException})은 즉시 실패</li>
+ * <li>스케줄링: 엔진 호출 전 {@link RecognitionScheduler}에서 우선순위 등급별 실행 슬롯을 받음</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Component
+public class RecognitionEngineRouter {
+
+    private final List<RecognitionEngine> engines;
+
+    private final RecognitionScheduler scheduler;
+
+    private final MeterRegistry meterRegistry;
+
+    private final long shortClipMaxMs;
+
+    private final long syncMaxDurationMs;
+
+    private final double latencyWeight;
+
+    private final double costWeight;
+
+    private final double shortClipCostWeight;
+
+    private final double degradedErrorRate;
+
+    private final long recoveryMs;
+
+    private final Map<String, EngineStats> stats = new ConcurrentHashMap<>();
+
+    private final Counter failoverCounter;
+
+    public RecognitionEngineRouter(List<RecognitionEngine> engines,
+                                   RecognitionScheduler scheduler,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.stt.routing.short-clip-max-ms:15000}") long shortClipMaxMs,
+                                   @Value("${app.stt.routing.sync-max-duration-ms:60000}") long syncMaxDurationMs,
+                                   @Value("${app.stt.routing.latency-weight:1.0}") double latencyWeight,
+                                   @Value("${app.stt.routing.cost-weight:10.0}") double costWeight,
+                                   @Value("${app.stt.routing.short-clip-cost-weight:100.0}") double shortClipCostWeight,
+                                   @Value("${app.stt.routing.degraded-error-rate:0.5}") double degradedErrorRate,
+                                   @Value("${app.stt.routing.recovery-ms:30000}") long recoveryMs) {
+        this.engines = List.copyOf(engines);
+        this.scheduler = scheduler;
+        this.meterRegistry = meterRegistry;
+        this.shortClipMaxMs = shortClipMaxMs;
+        this.syncMaxDurationMs = syncMaxDurationMs;
+        this.latencyWeight = latencyWeight;
+        this.costWeight = costWeight;
+        this.shortClipCostWeight = shortClipCostWeight;
+        this.degradedErrorRate = degradedErrorRate;
+        this.recoveryMs = recoveryMs;
+
+        this.engines.forEach(engine -> stats.put(engine.getName(), new EngineStats()));
+        this.failoverCounter = Counter.builder("stt.engine.failover")
+                .description("엔진 장애로 다음 엔진에 넘긴 횟수")
+                .register(meterRegistry);
+
+        log.info("Recognition engines: {}", this.engines.stream().map(RecognitionEngine::getName).toList());
+    }
+
+    /**
+     * 사용자가 응답을 기다리는 파일 인식 ({@link PriorityClass#INTERACTIVE_SYNC})
+     */
+    public TranscriptionResult recognize(RecognitionRequest request) {
+        return recognize(request, PriorityClass.INTERACTIVE_SYNC);
+    }
+
+    /**
+     * 파일 인식. 길이를 알 수 있고 동기 인식 한도를 넘으면 long-running 인식을 사용합니다.
+     *
+     * @throws IllegalArgumentException                                         처리 가능한 엔진이 없거나 잘못된 요청인 경우
+     * @throws com.kjung.springsst.infra.engine.scheduling.CapacityExceededException 실행 슬롯을 얻지 못한 경우
+     * @throws RuntimeException                                                 모든 후보 엔진이 실패한 경우 마지막 오류
+     */
+    public TranscriptionResult recognize(RecognitionRequest request, PriorityClass priorityClass) {
+        boolean shortClip = request.isDurationKnown() && request.durationMs() <= shortClipMaxMs;
+        boolean longRunning = request.durationMs() > syncMaxDurationMs;
+
+        List<RecognitionEngine> candidates = rank(engine -> engine.supports(request), shortClip);
+        if (candidates.isEmpty())
+            throw new IllegalArgumentException(String.format(
+                    "요청을 처리할 수 있는 인식 엔진이 없습니다. (언어: %s, 인코딩: %s)",
+                    request.languageCode(), request.encoding()));
+
+        try (RecognitionScheduler.Permit ignored = scheduler.acquire(priorityClass)) {
+            return recognizeWithFailover(request, priorityClass, candidates, longRunning);
+        }
+    }
+
+    private TranscriptionResult recognizeWithFailover(RecognitionRequest request,
+                                                      PriorityClass priorityClass,
+                                                      List<RecognitionEngine> candidates,
+                                                      boolean longRunning) {
+        RuntimeException lastError = null;
+
+        for (RecognitionEngine engine : candidates) {
+            if (lastError != null) {
+                failoverCounter.increment();
+                log.warn("인식 엔진 장애 조치: {} (원인: {})", engine.getName(), lastError.getMessage());
+            }
+
+            EngineStats engineStats = statsOf(engine);
+            SyncRecognizeEvent event = SyncRecognizeEvent.begin(engine.getName(), request.filename(),
+                    request.audio().length, request.encoding().name(), priorityClass.name(), longRunning);
+            long startTime = System.nanoTime();
+            try {
+                TranscriptionResult result = longRunning
+                        ? engine.recognizeLongRunning(request)
+                        : engine.recognize(request);
+                SyncRecognizeEvent.end(event, "success", result.transcription().length());
+
+                long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                // long-running 지연 시간은 성격이 달라 순위 계산에서 제외
+                if (longRunning)
+                    engineStats.recordSuccess();
+                else
+                    engineStats.recordSuccess(elapsedMs);
+
+                timer(engine, "success").record(elapsedMs, TimeUnit.MILLISECONDS);
+                return result;
+
+            } catch (IllegalArgumentException e) {
+                SyncRecognizeEvent.end(event, "invalid", 0);
+                throw e;
+            } catch (RuntimeException e) {
+                SyncRecognizeEvent.end(event, "failure", 0);
+                engineStats.recordFailure();
+                timer(engine, "failure").record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                lastError = e;
+            }
+        }
+
+        throw lastError;
+    }
+
+    /**
+     * 스트리밍 세션 열기. 세션을 여는 도중 실패한 경우에만 다음 엔진으로 넘기며,
+     * 열린 뒤의 오류는 엔진 통계에만 반영합니다.
+     * 스트림이 끝날 때까지 {@link PriorityClass#INTERACTIVE_STREAMING} 스트림 슬롯을 점유하며, 엔진 호출 슬롯과는 별도로 집계됩니다.
+     *
+     * @throws IllegalArgumentException                                         처리 가능한 엔진이 없는 경우
+     * @throws com.kjung.springsst.infra.engine.scheduling.CapacityExceededException 실행 슬롯을 얻지 못한 경우
+     */
+    public StreamingRecognition openStream(StreamingSessionConfig config,
+                                           Consumer<Map<String, Object>> resultConsumer,
+                                           Consumer<Throwable> completionConsumer) {
+        return openStream(config, resultConsumer, completionConsumer,
+                () -> scheduler.acquire(PriorityClass.INTERACTIVE_STREAMING));
+    }
+
+    /**
+     * 스트림 슬롯 대기 시간을 지정해 스트리밍 세션 열기. 호출 스레드가 다른 스트림의 오디오도 받는 경우
+     * (다중화 연결) 짧게 기다리도록 사용합니다.
+     *
+     * @param maxWaitMs 스트림 슬롯 최대 대기 시간, 0이면 바로 얻을 수 있는 경우에만 엶
+     * @throws IllegalArgumentException                                         처리 가능한 엔진이 없는 경우
+     * @throws com.kjung.springsst.infra.engine.scheduling.CapacityExceededException 실행 슬롯을 얻지 못한 경우
+     */
+    public StreamingRecognition openStream(StreamingSessionConfig config,
+                                           Consumer<Map<String, Object>> resultConsumer,
+                                           Consumer<Throwable> completionConsumer,
+                                           long maxWaitMs) {
+        return openStream(config, resultConsumer, completionConsumer,
+                () -> scheduler.acquire(PriorityClass.INTERACTIVE_STREAMING, maxWaitMs));
+    }
+
+    private StreamingRecognition openStream(StreamingSessionConfig config,
+                                            Consumer<Map<String, Object>> resultConsumer,
+                                            Consumer<Throwable> completionConsumer,
+                                            Supplier<RecognitionScheduler.Permit> permitSupplier) {
+        List<RecognitionEngine> candidates = rank(engine -> engine.supportsStreaming(config), false);
+        if (candidates.isEmpty())
+            throw new IllegalArgumentException("스트리밍 설정을 처리할 수 있는 인식 엔진이 없습니다: " + config);
+
+        RecognitionScheduler.Permit permit = permitSupplier.get();
+        RuntimeException lastError = null;
+
+        for (RecognitionEngine engine : candidates) {
+            if (lastError != null) {
+                failoverCounter.increment();
+                log.warn("스트리밍 엔진 장애 조치: {} (원인: {})", engine.getName(), lastError.getMessage());
+            }
+
+            EngineStats engineStats = statsOf(engine);
+            try {
+                return engine.openStream(config, resultConsumer, error -> {
+                    permit.release();
+
+                    if (error == null)
+                        engineStats.recordSuccess();
+                    else
+                        engineStats.recordFailure();
+
+                    completionConsumer.accept(error);
+                });
+
+            } catch (IllegalArgumentException e) {
+                permit.release();
+                throw e;
+            } catch (RuntimeException e) {
+                engineStats.recordFailure();
+                lastError = e;
+            }
+        }
+
+        permit.release();
+        throw lastError;
+    }
+
+    /**
+     * 엔진별 통계 조회 (모니터링, 테스트용)
+     */
+    public EngineStats getStats(String engineName) {
+        return stats.get(engineName);
+    }
+
+    /**
+     * 조건을 만족하는 엔진을 선호 순으로 정렬합니다.
+     */
+    List<RecognitionEngine> rank(Predicate<RecognitionEngine> filter, boolean shortClip) {
+        long now = System.currentTimeMillis();
+        double effectiveCostWeight = shortClip ? shortClipCostWeight : costWeight;
+
+        // 정렬 중 통계가 바뀌지 않도록 점수를 먼저 계산
+        record Ranked(RecognitionEngine engine, boolean degraded, double score) {
+        }
+
+        return engines.stream()
+                .filter(filter)
+                .map(engine -> {
+                    EngineStats engineStats = statsOf(engine);
+                    return new Ranked(engine,
+                            engineStats.isDegraded(degradedErrorRate, recoveryMs, now),
+                            latencyWeight * engineStats.getLatencyMs() / 1000.0
+                                    + effectiveCostWeight * engine.getCostPerMinute());
+                })
+                .sorted(Comparator.comparing(Ranked::degraded).thenComparingDouble(Ranked::score))
+                .map(Ranked::engine)
+                .toList();
+    }
+
+    private EngineStats statsOf(RecognitionEngine engine) {
+        return stats.computeIfAbsent(engine.getName(), name -> new EngineStats());
+    }
+
+    private Timer timer(RecognitionEngine engine, String outcome) {
+        return Timer.builder("stt.engine.latency")
+                .tag("engine", engine.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
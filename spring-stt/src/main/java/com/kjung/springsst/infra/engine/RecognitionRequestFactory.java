@@ -0,0 +1,279 @@
+package com.kjung.springsst.infra.engine;
+
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.kjung.springsst.app.file.util.FileUtil;
+import com.kjung.springsst.app.file.util.WavHeader;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.profile.RecognitionProfile;
+import com.kjung.springsst.infra.googleStt.profile.RecognitionProfileRegistry;
+import io.micrometer.common.util.StringUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 업로드 파일을 검증하고 엔진 공통 인식 요청으로 변환합니다.
+ */
+@Slf4j
+@Component
+public class RecognitionRequestFactory {
+
+    @Getter
+    private final long maxFileSize;
+
+    private final String supportedFormats;
+
+    private final RecognitionProfileRegistry profileRegistry;
+
+    public RecognitionRequestFactory(RecognitionProfileRegistry profileRegistry,
+                                     @Value("${app.stt.max-file-size-mb:10}") long maxFileSize,
+                                     @Value("${app.stt.supported-formats:mp3,wav,flac,ogg,m4a}") String supportedFormats) {
+        this.profileRegistry = profileRegistry;
+        this.maxFileSize = maxFileSize * 1024 * 1024;
+        this.supportedFormats = supportedFormats;
+    }
+
+    /**
+     * 기본 프로필로 업로드 파일의 인식 요청 생성
+     */
+    public RecognitionRequest create(MultipartFile file,
+                                     boolean enableAutomaticPunctuation,
+                                     boolean enableWordTimeOffsets) {
+        return create(file, null, enableAutomaticPunctuation, enableWordTimeOffsets);
+    }
+
+    /**
+     * 업로드 파일로부터 인식 요청 생성.
+     *
+     * @param profileName 인식 프로필 이름, 비어있으면 기본 프로필
+     * @throws IllegalArgumentException 파일이 비어있거나 크기/형식 제한을 벗어난 경우, 존재하지 않는 프로필인 경우
+     * @throws UncheckedIOException     파일을 읽을 수 없는 경우
+     */
+    public RecognitionRequest create(MultipartFile file,
+                                     String profileName,
+                                     boolean enableAutomaticPunctuation,
+                                     boolean enableWordTimeOffsets) {
+        // 파일 validation
+        validateAudioFile(file);
+        RecognitionProfile profile = profileRegistry.get(profileName);
+
+        byte[] audio;
+        try {
+            audio = file.getBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("오디오 파일을 읽을 수 없습니다.", e);
+        }
+
+        RecognitionConfig.AudioEncoding encoding = determineAudioEncoding(file);
+
+        return new RecognitionRequest(
+                file.getOriginalFilename(),
+                audio,
+                encoding,
+                profile.getName(),
+                profile.getLanguageCode(),
+                enableAutomaticPunctuation,
+                enableWordTimeOffsets,
+                estimateDurationMs(encoding, audio)
+        );
+    }
+
+    /**
+     * 기본 프로필로 파일명과 데이터만 있는 오디오의 인식 요청 생성
+     */
+    public RecognitionRequest create(String filename,
+                                     byte[] audio,
+                                     boolean enableAutomaticPunctuation,
+                                     boolean enableWordTimeOffsets) {
+        return create(filename, audio, null, enableAutomaticPunctuation, enableWordTimeOffsets);
+    }
+
+    /**
+     * 압축 파일 항목 등 파일명과 데이터만 있는 오디오로부터 인식 요청 생성. 인코딩은 확장자로 결정합니다.
+     *
+     * @param profileName 인식 프로필 이름, 비어있으면 기본 프로필
+     * @throws IllegalArgumentException 데이터가 비어있거나 크기/형식 제한을 벗어난 경우, 존재하지 않는 프로필인 경우
+     */
+    public RecognitionRequest create(String filename,
+                                     byte[] audio,
+                                     String profileName,
+                                     boolean enableAutomaticPunctuation,
+                                     boolean enableWordTimeOffsets) {
+        if (audio == null || audio.length == 0)
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+
+        validateFileSize(audio.length);
+        validateFileFormat(filename);
+        RecognitionProfile profile = profileRegistry.get(profileName);
+
+        RecognitionConfig.AudioEncoding encoding = getEncodingByFilename(filename);
+        if (encoding == null)
+            encoding = RecognitionConfig.AudioEncoding.LINEAR16;
+
+        return new RecognitionRequest(
+                filename,
+                audio,
+                encoding,
+                profile.getName(),
+                profile.getLanguageCode(),
+                enableAutomaticPunctuation,
+                enableWordTimeOffsets,
+                estimateDurationMs(encoding, audio)
+        );
+    }
+
+    /**
+     * 같은 오디오와 옵션으로 다른 프로필의 인식 요청 생성 (초안/정제 등 두 단계 인식)
+     *
+     * @throws IllegalArgumentException 존재하지 않는 프로필인 경우
+     */
+    public RecognitionRequest withProfile(RecognitionRequest request, String profileName) {
+        RecognitionProfile profile = profileRegistry.get(profileName);
+
+        return new RecognitionRequest(
+                request.filename(),
+                request.audio(),
+                request.encoding(),
+                profile.getName(),
+                profile.getLanguageCode(),
+                request.enableAutomaticPunctuation(),
+                request.enableWordTimeOffsets(),
+                request.durationMs()
+        );
+    }
+
+    /**
+     * 오디오 파일 유효성 검사
+     */
+    public void validateAudioFile(MultipartFile file) {
+        if (file == null || file.isEmpty())
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+
+        // 파일 크기 검사
+        validateFileSize(file.getSize());
+
+        // 지원되는 파일 형식 검사
+        validateFileFormat(file.getOriginalFilename());
+    }
+
+    /**
+     * 파일 크기 검사
+     */
+    public void validateFileSize(long size) {
+        if (size > maxFileSize)
+            throw new IllegalArgumentException(String.format(
+                    "파일 크기가 제한을 초과합니다. (현재: %.2f MB, 최대: %.2f MB)",
+                    size / 1024.0 / 1024.0,
+                    maxFileSize / 1024.0 / 1024.0));
+    }
+
+    /**
+     * 파일 형식 유효성 검사
+     */
+    public void validateFileFormat(String filename) {
+        String extension = FileUtil.getFileExtension(filename).toLowerCase();
+
+        if (extension.isEmpty())
+            throw new IllegalArgumentException("파일 확장자가 없습니다.");
+
+        String[] supportedExtensions = supportedFormats.split(",");
+        for (String supportedExt : supportedExtensions) {
+            if (extension.equals(supportedExt.trim().toLowerCase())) {
+                return;
+            }
+        }
+
+        throw new IllegalArgumentException(
+                String.format("지원되지 않는 파일 형식입니다. (입력: %s, 지원 형식: %s)",
+                        extension, supportedFormats));
+    }
+
+    /**
+     * 파일 정보에 따른 오디오 인코딩 결정.
+     *
+     * @param file 대상 파일
+     * @return RecognitionConfig.AudioEncoding
+     */
+    public RecognitionConfig.AudioEncoding determineAudioEncoding(MultipartFile file) {
+        String contentType = file.getContentType();
+        String filename = file.getOriginalFilename();
+
+        log.debug("오디오 인코딩 결정 - ContentType: {}, Filename: {}", contentType, filename);
+
+        // Content-Type 기반 판단
+        RecognitionConfig.AudioEncoding encoding = getEncodingByContentType(contentType);
+
+        if (encoding != null) return encoding;
+
+        // 파일 확장자 기반 판단
+        encoding = getEncodingByFilename(filename);
+
+        if (encoding != null) return encoding;
+
+        log.warn("오디오 인코딩을 결정할 수 없어 LINEAR16으로 설정합니다. ContentType: {}, Filename: {}", contentType, filename);
+
+        return RecognitionConfig.AudioEncoding.LINEAR16;
+    }
+
+    /**
+     * 파일명(확장자)으로부터 오디오 인코딩 매핑
+     *
+     * @return 알 수 없는 확장자이면 {@code null}
+     */
+    public RecognitionConfig.AudioEncoding getEncodingByFilename(String filename) {
+        if (StringUtils.isBlank(filename)) return null;
+
+        return getEncodingByExtension(FileUtil.getFileExtension(filename));
+    }
+
+    /**
+     * Content-Type으로부터 오디오 인코딩 매핑.
+     *
+     * @param contentType 파일 컨텐츠 타입
+     * @return RecognitionConfig.AudioEncoding
+     */
+    private RecognitionConfig.AudioEncoding getEncodingByContentType(String contentType) {
+        if (StringUtils.isBlank(contentType)) return null;
+
+        return switch (contentType.toLowerCase()) {
+            case "audio/mpeg", "audio/mp3", "audio/mp4", "audio/m4a" -> RecognitionConfig.AudioEncoding.MP3;
+            case "audio/wav", "audio/wave" -> RecognitionConfig.AudioEncoding.LINEAR16;
+            case "audio/flac" -> RecognitionConfig.AudioEncoding.FLAC;
+            case "audio/ogg" -> RecognitionConfig.AudioEncoding.OGG_OPUS;
+            default -> null;
+        };
+    }
+
+    /**
+     * 파일 확장자로부터 오디오 인코딩 매핑
+     *
+     * @param extension 파일 확장자
+     * @return RecognitionConfig.AudioEncoding
+     */
+    private RecognitionConfig.AudioEncoding getEncodingByExtension(String extension) {
+        if (StringUtils.isBlank(extension)) return null;
+
+        return switch (extension.toLowerCase()) {
+            case "mp3", "m4a" -> RecognitionConfig.AudioEncoding.MP3;
+            case "wav" -> RecognitionConfig.AudioEncoding.LINEAR16;
+            case "flac" -> RecognitionConfig.AudioEncoding.FLAC;
+            case "ogg" -> RecognitionConfig.AudioEncoding.OGG_OPUS;
+            default -> null;
+        };
+    }
+
+    /**
+     * WAV 헤더로 오디오 길이 추정. 압축 포맷은 디코딩 없이 알 수 없으므로 -1을 반환합니다.
+     */
+    private long estimateDurationMs(RecognitionConfig.AudioEncoding encoding, byte[] audio) {
+        if (encoding != RecognitionConfig.AudioEncoding.LINEAR16) return -1;
+
+        WavHeader header = WavHeader.parse(audio);
+        return header != null ? header.durationMs() : -1;
+    }
+}
@@ -0,0 +1,48 @@
+package com.kjung.springsst.infra.engine;
+
+import com.kjung.springsst.core.tracing.UtteranceTrace;
+import com.kjung.springsst.infra.googleStt.stream.AudioSendQueue;
+
+/**
+ * 엔진이 연 스트리밍 인식 세션.
+ */
+public interface StreamingRecognition {
+
+    /**
+     * 오디오 프레임 전송. 호출 스레드를 막지 않아야 합니다.
+     *
+     * @return 적재 결과, {@link AudioSendQueue.OfferResult#REJECTED}인 경우 호출자가 세션을 종료해야 함,
+     * 이미 닫힌 스트림이면 {@link AudioSendQueue.OfferResult#CLOSED}
+     * @throws IllegalArgumentException 오디오가 선언한 인코딩과 맞지 않는 경우
+     */
+    AudioSendQueue.OfferResult sendAudioData(byte[] audioData);
+
+    /**
+     * 진단(JFR 이벤트 등)용 스트림 식별자, 엔진이 제공하지 않으면 0
+     */
+    default long getStreamId() {
+        return 0;
+    }
+
+    /**
+     * 상위 세션 ID 연결. 엔진이 만드는 진단, 알림(키워드 감지 등)에 세션을 표시하는 데 사용하며, 지원하지 않으면 무시합니다.
+     */
+    default void setSessionId(String sessionId) {
+    }
+
+    /**
+     * 발화 단위 지연 추적 연결. 엔진이 전송 시점과 결과 수신 시점을 기록하며, 지원하지 않으면 무시합니다.
+     */
+    default void attachTrace(UtteranceTrace trace) {
+    }
+
+    /**
+     * 엔진 측 스트림이 종료되었는지 여부
+     */
+    boolean isTerminated();
+
+    /**
+     * 남은 오디오를 모두 전송한 뒤 스트림을 닫도록 요청합니다. 최종 결과는 이후에도 전달될 수 있습니다.
+     */
+    void close();
+}
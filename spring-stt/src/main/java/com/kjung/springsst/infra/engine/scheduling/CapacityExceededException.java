@@ -0,0 +1,22 @@
+package com.kjung.springsst.infra.engine.scheduling;
+
+import lombok.Getter;
+
+/**
+ * 대기 시간 안에 인식 실행 슬롯을 얻지 못한 경우의 예외.
+ */
+@Getter
+public class CapacityExceededException extends RuntimeException {
+
+    private final PriorityClass priorityClass;
+
+    public CapacityExceededException(PriorityClass priorityClass, long waitedMs) {
+        this(priorityClass, String.format("음성 인식 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요. (등급: %s, 대기: %d ms)",
+                priorityClass, waitedMs));
+    }
+
+    protected CapacityExceededException(PriorityClass priorityClass, String message) {
+        super(message);
+        this.priorityClass = priorityClass;
+    }
+}
@@ -0,0 +1,23 @@
+package com.kjung.springsst.infra.engine.scheduling;
+
+/**
+ * 인식 요청 우선순위 등급.
+ */
+public enum PriorityClass {
+    /**
+     * 실시간 스트리밍 (WebSocket 자막 등)
+     */
+    INTERACTIVE_STREAMING,
+    /**
+     * 사용자가 응답을 기다리는 동기 변환 (/convert)
+     */
+    INTERACTIVE_SYNC,
+    /**
+     * 일괄 처리 (/batch, 폴더 수집 등)
+     */
+    BATCH;
+
+    public boolean isInteractive() {
+        return this != BATCH;
+    }
+}
@@ -0,0 +1,316 @@
+package com.kjung.springsst.infra.engine.scheduling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인식 엔진 호출 앞단의 우선순위 스케줄러.
+ * <p>
+ * 엔진 호출(동기/일괄) 동시 실행 수를 {@code maxConcurrent}개의 슬롯으로 제한하고, 슬롯이 비면 등급별 대기열 중 하나를
+ * 가중치 공정 큐잉(stride scheduling)으로 골라 넘겨줍니다. 가중치가 큰 등급일수록 더 자주 선택되지만,
+ * 대기 중인 등급이 굶지는 않습니다.
+ * </p>
+ * <p>
+ * BATCH 등급은 {@code reservedInteractive}개를 제외한 슬롯만 사용할 수 있어, 대량 작업 중에도
+ * 동기 요청을 위한 여유가 항상 남습니다.
+ * </p>
+ * <p>
+ * 스트리밍 세션은 스트림이 끝날 때까지 슬롯을 점유하므로 엔진 호출 슬롯과 별도인 {@code maxStreams}개의 한도를 사용합니다.
+ * 긴 스트림이 동기 요청의 슬롯을 차지하지 않으며, 노드의 동시 세션 수도 엔진 호출 슬롯 수에 묶이지 않습니다.
+ * </p>
+ * <p>
+ * 드레인이 시작되면({@link #stopAccepting()}) 새 엔진 호출과 대기 중인 엔진 호출을 거부해 실행 중인 호출만 끝나기를 기다립니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RecognitionScheduler {
+
+    private final int maxConcurrent;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<PriorityClass, ClassState> states = new EnumMap<>(PriorityClass.class);
+
+    // 엔진 호출 슬롯 사용 수 (스트리밍 제외)
+    private int inUse = 0;
+
+    private double virtualTime = 0;
+
+    private boolean accepting = true;
+
+    public RecognitionScheduler(MeterRegistry meterRegistry,
+                                @Value("${app.stt.scheduler.max-concurrent:64}") int maxConcurrent,
+                                @Value("${app.stt.scheduler.max-streams:1000}") int maxStreams,
+                                @Value("${app.stt.scheduler.reserved-interactive:16}") int reservedInteractive,
+                                @Value("${app.stt.scheduler.weight.interactive-sync:4}") int syncWeight,
+                                @Value("${app.stt.scheduler.weight.batch:1}") int batchWeight,
+                                @Value("${app.stt.scheduler.max-wait-ms.interactive-streaming:5000}") long streamingMaxWaitMs,
+                                @Value("${app.stt.scheduler.max-wait-ms.interactive-sync:30000}") long syncMaxWaitMs,
+                                @Value("${app.stt.scheduler.max-wait-ms.batch:600000}") long batchMaxWaitMs) {
+        this.maxConcurrent = maxConcurrent;
+        int batchLimit = Math.max(1, maxConcurrent - reservedInteractive);
+
+        states.put(PriorityClass.INTERACTIVE_STREAMING, new ClassState(false, 1, maxStreams, streamingMaxWaitMs));
+        states.put(PriorityClass.INTERACTIVE_SYNC, new ClassState(true, syncWeight, Integer.MAX_VALUE, syncMaxWaitMs));
+        states.put(PriorityClass.BATCH, new ClassState(true, batchWeight, batchLimit, batchMaxWaitMs));
+
+        states.forEach((priorityClass, state) -> {
+            String tag = priorityClass.name().toLowerCase();
+
+            state.waitTimer = Timer.builder("stt.scheduler.queue.wait")
+                    .description("실행 슬롯을 얻기까지의 대기 시간")
+                    .tag("priority", tag)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            Gauge.builder("stt.scheduler.queue.depth", state, s -> queueDepth(s))
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            Gauge.builder("stt.scheduler.in-use", state, s -> inUse(s))
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * 등급별 상태. 모든 필드는 {@link #lock} 아래에서만 접근합니다.
+     */
+    private static class ClassState {
+        // 엔진 호출 슬롯을 함께 쓰는 등급인지 여부, 아니면 자체 한도만 적용
+        private final boolean pooled;
+        private final int weight;
+        private final int limit;
+        private final long maxWaitMs;
+        private final Deque<Waiter> queue = new ArrayDeque<>();
+        private double pass = 0;
+        private int inUse = 0;
+        private Timer waitTimer;
+
+        ClassState(boolean pooled, int weight, int limit, long maxWaitMs) {
+            this.pooled = pooled;
+            this.weight = Math.max(1, weight);
+            this.limit = Math.max(1, limit);
+            this.maxWaitMs = maxWaitMs;
+        }
+    }
+
+    private static class Waiter {
+        private final Condition granted;
+        private boolean isGranted = false;
+        private boolean isRejected = false;
+
+        Waiter(Condition granted) {
+            this.granted = granted;
+        }
+    }
+
+    /**
+     * 점유한 실행 슬롯. 여러 번 반환해도 한 번만 처리됩니다.
+     */
+    public class Permit implements AutoCloseable {
+
+        private final PriorityClass priorityClass;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(PriorityClass priorityClass) {
+            this.priorityClass = priorityClass;
+        }
+
+        public void release() {
+            if (!released.compareAndSet(false, true)) return;
+
+            lock.lock();
+            try {
+                returnSlot(states.get(priorityClass));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            release();
+        }
+    }
+
+    /**
+     * 실행 슬롯을 얻을 때까지 등급별 최대 대기 시간만큼 대기합니다.
+     *
+     * @throws CapacityExceededException  등급별 최대 대기 시간 안에 슬롯을 얻지 못한 경우
+     * @throws SchedulerDrainingException 드레인이 시작되어 엔진 호출을 받지 않는 경우
+     * @throws IllegalStateException      대기 중 인터럽트된 경우
+     */
+    public Permit acquire(PriorityClass priorityClass) {
+        return acquire(priorityClass, states.get(priorityClass).maxWaitMs);
+    }
+
+    /**
+     * 실행 슬롯을 얻을 때까지 최대 {@code maxWaitMs}만큼 대기합니다. 0이면 바로 얻을 수 있는 경우에만 성공합니다.
+     *
+     * @throws CapacityExceededException  대기 시간 안에 슬롯을 얻지 못한 경우
+     * @throws SchedulerDrainingException 드레인이 시작되어 엔진 호출을 받지 않는 경우
+     * @throws IllegalStateException      대기 중 인터럽트된 경우
+     */
+    public Permit acquire(PriorityClass priorityClass, long maxWaitMs) {
+        ClassState state = states.get(priorityClass);
+        long startTime = System.nanoTime();
+
+        lock.lock();
+        try {
+            if (state.pooled && !accepting)
+                throw new SchedulerDrainingException(priorityClass);
+
+            // 쉬고 있던 등급이 밀린 몫을 한꺼번에 가져가지 않도록 가상 시간에 맞춤
+            if (state.queue.isEmpty())
+                state.pass = Math.max(state.pass, virtualTime);
+
+            Waiter waiter = new Waiter(lock.newCondition());
+            state.queue.add(waiter);
+            dispatch();
+
+            long remaining = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+            try {
+                while (!waiter.isGranted) {
+                    if (waiter.isRejected)
+                        throw new SchedulerDrainingException(priorityClass);
+                    if (remaining <= 0) {
+                        state.queue.remove(waiter);
+                        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                        log.warn("인식 실행 슬롯 대기 시간 초과 - 등급: {}, 대기: {}ms", priorityClass, waitedMs);
+                        throw new CapacityExceededException(priorityClass, waitedMs);
+                    }
+                    remaining = waiter.granted.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (waiter.isGranted) {
+                    // 이미 받은 슬롯은 돌려줌
+                    returnSlot(state);
+                } else {
+                    state.queue.remove(waiter);
+                }
+                throw new IllegalStateException("인식 실행 슬롯 대기 중 인터럽트가 발생했습니다.", e);
+            }
+
+        } finally {
+            lock.unlock();
+        }
+
+        state.waitTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        return new Permit(priorityClass);
+    }
+
+    /**
+     * 새 엔진 호출을 더 받지 않고, 대기 중인 엔진 호출도 거부합니다. 스트리밍 세션은 영향을 받지 않습니다.
+     */
+    public void stopAccepting() {
+        lock.lock();
+        try {
+            accepting = false;
+
+            for (ClassState state : states.values()) {
+                if (!state.pooled) continue;
+
+                for (Waiter waiter : state.queue) {
+                    waiter.isRejected = true;
+                    waiter.granted.signal();
+                }
+                state.queue.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 점유 중인 엔진 호출 슬롯 수 (스트리밍 세션 제외)
+     */
+    public int getInUse() {
+        lock.lock();
+        try {
+            return inUse;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 빈 슬롯을 대기자에게 배정합니다. 스트리밍은 자체 한도 안에서 바로 배정하고,
+     * 엔진 호출 슬롯은 가상 시간(pass)이 가장 작은 등급부터 선택합니다.
+     */
+    private void dispatch() {
+        for (ClassState state : states.values()) {
+            while (!state.pooled && !state.queue.isEmpty() && state.inUse < state.limit) {
+                grant(state);
+            }
+        }
+
+        while (inUse < maxConcurrent) {
+            ClassState next = null;
+
+            for (ClassState candidate : states.values()) {
+                if (!candidate.pooled || candidate.queue.isEmpty()) continue;
+                if (candidate.inUse >= candidate.limit) continue;
+
+                if (next == null || candidate.pass < next.pass)
+                    next = candidate;
+            }
+
+            if (next == null) return;
+
+            virtualTime = next.pass;
+            next.pass += 1.0 / next.weight;
+            grant(next);
+        }
+    }
+
+    private void grant(ClassState state) {
+        Waiter waiter = state.queue.poll();
+        waiter.isGranted = true;
+        state.inUse++;
+        if (state.pooled)
+            inUse++;
+
+        waiter.granted.signal();
+    }
+
+    private void returnSlot(ClassState state) {
+        state.inUse--;
+        if (state.pooled)
+            inUse--;
+
+        dispatch();
+    }
+
+    private int queueDepth(ClassState state) {
+        lock.lock();
+        try {
+            return state.queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int inUse(ClassState state) {
+        lock.lock();
+        try {
+            return state.inUse;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.kjung.springsst.infra.engine.scheduling;
+
+/**
+ * 서버 드레인이 시작되어 새 인식 호출을 받지 않는 경우의 예외.
+ */
+public class SchedulerDrainingException extends CapacityExceededException {
+
+    public SchedulerDrainingException(PriorityClass priorityClass) {
+        super(priorityClass, String.format("서버가 종료 중이라 새 음성 인식 요청을 받지 않습니다. 다시 시도해주세요. (등급: %s)",
+                priorityClass));
+    }
+}
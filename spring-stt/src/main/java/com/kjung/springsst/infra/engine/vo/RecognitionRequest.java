@@ -0,0 +1,39 @@
+package com.kjung.springsst.infra.engine.vo;
+
+import com.google.cloud.speech.v1.RecognitionConfig.AudioEncoding;
+
+/**
+ * 엔진 공통 파일 인식 요청.
+ *
+ * @param filename                   원본 파일명 (로깅용)
+ * @param audio                      오디오 데이터
+ * @param encoding                   오디오 인코딩
+ * @param profile                    인식 프로필 이름
+ * @param languageCode               주 언어 코드 (프로필의 언어)
+ * @param enableAutomaticPunctuation 자동 구두점 추가 여부
+ * @param enableWordTimeOffsets      단어별 타임스탬프 제공 여부
+ * @param durationMs                 오디오 길이 (ms), 헤더로 알 수 없으면 -1
+ */
+public record RecognitionRequest(
+        String filename,
+        byte[] audio,
+        AudioEncoding encoding,
+        String profile,
+        String languageCode,
+        boolean enableAutomaticPunctuation,
+        boolean enableWordTimeOffsets,
+        long durationMs
+) {
+
+    public boolean isDurationKnown() {
+        return durationMs >= 0;
+    }
+
+    /**
+     * 같은 설정으로 오디오만 바꾼 요청 (채널 분리, 구간 재인식 등)
+     */
+    public RecognitionRequest withAudio(String filename, byte[] audio, long durationMs) {
+        return new RecognitionRequest(filename, audio, encoding, profile, languageCode,
+                enableAutomaticPunctuation, enableWordTimeOffsets, durationMs);
+    }
+}
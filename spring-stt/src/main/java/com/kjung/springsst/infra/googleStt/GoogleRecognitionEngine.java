@@ -0,0 +1,85 @@
+package com.kjung.springsst.infra.googleStt;
+
+import com.kjung.springsst.infra.engine.RecognitionEngine;
+import com.kjung.springsst.infra.engine.StreamingRecognition;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.batch.MicroBatchRecognizer;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Google Cloud Speech-to-Text 엔진.
+ * <p>
+ * 동기/long-running 인식은 {@link GoogleSttHelper}, 스트리밍은 {@link GoogleSTTService}에 위임합니다.
+ * 마이크로 배치가 켜져 있으면 짧은 음성 명령은 {@link MicroBatchRecognizer}로 모아서 처리합니다.
+ * 세션 설정 검증을 통과한 모든 인코딩과 언어를 지원합니다.
+ * </p>
+ */
+@Component
+public class GoogleRecognitionEngine implements RecognitionEngine {
+
+    public static final String NAME = "google";
+
+    private final GoogleSttHelper googleSttHelper;
+
+    private final GoogleSTTService googleSTTService;
+
+    private final MicroBatchRecognizer microBatchRecognizer;
+
+    private final double costPerMinute;
+
+    public GoogleRecognitionEngine(GoogleSttHelper googleSttHelper,
+                                   GoogleSTTService googleSTTService,
+                                   MicroBatchRecognizer microBatchRecognizer,
+                                   @Value("${app.stt.engines.google.cost-per-minute:0.016}") double costPerMinute) {
+        this.googleSttHelper = googleSttHelper;
+        this.googleSTTService = googleSTTService;
+        this.microBatchRecognizer = microBatchRecognizer;
+        this.costPerMinute = costPerMinute;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public double getCostPerMinute() {
+        return costPerMinute;
+    }
+
+    @Override
+    public boolean supports(RecognitionRequest request) {
+        return true;
+    }
+
+    @Override
+    public boolean supportsStreaming(StreamingSessionConfig config) {
+        return true;
+    }
+
+    @Override
+    public TranscriptionResult recognize(RecognitionRequest request) {
+        if (microBatchRecognizer.accepts(request))
+            return microBatchRecognizer.recognize(request);
+
+        return googleSttHelper.recognizeSync(request);
+    }
+
+    @Override
+    public TranscriptionResult recognizeLongRunning(RecognitionRequest request) {
+        return googleSttHelper.recognizeLongRunning(request);
+    }
+
+    @Override
+    public StreamingRecognition openStream(StreamingSessionConfig config,
+                                           Consumer<Map<String, Object>> resultConsumer,
+                                           Consumer<Throwable> completionConsumer) {
+        return googleSTTService.createStreamingClient(config, resultConsumer, completionConsumer);
+    }
+}
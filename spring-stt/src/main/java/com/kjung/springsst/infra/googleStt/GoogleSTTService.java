@@ -1,16 +1,32 @@
 package com.kjung.springsst.infra.googleStt;
 
+import com.google.api.gax.rpc.BidiStreamObserver;
 import com.google.api.gax.rpc.ClientStream;
-import com.google.api.gax.rpc.ResponseObserver;
 import com.google.api.gax.rpc.StreamController;
 import com.google.cloud.speech.v1.*;
-import com.google.protobuf.ByteString;
+import com.google.protobuf.Duration;
+import com.google.protobuf.UnsafeByteOperations;
+import com.kjung.springsst.core.jfr.AudioFrameReceivedEvent;
+import com.kjung.springsst.core.jfr.AudioFrameSentEvent;
+import com.kjung.springsst.core.jfr.ResultReceivedEvent;
+import com.kjung.springsst.core.tracing.UtteranceTrace;
+import com.kjung.springsst.infra.engine.StreamingRecognition;
+import com.kjung.springsst.infra.googleStt.keyword.KeywordSpotter;
+import com.kjung.springsst.infra.googleStt.stream.AudioContainerValidator;
+import com.kjung.springsst.infra.googleStt.stream.AudioSendQueue;
+import com.kjung.springsst.infra.googleStt.stream.AudioSendScheduler;
+import com.kjung.springsst.infra.googleStt.util.SpeechConfigUtil;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 @Slf4j
@@ -20,22 +36,83 @@ public class GoogleSTTService {
 
     private final SpeechClient speechClient;
 
-    public StreamingRecognizeClient createStreamingClient(Consumer<Map<String, Object>> resultConsumer) {
-        return new StreamingRecognizeClient(speechClient, resultConsumer);
+    private final AudioSendScheduler audioSendScheduler;
+
+    private final KeywordSpotter keywordSpotter;
+
+    public StreamingRecognizeClient createStreamingClient(StreamingSessionConfig sessionConfig,
+                                                          Consumer<Map<String, Object>> resultConsumer) {
+        return createStreamingClient(sessionConfig, resultConsumer, error -> {
+        });
+    }
+
+    /**
+     * 스트리밍 인식 클라이언트 생성.
+     *
+     * @param sessionConfig      검증된 세션 설정
+     * @param resultConsumer     인식 결과 수신자
+     * @param completionConsumer Google 스트림 종료 수신자, 정상 종료 시 {@code null}, 오류 종료 시 원인 예외를 전달
+     */
+    public StreamingRecognizeClient createStreamingClient(StreamingSessionConfig sessionConfig,
+                                                          Consumer<Map<String, Object>> resultConsumer,
+                                                          Consumer<Throwable> completionConsumer) {
+        StreamingRecognitionConfig streamingConfig = SpeechConfigUtil.buildStreamingRecognitionConfig(sessionConfig);
+        return new StreamingRecognizeClient(speechClient, audioSendScheduler, keywordSpotter, streamingConfig,
+                resultConsumer, completionConsumer);
     }
 
-    public static class StreamingRecognizeClient {
-        private final ClientStream<StreamingRecognizeRequest> clientStream;
+    /**
+     * 세션 단위 스트리밍 인식 클라이언트.
+     * <p>
+     * 오디오 프레임은 {@link AudioSendQueue}에 적재되고, {@link AudioSendScheduler}의 스레드가
+     * gRPC 스트림이 전송 가능한 동안에만 꺼내어 전송합니다.
+     * </p>
+     */
+    public static class StreamingRecognizeClient implements StreamingRecognition {
+        private static final AtomicLong STREAM_IDS = new AtomicLong();
+
+        private final long streamId = STREAM_IDS.incrementAndGet();
+        private final AudioSendScheduler scheduler;
+        private final AudioSendQueue sendQueue;
+        private final AudioContainerValidator containerValidator;
+        private final StreamingRecognitionConfig streamingConfig;
         private final Consumer<Map<String, Object>> resultConsumer;
+        private final Consumer<Throwable> completionConsumer;
+        // 키워드 감지, 꺼져 있으면 null
+        private final KeywordSpotter.Session keywordSession;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private volatile ClientStream<StreamingRecognizeRequest> clientStream;
+        private volatile boolean closing = false;
+        private volatile boolean terminated = false;
+        private volatile UtteranceTrace trace;
         private boolean isFirstRequest = true;
 
-        public StreamingRecognizeClient(SpeechClient speechClient, Consumer<Map<String, Object>> resultConsumer) {
+        public StreamingRecognizeClient(SpeechClient speechClient,
+                                        AudioSendScheduler scheduler,
+                                        KeywordSpotter keywordSpotter,
+                                        StreamingRecognitionConfig streamingConfig,
+                                        Consumer<Map<String, Object>> resultConsumer,
+                                        Consumer<Throwable> completionConsumer) {
+            this.scheduler = scheduler;
+            this.streamingConfig = streamingConfig;
             this.resultConsumer = resultConsumer;
+            this.completionConsumer = completionConsumer;
+            this.keywordSession = keywordSpotter.newSession(streamId);
+            this.sendQueue = scheduler.createQueue(streamingConfig.getConfig().getEncoding());
+            this.containerValidator = AudioContainerValidator.forEncoding(streamingConfig.getConfig().getEncoding());
 
-            ResponseObserver<StreamingRecognizeResponse> responseObserver = new ResponseObserver<>() {
+            BidiStreamObserver<StreamingRecognizeRequest, StreamingRecognizeResponse> streamObserver = new BidiStreamObserver<>() {
                 @Override
                 public void onStart(StreamController controller) {
-                    log.debug("STT streaming started");
+                    log.debug("STT streaming started: {}", streamId);
+                }
+
+                @Override
+                public void onReady(ClientStream<StreamingRecognizeRequest> stream) {
+                    // 최초 onReady 시점에 스트림 확보, 이후에는 전송 재개 신호로 사용
+                    clientStream = stream;
+                    scheduler.signal(sendQueue);
                 }
 
                 @Override
@@ -44,13 +121,31 @@ public class GoogleSTTService {
                         String transcript = result.getAlternatives(0).getTranscript();
                         boolean isFinal = result.getIsFinal(); // isFinal 플래그 획득
 
-                        log.debug("Transcript: {} (isFinal: {})", transcript, isFinal);
+                        ResultReceivedEvent.emit(streamId, isFinal, transcript.length(), result.getStability());
+                        UtteranceTrace utteranceTrace = trace;
+                        if (utteranceTrace != null)
+                            utteranceTrace.markResult(isFinal, transcript.length());
+
+                        // 알림은 별도 스레드로 넘기므로 결과 전달을 지연시키지 않음
+                        if (keywordSession != null)
+                            keywordSession.onResult(transcript, isFinal);
+                        // 결과마다 호출되는 경로이므로 로그 레벨을 먼저 확인
+                        if (log.isDebugEnabled())
+                            log.debug("Transcript: {} (isFinal: {})", transcript, isFinal);
 
                         // isFinal 정보를 포함하는 Map 생성
                         Map<String, Object> data = new HashMap<>();
                         data.put("transcript", transcript);
                         data.put("isFinal", isFinal);
 
+                        // 스트림 시작 기준 결과 종료 시각
+                        if (isFinal)
+                            data.put("resultEndMs", toMillis(result.getResultEndTime()));
+
+                        // 단어 정보는 최종 결과에만 포함됨
+                        if (isFinal && result.getAlternatives(0).getWordsCount() > 0)
+                            data.put("words", toWordTimings(result.getAlternatives(0).getWordsList()));
+
                         // Map 형태로 데이터 전송
                         resultConsumer.accept(data);
                     });
@@ -59,57 +154,162 @@ public class GoogleSTTService {
                 @Override
                 public void onError(Throwable t) {
                     log.error("STT streaming error", t);
+                    terminate();
+                    completionConsumer.accept(t);
                 }
 
                 @Override
                 public void onComplete() {
-                    log.debug("STT streaming completed");
+                    log.debug("STT streaming completed: {}", streamId);
+                    terminate();
+                    completionConsumer.accept(null);
                 }
             };
 
-            clientStream = speechClient.streamingRecognizeCallable().splitCall(responseObserver);
+            scheduler.register(sendQueue, this::drain);
+            speechClient.streamingRecognizeCallable().call(streamObserver);
+        }
+
+        /**
+         * 오디오 프레임을 전송 큐에 적재합니다. 호출 스레드에서 gRPC 전송을 수행하지 않습니다.
+         * Opus 컨테이너 스트림은 적재 전에 컨테이너 구조를 검증하며, 프레임 자체는 변환 없이 그대로 전달됩니다.
+         *
+         * @return 적재 결과, {@link AudioSendQueue.OfferResult#REJECTED}인 경우 호출자가 세션을 종료해야 함.
+         * 스트림이 닫히는 중이거나 종료된 경우 프레임을 버리고 {@link AudioSendQueue.OfferResult#CLOSED}
+         * @throws IllegalArgumentException 컨테이너 구조가 선언한 인코딩과 맞지 않는 경우
+         */
+        @Override
+        public AudioSendQueue.OfferResult sendAudioData(byte[] audioData) {
+            if (closing || terminated)
+                return AudioSendQueue.OfferResult.CLOSED;
+
+            containerValidator.validate(audioData);
+
+            AudioSendQueue.OfferResult result = sendQueue.offer(audioData);
+            if (result != AudioSendQueue.OfferResult.QUEUED)
+                scheduler.recordOverflow(result);
+
+            AudioFrameReceivedEvent.emit(streamId, audioData.length, result.name(), sendQueue.size());
+
+            scheduler.signal(sendQueue);
+            return result;
+        }
+
+        @Override
+        public long getStreamId() {
+            return streamId;
+        }
+
+        @Override
+        public void setSessionId(String sessionId) {
+            if (keywordSession != null)
+                keywordSession.setSessionId(sessionId);
         }
 
-        public void sendAudioData(byte[] audioData) {
-            try {
-                if (isFirstRequest) {
-                    // 첫 번째 요청에 설정 정보 포함
-                    RecognitionConfig config = RecognitionConfig.newBuilder()
-                            .setEncoding(RecognitionConfig.AudioEncoding.LINEAR16)
-                            .setSampleRateHertz(16000)
-                            .setLanguageCode("ko-KR")
-                            .build();
-
-                    StreamingRecognitionConfig streamingConfig = StreamingRecognitionConfig.newBuilder()
-                            .setConfig(config)
-                            .setInterimResults(true) // 중간 응답 받기
-                            .build();
-
-                    StreamingRecognizeRequest request = StreamingRecognizeRequest.newBuilder()
-                            .setStreamingConfig(streamingConfig)
-                            .build();
-
-                    clientStream.send(request);
-                    isFirstRequest = false;
+        @Override
+        public void attachTrace(UtteranceTrace trace) {
+            if (trace != null)
+                trace.setStreamId(streamId);
+            this.trace = trace;
+        }
+
+        /**
+         * Google 스트림이 종료(정상 종료, 오류, closeSend 완료)되었는지 여부
+         */
+        @Override
+        public boolean isTerminated() {
+            return terminated;
+        }
+
+        /**
+         * 남은 프레임을 모두 전송한 뒤 스트림을 닫도록 요청합니다.
+         */
+        @Override
+        public void close() {
+            closing = true;
+            scheduler.signal(sendQueue);
+        }
+
+        /**
+         * 스케줄러 스레드에서 호출되는 드레인 로직.
+         * 스트림이 전송 가능한 동안에만 프레임을 꺼내어 전송합니다.
+         */
+        private void drain() {
+            do {
+                if (!draining.compareAndSet(false, true)) return;
+
+                try {
+                    drainOnce();
+                } catch (Exception e) {
+                    log.error("Error sending audio data", e);
+                } finally {
+                    draining.set(false);
                 }
+            } while (!terminated && isSendReady() && !sendQueue.isEmpty());
+        }
 
-                // 오디오 데이터 전송
-                StreamingRecognizeRequest request = StreamingRecognizeRequest.newBuilder()
-                        .setAudioContent(ByteString.copyFrom(audioData))
-                        .build();
+        private void drainOnce() {
+            ClientStream<StreamingRecognizeRequest> stream = clientStream;
+            if (stream == null || terminated) return;
+
+            if (isFirstRequest) {
+                // 첫 번째 요청에 설정 정보 포함
+                stream.send(StreamingRecognizeRequest.newBuilder()
+                        .setStreamingConfig(streamingConfig)
+                        .build());
+                isFirstRequest = false;
+            }
 
-                clientStream.send(request);
-            } catch (Exception e) {
-                log.error("Error sending audio data", e);
+            UtteranceTrace utteranceTrace = trace;
+            byte[] frame;
+            while (stream.isSendReady() && (frame = sendQueue.poll()) != null) {
+                // 수신 시 복사한 배열이므로 추가 복사 없이 전송
+                stream.send(StreamingRecognizeRequest.newBuilder()
+                        .setAudioContent(UnsafeByteOperations.unsafeWrap(frame))
+                        .build());
+                AudioFrameSentEvent.emit(streamId, frame.length, sendQueue.size());
+                if (utteranceTrace != null)
+                    utteranceTrace.markAudioSent();
+            }
+
+            if (closing && sendQueue.isEmpty()) {
+                terminated = true;
+                scheduler.unregister(sendQueue);
+                try {
+                    stream.closeSend();
+                } catch (Exception e) {
+                    log.error("Error closing STT stream", e);
+                }
             }
         }
 
-        public void close() {
-            try {
-                clientStream.closeSend();
-            } catch (Exception e) {
-                log.error("Error closing STT stream", e);
+        private boolean isSendReady() {
+            ClientStream<StreamingRecognizeRequest> stream = clientStream;
+            return stream != null && stream.isSendReady();
+        }
+
+        private void terminate() {
+            terminated = true;
+            scheduler.unregister(sendQueue);
+            sendQueue.clear();
+        }
+
+        /**
+         * 최종 결과의 단어 정보를 열 단위로 변환. 시각은 스트림 시작 기준입니다.
+         */
+        private static WordTimings toWordTimings(List<WordInfo> words) {
+            WordTimings.Builder builder = WordTimings.builder();
+            for (WordInfo word : words) {
+                builder.add(word.getWord(),
+                        toMillis(word.getStartTime()),
+                        toMillis(word.getEndTime()),
+                        word.getConfidence());
             }
+            return builder.build();
+        }
+
+        private static long toMillis(Duration duration) {
+            return duration.getSeconds() * 1000 + duration.getNanos() / 1_000_000;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,28 @@
 package com.kjung.springsst.infra.googleStt;
 
+import com.google.api.gax.rpc.ApiException;
 import com.google.api.gax.rpc.ApiStreamObserver;
+import com.google.api.gax.rpc.StatusCode;
 import com.google.cloud.speech.v1.*;
 import com.google.protobuf.ByteString;
-import com.kjung.springsst.app.file.util.FileUtil;
-import com.kjung.springsst.infra.googleStt.util.SpeechConfigUtil;
+import com.google.protobuf.Duration;
+import com.kjung.springsst.app.file.util.WavHeader;
+import com.kjung.springsst.infra.engine.NoSpeechRecognizedException;
+import com.kjung.springsst.infra.engine.RecognitionRequestFactory;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.profile.RecognitionProfileRegistry;
+import com.kjung.springsst.infra.googleStt.resilience.CircuitBreakerOpenException;
+import com.kjung.springsst.infra.googleStt.resilience.RecognitionCoalescer;
+import com.kjung.springsst.infra.googleStt.resilience.ResilientRecognizer;
 import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
-import io.micrometer.common.util.StringUtils;
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Google Cloud Speech-to-Text API 호출을 담당하는 Helper 클래스.
@@ -24,20 +33,24 @@ public class GoogleSttHelper {
 
     private final SpeechClient speechClient;
 
-    private final long maxFileSize;
+    private final ResilientRecognizer resilientRecognizer;
 
-    private final String supportedFormats;
+    private final RecognitionCoalescer recognitionCoalescer;
 
-    private final String defaultLanguageCode;
+    private final RecognitionRequestFactory recognitionRequestFactory;
+
+    private final RecognitionProfileRegistry profileRegistry;
 
     public GoogleSttHelper(SpeechClient speechClient,
-                           @Value("${app.stt.max-file-size-mb:10}") long maxFileSize,
-                           @Value("${app.stt.supported-formats:mp3,wav,flac,ogg,m4a}") String supportedFormats,
-                           @Value("${app.stt.default-language-code:ko_KR}") String defaultLanguageCode) {
+                           ResilientRecognizer resilientRecognizer,
+                           RecognitionCoalescer recognitionCoalescer,
+                           RecognitionRequestFactory recognitionRequestFactory,
+                           RecognitionProfileRegistry profileRegistry) {
         this.speechClient = speechClient;
-        this.maxFileSize = maxFileSize * 1024 * 1024;
-        this.supportedFormats = supportedFormats;
-        this.defaultLanguageCode = defaultLanguageCode;
+        this.resilientRecognizer = resilientRecognizer;
+        this.recognitionCoalescer = recognitionCoalescer;
+        this.recognitionRequestFactory = recognitionRequestFactory;
+        this.profileRegistry = profileRegistry;
     }
 
     /**
@@ -76,34 +89,80 @@ public class GoogleSttHelper {
     public TranscriptionResult recognizeSync(MultipartFile file,
                                              boolean enableAutomaticPunctuation,
                                              boolean enableWordTimeOffsets) {
-        // 파일 validation
-        validateAudioFile(file);
+        // 파일 validation 및 요청 변환
+        RecognitionRequest request =
+                recognitionRequestFactory.create(file, enableAutomaticPunctuation, enableWordTimeOffsets);
 
-        try {
-            // 오디오 인코딩 결정
-            RecognitionConfig.AudioEncoding encoding = determineAudioEncoding(file);
+        return recognizeSync(request);
+    }
 
-            // 설정 구성
-            RecognitionConfig config = SpeechConfigUtil.buildRecognitionConfig(
-                    encoding,
-                    defaultLanguageCode,
-                    enableAutomaticPunctuation,
-                    enableWordTimeOffsets
-            );
+    /**
+     * 검증된 인식 요청에 대해 동기식 음성 인식을 수행합니다.
+     *
+     * @param request 인식 요청
+     * @return {@link TranscriptionResult} 음성 인식 결과
+     * @throws IllegalArgumentException Google이 요청을 거절했거나(INVALID_ARGUMENT) 인식된 음성이 없는 경우
+     * @throws RuntimeException         음성 인식 API 호출 실패 등의 경우
+     */
+    public TranscriptionResult recognizeSync(RecognitionRequest request) {
+        try {
+            RecognitionConfig config = buildRecognitionConfig(request);
 
             // 오디오 데이터 설정
             RecognitionAudio audio = RecognitionAudio.newBuilder()
-                    .setContent(ByteString.copyFrom(file.getBytes()))
+                    .setContent(ByteString.copyFrom(request.audio()))
                     .build();
 
-            return recognizeSyncInternal(config, audio);
+            // 동일 파일/설정의 동시 요청은 하나의 호출로 합침
+            return recognitionCoalescer.execute(config, audio, () -> recognizeSyncInternal(config, audio));
 
+        } catch (CircuitBreakerOpenException | IllegalArgumentException e) {
+            // 서킷 차단과 잘못된 요청은 호출자가 구분할 수 있도록 그대로 전달 (잘못된 요청은 장애 조치 대상이 아님)
+            throw e;
         } catch (Exception e) {
 
             throw new RuntimeException("음성 인식 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 60초 이상의 긴 오디오에 대해 비동기식(long-running) 음성 인식을 수행하고 완료될 때까지 대기합니다.
+     *
+     * @param request 인식 요청
+     * @return {@link TranscriptionResult} 음성 인식 결과
+     * @throws IllegalArgumentException Google이 요청을 거절했거나(INVALID_ARGUMENT) 인식된 음성이 없는 경우
+     * @throws RuntimeException         음성 인식 API 호출 실패 등의 경우
+     */
+    public TranscriptionResult recognizeLongRunning(RecognitionRequest request) {
+        RecognitionConfig config = buildRecognitionConfig(request);
+
+        RecognitionAudio audio = RecognitionAudio.newBuilder()
+                .setContent(ByteString.copyFrom(request.audio()))
+                .build();
+
+        try {
+            log.debug("Google Speech API 비동기식 호출 시작 - 언어: {}, 모델: {}",
+                    config.getLanguageCode(), config.getModel());
+
+            LongRunningRecognizeResponse response = speechClient.longRunningRecognizeAsync(config, audio).get();
+            List<SpeechRecognitionResult> results = response.getResultsList();
+
+            if (results.isEmpty())
+                throw new NoSpeechRecognizedException("음성을 인식할 수 없습니다. 오디오 파일을 확인해주세요.");
+
+            return processRecognitionResults(results);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("비동기 음성 인식 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            log.error("Google Speech API 비동기식 호출 실패: {}", e.getCause().getMessage());
+            if (isInvalidArgument(e.getCause()))
+                throw new IllegalArgumentException("음성 인식 요청이 거절되었습니다: " + e.getCause().getMessage(), e.getCause());
+            throw new RuntimeException("비동기 음성 인식 API 호출 중 오류가 발생했습니다: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
     /**
      * 스트리밍 음성 인식 - SSE를 통한 실시간 스트리밍
      *
@@ -135,51 +194,12 @@ public class GoogleSttHelper {
 //    }
 
 
-    /**
-     * 오디오 파일 유효성 검사
-     */
-    private void validateAudioFile(MultipartFile file) {
-        if (file == null || file.isEmpty())
-            throw new IllegalArgumentException("파일이 비어있습니다.");
-
-        // 파일 크기 검사
-        if (file.getSize() > maxFileSize)
-            throw new IllegalArgumentException(String.format(
-                    "파일 크기가 제한을 초과합니다. (현재: %.2f MB, 최대: %.2f MB)",
-                    file.getSize() / 1024.0 / 1024.0,
-                    maxFileSize / 1024.0 / 1024.0));
-
-        String filename = file.getOriginalFilename();
-
-        // 지원되는 파일 형식 검사
-        validateFileFormat(filename);
-    }
-
-    /**
-     * 파일 형식 유효성 검사
-     */
-    private void validateFileFormat(String filename) {
-        String extension = FileUtil.getFileExtension(filename).toLowerCase();
-
-        if (extension.isEmpty())
-            throw new IllegalArgumentException("파일 확장자가 없습니다.");
-
-        String[] supportedExtensions = supportedFormats.split(",");
-        for (String supportedExt : supportedExtensions) {
-            if (extension.equals(supportedExt.trim().toLowerCase())) {
-                return;
-            }
-        }
-
-        throw new IllegalArgumentException(
-                String.format("지원되지 않는 파일 형식입니다. (입력: %s, 지원 형식: %s)",
-                        extension, supportedFormats));
-    }
-
     /**
      * 동기식 음성 인식 (Synchronous Recognition).
      * - 60초 미만의 오디오 파일에 적합
      * - 즉시 결과 반환
+     * - 재시도/서킷 브레이커/헤징은 {@link ResilientRecognizer}에서 처리
+     * - 잘못된 요청(INVALID_ARGUMENT)과 인식 결과 없음은 {@link IllegalArgumentException}, 그 외 전송/서버 오류만 감싸서 전달
      */
     public TranscriptionResult recognizeSyncInternal(RecognitionConfig config, RecognitionAudio audio) {
         try {
@@ -187,15 +207,26 @@ public class GoogleSttHelper {
                     config.getLanguageCode(), config.getModel());
 
             // 음성 인식 요청
-            RecognizeResponse response = speechClient.recognize(config, audio);
+            RecognizeResponse response = resilientRecognizer.recognize(config, audio);
             List<SpeechRecognitionResult> results = response.getResultsList();
 
             if (results.isEmpty())
-                throw new RuntimeException("음성을 인식할 수 없습니다. 오디오 파일을 확인해주세요.");
+                throw new NoSpeechRecognizedException("음성을 인식할 수 없습니다. 오디오 파일을 확인해주세요.");
 
             // 결과 처리
             return processRecognitionResults(results);
 
+        } catch (CircuitBreakerOpenException e) {
+            log.warn("Google Speech API 호출 차단 (서킷 OPEN): {}", e.getMessage());
+            throw e;
+        } catch (IllegalArgumentException e) {
+            log.warn("음성 인식 요청 오류: {}", e.getMessage());
+            throw e;
+        } catch (ApiException e) {
+            log.error("Google Speech API 동기식 호출 실패: {}", e.getMessage());
+            if (isInvalidArgument(e))
+                throw new IllegalArgumentException("음성 인식 요청이 거절되었습니다: " + e.getMessage(), e);
+            throw new RuntimeException("음성 인식 API 호출 중 오류가 발생했습니다: " + e.getMessage(), e);
         } catch (Exception e) {
             log.error("Google Speech API 동기식 호출 실패: {}", e.getMessage());
             throw new RuntimeException("음성 인식 API 호출 중 오류가 발생했습니다: " + e.getMessage(), e);
@@ -386,12 +417,13 @@ public class GoogleSttHelper {
 //    }
 
     /**
-     * 음성 인식 결과 처리 (공통 로직)
+     * 음성 인식 결과 처리 (공통 로직). 단어 시간 오프셋을 요청한 경우 단어별 시간 정보를 열 단위로 모읍니다.
      */
     private TranscriptionResult processRecognitionResults(List<SpeechRecognitionResult> results) {
         StringBuilder transcription = new StringBuilder();
         float totalConfidence = 0f;
         int resultCount = 0;
+        WordTimings.Builder words = WordTimings.builder();
 
         for (SpeechRecognitionResult result : results) {
             if (!result.getAlternativesList().isEmpty()) {
@@ -400,6 +432,14 @@ public class GoogleSttHelper {
                 // 텍스트 추가
                 transcription.append(alternative.getTranscript());
 
+                // 단어별 시간 정보 (결과 간 시각은 오디오 시작 기준)
+                for (WordInfo word : alternative.getWordsList()) {
+                    words.add(word.getWord(),
+                            toMillis(word.getStartTime()),
+                            toMillis(word.getEndTime()),
+                            word.getConfidence());
+                }
+
                 // 신뢰도 점수 계산
                 float confidence = alternative.getConfidence();
                 if (confidence > 0) {
@@ -416,76 +456,45 @@ public class GoogleSttHelper {
         String finalTranscription = transcription.toString().trim();
 
         if (finalTranscription.isEmpty())
-            throw new RuntimeException("음성 내용을 텍스트로 변환할 수 없습니다.");
+            throw new NoSpeechRecognizedException("음성 내용을 텍스트로 변환할 수 없습니다.");
 
         float averageConfidence = resultCount > 0 ? totalConfidence / resultCount : 0f;
 
-        return new TranscriptionResult(finalTranscription, averageConfidence);
+        return new TranscriptionResult(finalTranscription, averageConfidence, words.build());
     }
 
-    /**
-     * 파일 정보에 따른 오디오 인코딩 결정.
-     *
-     * @param file 대상 파일
-     * @return RecognitionConfig.AudioEncoding
-     */
-    private RecognitionConfig.AudioEncoding determineAudioEncoding(MultipartFile file) {
-        String contentType = file.getContentType();
-        String filename = file.getOriginalFilename();
-
-        log.debug("오디오 인코딩 결정 - ContentType: {}, Filename: {}", contentType, filename);
-
-        // Content-Type 기반 판단
-        RecognitionConfig.AudioEncoding encoding = getEncodingByContentType(contentType);
-
-        if (encoding != null) return encoding;
-
-        // 파일 확장자 기반 판단
-        if (StringUtils.isNotBlank(filename)) {
-            String extension = FileUtil.getFileExtension(filename);
-
-            if (StringUtils.isNotBlank(extension)) return getEncodingByExtension(extension);
-        }
-
-        log.warn("오디오 인코딩을 결정할 수 없어 LINEAR16으로 설정합니다. ContentType: {}, Filename: {}", contentType, filename);
-
-        return RecognitionConfig.AudioEncoding.LINEAR16;
+    private static boolean isInvalidArgument(Throwable error) {
+        return error instanceof ApiException apiException
+                && apiException.getStatusCode().getCode() == StatusCode.Code.INVALID_ARGUMENT;
     }
 
-    /**
-     * Content-Type으로부터 오디오 인코딩 매핑.
-     *
-     * @param contentType 파일 컨텐츠 타입
-     * @return RecognitionConfig.AudioEncoding
-     */
-    private RecognitionConfig.AudioEncoding getEncodingByContentType(String contentType) {
-        if (StringUtils.isBlank(contentType)) return null;
-
-        return switch (contentType.toLowerCase()) {
-            case "audio/mpeg", "audio/mp3", "audio/mp4", "audio/m4a" -> RecognitionConfig.AudioEncoding.MP3;
-            case "audio/wav", "audio/wave" -> RecognitionConfig.AudioEncoding.LINEAR16;
-            case "audio/flac" -> RecognitionConfig.AudioEncoding.FLAC;
-            case "audio/ogg" -> RecognitionConfig.AudioEncoding.OGG_OPUS;
-            default -> null;
-        };
+    private static long toMillis(Duration duration) {
+        return duration.getSeconds() * 1000 + duration.getNanos() / 1_000_000;
     }
 
     /**
-     * 파일 확장자로부터 오디오 인코딩 매핑
-     *
-     * @param extension 파일 확장자
-     * @return RecognitionConfig.AudioEncoding
+     * 인식 요청의 프로필에서 미리 만들어 둔 Google RecognitionConfig 조회.
+     * WAV(LINEAR16)는 헤더와 다른 샘플 레이트/채널 수를 보내면 거부되므로, 프로필 값 대신 헤더 값을 사용합니다.
+     * (잘라낸 구간, 나눈 채널처럼 원본과 다른 오디오도 헤더를 그대로 가짐)
      */
-    private RecognitionConfig.AudioEncoding getEncodingByExtension(String extension) {
-        if (StringUtils.isBlank(extension)) return null;
-
-        return switch (extension.toLowerCase()) {
-            case "mp3", "m4a" -> RecognitionConfig.AudioEncoding.MP3;
-            case "wav" -> RecognitionConfig.AudioEncoding.LINEAR16;
-            case "flac" -> RecognitionConfig.AudioEncoding.FLAC;
-            case "ogg" -> RecognitionConfig.AudioEncoding.OGG_OPUS;
-            default -> null;
-        };
+    private RecognitionConfig buildRecognitionConfig(RecognitionRequest request) {
+        RecognitionConfig config = profileRegistry.get(request.profile()).configFor(
+                request.encoding(),
+                request.enableAutomaticPunctuation(),
+                request.enableWordTimeOffsets()
+        );
+
+        WavHeader header = request.encoding() == RecognitionConfig.AudioEncoding.LINEAR16
+                ? WavHeader.parse(request.audio())
+                : null;
+        if (header == null || (header.sampleRateHertz() == config.getSampleRateHertz()
+                && header.channels() == config.getAudioChannelCount()))
+            return config;
+
+        return config.toBuilder()
+                .setSampleRateHertz(header.sampleRateHertz())
+                .setAudioChannelCount(header.channels())
+                .build();
     }
 
     /**
@@ -1,7 +1,10 @@
 package com.kjung.springsst.infra.googleStt.aspect;
 
+import com.kjung.springsst.infra.engine.RecognitionEngine;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
 import com.kjung.springsst.infra.googleStt.GoogleSttHelper;
 import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -62,6 +65,9 @@ public class GoogleSttLoggingAspect {
      */
     @Around("execution(public * com.kjung.springsst.infra.googleStt.GoogleSttHelper.*(..)) && args(file, ..)")
     public Object logGoogleSttExecution(ProceedingJoinPoint joinPoint, MultipartFile file) throws Throwable {
+        // 로그를 남기지 않는 경우 문자열 조립 없이 바로 실행
+        if (!log.isInfoEnabled()) return joinPoint.proceed();
+
         String methodName = joinPoint.getSignature().getName();
 
         long startTime = System.currentTimeMillis();
@@ -90,17 +96,63 @@ public class GoogleSttLoggingAspect {
         }
     }
 
+    /**
+     * {@link RecognitionEngine} 구현체의 파일 인식 메서드에 대한 로깅.
+     * <p>
+     * 라우터를 거치는 요청은 MultipartFile 대신 {@link RecognitionRequest}를 전달하므로 별도의 어드바이스로 처리하며,
+     * 어떤 엔진이 요청을 처리했는지 함께 기록합니다.
+     * 구간별 지연 분석은 로그 대신 JFR 이벤트({@link com.kjung.springsst.core.jfr.SyncRecognizeEvent})를 사용합니다.
+     * </p>
+     *
+     * @param joinPoint AOP 조인포인트 객체
+     * @param request   인식 요청
+     * @return 대상 메서드의 원본 반환값
+     * @throws Throwable 대상 메서드에서 발생한 모든 예외를 다시 던짐
+     */
+    @Around("execution(public * com.kjung.springsst.infra.engine.RecognitionEngine+.recognize*(..)) && args(request)")
+    public Object logEngineExecution(ProceedingJoinPoint joinPoint, RecognitionRequest request) throws Throwable {
+        if (!log.isInfoEnabled()) return joinPoint.proceed();
+
+        String methodName = ((RecognitionEngine) joinPoint.getTarget()).getName() + "." + joinPoint.getSignature().getName();
+
+        long startTime = System.currentTimeMillis();
+        String filename = request.filename();
+
+        log.info("[STT API 시작] 메서드: {}, 파일: {}", methodName, filename);
+
+        try {
+            Object result = joinPoint.proceed();
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            logSuccess(methodName, filename, processingTime, result);
+
+            return result;
+
+        } catch (Exception e) {
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            log.error("[STT API 실패] 메서드: {}, 파일: {}, 처리시간: {}ms, 오류: {}",
+                    methodName,
+                    filename,
+                    processingTime,
+                    e.getMessage());
+
+            throw e;
+        }
+    }
+
     /**
      * 성공 로그 출력.
      */
     private void logSuccess(String methodName, String filename, long processingTime, Object result) {
-        if (result instanceof TranscriptionResult(String transcription, float averageConfidence)) {
-            log.info("[STT API 완료] 메서드: {}, 파일: {}, 처리시간: {}ms, 텍스트길이: {}, 신뢰도: {}",
+        if (result instanceof TranscriptionResult(String transcription, float averageConfidence, WordTimings words)) {
+            log.info("[STT API 완료] 메서드: {}, 파일: {}, 처리시간: {}ms, 텍스트길이: {}, 신뢰도: {}, 단어수: {}",
                     methodName,
                     filename,
                     processingTime,
                     transcription.length(),
-                    averageConfidence);
+                    averageConfidence,
+                    words.size());
         } else {
             log.info("[STT API 완료] 메서드: {}, 파일: {}, 처리시간: {}ms",
                     methodName, filename, processingTime);
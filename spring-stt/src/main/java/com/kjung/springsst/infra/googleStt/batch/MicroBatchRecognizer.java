@@ -0,0 +1,392 @@
+package com.kjung.springsst.infra.googleStt.batch;
+
+import com.google.cloud.speech.v1.RecognitionAudio;
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.google.cloud.speech.v1.RecognizeResponse;
+import com.google.cloud.speech.v1.SpeechRecognitionResult;
+import com.google.cloud.speech.v1.WordInfo;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Duration;
+import com.kjung.springsst.app.file.util.WavHeader;
+import com.kjung.springsst.infra.engine.NoSpeechRecognizedException;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.profile.RecognitionProfileRegistry;
+import com.kjung.springsst.infra.googleStt.resilience.ResilientRecognizer;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import com.kjung.springsst.infra.googleStt.vo.WordTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 짧은 LINEAR16 음성 명령을 모아 한 번의 recognize 호출로 처리하는 마이크로 배치.
+ * <p>
+ * 같은 형식(샘플 레이트, 인식 프로필, 구두점 설정)의 짧은 클립을 최대 {@code windowMs} 동안 모은 뒤,
+ * 클립 사이에 무음 구간을 넣어 하나의 PCM으로 이어 붙여 단어 시간 오프셋을 켜고 인식합니다.
+ * 반환된 단어는 시작/종료 시각의 중간 지점이 속한 클립 구간으로 다시 나눕니다.
+ * </p>
+ * <p>
+ * 요청당 왕복 비용과 최소 과금 단위를 배치 전체가 나누어 부담하며, 추가 지연은 최대 {@code windowMs}입니다.
+ * 수집 마감 타이머는 전송 스레드와 분리되어 있어, 진행 중인 recognize 호출이 많아도 마감이 밀리지 않습니다.
+ * 16bit 모노 WAV만 대상이며, 그 외 요청은 {@link #accepts}에서 제외됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class MicroBatchRecognizer implements DisposableBean {
+
+    private static final int BYTES_PER_SAMPLE = 2;
+
+    private final ResilientRecognizer resilientRecognizer;
+
+    private final RecognitionProfileRegistry profileRegistry;
+
+    @Getter
+    private final boolean enabled;
+
+    private final long windowMs;
+
+    private final long maxClipMs;
+
+    private final int maxBatchClips;
+
+    private final long maxBatchDurationMs;
+
+    private final long separatorMs;
+
+    private final long resultTimeoutMs;
+
+    private final Map<BatchKey, Batch> openBatches = new HashMap<>();
+
+    // 수집이 끝나 전송을 기다리거나 전송 중인 배치, 종료 시 대기자를 깨우기 위해 보관
+    private final Set<Batch> sendingBatches = ConcurrentHashMap.newKeySet();
+
+    // 수집 마감 타이머 전용, 블로킹 호출을 실행하지 않음
+    private final ScheduledExecutorService timer;
+
+    // recognize 호출을 실행하는 전송 스레드
+    private final ExecutorService sender;
+
+    private final Counter batchCounter;
+
+    private final Counter savedCallCounter;
+
+    private final DistributionSummary batchSize;
+
+    public MicroBatchRecognizer(ResilientRecognizer resilientRecognizer,
+                                RecognitionProfileRegistry profileRegistry,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.stt.micro-batch.enabled:false}") boolean enabled,
+                                @Value("${app.stt.micro-batch.window-ms:30}") long windowMs,
+                                @Value("${app.stt.micro-batch.max-clip-ms:3000}") long maxClipMs,
+                                @Value("${app.stt.micro-batch.max-batch-clips:16}") int maxBatchClips,
+                                @Value("${app.stt.micro-batch.max-batch-duration-ms:50000}") long maxBatchDurationMs,
+                                @Value("${app.stt.micro-batch.separator-ms:800}") long separatorMs,
+                                @Value("${app.stt.micro-batch.result-timeout-ms:60000}") long resultTimeoutMs,
+                                @Value("${app.stt.micro-batch.threads:4}") int threads) {
+        this.resilientRecognizer = resilientRecognizer;
+        this.profileRegistry = profileRegistry;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxClipMs = maxClipMs;
+        this.maxBatchClips = maxBatchClips;
+        this.maxBatchDurationMs = maxBatchDurationMs;
+        this.separatorMs = separatorMs;
+        this.resultTimeoutMs = resultTimeoutMs;
+
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stt-micro-batch-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "stt-micro-batch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.batchCounter = Counter.builder("stt.micro-batch.batches")
+                .description("마이크로 배치로 보낸 recognize 호출 수")
+                .register(meterRegistry);
+        this.savedCallCounter = Counter.builder("stt.micro-batch.saved-calls")
+                .description("배치로 합쳐져 생략된 recognize 호출 수")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("stt.micro-batch.size")
+                .description("배치당 클립 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배치 형식 구분 키. 같은 키의 클립만 하나의 요청으로 합칠 수 있습니다.
+     */
+    private record BatchKey(int sampleRateHertz, String profile, boolean enableAutomaticPunctuation) {
+    }
+
+    /**
+     * @param includeWords 결과에 단어별 시간 정보를 담을지 여부 (배치 분배용 단어 정보는 항상 요청함)
+     */
+    private record Clip(WavHeader header, byte[] audio, boolean includeWords, CompletableFuture<TranscriptionResult> future) {
+
+        long durationMs() {
+            return header.durationMs();
+        }
+    }
+
+    private static class Batch {
+        private final List<Clip> clips = new ArrayList<>();
+        private long durationMs = 0;
+    }
+
+    /**
+     * 마이크로 배치 대상 여부: 활성화되어 있고, 길이가 짧은 16bit 모노 WAV
+     */
+    public boolean accepts(RecognitionRequest request) {
+        if (!enabled || request.encoding() != RecognitionConfig.AudioEncoding.LINEAR16) return false;
+        if (!request.isDurationKnown() || request.durationMs() > maxClipMs) return false;
+
+        WavHeader header = WavHeader.parse(request.audio());
+        return header != null && header.channels() == 1 && header.bitsPerSample() == BYTES_PER_SAMPLE * 8;
+    }
+
+    /**
+     * 클립을 배치에 넣고 인식 결과를 기다립니다.
+     *
+     * @throws IllegalArgumentException    배치 대상이 아닌 요청인 경우
+     * @throws NoSpeechRecognizedException 이 클립에서 음성을 인식하지 못한 경우
+     * @throws IllegalStateException       서버 종료로 배치가 취소되었거나 결과 대기 시간을 넘은 경우
+     * @throws RuntimeException            배치 호출이 실패한 경우
+     */
+    public TranscriptionResult recognize(RecognitionRequest request) {
+        WavHeader header = WavHeader.parse(request.audio());
+        if (header == null)
+            throw new IllegalArgumentException("마이크로 배치는 WAV(LINEAR16) 오디오만 지원합니다.");
+
+        Clip clip = new Clip(header, request.audio(), request.enableWordTimeOffsets(), new CompletableFuture<>());
+        BatchKey key = new BatchKey(header.sampleRateHertz(), request.profile(), request.enableAutomaticPunctuation());
+
+        enqueue(key, clip);
+
+        try {
+            return clip.future().get(windowMs + resultTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("마이크로 배치 결과 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (TimeoutException e) {
+            IllegalStateException timeout = new IllegalStateException("마이크로 배치 결과 대기 시간을 초과했습니다.", e);
+            clip.future().completeExceptionally(timeout);
+            throw timeout;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause
+                    ? cause
+                    : new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void enqueue(BatchKey key, Clip clip) {
+        Batch full = null;
+
+        synchronized (openBatches) {
+            Batch batch = openBatches.get(key);
+
+            // 넣으면 한도를 넘는 경우 기존 배치를 먼저 보냄
+            if (batch != null && batch.durationMs + separatorMs + clip.durationMs() > maxBatchDurationMs) {
+                openBatches.remove(key);
+                full = batch;
+                batch = null;
+            }
+
+            if (batch == null) {
+                Batch created = new Batch();
+                openBatches.put(key, created);
+                timer.schedule(() -> flush(key, created), windowMs, TimeUnit.MILLISECONDS);
+                batch = created;
+            }
+
+            if (!batch.clips.isEmpty())
+                batch.durationMs += separatorMs;
+            batch.clips.add(clip);
+            batch.durationMs += clip.durationMs();
+
+            if (batch.clips.size() >= maxBatchClips) {
+                openBatches.remove(key);
+                submit(key, batch);
+            }
+        }
+
+        if (full != null)
+            submit(key, full);
+    }
+
+    private void submit(BatchKey key, Batch batch) {
+        sendingBatches.add(batch);
+        try {
+            sender.execute(() -> send(key, batch));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            sendingBatches.remove(batch);
+            cancel(batch);
+        }
+    }
+
+    /**
+     * 수집 시간이 끝난 배치를 전송 스레드에 넘깁니다. 이미 한도로 먼저 전송된 배치는 무시합니다.
+     */
+    private void flush(BatchKey key, Batch batch) {
+        synchronized (openBatches) {
+            if (!openBatches.remove(key, batch)) return;
+        }
+        submit(key, batch);
+    }
+
+    private void send(BatchKey key, Batch batch) {
+        List<Clip> clips = batch.clips;
+
+        batchCounter.increment();
+        batchSize.record(clips.size());
+        savedCallCounter.increment(clips.size() - 1);
+
+        try {
+            long bytesPerSecond = (long) key.sampleRateHertz() * BYTES_PER_SAMPLE;
+            // 샘플 경계에 맞춤
+            int separatorBytes = (int) (separatorMs * bytesPerSecond / 1000) & ~1;
+
+            // 클립 PCM을 무음 구간으로 이어 붙이고 각 클립의 시작 위치를 기록
+            ByteString.Output combined = ByteString.newOutput();
+            long[] clipStartMs = new long[clips.size()];
+            byte[] silence = new byte[separatorBytes];
+
+            for (int i = 0; i < clips.size(); i++) {
+                Clip clip = clips.get(i);
+                if (i > 0)
+                    combined.write(silence);
+
+                clipStartMs[i] = combined.size() * 1000L / bytesPerSecond;
+                combined.write(clip.audio(), clip.header().dataOffset(), clip.header().dataLength());
+            }
+
+            RecognitionConfig config = profileRegistry.get(key.profile())
+                    .configFor(RecognitionConfig.AudioEncoding.LINEAR16, key.enableAutomaticPunctuation(), true)
+                    .toBuilder()
+                    .setSampleRateHertz(key.sampleRateHertz())
+                    .setAudioChannelCount(1)
+                    .setEnableWordConfidence(true)
+                    .build();
+
+            RecognitionAudio audio = RecognitionAudio.newBuilder()
+                    .setContent(combined.toByteString())
+                    .build();
+
+            log.debug("마이크로 배치 전송 - 클립 수: {}, 길이: {}ms", clips.size(), batch.durationMs);
+
+            RecognizeResponse response = resilientRecognizer.recognize(config, audio);
+            distribute(clips, clipStartMs, response.getResultsList());
+
+        } catch (Exception e) {
+            log.warn("마이크로 배치 인식 실패 - 클립 수: {}, 오류: {}", clips.size(), e.getMessage());
+            clips.forEach(clip -> clip.future().completeExceptionally(e));
+        } finally {
+            sendingBatches.remove(batch);
+        }
+    }
+
+    /**
+     * 단어를 중간 시각이 속한 클립에 배정하여 클립별 결과를 만듭니다.
+     * 클립 구간은 다음 클립 시작 직전까지(뒤쪽 무음 포함)로 봅니다. 단어 시각은 클립 시작 기준으로 바꿉니다.
+     */
+    private void distribute(List<Clip> clips, long[] clipStartMs, List<SpeechRecognitionResult> results) {
+        List<List<WordInfo>> wordsByClip = new ArrayList<>();
+        clips.forEach(clip -> wordsByClip.add(new ArrayList<>()));
+
+        for (SpeechRecognitionResult result : results) {
+            if (result.getAlternativesCount() == 0) continue;
+
+            for (WordInfo word : result.getAlternatives(0).getWordsList()) {
+                long midMs = (toMillis(word.getStartTime()) + toMillis(word.getEndTime())) / 2;
+
+                int clipIndex = 0;
+                while (clipIndex + 1 < clipStartMs.length && clipStartMs[clipIndex + 1] <= midMs) {
+                    clipIndex++;
+                }
+                wordsByClip.get(clipIndex).add(word);
+            }
+        }
+
+        for (int i = 0; i < clips.size(); i++) {
+            List<WordInfo> words = wordsByClip.get(i);
+
+            if (words.isEmpty()) {
+                clips.get(i).future().completeExceptionally(
+                        new NoSpeechRecognizedException("음성을 인식할 수 없습니다. 오디오 파일을 확인해주세요."));
+                continue;
+            }
+
+            Clip clip = clips.get(i);
+            String transcription = String.join(" ", words.stream().map(WordInfo::getWord).toList());
+            float averageConfidence = (float) words.stream()
+                    .mapToDouble(WordInfo::getConfidence)
+                    .filter(confidence -> confidence > 0)
+                    .average()
+                    .orElse(0);
+
+            WordTimings wordTimings = WordTimings.EMPTY;
+            if (clip.includeWords()) {
+                WordTimings.Builder builder = WordTimings.builder();
+                for (WordInfo word : words) {
+                    builder.add(word.getWord(),
+                            toMillis(word.getStartTime()) - clipStartMs[i],
+                            toMillis(word.getEndTime()) - clipStartMs[i],
+                            word.getConfidence());
+                }
+                wordTimings = builder.build();
+            }
+
+            clip.future().complete(new TranscriptionResult(transcription, averageConfidence, wordTimings));
+        }
+    }
+
+    private long toMillis(Duration duration) {
+        return duration.getSeconds() * 1000 + duration.getNanos() / 1_000_000;
+    }
+
+    private static void cancel(Batch batch) {
+        batch.clips.forEach(clip -> clip.future().completeExceptionally(
+                new IllegalStateException("서버 종료로 마이크로 배치가 취소되었습니다.")));
+    }
+
+    @Override
+    public void destroy() {
+        // 실행 전 작업은 반환되어 버려지므로, 수집 중이거나 전송 대기 중인 클립의 대기자를 직접 깨움
+        timer.shutdownNow();
+        sender.shutdownNow();
+
+        synchronized (openBatches) {
+            openBatches.values().forEach(MicroBatchRecognizer::cancel);
+            openBatches.clear();
+        }
+        // 이미 완료된 클립에는 영향 없음
+        sendingBatches.forEach(MicroBatchRecognizer::cancel);
+        sendingBatches.clear();
+    }
+}
@@ -1,7 +1,19 @@
 package com.kjung.springsst.infra.googleStt.constants;
 
+import java.util.Set;
+
 public class GoogleSttModel {
     public static final String DEFAULT_MODEL = "default";
     public static final String COMMAND_AND_SEARCH_MODEL = "command_and_search";
     public static final String LATEST_LONG_MODEL = "latest_long";
+    public static final String LATEST_SHORT_MODEL = "latest_short";
+    public static final String PHONE_CALL_MODEL = "phone_call";
+
+    public static final Set<String> SUPPORTED_MODELS = Set.of(
+            DEFAULT_MODEL,
+            COMMAND_AND_SEARCH_MODEL,
+            LATEST_LONG_MODEL,
+            LATEST_SHORT_MODEL,
+            PHONE_CALL_MODEL
+    );
 }
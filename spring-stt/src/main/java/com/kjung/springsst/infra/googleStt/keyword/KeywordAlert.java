@@ -0,0 +1,27 @@
+package com.kjung.springsst.infra.googleStt.keyword;
+
+import java.time.Instant;
+
+/**
+ * 실시간 인식 결과에서 감지된 키워드.
+ *
+ * @param sessionId  세션 ID (엔진 스트림에 연결되지 않았으면 {@code null})
+ * @param streamId   엔진 스트림 ID
+ * @param utterance  스트림 내 발화 순번 (0부터)
+ * @param keyword    감지된 키워드
+ * @param category   키워드 분류
+ * @param isFinal    최종 결과에서 감지되었는지 여부, {@code false}이면 이후 수정될 수 있는 중간 결과
+ * @param transcript 감지 시점의 인식 텍스트
+ * @param detectedAt 감지 시각
+ */
+public record KeywordAlert(
+        String sessionId,
+        long streamId,
+        int utterance,
+        String keyword,
+        String category,
+        boolean isFinal,
+        String transcript,
+        Instant detectedAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.kjung.springsst.infra.googleStt.keyword;
+
+/**
+ * 키워드 알림을 받는 확장 지점. 등록된 모든 구현체 빈이 알림을 받습니다.
+ * <p>
+ * 인식 결과 경로와 분리된 알림 전용 스레드에서 호출되지만, 알림이 밀리지 않도록 오래 막히지 않아야 합니다.
+ * </p>
+ */
+public interface KeywordAlertSink {
+
+    void onAlert(KeywordAlert alert);
+}
@@ -0,0 +1,194 @@
+package com.kjung.springsst.infra.googleStt.keyword;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 키워드 목록 전체를 한 번에 찾는 Aho-Corasick 오토마톤.
+ * <p>
+ * 텍스트를 한 번만 훑으므로 검색 비용이 키워드 수와 무관하게 텍스트 길이(+ 일치 수)에 비례합니다.
+ * 생성 후에는 변경되지 않아 여러 스레드에서 동시에 사용할 수 있으며, 키워드 목록이 바뀌면 새로 만들어 교체합니다.
+ * </p>
+ * <p>
+ * 상태 전이는 상태별로 정렬된 문자 배열과 대상 배열로 보관하고 이진 탐색합니다.
+ * 키워드와 검색 텍스트는 모두 {@link #normalize(String)}로 정규화한 뒤 비교합니다.
+ * </p>
+ */
+final class KeywordAutomaton {
+
+    static final KeywordAutomaton EMPTY = build(List.of());
+
+    private final List<KeywordRule> rules;
+
+    private final char[][] edgeChars;
+
+    private final int[][] edgeTargets;
+
+    private final int[] fail;
+
+    // 이 상태에서 끝나는 키워드 번호, 없으면 -1
+    private final int[] output;
+
+    // 실패 링크를 따라 처음 만나는, 키워드가 끝나는 상태 (없으면 -1)
+    private final int[] outputLink;
+
+    // 정규화된 키워드 길이
+    private final int[] lengths;
+
+    private KeywordAutomaton(List<KeywordRule> rules, char[][] edgeChars, int[][] edgeTargets,
+                             int[] fail, int[] output, int[] outputLink, int[] lengths) {
+        this.rules = rules;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.output = output;
+        this.outputLink = outputLink;
+        this.lengths = lengths;
+    }
+
+    @FunctionalInterface
+    interface MatchListener {
+        /**
+         * @param rule  일치한 키워드
+         * @param start 정규화된 텍스트에서 일치 구간의 시작
+         * @param end   정규화된 텍스트에서 일치 구간의 끝 (제외)
+         */
+        void onMatch(KeywordRule rule, int start, int end);
+    }
+
+    /**
+     * 정규화 결과가 같은 키워드는 먼저 나온 것만 사용합니다.
+     */
+    static KeywordAutomaton build(List<KeywordRule> keywordRules) {
+        Map<String, KeywordRule> unique = new LinkedHashMap<>();
+        for (KeywordRule rule : keywordRules) {
+            String normalized = normalize(rule.keyword());
+            if (!normalized.isEmpty())
+                unique.putIfAbsent(normalized, rule);
+        }
+
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        outputs.add(-1);
+
+        List<KeywordRule> rules = new ArrayList<>(unique.size());
+        int[] lengths = new int[unique.size()];
+
+        for (Map.Entry<String, KeywordRule> entry : unique.entrySet()) {
+            String keyword = entry.getKey();
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = children.get(state).get(keyword.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(keyword.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    outputs.add(-1);
+                }
+                state = next;
+            }
+            outputs.set(state, rules.size());
+            lengths[rules.size()] = keyword.length();
+            rules.add(entry.getValue());
+        }
+
+        int stateCount = children.size();
+        char[][] edgeChars = new char[stateCount][];
+        int[][] edgeTargets = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> edges = children.get(state);
+            edgeChars[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[state][i] = edge.getKey();
+                edgeTargets[state][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        int[] output = outputs.stream().mapToInt(Integer::intValue).toArray();
+        int[] fail = new int[stateCount];
+        int[] outputLink = new int[stateCount];
+        Arrays.fill(outputLink, -1);
+
+        // 너비 우선으로 실패 링크 계산
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[0]) {
+            queue.add(target);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int target = edgeTargets[state][i];
+
+                int f = fail[state];
+                int next;
+                while ((next = step(edgeChars, edgeTargets, f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[target] = next >= 0 ? next : 0;
+                outputLink[target] = output[fail[target]] >= 0 ? fail[target] : outputLink[fail[target]];
+
+                queue.add(target);
+            }
+        }
+
+        return new KeywordAutomaton(List.copyOf(rules), edgeChars, edgeTargets, fail, output, outputLink, lengths);
+    }
+
+    /**
+     * 정규화: 소문자로 바꾸고 공백을 제거합니다. 음성 인식 결과의 띄어쓰기가 일정하지 않아
+     * "계약 해지"와 "계약해지"를 같게 보기 위함입니다.
+     */
+    static String normalize(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c))
+                builder.append(Character.toLowerCase(c));
+        }
+        return builder.toString();
+    }
+
+    int size() {
+        return rules.size();
+    }
+
+    /**
+     * 정규화된 텍스트에서 모든 키워드 일치(겹침 포함)를 찾습니다.
+     */
+    void search(String normalizedText, MatchListener listener) {
+        if (rules.isEmpty()) return;
+
+        int state = 0;
+        for (int i = 0; i < normalizedText.length(); i++) {
+            char c = normalizedText.charAt(i);
+
+            int next;
+            while ((next = step(edgeChars, edgeTargets, state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = Math.max(next, 0);
+
+            for (int s = output[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+                int keyword = output[s];
+                listener.onMatch(rules.get(keyword), i + 1 - lengths[keyword], i + 1);
+            }
+        }
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : -1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.kjung.springsst.infra.googleStt.keyword;
+
+/**
+ * 감지 대상 키워드.
+ *
+ * @param keyword  키워드 (대소문자, 공백 무시)
+ * @param category 분류 (예: cancel, legal), 알림 라우팅에 사용
+ */
+public record KeywordRule(String keyword, String category) {
+
+    public static final String DEFAULT_CATEGORY = "default";
+
+    /**
+     * {@code "분류:키워드"} 또는 {@code "키워드"} 형식 해석
+     *
+     * @return 빈 줄이나 주석(#)이면 {@code null}
+     */
+    static KeywordRule parse(String line) {
+        String trimmed = line.strip();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) return null;
+
+        int separator = trimmed.indexOf(':');
+        if (separator < 0)
+            return new KeywordRule(trimmed, DEFAULT_CATEGORY);
+
+        String category = trimmed.substring(0, separator).strip();
+        String keyword = trimmed.substring(separator + 1).strip();
+        if (keyword.isEmpty()) return null;
+
+        return new KeywordRule(keyword, category.isEmpty() ? DEFAULT_CATEGORY : category);
+    }
+}
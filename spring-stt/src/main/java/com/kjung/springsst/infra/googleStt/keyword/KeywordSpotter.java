@@ -0,0 +1,286 @@
+package com.kjung.springsst.infra.googleStt.keyword;
+
+import io.micrometer.common.util.StringUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 인식 결과의 키워드 감지기.
+ * <p>
+ * 설정의 키워드({@code app.stt.keyword-spotting.keywords})와 외부 파일의 키워드로 {@link KeywordAutomaton}을 만들고,
+ * 파일이 바뀌면 다시 만들어 교체합니다. 스트림마다 {@link Session}을 만들어 중간/최종 결과를 넣으면
+ * 새로 나타난 키워드를 {@link KeywordAlertSink}로 알립니다.
+ * </p>
+ * <p>
+ * 같은 발화의 중간 결과는 수정될 때마다 전체 텍스트가 다시 오므로, 발화 안에서 키워드별로 이미 알린 횟수를 기억하여
+ * 그보다 많이 등장할 때만 알립니다. 최종 결과를 처리하면 다음 발화로 넘어갑니다.
+ * 알림 수신자는 결과 경로를 막지 않도록 전용 스레드에서 호출되며, 알림 큐가 가득 차면 알림을 버립니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class KeywordSpotter implements DisposableBean {
+
+    private final boolean enabled;
+
+    private final List<KeywordRule> baseRules;
+
+    private final Path keywordFile;
+
+    private final List<KeywordAlertSink> sinks;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadPoolExecutor alertExecutor;
+
+    private final ScheduledExecutorService reloadExecutor;
+
+    private final Counter suppressedCounter;
+
+    private final Counter droppedCounter;
+
+    private final Counter reloadSuccessCounter;
+
+    private final Counter reloadFailureCounter;
+
+    private volatile KeywordAutomaton automaton = KeywordAutomaton.EMPTY;
+
+    private volatile long keywordFileModified = -1;
+
+    public KeywordSpotter(Environment environment,
+                          ObjectProvider<KeywordAlertSink> sinks,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.stt.keyword-spotting.enabled:false}") boolean enabled,
+                          @Value("${app.stt.keyword-spotting.file:}") String keywordFile,
+                          @Value("${app.stt.keyword-spotting.reload-interval-ms:10000}") long reloadIntervalMs,
+                          @Value("${app.stt.keyword-spotting.alert-queue-capacity:1000}") int alertQueueCapacity) {
+        this.enabled = enabled;
+        this.keywordFile = StringUtils.isBlank(keywordFile) ? null : Path.of(keywordFile);
+        this.sinks = sinks.orderedStream().toList();
+        this.meterRegistry = meterRegistry;
+
+        this.baseRules = Binder.get(environment)
+                .bind("app.stt.keyword-spotting.keywords", Bindable.listOf(String.class))
+                .orElse(List.of())
+                .stream()
+                .map(KeywordRule::parse)
+                .filter(rule -> rule != null)
+                .toList();
+
+        this.alertExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, alertQueueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "stt-keyword-alert");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> droppedAlert());
+
+        this.suppressedCounter = Counter.builder("stt.keyword.suppressed")
+                .description("같은 발화의 중간 결과 수정으로 반복되어 알리지 않은 키워드 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("stt.keyword.dropped")
+                .description("알림 큐가 가득 차 버린 알림 수")
+                .register(meterRegistry);
+        this.reloadSuccessCounter = Counter.builder("stt.keyword.reloads")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.reloadFailureCounter = Counter.builder("stt.keyword.reloads")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        Gauge.builder("stt.keyword.count", this, spotter -> spotter.automaton.size())
+                .description("감지 대상 키워드 수")
+                .register(meterRegistry);
+
+        // 시작 시점의 키워드 파일 오류는 그대로 실패시킴
+        this.automaton = KeywordAutomaton.build(loadRules());
+
+        if (enabled && this.keywordFile != null && reloadIntervalMs > 0) {
+            this.reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "stt-keyword-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.reloadExecutor.scheduleWithFixedDelay(this::reloadIfModified,
+                    reloadIntervalMs, reloadIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.reloadExecutor = null;
+        }
+
+        log.info("Keyword spotting: {} (keywords: {}, sinks: {})", enabled ? "enabled" : "disabled",
+                automaton.size(), this.sinks.stream().map(sink -> sink.getClass().getSimpleName()).toList());
+    }
+
+    /**
+     * 스트림 하나의 감지 상태 생성
+     *
+     * @return 감지가 꺼져 있으면 {@code null}
+     */
+    public Session newSession(long streamId) {
+        return enabled ? new Session(streamId) : null;
+    }
+
+    /**
+     * 키워드 파일을 다시 읽어 교체합니다. 실패하면 기존 키워드를 유지합니다.
+     *
+     * @return 교체 여부
+     */
+    public boolean reload() {
+        try {
+            KeywordAutomaton reloaded = KeywordAutomaton.build(loadRules());
+            automaton = reloaded;
+            reloadSuccessCounter.increment();
+            log.info("감지 키워드 다시 읽기 완료: {}개", reloaded.size());
+            return true;
+
+        } catch (RuntimeException e) {
+            reloadFailureCounter.increment();
+            log.warn("감지 키워드 다시 읽기 실패, 기존 키워드 유지: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 스트림 하나의 키워드 감지 상태. 한 스트림의 결과는 순서대로 하나씩 전달되므로 동기화하지 않습니다.
+     */
+    public class Session {
+
+        private final long streamId;
+
+        // 현재 발화에서 키워드별로 이미 알린 횟수
+        private final Map<KeywordRule, Integer> alerted = new HashMap<>();
+
+        private volatile String sessionId;
+
+        private int utterance = 0;
+
+        private Session(long streamId) {
+            this.streamId = streamId;
+        }
+
+        public void setSessionId(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        /**
+         * 인식 결과 하나를 검사합니다.
+         */
+        public void onResult(String transcript, boolean isFinal) {
+            KeywordAutomaton current = automaton;
+
+            if (current.size() > 0 && !transcript.isEmpty()) {
+                Map<KeywordRule, Integer> counts = new HashMap<>();
+                current.search(KeywordAutomaton.normalize(transcript),
+                        (rule, start, end) -> counts.merge(rule, 1, Integer::sum));
+
+                counts.forEach((rule, count) -> {
+                    int previous = alerted.getOrDefault(rule, 0);
+                    if (count <= previous) {
+                        suppressedCounter.increment();
+                        return;
+                    }
+
+                    alerted.put(rule, count);
+                    alert(new KeywordAlert(sessionId, streamId, utterance, rule.keyword(), rule.category(),
+                            isFinal, transcript, Instant.now()));
+                });
+            }
+
+            if (isFinal) {
+                alerted.clear();
+                utterance++;
+            }
+        }
+    }
+
+    private void alert(KeywordAlert alert) {
+        meterRegistry.counter("stt.keyword.alerts", "category", alert.category()).increment();
+
+        alertExecutor.execute(() -> {
+            for (KeywordAlertSink sink : sinks) {
+                try {
+                    sink.onAlert(alert);
+                } catch (RuntimeException e) {
+                    log.warn("키워드 알림 전달 실패 - {}: {}", sink.getClass().getSimpleName(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void droppedAlert() {
+        if (droppedCounter.count() % 100 == 0)
+            log.warn("키워드 알림 큐가 가득 차 알림을 버립니다.");
+        droppedCounter.increment();
+    }
+
+    private void reloadIfModified() {
+        try {
+            long modified = Files.exists(keywordFile) ? Files.getLastModifiedTime(keywordFile).toMillis() : -1;
+            if (modified != keywordFileModified)
+                reload();
+        } catch (IOException e) {
+            log.warn("감지 키워드 파일 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 설정의 키워드에 외부 파일의 키워드를 더한 목록. 파일은 한 줄에 {@code 분류:키워드} 하나입니다.
+     */
+    private List<KeywordRule> loadRules() {
+        List<KeywordRule> rules = new ArrayList<>(baseRules);
+        if (keywordFile == null) return rules;
+
+        try {
+            if (!Files.exists(keywordFile)) {
+                keywordFileModified = -1;
+                log.debug("감지 키워드 파일 없음, 설정의 키워드만 사용: {}", keywordFile);
+                return rules;
+            }
+
+            long modified = Files.getLastModifiedTime(keywordFile).toMillis();
+            for (String line : Files.readAllLines(keywordFile, StandardCharsets.UTF_8)) {
+                KeywordRule rule = KeywordRule.parse(line);
+                if (rule != null)
+                    rules.add(rule);
+            }
+
+            keywordFileModified = modified;
+            return rules;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("감지 키워드 파일을 읽을 수 없습니다: " + keywordFile, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (reloadExecutor != null)
+            reloadExecutor.shutdownNow();
+        alertExecutor.shutdown();
+    }
+}
@@ -0,0 +1,27 @@
+package com.kjung.springsst.infra.googleStt.keyword;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림을 로그로 남기는 기본 알림 수신자.
+ * 인식 텍스트에는 개인정보가 담길 수 있으므로 INFO에는 분류와 키워드만 남기고, 텍스트는 DEBUG에서만 남깁니다.
+ */
+@Slf4j
+@Component
+public class LoggingKeywordAlertSink implements KeywordAlertSink {
+
+    @Override
+    public void onAlert(KeywordAlert alert) {
+        log.info("[키워드 감지] 분류: {}, 키워드: {}, 세션: {}, 발화: {}, 최종: {}",
+                alert.category(),
+                alert.keyword(),
+                alert.sessionId(),
+                alert.utterance(),
+                alert.isFinal());
+        log.debug("[키워드 감지] 세션: {}, 발화: {}, 텍스트: {}",
+                alert.sessionId(),
+                alert.utterance(),
+                alert.transcript());
+    }
+}
@@ -23,7 +23,8 @@ public class StreamingResponseObserver implements ResponseObserver<StreamingReco
     public void onResponse(StreamingRecognizeResponse response) {
         response.getResultsList().forEach(result -> {
             String transcript = result.getAlternatives(0).getTranscript();
-            log.debug("Transcript: {}", transcript);
+            if (log.isDebugEnabled())
+                log.debug("Transcript: {}", transcript);
             transcriptConsumer.accept(transcript);
         });
     }
@@ -0,0 +1,111 @@
+package com.kjung.springsst.infra.googleStt.profile;
+
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.google.cloud.speech.v1.RecognitionConfig.AudioEncoding;
+import com.kjung.springsst.infra.googleStt.constants.GoogleSttModel;
+import io.micrometer.common.util.StringUtils;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름이 붙은 인식 설정 묶음.
+ * <p>
+ * 언어, 모델, 샘플 레이트 등 요청과 무관한 항목은 생성 시 한 번만 {@link RecognitionConfig}로 만들어 두고,
+ * 요청마다 달라지는 인코딩/구두점/단어 타임스탬프 조합은 처음 사용할 때 만들어 재사용합니다.
+ * 생성된 설정은 불변이므로 여러 스레드에서 그대로 공유합니다.
+ * </p>
+ */
+public class RecognitionProfile {
+
+    /**
+     * Google이 허용하는 대체 언어 최대 개수
+     */
+    private static final int MAX_ALTERNATIVE_LANGUAGES = 3;
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final String languageCode;
+
+    private final RecognitionConfig baseConfig;
+
+    private final Map<AudioEncoding, RecognitionConfig> encodingConfigs = new EnumMap<>(AudioEncoding.class);
+
+    private final Map<Variant, RecognitionConfig> variants = new ConcurrentHashMap<>();
+
+    private record Variant(AudioEncoding encoding, boolean enableAutomaticPunctuation, boolean enableWordTimeOffsets) {
+    }
+
+    /**
+     * @throws IllegalArgumentException 언어 코드가 없거나 모델, 대체 언어 개수가 잘못된 경우
+     */
+    RecognitionProfile(String name, RecognitionProfileSpec spec) {
+        if (StringUtils.isBlank(spec.getLanguageCode()))
+            throw new IllegalArgumentException(String.format("인식 프로필 '%s'에 language-code가 없습니다.", name));
+
+        if (spec.getAlternativeLanguageCodes().size() > MAX_ALTERNATIVE_LANGUAGES)
+            throw new IllegalArgumentException(String.format(
+                    "인식 프로필 '%s'의 대체 언어는 최대 %d개입니다. (입력: %s)",
+                    name, MAX_ALTERNATIVE_LANGUAGES, spec.getAlternativeLanguageCodes()));
+
+        this.name = name;
+        this.languageCode = spec.getLanguageCode();
+
+        RecognitionConfig.Builder builder = RecognitionConfig.newBuilder()
+                .setLanguageCode(spec.getLanguageCode())
+                .addAllAlternativeLanguageCodes(spec.getAlternativeLanguageCodes())
+                .setUseEnhanced(spec.isUseEnhanced())
+                .setEnableWordConfidence(spec.isEnableWordConfidence())
+                .setMaxAlternatives(spec.getMaxAlternatives());
+
+        if (spec.getModel() != null)
+            builder.setModel(validateModel(name, spec.getModel()));
+        if (spec.getSampleRateHertz() != null)
+            builder.setSampleRateHertz(spec.getSampleRateHertz());
+
+        this.baseConfig = builder.build();
+
+        spec.getEncodings().forEach((encoding, override) -> {
+            RecognitionConfig.Builder encodingBuilder = baseConfig.toBuilder().setEncoding(encoding);
+
+            if (override.getModel() != null)
+                encodingBuilder.setModel(validateModel(name, override.getModel()));
+            if (override.getSampleRateHertz() != null)
+                encodingBuilder.setSampleRateHertz(override.getSampleRateHertz());
+
+            encodingConfigs.put(encoding, encodingBuilder.build());
+        });
+    }
+
+    /**
+     * 요청 옵션에 맞는 RecognitionConfig. 같은 조합은 같은 인스턴스를 반환합니다.
+     */
+    public RecognitionConfig configFor(AudioEncoding encoding,
+                                       boolean enableAutomaticPunctuation,
+                                       boolean enableWordTimeOffsets) {
+        return variants.computeIfAbsent(
+                new Variant(encoding, enableAutomaticPunctuation, enableWordTimeOffsets),
+                variant -> encodingConfigs.getOrDefault(encoding, baseConfig).toBuilder()
+                        .setEncoding(encoding)
+                        .setEnableAutomaticPunctuation(enableAutomaticPunctuation)
+                        .setEnableWordTimeOffsets(enableWordTimeOffsets)
+                        .build());
+    }
+
+    public List<String> getAlternativeLanguageCodes() {
+        return baseConfig.getAlternativeLanguageCodesList();
+    }
+
+    private static String validateModel(String name, String model) {
+        if (!GoogleSttModel.SUPPORTED_MODELS.contains(model))
+            throw new IllegalArgumentException(String.format(
+                    "인식 프로필 '%s'의 모델이 지원되지 않습니다. (입력: %s, 지원: %s)",
+                    name, model, GoogleSttModel.SUPPORTED_MODELS));
+        return model;
+    }
+}
@@ -0,0 +1,221 @@
+package com.kjung.springsst.infra.googleStt.profile;
+
+import com.kjung.springsst.infra.googleStt.constants.GoogleSttModel;
+import io.micrometer.common.util.StringUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이름으로 선택하는 인식 프로필 저장소.
+ * <p>
+ * {@code app.stt.profiles.*}에서 프로필을 읽어 미리 만들어 두고, {@code app.stt.profile-registry.file}이 지정되면
+ * 같은 형식(YAML 또는 properties)의 외부 파일로 프로필을 추가/재정의합니다. 외부 파일은 주기적으로 수정 시각을 확인해
+ * 바뀐 경우 다시 읽으며, 잘못된 파일은 반영하지 않고 기존 프로필을 유지합니다.
+ * </p>
+ * <p>
+ * 프로필 전체를 하나의 불변 맵으로 교체하므로 조회 중인 요청은 항상 한 시점의 프로필 묶음만 봅니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RecognitionProfileRegistry implements DisposableBean {
+
+    private static final String PROFILES_PREFIX = "app.stt.profiles";
+
+    private final Map<String, RecognitionProfileSpec> baseSpecs;
+
+    private final String defaultProfile;
+
+    private final Path externalFile;
+
+    private final ScheduledExecutorService executor;
+
+    private final Counter reloadSuccessCounter;
+
+    private final Counter reloadFailureCounter;
+
+    private volatile Map<String, RecognitionProfile> profiles;
+
+    private volatile long externalFileModified = -1;
+
+    public RecognitionProfileRegistry(Environment environment,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.stt.profile-registry.default-profile:default}") String defaultProfile,
+                                      @Value("${app.stt.profile-registry.file:}") String externalFile,
+                                      @Value("${app.stt.profile-registry.reload-interval-ms:10000}") long reloadIntervalMs,
+                                      @Value("${app.stt.default-language-code:ko_KR}") String defaultLanguageCode) {
+        this.defaultProfile = defaultProfile;
+        this.externalFile = StringUtils.isBlank(externalFile) ? null : Path.of(externalFile);
+
+        Map<String, RecognitionProfileSpec> specs = new LinkedHashMap<>(bind(Binder.get(environment)));
+        // 프로필을 하나도 설정하지 않은 경우의 최소 기본값
+        if (specs.isEmpty()) {
+            RecognitionProfileSpec fallback = new RecognitionProfileSpec();
+            fallback.setLanguageCode(defaultLanguageCode);
+            fallback.setModel(GoogleSttModel.DEFAULT_MODEL);
+            specs.put(defaultProfile, fallback);
+        }
+        this.baseSpecs = Map.copyOf(specs);
+
+        this.reloadSuccessCounter = Counter.builder("stt.profile.reloads")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.reloadFailureCounter = Counter.builder("stt.profile.reloads")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+
+        // 시작 시점의 설정 오류는 그대로 실패시켜 잘못된 프로필로 기동하지 않도록 함
+        this.profiles = build(loadSpecs());
+        Gauge.builder("stt.profile.count", this, registry -> registry.profiles.size())
+                .description("사용 가능한 인식 프로필 수")
+                .register(meterRegistry);
+
+        if (this.externalFile != null && reloadIntervalMs > 0) {
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "stt-profile-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor.scheduleWithFixedDelay(this::reloadIfModified,
+                    reloadIntervalMs, reloadIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.executor = null;
+        }
+
+        log.info("Recognition profiles: {} (default: {})", profiles.keySet(), defaultProfile);
+    }
+
+    /**
+     * 이름으로 프로필 조회. 이름이 비어있으면 기본 프로필을 반환합니다.
+     *
+     * @throws IllegalArgumentException 존재하지 않는 프로필인 경우
+     */
+    public RecognitionProfile get(String name) {
+        String profileName = StringUtils.isBlank(name) ? defaultProfile : name;
+
+        RecognitionProfile profile = profiles.get(profileName);
+        if (profile == null)
+            throw new IllegalArgumentException(String.format(
+                    "존재하지 않는 인식 프로필입니다. (입력: %s, 사용 가능: %s)", profileName, profiles.keySet()));
+
+        return profile;
+    }
+
+    /**
+     * 현재 사용 가능한 프로필 이름
+     */
+    public Set<String> getProfileNames() {
+        return profiles.keySet();
+    }
+
+    /**
+     * 외부 파일을 다시 읽어 프로필을 교체합니다. 실패하면 기존 프로필을 유지하고, 파일이 다시 수정될 때까지 재시도하지 않습니다.
+     *
+     * @return 교체 여부
+     */
+    public boolean reload() {
+        try {
+            Map<String, RecognitionProfile> reloaded = build(loadSpecs());
+            profiles = reloaded;
+            reloadSuccessCounter.increment();
+            log.info("인식 프로필 다시 읽기 완료: {}", reloaded.keySet());
+            return true;
+
+        } catch (RuntimeException e) {
+            reloadFailureCounter.increment();
+            log.warn("인식 프로필 다시 읽기 실패, 기존 프로필 유지: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void reloadIfModified() {
+        try {
+            long modified = Files.exists(externalFile) ? Files.getLastModifiedTime(externalFile).toMillis() : -1;
+            if (modified != externalFileModified)
+                reload();
+        } catch (IOException e) {
+            log.warn("인식 프로필 파일 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기본 설정 위에 외부 파일의 프로필을 덮어쓴 명세
+     */
+    private Map<String, RecognitionProfileSpec> loadSpecs() {
+        Map<String, RecognitionProfileSpec> specs = new LinkedHashMap<>(baseSpecs);
+        if (externalFile == null) return specs;
+
+        try {
+            if (!Files.exists(externalFile)) {
+                externalFileModified = -1;
+                log.debug("인식 프로필 파일 없음, 기본 설정만 사용: {}", externalFile);
+                return specs;
+            }
+
+            // 읽기에 실패해도 같은 파일을 주기마다 다시 시도하지 않도록 먼저 기록, 파일이 다시 바뀌면 재시도
+            externalFileModified = Files.getLastModifiedTime(externalFile).toMillis();
+            String filename = externalFile.getFileName().toString();
+            PropertySourceLoader loader = filename.endsWith(".properties")
+                    ? new PropertiesPropertySourceLoader()
+                    : new YamlPropertySourceLoader();
+
+            Binder binder = new Binder(ConfigurationPropertySources.from(
+                    loader.load(filename, new FileSystemResource(externalFile))));
+            specs.putAll(bind(binder));
+            return specs;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("인식 프로필 파일을 읽을 수 없습니다: " + externalFile, e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 프로필 설정이 잘못되었거나 기본 프로필이 없는 경우
+     */
+    private Map<String, RecognitionProfile> build(Map<String, RecognitionProfileSpec> specs) {
+        if (!specs.containsKey(defaultProfile))
+            throw new IllegalArgumentException(String.format(
+                    "기본 인식 프로필 '%s'이(가) 정의되어 있지 않습니다. (정의됨: %s)", defaultProfile, specs.keySet()));
+
+        Map<String, RecognitionProfile> built = new LinkedHashMap<>();
+        specs.forEach((name, spec) -> built.put(name, new RecognitionProfile(name, spec)));
+
+        return Collections.unmodifiableMap(built);
+    }
+
+    private static Map<String, RecognitionProfileSpec> bind(Binder binder) {
+        return binder.bind(PROFILES_PREFIX, Bindable.mapOf(String.class, RecognitionProfileSpec.class))
+                .orElse(Map.of());
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null)
+            executor.shutdownNow();
+    }
+}
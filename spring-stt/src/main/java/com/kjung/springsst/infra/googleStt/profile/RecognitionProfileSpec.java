@@ -0,0 +1,54 @@
+package com.kjung.springsst.infra.googleStt.profile;
+
+import com.google.cloud.speech.v1.RecognitionConfig.AudioEncoding;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code app.stt.profiles.<name>} 설정 바인딩 대상. 검증 후 {@link RecognitionProfile}로 변환됩니다.
+ */
+@Getter
+@Setter
+public class RecognitionProfileSpec {
+
+    /**
+     * 주 언어 코드 (예: ko-KR)
+     */
+    private String languageCode;
+
+    /**
+     * 대체 언어 코드, 최대 3개
+     */
+    private List<String> alternativeLanguageCodes = new ArrayList<>();
+
+    private String model;
+
+    private boolean useEnhanced = false;
+
+    /**
+     * 지정하지 않으면 Google이 WAV/FLAC 헤더에서 읽음
+     */
+    private Integer sampleRateHertz;
+
+    private boolean enableWordConfidence = false;
+
+    private int maxAlternatives = 0;
+
+    /**
+     * 인코딩별 샘플 레이트/모델 재정의
+     */
+    private Map<AudioEncoding, EncodingOverride> encodings = new EnumMap<>(AudioEncoding.class);
+
+    @Getter
+    @Setter
+    public static class EncodingOverride {
+        private Integer sampleRateHertz;
+
+        private String model;
+    }
+}
@@ -0,0 +1,152 @@
+package com.kjung.springsst.infra.googleStt.resilience;
+
+/**
+ * 호출 결과 기반 서킷 브레이커.
+ * <p>
+ * 최근 {@code windowSize}개의 결과 중 실패 비율이 임계치를 넘으면 OPEN 상태가 되어 호출을 즉시 거부합니다.
+ * {@code openDurationMs}가 지나면 HALF_OPEN 상태에서 하나의 시험 호출만 허용하고,
+ * 성공하면 CLOSED, 실패하면 다시 OPEN으로 전환합니다.
+ * </p>
+ * <p>
+ * 결과는 {@link #acquire()}가 돌려준 {@link Call}로 보고하며, 상태가 바뀌기 전에 시작된 호출의 결과는 무시합니다.
+ * 예를 들어 CLOSED에서 시작해 HALF_OPEN 중에 끝난 호출은 시험 호출이 아니므로 서킷을 닫지 않습니다.
+ * </p>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 허용된 호출 하나.
+     *
+     * @param generation 호출을 허용한 시점의 상태 세대, 상태가 바뀔 때마다 증가
+     * @param probe      HALF_OPEN 시험 호출 여부
+     */
+    public record Call(long generation, boolean probe) {
+    }
+
+    private final boolean[] outcomes;
+
+    private final int minimumCalls;
+
+    private final double failureRateThreshold;
+
+    private final long openDurationMs;
+
+    private State state = State.CLOSED;
+
+    private int recorded = 0;
+
+    private int cursor = 0;
+
+    private int failures = 0;
+
+    private long openedAt = 0;
+
+    private boolean probeInFlight = false;
+
+    private long generation = 0;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMs) {
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    /**
+     * 호출 허용 여부 확인.
+     *
+     * @return 결과 보고에 사용할 호출 정보
+     * @throws CircuitBreakerOpenException 호출이 허용되지 않는 경우
+     */
+    public synchronized Call acquire() {
+        if (state == State.OPEN) {
+            long elapsed = System.currentTimeMillis() - openedAt;
+            if (elapsed < openDurationMs)
+                throw new CircuitBreakerOpenException(openDurationMs - elapsed);
+
+            transition(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight)
+                throw new CircuitBreakerOpenException(0);
+
+            probeInFlight = true;
+            return new Call(generation, true);
+        }
+
+        return new Call(generation, false);
+    }
+
+    public synchronized void onSuccess(Call call) {
+        if (call.generation() != generation) return;
+
+        if (state == State.HALF_OPEN) {
+            reset();
+            return;
+        }
+
+        record(false);
+    }
+
+    public synchronized void onFailure(Call call) {
+        if (call.generation() != generation) return;
+
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+
+        record(true);
+
+        if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold)
+            open();
+    }
+
+    /**
+     * 서킷 판단에 포함하지 않는 결과 (잘못된 요청 등 클라이언트 오류). HALF_OPEN 시험 호출만 해제합니다.
+     */
+    public synchronized void onIgnored(Call call) {
+        if (call.probe() && call.generation() == generation)
+            probeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[cursor]) failures--;
+        } else {
+            recorded++;
+        }
+
+        outcomes[cursor] = failure;
+        if (failure) failures++;
+
+        cursor = (cursor + 1) % outcomes.length;
+    }
+
+    private void open() {
+        transition(State.OPEN);
+        openedAt = System.currentTimeMillis();
+    }
+
+    private void reset() {
+        transition(State.CLOSED);
+        recorded = 0;
+        cursor = 0;
+        failures = 0;
+    }
+
+    private void transition(State next) {
+        state = next;
+        generation++;
+        probeInFlight = false;
+    }
+}
@@ -0,0 +1,17 @@
+package com.kjung.springsst.infra.googleStt.resilience;
+
+import lombok.Getter;
+
+/**
+ * 서킷 브레이커가 열려 있어 호출을 즉시 거부한 경우의 예외.
+ */
+@Getter
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    private final long retryAfterMs;
+
+    public CircuitBreakerOpenException(long retryAfterMs) {
+        super(String.format("음성 인식 서비스가 일시적으로 불안정합니다. %d ms 후 다시 시도해주세요.", retryAfterMs));
+        this.retryAfterMs = retryAfterMs;
+    }
+}
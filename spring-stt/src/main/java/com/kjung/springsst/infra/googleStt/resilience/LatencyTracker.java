@@ -0,0 +1,55 @@
+package com.kjung.springsst.infra.googleStt.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 호출 지연 시간의 백분위 추정기.
+ * <p>
+ * 고정 크기 링 버퍼에 최근 지연 시간을 보관하고, 일정 횟수마다 정렬하여 백분위 값을 갱신합니다.
+ * </p>
+ */
+public class LatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final long[] samples;
+
+    private final double percentile;
+
+    private int count = 0;
+
+    private int cursor = 0;
+
+    private int sinceRecompute = 0;
+
+    private long cachedPercentile = -1;
+
+    public LatencyTracker(int windowSize, double percentile) {
+        this.samples = new long[windowSize];
+        this.percentile = percentile;
+    }
+
+    public synchronized void record(long latencyMs) {
+        samples[cursor] = latencyMs;
+        cursor = (cursor + 1) % samples.length;
+        if (count < samples.length) count++;
+
+        if (++sinceRecompute >= RECOMPUTE_INTERVAL || cachedPercentile < 0) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            cachedPercentile = sorted[(int) Math.min(count - 1, Math.ceil(percentile * count) - 1)];
+            sinceRecompute = 0;
+        }
+    }
+
+    public synchronized int getSampleCount() {
+        return count;
+    }
+
+    /**
+     * 백분위 지연 시간 (ms), 샘플이 없으면 -1
+     */
+    public synchronized long getPercentile() {
+        return cachedPercentile;
+    }
+}
@@ -0,0 +1,161 @@
+package com.kjung.springsst.infra.googleStt.resilience;
+
+import com.google.cloud.speech.v1.RecognitionAudio;
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.google.protobuf.ByteString;
+import com.kjung.springsst.infra.engine.NoSpeechRecognizedException;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 동기 인식 요청의 동시 실행을 하나로 합치는 single-flight 계층.
+ * <p>
+ * 오디오 해시와 실제 적용되는 인식 설정을 키로 사용합니다. 같은 키의 요청이 진행 중이면
+ * Google을 다시 호출하지 않고 진행 중인 요청의 결과(또는 예외)를 함께 받습니다.
+ * 결과는 보관하지 않으므로 요청이 끝난 뒤 들어온 동일 요청은 새로 호출합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RecognitionCoalescer {
+
+    private final Map<String, CompletableFuture<TranscriptionResult>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter savedCalls;
+
+    public RecognitionCoalescer(MeterRegistry meterRegistry) {
+        this.savedCalls = Counter.builder("stt.recognize.coalesced")
+                .description("진행 중인 동일 요청에 합류하여 생략된 Google 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("stt.recognize.inflight", inFlight, Map::size)
+                .description("진행 중인 고유 동기 인식 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 오디오/설정의 요청이 진행 중이면 그 결과를 기다리고, 없으면 {@code call}을 직접 실행합니다.
+     * <p>
+     * 대기 중인 요청이 인터럽트되어도 진행 중인 호출은 취소하지 않으며, 다른 대기자에게 영향을 주지 않습니다.
+     * 호출하던 요청이 인터럽트되거나 취소되면 그 예외는 해당 요청에만 전달하고, 대기자 중 하나가 호출을 다시 실행합니다.
+     * </p>
+     *
+     * @throws RuntimeException 진행 중인 호출이 실패한 경우 대기자마다 같은 유형의 예외로 감싸서 전달
+     */
+    public TranscriptionResult execute(RecognitionConfig config,
+                                       RecognitionAudio audio,
+                                       Supplier<TranscriptionResult> call) {
+        String key = keyOf(config, audio);
+
+        while (true) {
+            CompletableFuture<TranscriptionResult> flight = new CompletableFuture<>();
+            CompletableFuture<TranscriptionResult> existing = inFlight.putIfAbsent(key, flight);
+
+            if (existing != null) {
+                log.debug("진행 중인 동일 음성 인식 요청에 합류 - key: {}", key);
+                TranscriptionResult result = await(existing);
+                // 호출하던 요청이 중단된 경우 다시 시도 (먼저 도착한 대기자가 호출을 맡음)
+                if (result == null) continue;
+
+                savedCalls.increment();
+                return result;
+            }
+
+            try {
+                TranscriptionResult result = call.get();
+                // 완료 전에 제거하여 이후 요청이 끝난 호출에 합류하지 않도록 함
+                inFlight.remove(key, flight);
+                flight.complete(result);
+                return result;
+
+            } catch (RuntimeException | Error e) {
+                inFlight.remove(key, flight);
+                flight.completeExceptionally(isAbandoned(e) ? LeaderAbandonedException.INSTANCE : e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @return 진행 중인 호출의 결과, 호출하던 요청이 중단되어 다시 시도해야 하면 {@code null}
+     */
+    private TranscriptionResult await(CompletableFuture<TranscriptionResult> flight) {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("음성 인식 결과 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof LeaderAbandonedException) return null;
+
+            // 같은 예외 인스턴스를 여러 스레드에서 던지지 않도록 대기자마다 감쌈 (호출자가 구분하는 유형은 유지)
+            RuntimeException wrapped = switch (cause) {
+                case CircuitBreakerOpenException open -> new CircuitBreakerOpenException(open.getRetryAfterMs());
+                case NoSpeechRecognizedException noSpeech -> new NoSpeechRecognizedException(noSpeech.getMessage());
+                case IllegalArgumentException invalid -> new IllegalArgumentException(invalid.getMessage());
+                default -> new RuntimeException(cause.getMessage());
+            };
+            wrapped.initCause(cause);
+            throw wrapped;
+        }
+    }
+
+    /**
+     * 호출하던 스레드가 인터럽트되었거나 호출이 취소되어 실패한 경우. 다른 대기자에게는 해당하지 않는 실패입니다.
+     */
+    private static boolean isAbandoned(Throwable error) {
+        if (Thread.currentThread().isInterrupted()) return true;
+
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof CancellationException) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 필드마다 길이를 앞에 붙여 해시하므로 서로 다른 설정/오디오 조합이 같은 입력으로 이어지지 않습니다.
+     */
+    private String keyOf(RecognitionConfig config, RecognitionAudio audio) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, config.toByteString());
+            update(digest, audio.getContent());
+            return HexFormat.of().formatHex(digest.digest());
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, ByteString field) {
+        digest.update(ByteBuffer.allocate(Long.BYTES).putLong(field.size()).flip());
+        field.asReadOnlyByteBufferList().forEach(digest::update);
+    }
+
+    /**
+     * 호출하던 요청이 중단되어 대기자가 다시 시도해야 함을 알리는 내부 신호
+     */
+    private static final class LeaderAbandonedException extends RuntimeException {
+
+        private static final LeaderAbandonedException INSTANCE = new LeaderAbandonedException();
+
+        private LeaderAbandonedException() {
+            super("호출하던 요청이 중단되었습니다.", null, false, false);
+        }
+    }
+}
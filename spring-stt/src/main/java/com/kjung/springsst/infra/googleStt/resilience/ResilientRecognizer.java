@@ -0,0 +1,265 @@
+package com.kjung.springsst.infra.googleStt.resilience;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.speech.v1.RecognitionAudio;
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.google.cloud.speech.v1.RecognizeRequest;
+import com.google.cloud.speech.v1.RecognizeResponse;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동기식 음성 인식 호출의 복원력 계층.
+ * <p>
+ * <ul>
+ * <li>재시도: 재시도 가능한 gRPC 상태 코드에 한해 지수 백오프로 재시도하며, {@link RetryBudget}으로 총량을 제한</li>
+ * <li>서킷 브레이커: 서버 측 오류 비율이 높으면 일정 시간 동안 호출을 즉시 거부</li>
+ * <li>헤징(선택): 짧은 오디오는 최근 p95 지연 시간까지 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 끝난 응답을 사용</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Component
+public class ResilientRecognizer {
+
+    private static final Set<StatusCode.Code> RETRYABLE_CODES = Set.of(
+            StatusCode.Code.UNAVAILABLE,
+            StatusCode.Code.DEADLINE_EXCEEDED,
+            StatusCode.Code.RESOURCE_EXHAUSTED,
+            StatusCode.Code.ABORTED,
+            StatusCode.Code.INTERNAL
+    );
+
+    private final UnaryCallable<RecognizeRequest, RecognizeResponse> recognizeCallable;
+
+    private final int maxAttempts;
+
+    private final long initialBackoffMs;
+
+    private final long maxBackoffMs;
+
+    private final boolean hedgingEnabled;
+
+    private final long hedgingMaxAudioBytes;
+
+    private final int hedgingMinSamples;
+
+    private final RetryBudget retryBudget;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final LatencyTracker latencyTracker;
+
+    private final Counter retryCounter;
+
+    private final Counter hedgeCounter;
+
+    private final Counter hedgeWinCounter;
+
+    public ResilientRecognizer(SpeechClient speechClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.stt.resilience.retry.max-attempts:3}") int maxAttempts,
+                               @Value("${app.stt.resilience.retry.initial-backoff-ms:200}") long initialBackoffMs,
+                               @Value("${app.stt.resilience.retry.max-backoff-ms:2000}") long maxBackoffMs,
+                               @Value("${app.stt.resilience.retry.budget-ratio:0.2}") double budgetRatio,
+                               @Value("${app.stt.resilience.retry.budget-max-tokens:20}") double budgetMaxTokens,
+                               @Value("${app.stt.resilience.circuit-breaker.window-size:20}") int windowSize,
+                               @Value("${app.stt.resilience.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                               @Value("${app.stt.resilience.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                               @Value("${app.stt.resilience.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+                               @Value("${app.stt.resilience.hedging.enabled:false}") boolean hedgingEnabled,
+                               @Value("${app.stt.resilience.hedging.max-audio-bytes:320000}") long hedgingMaxAudioBytes,
+                               @Value("${app.stt.resilience.hedging.min-samples:20}") int hedgingMinSamples,
+                               @Value("${app.stt.resilience.hedging.percentile:0.95}") double hedgingPercentile) {
+        this.recognizeCallable = speechClient.recognizeCallable();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.hedgingEnabled = hedgingEnabled;
+        this.hedgingMaxAudioBytes = hedgingMaxAudioBytes;
+        this.hedgingMinSamples = hedgingMinSamples;
+        this.retryBudget = new RetryBudget(budgetRatio, budgetMaxTokens, budgetMaxTokens);
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDurationMs);
+        this.latencyTracker = new LatencyTracker(200, hedgingPercentile);
+
+        this.retryCounter = Counter.builder("stt.recognize.retries").register(meterRegistry);
+        this.hedgeCounter = Counter.builder("stt.recognize.hedges").register(meterRegistry);
+        this.hedgeWinCounter = Counter.builder("stt.recognize.hedges.won").register(meterRegistry);
+        Gauge.builder("stt.recognize.circuit.open", circuitBreaker,
+                        breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("서킷 브레이커가 OPEN/HALF_OPEN 상태이면 1")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재시도/서킷 브레이커/헤징을 적용하여 동기식 인식을 수행합니다.
+     *
+     * @throws CircuitBreakerOpenException 서킷이 열려 있는 경우
+     * @throws ApiException                재시도로 복구되지 않은 API 오류
+     */
+    public RecognizeResponse recognize(RecognitionConfig config, RecognitionAudio audio) {
+        RecognizeRequest request = RecognizeRequest.newBuilder()
+                .setConfig(config)
+                .setAudio(audio)
+                .build();
+
+        retryBudget.onRequest();
+        boolean hedgeable = hedgingEnabled && audio.getContent().size() <= hedgingMaxAudioBytes;
+
+        for (int attempt = 1; ; attempt++) {
+            CircuitBreaker.Call call = circuitBreaker.acquire();
+
+            long startTime = System.currentTimeMillis();
+            try {
+                RecognizeResponse response = hedgeable ? callHedged(request) : recognizeCallable.call(request);
+
+                // 헤징 지연 기준은 헤징 대상(짧은 오디오)의 지연 시간으로만 계산, 긴 오디오가 섞이면 p95가 부풀어 헤징이 일어나지 않음
+                if (hedgeable)
+                    latencyTracker.record(System.currentTimeMillis() - startTime);
+                circuitBreaker.onSuccess(call);
+                return response;
+
+            } catch (ApiException e) {
+                StatusCode.Code code = e.getStatusCode().getCode();
+                boolean retryable = RETRYABLE_CODES.contains(code);
+
+                if (retryable)
+                    circuitBreaker.onFailure(call);
+                else
+                    circuitBreaker.onIgnored(call);
+
+                if (!retryable || attempt >= maxAttempts || !retryBudget.tryWithdraw())
+                    throw e;
+
+                long backoff = backoffMs(attempt);
+                log.warn("Google Speech API 호출 실패, 재시도 {}/{} ({}ms 후) - 상태: {}",
+                        attempt, maxAttempts - 1, backoff, code);
+                retryCounter.increment();
+                sleep(backoff);
+
+            } catch (RuntimeException e) {
+                circuitBreaker.onIgnored(call);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 최근 p95 지연 시간까지 응답이 없으면 두 번째 요청을 보내고 먼저 성공한 응답을 반환합니다.
+     */
+    private RecognizeResponse callHedged(RecognizeRequest request) {
+        long hedgeDelayMs = latencyTracker.getSampleCount() >= hedgingMinSamples ? latencyTracker.getPercentile() : -1;
+
+        ApiFuture<RecognizeResponse> primary = recognizeCallable.futureCall(request);
+        if (hedgeDelayMs < 0)
+            return await(primary);
+
+        try {
+            return primary.get(hedgeDelayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // p95 초과 - 헤징 요청 전송
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(true);
+            throw new IllegalStateException("음성 인식 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        if (!retryBudget.tryWithdraw())
+            return await(primary);
+
+        hedgeCounter.increment();
+        ApiFuture<RecognizeResponse> hedge = recognizeCallable.futureCall(request);
+
+        CompletableFuture<RecognizeResponse> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        addCallback(primary, winner, failures, false);
+        addCallback(hedge, winner, failures, true);
+
+        try {
+            return winner.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("음성 인식 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            // 늦게 끝난 요청은 취소
+            primary.cancel(true);
+            hedge.cancel(true);
+        }
+    }
+
+    private void addCallback(ApiFuture<RecognizeResponse> future,
+                             CompletableFuture<RecognizeResponse> winner,
+                             AtomicInteger failures,
+                             boolean isHedge) {
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(RecognizeResponse response) {
+                if (winner.complete(response) && isHedge)
+                    hedgeWinCounter.increment();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                // 두 요청이 모두 실패한 경우에만 실패로 처리
+                if (failures.incrementAndGet() == 2)
+                    winner.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private RecognizeResponse await(ApiFuture<RecognizeResponse> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("음성 인식 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause
+                ? cause
+                : new IllegalStateException(e.getCause());
+    }
+
+    private long backoffMs(int attempt) {
+        long exponential = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 16));
+        // full jitter
+        return ThreadLocalRandom.current().nextLong(exponential / 2, exponential + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.kjung.springsst.infra.googleStt.resilience;
+
+/**
+ * 재시도 예산.
+ * <p>
+ * 요청마다 {@code ratio}만큼의 토큰을 적립하고 재시도(헤징 포함)마다 토큰 하나를 사용합니다.
+ * 장애 시 재시도가 전체 요청의 일정 비율을 넘지 않도록 하여 재시도 폭주로 백엔드를 더 악화시키는 것을 막습니다.
+ * </p>
+ */
+public class RetryBudget {
+
+    private final double ratio;
+
+    private final double maxTokens;
+
+    private double tokens;
+
+    public RetryBudget(double ratio, double initialTokens, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = Math.min(initialTokens, maxTokens);
+    }
+
+    public synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) return false;
+
+        tokens -= 1;
+        return true;
+    }
+}
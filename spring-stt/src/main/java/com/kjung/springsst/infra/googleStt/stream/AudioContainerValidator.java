@@ -0,0 +1,39 @@
+package com.kjung.springsst.infra.googleStt.stream;
+
+import com.google.cloud.speech.v1.RecognitionConfig.AudioEncoding;
+
+/**
+ * 스트리밍 오디오 프레임의 컨테이너 검증기.
+ * <p>
+ * 프레임은 변환 없이 그대로 Google로 전달되므로, 컨테이너 구조가 선언한 인코딩과 맞는지
+ * 수신 시점에 검증하여 잘못된 스트림에 대한 과금과 모호한 인식 오류를 막습니다.
+ * 세션마다 새 인스턴스를 사용해야 합니다.
+ * </p>
+ */
+public interface AudioContainerValidator {
+
+    /**
+     * 컨테이너가 없는 인코딩용 검증기
+     */
+    AudioContainerValidator NONE = frame -> {
+    };
+
+    /**
+     * 수신한 프레임을 검증합니다.
+     *
+     * @throws IllegalArgumentException 컨테이너 구조가 올바르지 않은 경우
+     */
+    void validate(byte[] frame);
+
+    static AudioContainerValidator forEncoding(AudioEncoding encoding) {
+        return switch (encoding) {
+            case OGG_OPUS -> new OggOpusValidator();
+            case WEBM_OPUS -> new WebmOpusValidator();
+            default -> NONE;
+        };
+    }
+
+    static boolean isContainerEncoding(AudioEncoding encoding) {
+        return encoding == AudioEncoding.OGG_OPUS || encoding == AudioEncoding.WEBM_OPUS;
+    }
+}
@@ -0,0 +1,138 @@
+package com.kjung.springsst.infra.googleStt.stream;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 세션별 오디오 전송 큐.
+ * <p>
+ * WebSocket 수신 스레드는 프레임을 큐에 적재만 하고, 실제 gRPC 전송은 {@link AudioSendScheduler}의
+ * 공용 스레드가 스트림의 전송 가능 상태를 확인하며 수행합니다.
+ * 용량을 초과하면 {@link OverflowPolicy}에 따라 프레임을 버리거나 세션 종료를 요청합니다.
+ * </p>
+ * 적재는 세션의 수신 스레드, 소비는 드레인 스레드 하나만 수행하는 것을 전제로 합니다.
+ */
+public class AudioSendQueue {
+
+    public enum OfferResult {
+        /**
+         * 정상 적재
+         */
+        QUEUED,
+        /**
+         * 용량 초과로 프레임 하나를 버림 (새 프레임 또는 기존 프레임)
+         */
+        DROPPED,
+        /**
+         * 용량 초과로 프레임을 거부함 - 세션 종료 필요
+         */
+        REJECTED,
+        /**
+         * 스트림이 이미 닫히는 중이거나 종료되어 프레임을 버림 - 큐 용량과 무관하므로 세션을 종료하지 않음
+         */
+        CLOSED
+    }
+
+    private final Queue<byte[]> frames = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger depth = new AtomicInteger();
+
+    private final int capacity;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Predicate<byte[]> silenceDetector;
+
+    public AudioSendQueue(int capacity, OverflowPolicy overflowPolicy, Predicate<byte[]> silenceDetector) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("큐 용량은 0보다 커야 합니다: " + capacity);
+
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.silenceDetector = silenceDetector;
+    }
+
+    /**
+     * 프레임 적재. 용량을 초과하면 정책에 따라 처리합니다.
+     */
+    public OfferResult offer(byte[] frame) {
+        if (depth.get() < capacity) {
+            enqueue(frame);
+            return OfferResult.QUEUED;
+        }
+
+        return switch (overflowPolicy) {
+            case DROP_OLDEST -> dropOldestAndOffer(frame);
+            case DROP_SILENCE -> dropSilenceAndOffer(frame);
+            case CLOSE -> OfferResult.REJECTED;
+        };
+    }
+
+    public byte[] poll() {
+        byte[] frame = frames.poll();
+        if (frame != null)
+            depth.decrementAndGet();
+
+        return frame;
+    }
+
+    public boolean isEmpty() {
+        return depth.get() == 0;
+    }
+
+    public int size() {
+        return depth.get();
+    }
+
+    public void clear() {
+        while (poll() != null) {
+            // 남은 프레임 폐기
+        }
+    }
+
+    private void enqueue(byte[] frame) {
+        depth.incrementAndGet();
+        frames.offer(frame);
+    }
+
+    private OfferResult dropOldestAndOffer(byte[] frame) {
+        poll();
+        enqueue(frame);
+        return OfferResult.DROPPED;
+    }
+
+    private OfferResult dropSilenceAndOffer(byte[] frame) {
+        // 새 프레임이 무음이면 그대로 버림
+        if (silenceDetector.test(frame))
+            return OfferResult.DROPPED;
+
+        // 큐에 쌓인 무음 프레임 중 가장 오래된 것을 제거
+        for (byte[] queued : frames) {
+            if (silenceDetector.test(queued) && frames.remove(queued)) {
+                depth.decrementAndGet();
+                enqueue(frame);
+                return OfferResult.DROPPED;
+            }
+        }
+
+        return dropOldestAndOffer(frame);
+    }
+
+    /**
+     * LINEAR16(16bit little-endian PCM) 프레임의 무음 판별기.
+     *
+     * @param threshold 최대 진폭이 이 값 미만이면 무음으로 판단
+     */
+    public static Predicate<byte[]> linear16SilenceDetector(int threshold) {
+        return frame -> {
+            for (int i = 0; i + 1 < frame.length; i += 2) {
+                int sample = (short) ((frame[i] & 0xFF) | (frame[i + 1] << 8));
+                if (Math.abs(sample) >= threshold)
+                    return false;
+            }
+            return true;
+        };
+    }
+}
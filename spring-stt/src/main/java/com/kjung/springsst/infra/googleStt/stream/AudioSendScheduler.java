@@ -0,0 +1,158 @@
+package com.kjung.springsst.infra.googleStt.stream;
+
+import com.google.cloud.speech.v1.RecognitionConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 세션별 {@link AudioSendQueue}를 공용 스레드 풀에서 드레인하는 스케줄러.
+ * <p>
+ * 프레임 적재 시점과 gRPC 스트림의 onReady 시점에 드레인을 요청받으며,
+ * 신호 누락에 대비해 등록된 모든 큐를 주기적으로 한 번씩 더 드레인합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AudioSendScheduler implements DisposableBean {
+
+    @Getter
+    private final int queueCapacity;
+
+    @Getter
+    private final OverflowPolicy overflowPolicy;
+
+    @Getter
+    private final int overflowCloseCode;
+
+    @Getter
+    private final int silenceThreshold;
+
+    private final Map<AudioSendQueue, Runnable> drainers = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService executor;
+
+    private final Counter droppedFrames;
+
+    private final Counter rejectedFrames;
+
+    public AudioSendScheduler(MeterRegistry meterRegistry,
+                              @Value("${app.stt.streaming.send-queue.capacity:256}") int queueCapacity,
+                              @Value("${app.stt.streaming.send-queue.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                              @Value("${app.stt.streaming.send-queue.overflow-close-code:4008}") int overflowCloseCode,
+                              @Value("${app.stt.streaming.send-queue.silence-threshold:500}") int silenceThreshold,
+                              @Value("${app.stt.streaming.send-queue.drain-threads:2}") int drainThreads,
+                              @Value("${app.stt.streaming.send-queue.drain-interval-ms:20}") long drainIntervalMs) {
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.overflowCloseCode = overflowCloseCode;
+        this.silenceThreshold = silenceThreshold;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(drainThreads, runnable -> {
+            Thread thread = new Thread(runnable, "stt-audio-send-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::drainAll, drainIntervalMs, drainIntervalMs, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("stt.stream.send.queue.depth", drainers,
+                        map -> map.keySet().stream().mapToInt(AudioSendQueue::size).sum())
+                .description("전체 세션의 오디오 전송 대기 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("stt.stream.send.queue.depth.max", drainers,
+                        map -> map.keySet().stream().mapToInt(AudioSendQueue::size).max().orElse(0))
+                .description("세션별 오디오 전송 대기 프레임 수의 최댓값")
+                .register(meterRegistry);
+        Gauge.builder("stt.stream.send.queue.sessions", drainers, Map::size)
+                .description("오디오 전송 큐가 등록된 세션 수")
+                .register(meterRegistry);
+
+        this.droppedFrames = Counter.builder("stt.stream.send.queue.overflow")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        this.rejectedFrames = Counter.builder("stt.stream.send.queue.overflow")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 설정된 용량과 정책으로 전송 큐 생성.
+     * <p>
+     * 무음 판별은 LINEAR16만 지원하며, 그 외 인코딩은 DROP_SILENCE 정책에서 가장 오래된 프레임을 버립니다.
+     * Ogg/WebM 같은 컨테이너 스트림은 중간 바이트가 빠지면 복구할 수 없으므로 항상 CLOSE 정책을 사용합니다.
+     * </p>
+     */
+    public AudioSendQueue createQueue(RecognitionConfig.AudioEncoding encoding) {
+        Predicate<byte[]> silenceDetector = encoding == RecognitionConfig.AudioEncoding.LINEAR16
+                ? AudioSendQueue.linear16SilenceDetector(silenceThreshold)
+                : frame -> false;
+
+        OverflowPolicy policy = AudioContainerValidator.isContainerEncoding(encoding)
+                ? OverflowPolicy.CLOSE
+                : overflowPolicy;
+
+        return new AudioSendQueue(queueCapacity, policy, silenceDetector);
+    }
+
+    public void register(AudioSendQueue queue, Runnable drainer) {
+        drainers.put(queue, drainer);
+    }
+
+    public void unregister(AudioSendQueue queue) {
+        drainers.remove(queue);
+    }
+
+    /**
+     * 큐 드레인 요청. 호출 스레드를 막지 않습니다.
+     */
+    public void signal(AudioSendQueue queue) {
+        Runnable drainer = drainers.get(queue);
+        if (drainer == null) return;
+
+        try {
+            executor.execute(drainer);
+        } catch (RejectedExecutionException e) {
+            log.debug("Audio send scheduler is shut down, drain request ignored");
+        }
+    }
+
+    public void recordOverflow(AudioSendQueue.OfferResult result) {
+        switch (result) {
+            case DROPPED -> droppedFrames.increment();
+            case REJECTED -> rejectedFrames.increment();
+            default -> {
+                // 정상 적재는 집계하지 않음
+            }
+        }
+    }
+
+    private void drainAll() {
+        for (Runnable drainer : drainers.values()) {
+            try {
+                drainer.run();
+            } catch (Exception e) {
+                log.error("Error draining audio send queue", e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
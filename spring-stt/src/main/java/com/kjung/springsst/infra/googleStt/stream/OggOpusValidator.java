@@ -0,0 +1,126 @@
+package com.kjung.springsst.infra.googleStt.stream;
+
+/**
+ * Ogg/Opus 스트림 검증기.
+ * <p>
+ * 프레임 경계와 무관하게 Ogg 페이지 헤더를 따라가며 모든 페이지가 캡처 패턴("OggS")으로 시작하는지 확인하고,
+ * 첫 페이지가 모노 Opus 식별 헤더("OpusHead")를 담고 있는지 검사합니다.
+ * 페이지 본문은 건너뛰기만 하므로 프레임을 복사하지 않습니다.
+ * </p>
+ */
+class OggOpusValidator implements AudioContainerValidator {
+
+    private static final byte[] CAPTURE_PATTERN = {'O', 'g', 'g', 'S'};
+
+    private static final byte[] OPUS_HEAD = {'O', 'p', 'u', 's', 'H', 'e', 'a', 'd'};
+
+    private static final int PAGE_HEADER_SIZE = 27;
+
+    // OpusHead 매직(8) + 버전(1) + 채널 수(1)
+    private static final int OPUS_HEAD_PREFIX_SIZE = 10;
+
+    private static final int BOS_FLAG = 0x02;
+
+    private final byte[] header = new byte[PAGE_HEADER_SIZE + 255];
+
+    private final byte[] opusHead = new byte[OPUS_HEAD_PREFIX_SIZE];
+
+    private int headerLength = 0;
+
+    private int opusHeadLength = 0;
+
+    private long remainingPayload = 0;
+
+    private int pageCount = 0;
+
+    @Override
+    public void validate(byte[] frame) {
+        int offset = 0;
+
+        while (offset < frame.length) {
+            if (remainingPayload > 0) {
+                int skip = (int) Math.min(remainingPayload, frame.length - offset);
+
+                // 첫 페이지 본문의 앞부분은 OpusHead 검사를 위해 보관
+                if (pageCount == 1 && opusHeadLength < OPUS_HEAD_PREFIX_SIZE) {
+                    int copy = Math.min(skip, OPUS_HEAD_PREFIX_SIZE - opusHeadLength);
+                    System.arraycopy(frame, offset, opusHead, opusHeadLength, copy);
+                    opusHeadLength += copy;
+
+                    if (opusHeadLength == OPUS_HEAD_PREFIX_SIZE)
+                        validateOpusHead();
+                }
+
+                remainingPayload -= skip;
+                offset += skip;
+                continue;
+            }
+
+            offset = readHeader(frame, offset);
+        }
+    }
+
+    /**
+     * 페이지 헤더를 읽고, 헤더가 완성되면 본문 길이를 계산합니다.
+     *
+     * @return 다음에 읽을 프레임 위치
+     */
+    private int readHeader(byte[] frame, int offset) {
+        int required = headerLength < PAGE_HEADER_SIZE
+                ? PAGE_HEADER_SIZE
+                : PAGE_HEADER_SIZE + (header[26] & 0xFF);
+
+        int copy = Math.min(required - headerLength, frame.length - offset);
+        System.arraycopy(frame, offset, header, headerLength, copy);
+        headerLength += copy;
+        offset += copy;
+
+        if (headerLength < PAGE_HEADER_SIZE)
+            return offset;
+
+        if (headerLength == PAGE_HEADER_SIZE)
+            validateFixedHeader();
+
+        int segmentCount = header[26] & 0xFF;
+        if (headerLength < PAGE_HEADER_SIZE + segmentCount)
+            return offset;
+
+        long payloadSize = 0;
+        for (int i = 0; i < segmentCount; i++) {
+            payloadSize += header[PAGE_HEADER_SIZE + i] & 0xFF;
+        }
+
+        pageCount++;
+        headerLength = 0;
+        remainingPayload = payloadSize;
+
+        if (pageCount == 1 && payloadSize < OPUS_HEAD_PREFIX_SIZE)
+            throw new IllegalArgumentException("Ogg 첫 페이지에 Opus 식별 헤더가 없습니다.");
+
+        return offset;
+    }
+
+    private void validateFixedHeader() {
+        for (int i = 0; i < CAPTURE_PATTERN.length; i++) {
+            if (header[i] != CAPTURE_PATTERN[i])
+                throw new IllegalArgumentException("Ogg 페이지 캡처 패턴(OggS)이 올바르지 않습니다. (페이지: " + (pageCount + 1) + ")");
+        }
+
+        if (header[4] != 0)
+            throw new IllegalArgumentException("지원되지 않는 Ogg 버전입니다: " + header[4]);
+
+        if (pageCount == 0 && (header[5] & BOS_FLAG) == 0)
+            throw new IllegalArgumentException("Ogg 스트림의 첫 페이지가 아닙니다. (BOS 플래그 없음)");
+    }
+
+    private void validateOpusHead() {
+        for (int i = 0; i < OPUS_HEAD.length; i++) {
+            if (opusHead[i] != OPUS_HEAD[i])
+                throw new IllegalArgumentException("Ogg 스트림의 코덱이 Opus가 아닙니다.");
+        }
+
+        int channels = opusHead[9] & 0xFF;
+        if (channels != 1)
+            throw new IllegalArgumentException("모노(1채널) Opus만 지원합니다. (입력: " + channels + "채널)");
+    }
+}
@@ -0,0 +1,19 @@
+package com.kjung.springsst.infra.googleStt.stream;
+
+/**
+ * 오디오 전송 큐가 가득 찼을 때의 처리 정책.
+ */
+public enum OverflowPolicy {
+    /**
+     * 가장 오래된 프레임을 버리고 새 프레임을 적재
+     */
+    DROP_OLDEST,
+    /**
+     * 무음 프레임을 우선적으로 버리고, 무음 프레임이 없으면 가장 오래된 프레임을 버림
+     */
+    DROP_SILENCE,
+    /**
+     * 프레임을 거부하고 세션 종료를 요청
+     */
+    CLOSE
+}
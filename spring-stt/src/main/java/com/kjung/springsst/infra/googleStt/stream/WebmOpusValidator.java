@@ -0,0 +1,65 @@
+package com.kjung.springsst.infra.googleStt.stream;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WebM/Opus 스트림 검증기.
+ * <p>
+ * MediaRecorder 등이 생성하는 WebM은 클러스터 크기가 미정인 경우가 많아 전체 구조를 따라가지 않고,
+ * 스트림 앞부분(초기화 세그먼트)에서 EBML 매직, DocType("webm"), Opus 코덱 ID("A_OPUS")만 확인합니다.
+ * 이후 프레임은 그대로 통과시킵니다.
+ * </p>
+ */
+class WebmOpusValidator implements AudioContainerValidator {
+
+    private static final byte[] EBML_MAGIC = {0x1A, 0x45, (byte) 0xDF, (byte) 0xA3};
+
+    private static final byte[] DOC_TYPE_WEBM = "webm".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] CODEC_OPUS = "A_OPUS".getBytes(StandardCharsets.US_ASCII);
+
+    // 초기화 세그먼트 검사에 사용할 최대 바이트 수
+    private static final int MAX_HEADER_BYTES = 4096;
+
+    private final byte[] header = new byte[MAX_HEADER_BYTES];
+
+    private int headerLength = 0;
+
+    private boolean validated = false;
+
+    @Override
+    public void validate(byte[] frame) {
+        if (validated) return;
+
+        int copy = Math.min(frame.length, MAX_HEADER_BYTES - headerLength);
+        System.arraycopy(frame, 0, header, headerLength, copy);
+        headerLength += copy;
+
+        if (headerLength >= EBML_MAGIC.length && indexOf(EBML_MAGIC, 0) != 0)
+            throw new IllegalArgumentException("WebM 스트림이 EBML 헤더로 시작하지 않습니다.");
+
+        boolean hasDocType = indexOf(DOC_TYPE_WEBM, EBML_MAGIC.length) >= 0;
+        boolean hasOpusCodec = indexOf(CODEC_OPUS, EBML_MAGIC.length) >= 0;
+
+        if (hasDocType && hasOpusCodec) {
+            validated = true;
+            return;
+        }
+
+        if (headerLength == MAX_HEADER_BYTES)
+            throw new IllegalArgumentException(hasDocType
+                    ? "WebM 스트림의 코덱이 Opus가 아닙니다."
+                    : "WebM DocType을 찾을 수 없습니다.");
+    }
+
+    private int indexOf(byte[] pattern, int from) {
+        outer:
+        for (int i = from; i <= headerLength - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (header[i + j] != pattern[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,101 @@
+package com.kjung.springsst.infra.googleStt.vo;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.google.cloud.speech.v1.RecognitionConfig.AudioEncoding;
+import com.kjung.springsst.infra.googleStt.constants.GoogleSttModel;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * WebSocket 스트리밍 세션의 인식 설정.
+ * <p>
+ * 클라이언트가 첫 텍스트 프레임으로 선언하며, 생략된 항목은 기본값(LINEAR16, 16kHz, ko-KR, 중간 결과 포함)으로 채워집니다.
+ * 생성 시점에 검증하므로 인스턴스가 존재하면 유효한 설정입니다.
+ * </p>
+ *
+ * @param encoding        오디오 인코딩
+ * @param sampleRateHertz 샘플 레이트 (8000 ~ 48000)
+ * @param languageCode    BCP-47 언어 코드 (예: "ko-KR")
+ * @param interimResults  중간 결과 수신 여부
+ * @param model           인식 모델 ({@link GoogleSttModel#SUPPORTED_MODELS})
+ * @param enableWordTimeOffsets 최종 결과에 단어별 시간 정보 포함 여부 (기본 false)
+ * @param interimDelta    중간 결과를 직전 중간 결과와의 차이(공통 접두사 길이 + 접미사)로 받을지 여부 (기본 false)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record StreamingSessionConfig(
+        AudioEncoding encoding,
+        Integer sampleRateHertz,
+        String languageCode,
+        Boolean interimResults,
+        String model,
+        Boolean enableWordTimeOffsets,
+        Boolean interimDelta
+) {
+    private static final Set<AudioEncoding> SUPPORTED_ENCODINGS = Set.of(
+            AudioEncoding.LINEAR16,
+            AudioEncoding.MULAW,
+            AudioEncoding.FLAC,
+            AudioEncoding.AMR,
+            AudioEncoding.AMR_WB,
+            AudioEncoding.OGG_OPUS,
+            AudioEncoding.WEBM_OPUS
+    );
+
+    // Opus 스트림에 허용되는 샘플 레이트
+    private static final Set<Integer> OPUS_SAMPLE_RATES = Set.of(8000, 12000, 16000, 24000, 48000);
+
+    private static final Pattern LANGUAGE_CODE_PATTERN = Pattern.compile("^[a-zA-Z]{2,3}([-_][a-zA-Z0-9]{2,8})*$");
+
+    private static final int MIN_SAMPLE_RATE = 8000;
+
+    private static final int MAX_SAMPLE_RATE = 48000;
+
+    public StreamingSessionConfig {
+        if (encoding == null) encoding = AudioEncoding.LINEAR16;
+        if (sampleRateHertz == null) sampleRateHertz = 16000;
+        if (languageCode == null) languageCode = "ko-KR";
+        if (interimResults == null) interimResults = true;
+        if (model == null) model = GoogleSttModel.DEFAULT_MODEL;
+        if (enableWordTimeOffsets == null) enableWordTimeOffsets = false;
+        if (interimDelta == null) interimDelta = false;
+
+        validate(encoding, sampleRateHertz, languageCode, model);
+    }
+
+    /**
+     * 핸드셰이크 없이 오디오가 먼저 들어온 경우 사용하는 기본 설정
+     */
+    public static StreamingSessionConfig defaults() {
+        return new StreamingSessionConfig(null, null, null, null, null, null, null);
+    }
+
+    private static void validate(AudioEncoding encoding, int sampleRateHertz, String languageCode, String model) {
+        if (!SUPPORTED_ENCODINGS.contains(encoding))
+            throw new IllegalArgumentException(String.format(
+                    "지원되지 않는 스트리밍 인코딩입니다. (입력: %s, 지원: %s)", encoding, SUPPORTED_ENCODINGS));
+
+        if (sampleRateHertz < MIN_SAMPLE_RATE || sampleRateHertz > MAX_SAMPLE_RATE)
+            throw new IllegalArgumentException(String.format(
+                    "샘플 레이트는 %d ~ %d Hz 범위여야 합니다. (입력: %d)", MIN_SAMPLE_RATE, MAX_SAMPLE_RATE, sampleRateHertz));
+
+        // AMR 계열은 고정 샘플 레이트만 허용
+        if (encoding == AudioEncoding.AMR && sampleRateHertz != 8000)
+            throw new IllegalArgumentException("AMR 인코딩은 8000 Hz만 지원합니다.");
+
+        if (encoding == AudioEncoding.AMR_WB && sampleRateHertz != 16000)
+            throw new IllegalArgumentException("AMR_WB 인코딩은 16000 Hz만 지원합니다.");
+
+        if ((encoding == AudioEncoding.OGG_OPUS || encoding == AudioEncoding.WEBM_OPUS)
+                && !OPUS_SAMPLE_RATES.contains(sampleRateHertz))
+            throw new IllegalArgumentException(String.format(
+                    "Opus 인코딩의 샘플 레이트는 %s 중 하나여야 합니다. (입력: %d)", OPUS_SAMPLE_RATES, sampleRateHertz));
+
+        if (!LANGUAGE_CODE_PATTERN.matcher(languageCode).matches())
+            throw new IllegalArgumentException("올바르지 않은 언어 코드입니다: " + languageCode);
+
+        if (!GoogleSttModel.SUPPORTED_MODELS.contains(model))
+            throw new IllegalArgumentException(String.format(
+                    "지원되지 않는 모델입니다. (입력: %s, 지원: %s)", model, GoogleSttModel.SUPPORTED_MODELS));
+    }
+}
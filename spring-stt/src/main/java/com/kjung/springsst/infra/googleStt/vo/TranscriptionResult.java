@@ -2,9 +2,20 @@ package com.kjung.springsst.infra.googleStt.vo;
 
 /**
  * 음성 인식 결과를 담는 내부 클래스
+ *
+ * @param words 단어별 시간 정보, 단어 시간 오프셋을 요청하지 않았으면 비어있음
  */
 public record TranscriptionResult(
         String transcription,
-        float averageConfidence
+        float averageConfidence,
+        WordTimings words
 ) {
-}
\ No newline at end of file
+
+    public TranscriptionResult {
+        if (words == null) words = WordTimings.EMPTY;
+    }
+
+    public TranscriptionResult(String transcription, float averageConfidence) {
+        this(transcription, averageConfidence, WordTimings.EMPTY);
+    }
+}
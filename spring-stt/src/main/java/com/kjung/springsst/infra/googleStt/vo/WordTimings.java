@@ -0,0 +1,243 @@
+package com.kjung.springsst.infra.googleStt.vo;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단어별 시간 정보의 열(column) 단위 표현.
+ * <p>
+ * 단어마다 객체를 만들지 않고, 중복을 제거한 단어 목록(vocabulary)과 단어 순서대로의 기본형 배열
+ * (단어 번호, 시작/종료 시각 ms, 신뢰도)로 보관합니다. 긴 녹취록에서도 객체 수가 배열 몇 개로 고정되어
+ * 보관, 캐시, 직렬화 비용이 작습니다. JSON도 같은 열 구조 그대로 직렬화됩니다.
+ * </p>
+ * <pre>
+ * {"vocabulary": ["안녕하세요", "네"], "wordIds": [0, 1, 0], "startMs": [0, 900, 1500], "endMs": [800, 1200, 2300], "confidence": [0.93, 0.88, 0.91]}
+ * </pre>
+ * 생성 후에는 변경되지 않습니다. 배열 getter는 직렬화용으로 내부 배열을 그대로 반환하므로 수정하면 안 됩니다.
+ */
+@JsonPropertyOrder({"vocabulary", "wordIds", "startMs", "endMs", "confidence"})
+public final class WordTimings {
+
+    public static final WordTimings EMPTY = new WordTimings(new String[0], new int[0], new int[0], new int[0], new float[0]);
+
+    private final String[] vocabulary;
+
+    private final int[] wordIds;
+
+    private final int[] startMs;
+
+    private final int[] endMs;
+
+    private final float[] confidence;
+
+    private WordTimings(String[] vocabulary, int[] wordIds, int[] startMs, int[] endMs, float[] confidence) {
+        this.vocabulary = vocabulary;
+        this.wordIds = wordIds;
+        this.startMs = startMs;
+        this.endMs = endMs;
+        this.confidence = confidence;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 단어 수
+     */
+    public int size() {
+        return wordIds.length;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return wordIds.length == 0;
+    }
+
+    public String word(int index) {
+        return vocabulary[wordIds[index]];
+    }
+
+    public int startMs(int index) {
+        return startMs[index];
+    }
+
+    public int endMs(int index) {
+        return endMs[index];
+    }
+
+    /**
+     * 단어 신뢰도, 제공되지 않으면 0
+     */
+    public float confidence(int index) {
+        return confidence[index];
+    }
+
+    /**
+     * 단어 사이 간격이 {@code minPauseMs} 이상이거나 구간 길이가 {@code maxSpanMs}를 넘으면 나눈 발화 구간 목록
+     */
+    public List<Span> splitAtPauses(long minPauseMs, long maxSpanMs) {
+        List<Span> spans = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= wordIds.length; i++) {
+            boolean boundary = i == wordIds.length
+                    || startMs[i] - endMs[i - 1] >= minPauseMs
+                    || endMs[i] - startMs[from] > maxSpanMs;
+            if (!boundary) continue;
+
+            spans.add(new Span(from, i));
+            from = i;
+        }
+        return spans;
+    }
+
+    /**
+     * 구간의 단어를 공백으로 이어 붙인 텍스트
+     */
+    public String text(Span span) {
+        StringBuilder text = new StringBuilder();
+        for (int i = span.from(); i < span.to(); i++) {
+            if (i > span.from()) text.append(' ');
+            text.append(word(i));
+        }
+        return text.toString();
+    }
+
+    /**
+     * 구간의 단어 신뢰도 평균, 제공되지 않으면 0
+     */
+    public float averageConfidence(Span span) {
+        float total = 0f;
+        int count = 0;
+        for (int i = span.from(); i < span.to(); i++) {
+            if (confidence[i] > 0) {
+                total += confidence[i];
+                count++;
+            }
+        }
+        return count > 0 ? total / count : 0f;
+    }
+
+    /**
+     * 단어 하나를 객체로 꺼냅니다. 단건 조회용이며, 전체 순회에는 인덱스 접근자를 사용합니다.
+     */
+    public WordTimeInfo wordAt(int index) {
+        return new WordTimeInfo(word(index), startMs[index] / 1000.0, endMs[index] / 1000.0);
+    }
+
+    public String[] getVocabulary() {
+        return vocabulary;
+    }
+
+    public int[] getWordIds() {
+        return wordIds;
+    }
+
+    public int[] getStartMs() {
+        return startMs;
+    }
+
+    public int[] getEndMs() {
+        return endMs;
+    }
+
+    public float[] getConfidence() {
+        return confidence;
+    }
+
+    @Override
+    public String toString() {
+        return "WordTimings[words=" + wordIds.length + ", vocabulary=" + vocabulary.length + "]";
+    }
+
+    /**
+     * 단어 인덱스 구간 [from, to)
+     */
+    public record Span(int from, int to) {
+    }
+
+    /**
+     * 단어를 순서대로 추가하여 만듭니다. 스레드 안전하지 않습니다.
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        private String[] vocabulary = new String[16];
+
+        private int[] wordIds = new int[16];
+
+        private int[] startMs = new int[16];
+
+        private int[] endMs = new int[16];
+
+        private float[] confidence = new float[16];
+
+        private int vocabularySize = 0;
+
+        private int size = 0;
+
+        private Builder() {
+        }
+
+        public Builder add(String word, long startMs, long endMs, float confidence) {
+            if (size == wordIds.length) {
+                int capacity = size * 2;
+                this.wordIds = Arrays.copyOf(wordIds, capacity);
+                this.startMs = Arrays.copyOf(this.startMs, capacity);
+                this.endMs = Arrays.copyOf(this.endMs, capacity);
+                this.confidence = Arrays.copyOf(this.confidence, capacity);
+            }
+
+            wordIds[size] = ids.computeIfAbsent(word, this::intern);
+            this.startMs[size] = toInt(startMs);
+            this.endMs[size] = toInt(endMs);
+            this.confidence[size] = confidence;
+            size++;
+            return this;
+        }
+
+        /**
+         * 다른 단어 정보의 구간을 시각을 {@code offsetMs}만큼 옮겨 추가합니다.
+         */
+        public Builder addAll(WordTimings words, Span span, long offsetMs) {
+            for (int i = span.from(); i < span.to(); i++) {
+                add(words.word(i), words.startMs(i) + offsetMs, words.endMs(i) + offsetMs, words.confidence(i));
+            }
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public WordTimings build() {
+            if (size == 0) return EMPTY;
+
+            return new WordTimings(
+                    Arrays.copyOf(vocabulary, vocabularySize),
+                    Arrays.copyOf(wordIds, size),
+                    Arrays.copyOf(startMs, size),
+                    Arrays.copyOf(endMs, size),
+                    Arrays.copyOf(confidence, size));
+        }
+
+        private int intern(String word) {
+            if (vocabularySize == vocabulary.length)
+                vocabulary = Arrays.copyOf(vocabulary, vocabularySize * 2);
+
+            vocabulary[vocabularySize] = word;
+            return vocabularySize++;
+        }
+
+        private static int toInt(long ms) {
+            return (int) Math.clamp(ms, 0, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.kjung.springsst.app.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngestAttemptsTest {
+
+    private final IngestAttempts attempts = new IngestAttempts(3);
+
+    @Test
+    void exhaustedAfterMaxFailures() {
+        assertThat(attempts.recordFailure("call.wav", 100, 1_000)).isEqualTo(1);
+        assertThat(attempts.recordFailure("call.wav", 100, 1_000)).isEqualTo(2);
+        assertThat(attempts.isExhausted("call.wav", 100, 1_000)).isFalse();
+
+        assertThat(attempts.recordFailure("call.wav", 100, 1_000)).isEqualTo(3);
+        assertThat(attempts.isExhausted("call.wav", 100, 1_000)).isTrue();
+        assertThat(attempts.isExhausted("other.wav", 100, 1_000)).isFalse();
+    }
+
+    @Test
+    void changedFileIsRetriedFromFirstAttempt() {
+        for (int i = 0; i < 3; i++) {
+            attempts.recordFailure("call.wav", 100, 1_000);
+        }
+
+        assertThat(attempts.isExhausted("call.wav", 120, 1_000)).isFalse();
+        assertThat(attempts.isExhausted("call.wav", 100, 2_000)).isFalse();
+        assertThat(attempts.recordFailure("call.wav", 100, 2_000)).isEqualTo(1);
+        assertThat(attempts.isExhausted("call.wav", 100, 1_000)).isFalse();
+    }
+
+    @Test
+    void clearResetsCount() {
+        for (int i = 0; i < 3; i++) {
+            attempts.recordFailure("call.wav", 100, 1_000);
+        }
+
+        attempts.clear("call.wav");
+
+        assertThat(attempts.isExhausted("call.wav", 100, 1_000)).isFalse();
+        assertThat(attempts.recordFailure("call.wav", 100, 1_000)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.kjung.springsst.app.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngestCheckpointTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void processedOnlyWithSameSizeAndModifiedTime() {
+        try (IngestCheckpoint checkpoint = new IngestCheckpoint(dir.resolve("checkpoint.log"))) {
+            checkpoint.record("a/call.wav", IngestCheckpoint.Status.DONE, 100, 1_000);
+
+            assertThat(checkpoint.isProcessed("a/call.wav", 100, 1_000)).isTrue();
+            assertThat(checkpoint.isProcessed("a/call.wav", 101, 1_000)).isFalse();
+            assertThat(checkpoint.isProcessed("a/call.wav", 100, 2_000)).isFalse();
+            assertThat(checkpoint.isProcessed("b/call.wav", 100, 1_000)).isFalse();
+        }
+    }
+
+    @Test
+    void reloadsEntriesAfterRestart() {
+        Path file = dir.resolve("nested/checkpoint.log");
+        try (IngestCheckpoint checkpoint = new IngestCheckpoint(file)) {
+            checkpoint.record("done.wav", IngestCheckpoint.Status.DONE, 100, 1_000);
+            checkpoint.record("bad.txt", IngestCheckpoint.Status.REJECTED, 5, 2_000);
+            // 같은 파일이 바뀌어 다시 처리되면 마지막 기록이 우선
+            checkpoint.record("done.wav", IngestCheckpoint.Status.DONE, 200, 3_000);
+        }
+
+        try (IngestCheckpoint checkpoint = new IngestCheckpoint(file)) {
+            assertThat(checkpoint.size()).isEqualTo(2);
+            assertThat(checkpoint.isProcessed("done.wav", 200, 3_000)).isTrue();
+            assertThat(checkpoint.isProcessed("done.wav", 100, 1_000)).isFalse();
+            assertThat(checkpoint.isProcessed("bad.txt", 5, 2_000)).isTrue();
+        }
+    }
+
+    @Test
+    void ignoresTruncatedLastLine() throws Exception {
+        Path file = dir.resolve("checkpoint.log");
+        try (IngestCheckpoint checkpoint = new IngestCheckpoint(file)) {
+            checkpoint.record("done.wav", IngestCheckpoint.Status.DONE, 100, 1_000);
+        }
+        Files.writeString(file, "DONE\t20", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (IngestCheckpoint checkpoint = new IngestCheckpoint(file)) {
+            assertThat(checkpoint.size()).isEqualTo(1);
+            assertThat(checkpoint.isProcessed("done.wav", 100, 1_000)).isTrue();
+        }
+    }
+
+    @Test
+    void keepsTabsInKey() {
+        Path file = dir.resolve("checkpoint.log");
+        try (IngestCheckpoint checkpoint = new IngestCheckpoint(file)) {
+            checkpoint.record("dir/with\ttab.wav", IngestCheckpoint.Status.DONE, 100, 1_000);
+        }
+
+        try (IngestCheckpoint checkpoint = new IngestCheckpoint(file)) {
+            assertThat(checkpoint.isProcessed("dir/with\ttab.wav", 100, 1_000)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.kjung.springsst.app.speech.session;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterimDeltaEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final InterimDeltaEncoder encoder = new InterimDeltaEncoder(
+            meterRegistry.counter("saved"), meterRegistry.counter("sent"));
+
+    // 클라이언트(SttTypes.ts)와 같은 방식으로 복원
+    private String decoded = "";
+
+    @Test
+    void interimsRoundTrip() {
+        for (String transcript : List.of("안녕", "안녕하세요", "안녕하세요 오늘", "안녕하십니까", "반갑습니다")) {
+            assertThat(decode(encoder.encode(result(transcript, false)))).isEqualTo(transcript);
+        }
+    }
+
+    @Test
+    void finalIsSentWholeAndStartsNextUtteranceFresh() {
+        decode(encoder.encode(result("오늘 날씨", false)));
+
+        Map<String, Object> finalResult = encoder.encode(result("오늘 날씨가 좋네요", true));
+        assertThat(finalResult).containsEntry("transcript", "오늘 날씨가 좋네요");
+        decoded = "";
+
+        Map<String, Object> next = encoder.encode(result("오늘 날씨", false));
+        assertThat(next).containsEntry("stablePrefix", 0);
+        assertThat(decode(next)).isEqualTo("오늘 날씨");
+    }
+
+    @Test
+    void doesNotSplitSurrogatePairs() {
+        decode(encoder.encode(result("좋아요 😀", false)));
+
+        Map<String, Object> delta = encoder.encode(result("좋아요 😁", false));
+
+        assertThat((int) delta.get("stablePrefix")).isEqualTo(4);
+        assertThat(decode(delta)).isEqualTo("좋아요 😁");
+    }
+
+    @Test
+    void resetAfterLostFrameKeepsClientInSync() {
+        decode(encoder.encode(result("안녕", false)));
+
+        // 전송에 실패해 클라이언트가 받지 못한 프레임
+        encoder.encode(result("안녕하세요", false));
+        encoder.reset();
+
+        Map<String, Object> next = encoder.encode(result("안녕하세요 여러분", false));
+        assertThat(next).containsEntry("stablePrefix", 0);
+        assertThat(decode(next)).isEqualTo("안녕하세요 여러분");
+    }
+
+    @Test
+    void countsSavedAndSentUtf8Bytes() {
+        encoder.encode(result("ab", false));
+        encoder.encode(result("ab가", false));
+
+        assertThat(meterRegistry.counter("saved").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("sent").count()).isEqualTo(2 + 3);
+    }
+
+    private String decode(Map<String, Object> message) {
+        if (message.get("transcript") instanceof String transcript) {
+            decoded = transcript;
+        } else {
+            decoded = decoded.substring(0, (int) message.get("stablePrefix")) + message.get("suffix");
+        }
+        return decoded;
+    }
+
+    private static Map<String, Object> result(String transcript, boolean isFinal) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("transcript", transcript);
+        data.put("isFinal", isFinal);
+        return data;
+    }
+}
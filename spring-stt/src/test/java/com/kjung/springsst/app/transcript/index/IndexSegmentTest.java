@@ -0,0 +1,74 @@
+package com.kjung.springsst.app.transcript.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexSegmentTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void findsSingleCharacterInsideWords() {
+        IndexSegment segment = IndexSegment.build(List.of(document(1, 0, "계약 해지 요청"), document(2, 1, "요금 문의")));
+
+        assertThat(ids(search(segment, "해", 10))).containsExactly(1L);
+        assertThat(ids(search(segment, "요", 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void rechecksSubstringAfterTokenIntersection() {
+        // 바이그램(고객, 객센, 센터)은 모두 있지만 "고객센터"는 이어서 나오지 않음
+        IndexSegment segment = IndexSegment.build(List.of(document(1, 0, "센터에서 고객센"), document(2, 1, "고객 센터 연결")));
+
+        assertThat(ids(search(segment, "고객센터", 10))).containsExactly(2L);
+    }
+
+    @Test
+    void returnsNewestFirstUpToLimit() {
+        IndexSegment segment = IndexSegment.build(List.of(
+                document(1, 0, "해지"), document(2, 1, "해지"), document(3, 2, "해지")));
+
+        assertThat(ids(search(segment, "해지", 2))).containsExactly(3L, 2L);
+        assertThat(search(segment, "해지", 0)).isEmpty();
+        assertThat(search(segment, "없음", 10)).isEmpty();
+    }
+
+    @Test
+    void mergeShiftsPostingsOfLaterSegments() {
+        IndexSegment first = IndexSegment.build(List.of(document(1, 0, "해지 요청"), document(2, 1, "요금")));
+        IndexSegment second = IndexSegment.build(List.of(document(3, 2, "요금 해지")));
+
+        IndexSegment merged = IndexSegment.merge(List.of(first, second));
+
+        assertThat(merged.size()).isEqualTo(3);
+        assertThat(ids(search(merged, "해지", 10))).containsExactly(3L, 1L);
+        assertThat(ids(search(merged, "요금", 10))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void receivedAtRangeCoversOutOfOrderDocuments() {
+        IndexSegment segment = IndexSegment.build(List.of(
+                document(1, 5, "가"), document(2, 9, "나"), document(3, 2, "다")));
+
+        assertThat(segment.getMinReceivedAt()).isEqualTo(BASE.plusSeconds(2));
+        assertThat(segment.getMaxReceivedAt()).isEqualTo(BASE.plusSeconds(9));
+    }
+
+    private static List<TranscriptDocument> search(IndexSegment segment, String query, int limit) {
+        return segment.search(TranscriptTokenizer.queryTokens(query), TranscriptTokenizer.compact(query),
+                document -> true, limit);
+    }
+
+    private static List<Long> ids(List<TranscriptDocument> documents) {
+        return documents.stream().map(TranscriptDocument::id).toList();
+    }
+
+    private static TranscriptDocument document(long id, long secondsAfterBase, String text) {
+        return new TranscriptDocument(id, TranscriptDocument.SOURCE_STREAMING, "session", null, (int) id,
+                BASE.plusSeconds(secondsAfterBase), 0, 1_000, text);
+    }
+}
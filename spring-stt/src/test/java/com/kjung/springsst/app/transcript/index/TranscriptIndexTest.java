@@ -0,0 +1,65 @@
+package com.kjung.springsst.app.transcript.index;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TranscriptIndexTest {
+
+    private final TranscriptIndex index = new TranscriptIndex(new SimpleMeterRegistry(), 100, 2, 10, 2, 2, 168);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        index.destroy();
+    }
+
+    @Test
+    void searchesAcrossPublishedSegmentsNewestFirst() throws InterruptedException {
+        index.addStreamingFinal("s1", 0, 0, 1_000, "계약 해지 요청드립니다");
+        index.addStreamingFinal("s1", 1, 1_000, 2_000, "요금제 변경");
+        index.addStreamingFinal("s2", 0, 0, 1_000, "해지 방어 안내");
+        awaitDocuments(3);
+
+        assertThat(texts(index.search("해지", null, null, 10)))
+                .containsExactly("해지 방어 안내", "계약 해지 요청드립니다");
+        assertThat(texts(index.search("해", null, null, 1))).containsExactly("해지 방어 안내");
+        assertThat(texts(index.search("요금 제", null, null, 10))).containsExactly("요금제 변경");
+    }
+
+    @Test
+    void filtersByReceivedTime() throws InterruptedException {
+        index.addStreamingFinal("s1", 0, 0, 1_000, "해지 요청");
+        awaitDocuments(1);
+        Instant between = Instant.now();
+        Thread.sleep(5);
+        index.addStreamingFinal("s1", 1, 1_000, 2_000, "해지 확인");
+        awaitDocuments(2);
+
+        assertThat(texts(index.search("해지", between, null, 10))).containsExactly("해지 확인");
+        assertThat(texts(index.search("해지", null, between, 10))).containsExactly("해지 요청");
+    }
+
+    @Test
+    void rejectsQueryWithoutSearchableCharacters() {
+        assertThatThrownBy(() -> index.search(" ?! ", null, null, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void awaitDocuments(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (index.getDocumentCount() < count) {
+            if (System.currentTimeMillis() > deadline)
+                throw new AssertionError("색인에 문서가 반영되지 않았습니다.");
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<String> texts(List<TranscriptDocument> documents) {
+        return documents.stream().map(TranscriptDocument::text).toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.kjung.springsst.app.transcript.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptTokenizerTest {
+
+    @Test
+    void indexesHangulBigramsAcrossSpacesWithUnigrams() {
+        assertThat(TranscriptTokenizer.tokenize("고객 센터"))
+                .containsExactly("고", "고객", "객", "객센", "센", "센터", "터");
+    }
+
+    @Test
+    void queryUsesBigramsOnlyUnlessSingleCharacter() {
+        assertThat(TranscriptTokenizer.queryTokens("고객센터")).containsExactly("고객", "객센", "센터");
+        assertThat(TranscriptTokenizer.queryTokens("해")).containsExactly("해");
+    }
+
+    @Test
+    void splitsOtherScriptsIntoLowercaseWords() {
+        assertThat(TranscriptTokenizer.queryTokens("Order-123 확인 VIP"))
+                .containsExactly("order", "123", "확인", "vip");
+    }
+
+    @Test
+    void punctuationBreaksHangulRun() {
+        assertThat(TranscriptTokenizer.queryTokens("해지, 요청")).containsExactly("해지", "요청");
+    }
+
+    @Test
+    void compactRemovesWhitespaceAfterNormalization() {
+        assertThat(TranscriptTokenizer.compact("고객 센터 ＡＢＣ")).isEqualTo("고객센터abc");
+    }
+
+    @Test
+    void emptyTextHasNoTokens() {
+        assertThat(TranscriptTokenizer.tokenize("")).isEmpty();
+        assertThat(TranscriptTokenizer.queryTokens(" , ")).isEmpty();
+    }
+}
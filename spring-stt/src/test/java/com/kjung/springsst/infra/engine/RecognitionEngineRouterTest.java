@@ -0,0 +1,189 @@
+package com.kjung.springsst.infra.engine;
+
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.kjung.springsst.infra.engine.scheduling.RecognitionScheduler;
+import com.kjung.springsst.infra.engine.vo.RecognitionRequest;
+import com.kjung.springsst.infra.googleStt.stream.AudioSendQueue;
+import com.kjung.springsst.infra.googleStt.vo.StreamingSessionConfig;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecognitionEngineRouterTest {
+
+    private static final RecognitionRequest SHORT_CLIP = request(5_000);
+
+    private static final RecognitionRequest LONG_CLIP = request(40_000);
+
+    @Test
+    void shortClipPrefersCheaperEngine() {
+        FakeEngine premium = new FakeEngine("premium", 0.016);
+        FakeEngine budget = new FakeEngine("budget", 0.004);
+        RecognitionEngineRouter router = router(premium, budget);
+
+        assertThat(router.recognize(SHORT_CLIP).transcription()).isEqualTo("budget");
+    }
+
+    @Test
+    void longClipPrefersFasterEngineWhenCostDifferenceIsSmall() {
+        FakeEngine fast = new FakeEngine("fast", 0.016);
+        FakeEngine slow = new FakeEngine("slow", 0.004);
+        RecognitionEngineRouter router = router(fast, slow);
+
+        // 지연 시간 통계 수집
+        router.getStats("slow").recordSuccess(3_000);
+        router.getStats("fast").recordSuccess(500);
+
+        assertThat(router.recognize(LONG_CLIP).transcription()).isEqualTo("fast");
+    }
+
+    @Test
+    void failsOverToNextEngineOnEngineFailure() {
+        FakeEngine broken = new FakeEngine("broken", 0.001);
+        broken.failure = new RuntimeException("UNAVAILABLE");
+        FakeEngine backup = new FakeEngine("backup", 0.016);
+        RecognitionEngineRouter router = router(broken, backup);
+
+        assertThat(router.recognize(SHORT_CLIP).transcription()).isEqualTo("backup");
+        assertThat(broken.calls).isEqualTo(1);
+        assertThat(router.getStats("broken").getErrorRate()).isGreaterThan(0);
+    }
+
+    @Test
+    void doesNotFailOverOnInvalidRequest() {
+        FakeEngine first = new FakeEngine("first", 0.001);
+        first.failure = new IllegalArgumentException("bad audio");
+        FakeEngine second = new FakeEngine("second", 0.016);
+        RecognitionEngineRouter router = router(first, second);
+
+        assertThatThrownBy(() -> router.recognize(SHORT_CLIP)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(second.calls).isZero();
+    }
+
+    @Test
+    void degradedEngineIsTriedLast() {
+        FakeEngine flaky = new FakeEngine("flaky", 0.001);
+        FakeEngine stable = new FakeEngine("stable", 0.016);
+        RecognitionEngineRouter router = router(flaky, stable);
+
+        for (int i = 0; i < 5; i++) {
+            router.getStats("flaky").recordFailure();
+        }
+
+        assertThat(router.recognize(SHORT_CLIP).transcription()).isEqualTo("stable");
+        assertThat(flaky.calls).isZero();
+    }
+
+    @Test
+    void skipsEnginesThatDoNotSupportTheRequest() {
+        FakeEngine englishOnly = new FakeEngine("english-only", 0.001);
+        englishOnly.language = "en-US";
+        FakeEngine general = new FakeEngine("general", 0.016);
+        RecognitionEngineRouter router = router(englishOnly, general);
+
+        assertThat(router.recognize(SHORT_CLIP).transcription()).isEqualTo("general");
+        assertThat(englishOnly.calls).isZero();
+    }
+
+    @Test
+    void rejectsRequestWhenNoEngineSupportsIt() {
+        FakeEngine englishOnly = new FakeEngine("english-only", 0.001);
+        englishOnly.language = "en-US";
+        RecognitionEngineRouter router = router(englishOnly);
+
+        assertThatThrownBy(() -> router.recognize(SHORT_CLIP)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RecognitionEngineRouter router(RecognitionEngine... engines) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RecognitionScheduler scheduler = new RecognitionScheduler(meterRegistry,
+                4, 8, 1, 4, 1, 1_000, 1_000, 1_000);
+
+        return new RecognitionEngineRouter(List.of(engines), scheduler, meterRegistry,
+                15_000, 60_000, 1.0, 10.0, 100.0, 0.5, 30_000);
+    }
+
+    private static RecognitionRequest request(long durationMs) {
+        return new RecognitionRequest("test.wav", new byte[0], RecognitionConfig.AudioEncoding.LINEAR16,
+                "default", "ko-KR", true, false, durationMs);
+    }
+
+    private static class FakeEngine implements RecognitionEngine {
+
+        private final String name;
+
+        private final double costPerMinute;
+
+        private String language;
+
+        private RuntimeException failure;
+
+        private int calls;
+
+        FakeEngine(String name, double costPerMinute) {
+            this.name = name;
+            this.costPerMinute = costPerMinute;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public double getCostPerMinute() {
+            return costPerMinute;
+        }
+
+        @Override
+        public boolean supports(RecognitionRequest request) {
+            return language == null || language.equals(request.languageCode());
+        }
+
+        @Override
+        public boolean supportsStreaming(StreamingSessionConfig config) {
+            return true;
+        }
+
+        @Override
+        public TranscriptionResult recognize(RecognitionRequest request) {
+            calls++;
+            if (failure != null) throw failure;
+            return new TranscriptionResult(name, 0.9f);
+        }
+
+        @Override
+        public TranscriptionResult recognizeLongRunning(RecognitionRequest request) {
+            return recognize(request);
+        }
+
+        @Override
+        public StreamingRecognition openStream(StreamingSessionConfig config,
+                                               Consumer<Map<String, Object>> resultConsumer,
+                                               Consumer<Throwable> completionConsumer) {
+            return new StreamingRecognition() {
+                @Override
+                public AudioSendQueue.OfferResult sendAudioData(byte[] audioData) {
+                    return AudioSendQueue.OfferResult.QUEUED;
+                }
+
+                @Override
+                public boolean isTerminated() {
+                    return false;
+                }
+
+                @Override
+                public void close() {
+                    completionConsumer.accept(null);
+                }
+            };
+        }
+    }
+}
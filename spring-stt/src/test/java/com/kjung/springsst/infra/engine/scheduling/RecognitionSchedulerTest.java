@@ -0,0 +1,144 @@
+package com.kjung.springsst.infra.engine.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecognitionSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void syncIsGrantedMoreOftenThanBatchByWeight() throws Exception {
+        RecognitionScheduler scheduler = new RecognitionScheduler(meterRegistry,
+                1, 8, 0, 4, 1, 10_000, 10_000, 10_000);
+        RecognitionScheduler.Permit holder = scheduler.acquire(PriorityClass.INTERACTIVE_SYNC);
+
+        List<PriorityClass> grants = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(start(scheduler, PriorityClass.INTERACTIVE_SYNC, grants));
+            threads.add(start(scheduler, PriorityClass.BATCH, grants));
+        }
+        awaitQueueDepth("interactive_sync", 8);
+        awaitQueueDepth("batch", 8);
+
+        holder.release();
+        for (Thread thread : threads) {
+            thread.join(10_000);
+        }
+
+        assertThat(grants).hasSize(16);
+        long syncInFirstTen = grants.subList(0, 10).stream()
+                .filter(priorityClass -> priorityClass == PriorityClass.INTERACTIVE_SYNC)
+                .count();
+        assertThat(syncInFirstTen).isGreaterThanOrEqualTo(7);
+        assertThat(scheduler.getInUse()).isZero();
+    }
+
+    @Test
+    void batchCannotUseReservedInteractiveSlots() {
+        RecognitionScheduler scheduler = new RecognitionScheduler(meterRegistry,
+                4, 8, 2, 4, 1, 100, 100, 100);
+
+        scheduler.acquire(PriorityClass.BATCH);
+        scheduler.acquire(PriorityClass.BATCH);
+        assertThatThrownBy(() -> scheduler.acquire(PriorityClass.BATCH))
+                .isInstanceOf(CapacityExceededException.class);
+
+        scheduler.acquire(PriorityClass.INTERACTIVE_SYNC);
+        scheduler.acquire(PriorityClass.INTERACTIVE_SYNC);
+        assertThat(scheduler.getInUse()).isEqualTo(4);
+    }
+
+    @Test
+    void streamsDoNotOccupyEngineSlots() {
+        RecognitionScheduler scheduler = new RecognitionScheduler(meterRegistry,
+                1, 2, 0, 4, 1, 100, 100, 100);
+
+        RecognitionScheduler.Permit first = scheduler.acquire(PriorityClass.INTERACTIVE_STREAMING);
+        scheduler.acquire(PriorityClass.INTERACTIVE_STREAMING);
+
+        scheduler.acquire(PriorityClass.INTERACTIVE_SYNC);
+        assertThat(scheduler.getInUse()).isEqualTo(1);
+
+        assertThatThrownBy(() -> scheduler.acquire(PriorityClass.INTERACTIVE_STREAMING))
+                .isInstanceOf(CapacityExceededException.class);
+
+        first.release();
+        scheduler.acquire(PriorityClass.INTERACTIVE_STREAMING);
+    }
+
+    @Test
+    void zeroWaitFailsImmediatelyWhenNoSlotIsFree() {
+        RecognitionScheduler scheduler = new RecognitionScheduler(meterRegistry,
+                1, 1, 0, 4, 1, 10_000, 10_000, 10_000);
+        RecognitionScheduler.Permit stream = scheduler.acquire(PriorityClass.INTERACTIVE_STREAMING, 0);
+
+        long startTime = System.currentTimeMillis();
+        assertThatThrownBy(() -> scheduler.acquire(PriorityClass.INTERACTIVE_STREAMING, 0))
+                .isInstanceOf(CapacityExceededException.class);
+        assertThat(System.currentTimeMillis() - startTime).isLessThan(1_000);
+        assertThat(meterRegistry.get("stt.scheduler.queue.depth").tag("priority", "interactive_streaming").gauge().value())
+                .isZero();
+
+        stream.release();
+        scheduler.acquire(PriorityClass.INTERACTIVE_STREAMING, 0);
+    }
+
+    @Test
+    void stopAcceptingRejectsNewAndQueuedEngineCalls() throws Exception {
+        RecognitionScheduler scheduler = new RecognitionScheduler(meterRegistry,
+                1, 2, 0, 4, 1, 10_000, 10_000, 10_000);
+        RecognitionScheduler.Permit running = scheduler.acquire(PriorityClass.INTERACTIVE_SYNC);
+
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        Thread queued = new Thread(() -> {
+            try {
+                scheduler.acquire(PriorityClass.BATCH);
+            } catch (Throwable e) {
+                errors.add(e);
+            }
+        });
+        queued.start();
+        awaitQueueDepth("batch", 1);
+
+        scheduler.stopAccepting();
+        queued.join(5_000);
+
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0)).isInstanceOf(SchedulerDrainingException.class);
+        assertThatThrownBy(() -> scheduler.acquire(PriorityClass.INTERACTIVE_SYNC))
+                .isInstanceOf(SchedulerDrainingException.class);
+
+        scheduler.acquire(PriorityClass.INTERACTIVE_STREAMING);
+
+        running.release();
+        assertThat(scheduler.getInUse()).isZero();
+    }
+
+    private static Thread start(RecognitionScheduler scheduler, PriorityClass priorityClass, List<PriorityClass> grants) {
+        Thread thread = new Thread(() -> {
+            try (RecognitionScheduler.Permit ignored = scheduler.acquire(priorityClass)) {
+                grants.add(priorityClass);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private void awaitQueueDepth(String priority, int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("stt.scheduler.queue.depth").tag("priority", priority).gauge().value() < depth) {
+            if (System.currentTimeMillis() > deadline)
+                throw new AssertionError("대기열이 채워지지 않았습니다: " + priority);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.kjung.springsst.infra.googleStt.keyword;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordAutomatonTest {
+
+    @Test
+    void findsOverlappingMatches() {
+        KeywordAutomaton automaton = automaton("he", "she", "his", "hers");
+
+        assertThat(search(automaton, "ushers")).containsExactly("she@1-4", "he@2-4", "hers@2-6");
+    }
+
+    @Test
+    void followsFailureLinksAfterPartialMatch() {
+        KeywordAutomaton automaton = automaton("abcd", "bcx", "cx");
+
+        // "abc" 이후 'x'에서 "bc" 상태로 넘어가 이어서 일치해야 함
+        assertThat(search(automaton, "abcx")).containsExactly("bcx@1-4", "cx@2-4");
+        assertThat(search(automaton, "aabcabcd")).containsExactly("abcd@4-8");
+    }
+
+    @Test
+    void ignoresCaseAndWhitespace() {
+        KeywordAutomaton automaton = automaton("계약 해지", "VIP");
+
+        assertThat(search(automaton, KeywordAutomaton.normalize("계약해지 요청, vip 고객")))
+                .containsExactly("계약 해지@0-4", "VIP@7-10");
+    }
+
+    @Test
+    void keepsFirstRuleWhenNormalizedKeywordsCollide() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of(
+                new KeywordRule("해 지", "cancel"), new KeywordRule("해지", "other")));
+        List<String> categories = new ArrayList<>();
+
+        automaton.search("해지", (rule, start, end) -> categories.add(rule.category()));
+
+        assertThat(automaton.size()).isEqualTo(1);
+        assertThat(categories).containsExactly("cancel");
+    }
+
+    @Test
+    void emptyAutomatonMatchesNothing() {
+        assertThat(search(KeywordAutomaton.EMPTY, "anything")).isEmpty();
+    }
+
+    private static KeywordAutomaton automaton(String... keywords) {
+        return KeywordAutomaton.build(List.of(keywords).stream()
+                .map(keyword -> new KeywordRule(keyword, KeywordRule.DEFAULT_CATEGORY))
+                .toList());
+    }
+
+    private static List<String> search(KeywordAutomaton automaton, String normalizedText) {
+        List<String> matches = new ArrayList<>();
+        automaton.search(normalizedText, (rule, start, end) -> matches.add(rule.keyword() + "@" + start + "-" + end));
+        return matches;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kjung.springsst.infra.googleStt.keyword;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordSpotterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final KeywordSpotter spotter = new KeywordSpotter(
+            new MockEnvironment().withProperty("app.stt.keyword-spotting.keywords[0]", "cancel:해지"),
+            new StaticListableBeanFactory().getBeanProvider(KeywordAlertSink.class),
+            meterRegistry, true, "", 0, 10);
+
+    @AfterEach
+    void tearDown() {
+        spotter.destroy();
+    }
+
+    @Test
+    void alertsOnceWhenInterimMatchIsRepeatedInFinal() {
+        KeywordSpotter.Session session = spotter.newSession(1);
+
+        session.onResult("계약을 해", false);
+        session.onResult("계약을 해지", false);
+        session.onResult("계약을 해지하고 싶어요", true);
+
+        assertThat(alerts()).isEqualTo(1);
+        assertThat(meterRegistry.counter("stt.keyword.suppressed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void alertsAgainWhenFinalHasMoreOccurrences() {
+        KeywordSpotter.Session session = spotter.newSession(1);
+
+        session.onResult("해지", false);
+        session.onResult("해지 말고 해 지", true);
+
+        assertThat(alerts()).isEqualTo(2);
+    }
+
+    @Test
+    void nextUtteranceStartsFresh() {
+        KeywordSpotter.Session session = spotter.newSession(1);
+
+        session.onResult("해지", true);
+        session.onResult("해지", false);
+
+        assertThat(alerts()).isEqualTo(2);
+    }
+
+    @Test
+    void disabledSpotterCreatesNoSession() {
+        KeywordSpotter disabled = new KeywordSpotter(new MockEnvironment(),
+                new StaticListableBeanFactory().getBeanProvider(KeywordAlertSink.class),
+                meterRegistry, false, "", 0, 10);
+
+        assertThat(disabled.newSession(1)).isNull();
+        disabled.destroy();
+    }
+
+    private double alerts() {
+        return meterRegistry.counter("stt.keyword.alerts", "category", "cancel").count();
+    }
+}
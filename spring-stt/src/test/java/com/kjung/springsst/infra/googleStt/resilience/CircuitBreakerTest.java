@@ -0,0 +1,112 @@
+package com.kjung.springsst.infra.googleStt.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_DURATION_MS = 20;
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, OPEN_DURATION_MS);
+
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure(breaker.acquire());
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, OPEN_DURATION_MS);
+
+        breaker.onSuccess(breaker.acquire());
+        breaker.onSuccess(breaker.acquire());
+        breaker.onFailure(breaker.acquire());
+        breaker.onFailure(breaker.acquire());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(breaker::acquire).isInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    void oldOutcomesLeaveTheWindow() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, OPEN_DURATION_MS);
+
+        breaker.onFailure(breaker.acquire());
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(breaker.acquire());
+        }
+        breaker.onFailure(breaker.acquire());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenAllowsSingleProbeAndClosesOnSuccess() throws InterruptedException {
+        CircuitBreaker breaker = openedBreaker();
+        Thread.sleep(OPEN_DURATION_MS * 2);
+
+        CircuitBreaker.Call probe = breaker.acquire();
+        assertThat(probe.probe()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(breaker::acquire).isInstanceOf(CircuitBreakerOpenException.class);
+
+        breaker.onSuccess(probe);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.acquire().probe()).isFalse();
+    }
+
+    @Test
+    void probeFailureReopens() throws InterruptedException {
+        CircuitBreaker breaker = openedBreaker();
+        Thread.sleep(OPEN_DURATION_MS * 2);
+
+        breaker.onFailure(breaker.acquire());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(breaker::acquire).isInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    void callStartedWhileClosedDoesNotDecideHalfOpen() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(2, 2, 0.5, OPEN_DURATION_MS);
+        CircuitBreaker.Call slow = breaker.acquire();
+        breaker.onFailure(breaker.acquire());
+        breaker.onFailure(breaker.acquire());
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(OPEN_DURATION_MS * 2);
+        CircuitBreaker.Call probe = breaker.acquire();
+
+        breaker.onSuccess(slow);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onFailure(probe);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void ignoredProbeReleasesTheProbeSlot() throws InterruptedException {
+        CircuitBreaker breaker = openedBreaker();
+        Thread.sleep(OPEN_DURATION_MS * 2);
+
+        breaker.onIgnored(breaker.acquire());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.acquire().probe()).isTrue();
+    }
+
+    private static CircuitBreaker openedBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 2, 0.5, OPEN_DURATION_MS);
+        breaker.onFailure(breaker.acquire());
+        breaker.onFailure(breaker.acquire());
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+}
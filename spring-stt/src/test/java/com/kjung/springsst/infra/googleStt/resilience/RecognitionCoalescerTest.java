@@ -0,0 +1,185 @@
+package com.kjung.springsst.infra.googleStt.resilience;
+
+import com.google.cloud.speech.v1.RecognitionAudio;
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.google.protobuf.ByteString;
+import com.kjung.springsst.infra.googleStt.vo.TranscriptionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecognitionCoalescerTest {
+
+    private static final RecognitionConfig CONFIG = RecognitionConfig.newBuilder().setLanguageCode("ko-KR").build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RecognitionCoalescer coalescer = new RecognitionCoalescer(meterRegistry);
+
+    @Test
+    void identicalConcurrentRequestsShareOneCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<TranscriptionResult> call = () -> {
+            calls.incrementAndGet();
+            await(release);
+            return new TranscriptionResult("안녕하세요", 0.9f);
+        };
+
+        CompletableFuture<TranscriptionResult> leader = runAsync(() -> coalescer.execute(CONFIG, audio(1), call));
+        awaitInFlight(1);
+        AtomicReference<TranscriptionResult> followerResult = new AtomicReference<>();
+        Thread follower = start(() -> followerResult.set(coalescer.execute(CONFIG, audio(1), call)));
+        awaitWaiting(follower);
+
+        release.countDown();
+        follower.join(5_000);
+
+        assertThat(leader.get(5, TimeUnit.SECONDS).transcription()).isEqualTo("안녕하세요");
+        assertThat(followerResult.get().transcription()).isEqualTo("안녕하세요");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("stt.recognize.coalesced").count()).isEqualTo(1);
+    }
+
+    @Test
+    void differentAudioIsNotCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<TranscriptionResult> call = () -> {
+            calls.incrementAndGet();
+            await(release);
+            return new TranscriptionResult("결과", 0.9f);
+        };
+
+        CompletableFuture<TranscriptionResult> first = runAsync(() -> coalescer.execute(CONFIG, audio(1), call));
+        CompletableFuture<TranscriptionResult> second = runAsync(() -> coalescer.execute(CONFIG, audio(2), call));
+        awaitInFlight(2);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("stt.recognize.coalesced").count()).isZero();
+    }
+
+    @Test
+    void leaderFailureIsWrappedPerWaiterKeepingItsType() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalArgumentException failure = new IllegalArgumentException("잘못된 요청");
+        Supplier<TranscriptionResult> call = () -> {
+            await(release);
+            throw failure;
+        };
+
+        CompletableFuture<TranscriptionResult> leader = runAsync(() -> coalescer.execute(CONFIG, audio(1), call));
+        awaitInFlight(1);
+        AtomicReference<Throwable> followerError = new AtomicReference<>();
+        Thread follower = start(() -> {
+            try {
+                coalescer.execute(CONFIG, audio(1), call);
+            } catch (RuntimeException e) {
+                followerError.set(e);
+            }
+        });
+        awaitWaiting(follower);
+
+        release.countDown();
+        follower.join(5_000);
+
+        assertThat(leader.handle((result, error) -> error).get(5, TimeUnit.SECONDS)).isSameAs(failure);
+        assertThat(followerError.get()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(followerError.get()).isNotSameAs(failure);
+        assertThat(followerError.get().getCause()).isSameAs(failure);
+    }
+
+    @Test
+    void waiterRetriesWhenLeaderIsAbandoned() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<TranscriptionResult> call = () -> {
+            if (calls.incrementAndGet() == 1) {
+                await(release);
+                throw new CancellationException("호출 취소");
+            }
+            return new TranscriptionResult("다시 호출한 결과", 0.9f);
+        };
+
+        CompletableFuture<TranscriptionResult> leader = runAsync(() -> coalescer.execute(CONFIG, audio(1), call));
+        awaitInFlight(1);
+        AtomicReference<TranscriptionResult> followerResult = new AtomicReference<>();
+        Thread follower = start(() -> followerResult.set(coalescer.execute(CONFIG, audio(1), call)));
+        awaitWaiting(follower);
+
+        release.countDown();
+        follower.join(5_000);
+
+        assertThat(leader.handle((result, error) -> error).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(CancellationException.class);
+        assertThat(followerResult.get().transcription()).isEqualTo("다시 호출한 결과");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("stt.recognize.coalesced").count()).isZero();
+    }
+
+    private static RecognitionAudio audio(int seed) {
+        return RecognitionAudio.newBuilder().setContent(ByteString.copyFrom(new byte[]{(byte) seed, 1, 2, 3})).build();
+    }
+
+    private static CompletableFuture<TranscriptionResult> runAsync(Supplier<TranscriptionResult> task) {
+        CompletableFuture<TranscriptionResult> future = new CompletableFuture<>();
+        start(() -> {
+            try {
+                future.complete(task.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private static Thread start(Runnable task) {
+        Thread thread = new Thread(task);
+        thread.start();
+        return thread;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS))
+                throw new AssertionError("호출이 풀리지 않았습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitInFlight(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("stt.recognize.inflight").gauge().value() < count) {
+            if (System.currentTimeMillis() > deadline)
+                throw new AssertionError("진행 중인 요청이 등록되지 않았습니다.");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 대기자가 진행 중인 호출의 결과를 기다리기 시작할 때까지 대기
+     */
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (thread.getState() != Thread.State.WAITING) {
+            if (System.currentTimeMillis() > deadline)
+                throw new AssertionError("대기자가 합류하지 않았습니다.");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.kjung.springsst.infra.googleStt.resilience;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import com.google.api.gax.rpc.UnaryCallable;
+import com.google.cloud.speech.v1.RecognitionAudio;
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.google.cloud.speech.v1.RecognizeRequest;
+import com.google.cloud.speech.v1.RecognizeResponse;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.cloud.speech.v1.SpeechRecognitionResult;
+import com.google.protobuf.ByteString;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResilientRecognizerTest {
+
+    private static final int HEDGING_MAX_AUDIO_BYTES = 1_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ScriptedCallable callable = new ScriptedCallable();
+
+    @Test
+    void retriesRetryableStatus() {
+        ResilientRecognizer recognizer = recognizer(20, false);
+        callable.script.add(failed(StatusCode.Code.UNAVAILABLE));
+        callable.script.add(ApiFutures.immediateFuture(response(1)));
+
+        assertThat(recognizer.recognize(config(), audio(100))).isEqualTo(response(1));
+        assertThat(callable.calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("stt.recognize.retries").count()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryNonRetryableStatus() {
+        ResilientRecognizer recognizer = recognizer(20, false);
+        callable.script.add(failed(StatusCode.Code.INVALID_ARGUMENT));
+
+        assertThatThrownBy(() -> recognizer.recognize(config(), audio(100)))
+                .isInstanceOf(ApiException.class);
+        assertThat(callable.calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("stt.recognize.retries").count()).isZero();
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        ResilientRecognizer recognizer = recognizer(20, false);
+        for (int i = 0; i < 3; i++) {
+            callable.script.add(failed(StatusCode.Code.UNAVAILABLE));
+        }
+
+        assertThatThrownBy(() -> recognizer.recognize(config(), audio(100)))
+                .isInstanceOf(ApiException.class);
+        assertThat(callable.calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void stopsRetryingWhenBudgetIsExhausted() {
+        ResilientRecognizer recognizer = recognizer(0, false);
+        callable.script.add(failed(StatusCode.Code.UNAVAILABLE));
+
+        assertThatThrownBy(() -> recognizer.recognize(config(), audio(100)))
+                .isInstanceOf(ApiException.class);
+        assertThat(callable.calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("stt.recognize.retries").count()).isZero();
+    }
+
+    @Test
+    void hedgeWinsAndSlowPrimaryIsCancelled() {
+        ResilientRecognizer recognizer = recognizer(20, true);
+        // 지연 시간 표본 하나 (즉시 응답)
+        callable.script.add(ApiFutures.immediateFuture(response(1)));
+        recognizer.recognize(config(), audio(100));
+
+        SettableApiFuture<RecognizeResponse> slowPrimary = SettableApiFuture.create();
+        callable.script.add(slowPrimary);
+        callable.script.add(ApiFutures.immediateFuture(response(2)));
+
+        assertThat(recognizer.recognize(config(), audio(100))).isEqualTo(response(2));
+        assertThat(meterRegistry.counter("stt.recognize.hedges").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("stt.recognize.hedges.won").count()).isEqualTo(1);
+        assertThat(slowPrimary.isCancelled()).isTrue();
+    }
+
+    @Test
+    void longAudioLatencyDoesNotSetTheHedgeDelay() {
+        ResilientRecognizer recognizer = recognizer(20, true);
+        callable.script.add(ApiFutures.immediateFuture(response(1)));
+        recognizer.recognize(config(), audio(HEDGING_MAX_AUDIO_BYTES + 1));
+
+        // 표본이 있었다면 지연 0ms 기준으로 바로 헤징했을 느린 응답
+        SettableApiFuture<RecognizeResponse> slowPrimary = SettableApiFuture.create();
+        callable.script.add(slowPrimary);
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(() -> slowPrimary.set(response(2)));
+
+        assertThat(recognizer.recognize(config(), audio(100))).isEqualTo(response(2));
+        assertThat(meterRegistry.counter("stt.recognize.hedges").count()).isZero();
+        assertThat(callable.calls.get()).isEqualTo(2);
+    }
+
+    private ResilientRecognizer recognizer(double budgetMaxTokens, boolean hedgingEnabled) {
+        SpeechClient speechClient = mock(SpeechClient.class);
+        when(speechClient.recognizeCallable()).thenReturn(callable);
+
+        return new ResilientRecognizer(speechClient, meterRegistry,
+                3, 1, 1, 0.2, budgetMaxTokens,
+                20, 10, 0.5, 30_000,
+                hedgingEnabled, HEDGING_MAX_AUDIO_BYTES, 1, 0.95);
+    }
+
+    private static RecognitionConfig config() {
+        return RecognitionConfig.getDefaultInstance();
+    }
+
+    private static RecognitionAudio audio(int bytes) {
+        return RecognitionAudio.newBuilder().setContent(ByteString.copyFrom(new byte[bytes])).build();
+    }
+
+    private static RecognizeResponse response(int channelTag) {
+        return RecognizeResponse.newBuilder()
+                .addResults(SpeechRecognitionResult.newBuilder().setChannelTag(channelTag))
+                .build();
+    }
+
+    private static ApiFuture<RecognizeResponse> failed(StatusCode.Code code) {
+        StatusCode statusCode = new StatusCode() {
+            @Override
+            public Code getCode() {
+                return code;
+            }
+
+            @Override
+            public Object getTransportCode() {
+                return code;
+            }
+        };
+        return ApiFutures.immediateFailedFuture(new ApiException(null, statusCode, false));
+    }
+
+    /**
+     * 호출마다 미리 넣어 둔 응답을 차례로 돌려주는 recognize 호출
+     */
+    private static class ScriptedCallable extends UnaryCallable<RecognizeRequest, RecognizeResponse> {
+
+        private final Queue<ApiFuture<RecognizeResponse>> script = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public ApiFuture<RecognizeResponse> futureCall(RecognizeRequest request, ApiCallContext context) {
+            calls.incrementAndGet();
+            ApiFuture<RecognizeResponse> next = script.poll();
+            if (next == null)
+                throw new AssertionError("예상하지 못한 recognize 호출");
+            return next;
+        }
+    }
+}
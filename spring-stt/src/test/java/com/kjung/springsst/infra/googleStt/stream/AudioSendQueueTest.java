@@ -0,0 +1,108 @@
+package com.kjung.springsst.infra.googleStt.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AudioSendQueueTest {
+
+    private static final Predicate<byte[]> SILENCE = AudioSendQueue.linear16SilenceDetector(500);
+
+    private static final byte[] SILENT = pcm(0, 10, -10);
+
+    @Test
+    void dropOldestEvictsTheHeadFrame() {
+        AudioSendQueue queue = new AudioSendQueue(2, OverflowPolicy.DROP_OLDEST, SILENCE);
+        byte[] first = pcm(1000);
+        byte[] second = pcm(2000);
+        byte[] third = pcm(3000);
+
+        assertThat(queue.offer(first)).isEqualTo(AudioSendQueue.OfferResult.QUEUED);
+        assertThat(queue.offer(second)).isEqualTo(AudioSendQueue.OfferResult.QUEUED);
+        assertThat(queue.offer(third)).isEqualTo(AudioSendQueue.OfferResult.DROPPED);
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll()).isSameAs(second);
+        assertThat(queue.poll()).isSameAs(third);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void dropSilenceDiscardsASilentIncomingFrame() {
+        AudioSendQueue queue = new AudioSendQueue(1, OverflowPolicy.DROP_SILENCE, SILENCE);
+        byte[] speech = pcm(3000);
+        queue.offer(speech);
+
+        assertThat(queue.offer(SILENT.clone())).isEqualTo(AudioSendQueue.OfferResult.DROPPED);
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.poll()).isSameAs(speech);
+    }
+
+    @Test
+    void dropSilencePrefersTheOldestQueuedSilentFrame() {
+        AudioSendQueue queue = new AudioSendQueue(3, OverflowPolicy.DROP_SILENCE, SILENCE);
+        byte[] speech = pcm(3000);
+        byte[] silent = SILENT.clone();
+        byte[] laterSpeech = pcm(-4000);
+        byte[] incoming = pcm(5000);
+        queue.offer(speech);
+        queue.offer(silent);
+        queue.offer(laterSpeech);
+
+        assertThat(queue.offer(incoming)).isEqualTo(AudioSendQueue.OfferResult.DROPPED);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.poll()).isSameAs(speech);
+        assertThat(queue.poll()).isSameAs(laterSpeech);
+        assertThat(queue.poll()).isSameAs(incoming);
+    }
+
+    @Test
+    void dropSilenceFallsBackToOldestWithoutSilentFrames() {
+        AudioSendQueue queue = new AudioSendQueue(2, OverflowPolicy.DROP_SILENCE, SILENCE);
+        byte[] first = pcm(1000);
+        byte[] second = pcm(2000);
+        byte[] third = pcm(3000);
+        queue.offer(first);
+        queue.offer(second);
+
+        assertThat(queue.offer(third)).isEqualTo(AudioSendQueue.OfferResult.DROPPED);
+
+        assertThat(queue.poll()).isSameAs(second);
+        assertThat(queue.poll()).isSameAs(third);
+    }
+
+    @Test
+    void closeRejectsWithoutTouchingTheQueue() {
+        AudioSendQueue queue = new AudioSendQueue(1, OverflowPolicy.CLOSE, SILENCE);
+        byte[] first = pcm(1000);
+        queue.offer(first);
+
+        assertThat(queue.offer(pcm(2000))).isEqualTo(AudioSendQueue.OfferResult.REJECTED);
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.poll()).isSameAs(first);
+    }
+
+    @Test
+    void linear16SilenceDetectorUsesPeakAmplitude() {
+        assertThat(SILENCE.test(pcm(0, 499, -499))).isTrue();
+        assertThat(SILENCE.test(pcm(0, 10, 500))).isFalse();
+        assertThat(SILENCE.test(pcm(-500))).isFalse();
+    }
+
+    /**
+     * 16bit little-endian PCM 프레임
+     */
+    private static byte[] pcm(int... samples) {
+        byte[] frame = new byte[samples.length * 2];
+        for (int i = 0; i < samples.length; i++) {
+            frame[i * 2] = (byte) samples[i];
+            frame[i * 2 + 1] = (byte) (samples[i] >> 8);
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,53 @@
+package com.kjung.springsst.infra.googleStt.stream;
+
+import com.google.cloud.speech.v1.RecognitionConfig.AudioEncoding;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AudioSendSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AudioSendScheduler scheduler =
+            new AudioSendScheduler(meterRegistry, 1, OverflowPolicy.DROP_OLDEST, 4008, 500, 1, 1_000);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Test
+    void containerEncodingsAlwaysUseClosePolicy() {
+        for (AudioEncoding encoding : new AudioEncoding[]{AudioEncoding.OGG_OPUS, AudioEncoding.WEBM_OPUS}) {
+            AudioSendQueue queue = scheduler.createQueue(encoding);
+            queue.offer(new byte[]{1});
+
+            assertThat(queue.offer(new byte[]{2})).isEqualTo(AudioSendQueue.OfferResult.REJECTED);
+        }
+    }
+
+    @Test
+    void rawEncodingsUseConfiguredPolicy() {
+        AudioSendQueue queue = scheduler.createQueue(AudioEncoding.LINEAR16);
+        queue.offer(new byte[]{1, 0});
+
+        assertThat(queue.offer(new byte[]{2, 0})).isEqualTo(AudioSendQueue.OfferResult.DROPPED);
+    }
+
+    @Test
+    void recordsOverflowByResult() {
+        scheduler.recordOverflow(AudioSendQueue.OfferResult.DROPPED);
+        scheduler.recordOverflow(AudioSendQueue.OfferResult.REJECTED);
+        scheduler.recordOverflow(AudioSendQueue.OfferResult.REJECTED);
+        scheduler.recordOverflow(AudioSendQueue.OfferResult.QUEUED);
+        scheduler.recordOverflow(AudioSendQueue.OfferResult.CLOSED);
+
+        assertThat(meterRegistry.get("stt.stream.send.queue.overflow").tag("result", "dropped").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("stt.stream.send.queue.overflow").tag("result", "rejected").counter().count())
+                .isEqualTo(2);
+    }
+}
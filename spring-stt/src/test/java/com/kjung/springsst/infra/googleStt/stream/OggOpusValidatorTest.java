@@ -0,0 +1,108 @@
+package com.kjung.springsst.infra.googleStt.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OggOpusValidatorTest {
+
+    private static final int BOS = 0x02;
+
+    @Test
+    void acceptsStreamRegardlessOfFrameBoundaries() {
+        byte[] stream = concat(page(BOS, opusHead(1)), page(0, ascii("OpusTags")), page(0, new byte[300]));
+
+        assertThatCode(() -> new OggOpusValidator().validate(stream)).doesNotThrowAnyException();
+        assertThatCode(() -> {
+            OggOpusValidator validator = new OggOpusValidator();
+            for (byte b : stream) {
+                validator.validate(new byte[]{b});
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsBrokenCapturePatternOnLaterPage() {
+        byte[] second = page(0, new byte[20]);
+        second[3] = 'X';
+
+        assertThatThrownBy(() -> new OggOpusValidator().validate(concat(page(BOS, opusHead(1)), second)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("페이지: 2");
+    }
+
+    @Test
+    void rejectsFirstPageWithoutBosFlag() {
+        assertThatThrownBy(() -> new OggOpusValidator().validate(page(0, opusHead(1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("BOS");
+    }
+
+    @Test
+    void rejectsNonOpusCodec() {
+        byte[] vorbis = opusHead(1);
+        System.arraycopy(ascii("\u0001vorbis\u0000"), 0, vorbis, 0, 8);
+
+        assertThatThrownBy(() -> new OggOpusValidator().validate(page(BOS, vorbis)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Opus가 아닙니다");
+    }
+
+    @Test
+    void rejectsStereoOpus() {
+        assertThatThrownBy(() -> new OggOpusValidator().validate(page(BOS, opusHead(2))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2채널");
+    }
+
+    @Test
+    void rejectsFirstPageTooShortForOpusHead() {
+        assertThatThrownBy(() -> new OggOpusValidator().validate(page(BOS, ascii("Opus"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("식별 헤더");
+    }
+
+    /**
+     * 본문이 255바이트 단위 세그먼트로 나뉜 Ogg 페이지
+     */
+    private static byte[] page(int flags, byte[] payload) {
+        int segments = payload.length / 255 + 1;
+        byte[] header = new byte[27 + segments];
+        System.arraycopy(ascii("OggS"), 0, header, 0, 4);
+        header[5] = (byte) flags;
+        header[26] = (byte) segments;
+        for (int i = 0; i < segments; i++) {
+            header[27 + i] = (byte) (i < segments - 1 ? 255 : payload.length % 255);
+        }
+        return concat(header, payload);
+    }
+
+    /**
+     * OpusHead 식별 헤더 (매직, 버전, 채널 수, pre-skip, 샘플레이트, 게인, 채널 매핑)
+     */
+    private static byte[] opusHead(int channels) {
+        byte[] head = new byte[19];
+        System.arraycopy(ascii("OpusHead"), 0, head, 0, 8);
+        head[8] = 1;
+        head[9] = (byte) channels;
+        head[12] = (byte) 0x80;
+        head[13] = (byte) 0xBB;
+        return head;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
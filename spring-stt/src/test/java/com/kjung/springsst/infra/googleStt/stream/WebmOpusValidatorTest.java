@@ -0,0 +1,65 @@
+package com.kjung.springsst.infra.googleStt.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebmOpusValidatorTest {
+
+    private static final byte[] EBML_MAGIC = {0x1A, 0x45, (byte) 0xDF, (byte) 0xA3};
+
+    @Test
+    void acceptsInitSegmentSplitAcrossFramesAndPassesLaterFrames() {
+        byte[] init = concat(EBML_MAGIC, new byte[12], ascii("webm"), new byte[40], ascii("A_OPUS"), new byte[8]);
+        WebmOpusValidator validator = new WebmOpusValidator();
+
+        assertThatCode(() -> {
+            validator.validate(Arrays.copyOfRange(init, 0, 10));
+            validator.validate(Arrays.copyOfRange(init, 10, 60));
+            validator.validate(Arrays.copyOfRange(init, 60, init.length));
+            // 검증이 끝난 뒤의 클러스터 데이터는 검사하지 않음
+            validator.validate(new byte[5000]);
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsStreamWithoutEbmlMagic() {
+        assertThatThrownBy(() -> new WebmOpusValidator().validate(concat(ascii("RIFF"), ascii("webm"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("EBML");
+    }
+
+    @Test
+    void rejectsNonOpusCodecOnceHeaderLimitIsReached() {
+        WebmOpusValidator validator = new WebmOpusValidator();
+        validator.validate(concat(EBML_MAGIC, ascii("webm"), ascii("A_VORBIS")));
+
+        assertThatThrownBy(() -> validator.validate(new byte[5000]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Opus가 아닙니다");
+    }
+
+    @Test
+    void rejectsMissingDocType() {
+        assertThatThrownBy(() -> new WebmOpusValidator().validate(concat(EBML_MAGIC, ascii("A_OPUS"), new byte[5000])))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("DocType");
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
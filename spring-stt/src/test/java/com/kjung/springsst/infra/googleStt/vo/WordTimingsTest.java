@@ -0,0 +1,118 @@
+package com.kjung.springsst.infra.googleStt.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordTimingsTest {
+
+    @Test
+    void growsPastInitialCapacity() {
+        WordTimings.Builder builder = WordTimings.builder();
+        for (int i = 0; i < 40; i++) {
+            builder.add("단어" + i, i * 100L, i * 100L + 80, 0.5f);
+        }
+
+        WordTimings words = builder.build();
+
+        assertThat(words.size()).isEqualTo(40);
+        assertThat(words.getVocabulary()).hasSize(40);
+        assertThat(words.word(39)).isEqualTo("단어39");
+        assertThat(words.startMs(39)).isEqualTo(3900);
+        assertThat(words.endMs(39)).isEqualTo(3980);
+    }
+
+    @Test
+    void internsRepeatedWords() {
+        WordTimings words = WordTimings.builder()
+                .add("안녕하세요", 0, 800, 0.93f)
+                .add("네", 900, 1200, 0.88f)
+                .add("안녕하세요", 1500, 2300, 0.91f)
+                .build();
+
+        assertThat(words.getVocabulary()).containsExactly("안녕하세요", "네");
+        assertThat(words.getWordIds()).containsExactly(0, 1, 0);
+        assertThat(words.word(2)).isEqualTo("안녕하세요");
+    }
+
+    @Test
+    void emptyBuilderReturnsSharedEmpty() {
+        assertThat(WordTimings.builder().build()).isSameAs(WordTimings.EMPTY);
+        assertThat(WordTimings.EMPTY.isEmpty()).isTrue();
+        assertThat(WordTimings.EMPTY.splitAtPauses(500, 10_000)).isEmpty();
+    }
+
+    @Test
+    void splitsAtLongPauses() {
+        WordTimings words = WordTimings.builder()
+                .add("하나", 0, 300, 0.75f)
+                .add("둘", 400, 700, 0.25f)
+                .add("셋", 1500, 1800, 0f)
+                .add("넷", 1900, 2200, 0.8f)
+                .build();
+
+        List<WordTimings.Span> spans = words.splitAtPauses(500, 10_000);
+
+        assertThat(spans).containsExactly(new WordTimings.Span(0, 2), new WordTimings.Span(2, 4));
+        assertThat(words.text(spans.get(0))).isEqualTo("하나 둘");
+        assertThat(words.text(spans.get(1))).isEqualTo("셋 넷");
+        assertThat(words.averageConfidence(spans.get(0))).isEqualTo(0.5f);
+        // 신뢰도가 제공되지 않은 단어(0)는 평균에서 제외
+        assertThat(words.averageConfidence(spans.get(1))).isEqualTo(0.8f);
+    }
+
+    @Test
+    void splitsSpansLongerThanMaxSpan() {
+        WordTimings.Builder builder = WordTimings.builder();
+        for (int i = 0; i < 5; i++) {
+            builder.add("말" + i, i * 400L, i * 400L + 350, 0.9f);
+        }
+
+        List<WordTimings.Span> spans = builder.build().splitAtPauses(500, 1000);
+
+        assertThat(spans).containsExactly(
+                new WordTimings.Span(0, 2), new WordTimings.Span(2, 4), new WordTimings.Span(4, 5));
+    }
+
+    @Test
+    void addAllOffsetsTimesOfTheSpan() {
+        WordTimings chunk = WordTimings.builder()
+                .add("앞", 0, 200, 0.9f)
+                .add("가운데", 300, 600, 0.8f)
+                .add("뒤", 700, 900, 0.7f)
+                .build();
+
+        WordTimings words = WordTimings.builder()
+                .add("가운데", 0, 100, 0.5f)
+                .addAll(chunk, new WordTimings.Span(1, 3), 60_000)
+                .build();
+
+        assertThat(words.size()).isEqualTo(3);
+        assertThat(words.getVocabulary()).containsExactly("가운데", "뒤");
+        assertThat(words.getStartMs()).containsExactly(0, 60_300, 60_700);
+        assertThat(words.getEndMs()).containsExactly(100, 60_600, 60_900);
+        assertThat(words.confidence(2)).isEqualTo(0.7f);
+    }
+
+    @Test
+    void clampsTimesToIntRange() {
+        WordTimings words = WordTimings.builder()
+                .add("음수", -50, 100, 0.9f)
+                .add("초과", 100, Long.MAX_VALUE, 0.9f)
+                .build();
+
+        assertThat(words.startMs(0)).isZero();
+        assertThat(words.endMs(1)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void wordAtConvertsToSeconds() {
+        WordTimeInfo word = WordTimings.builder().add("안녕", 1500, 2250, 0.9f).build().wordAt(0);
+
+        assertThat(word.getWord()).isEqualTo("안녕");
+        assertThat(word.getStartTime()).isEqualTo(1.5);
+        assertThat(word.getEndTime()).isEqualTo(2.25);
+    }
+}
@@ -0,0 +1,192 @@
+package com.kjung.sttclient.benchmark;
+
+import com.kjung.sttclient.ConvertOptions;
+import com.kjung.sttclient.StreamingListener;
+import com.kjung.sttclient.StreamingOptions;
+import com.kjung.sttclient.StreamingSession;
+import com.kjung.sttclient.SttClient;
+import com.kjung.sttclient.TranscriptEvent;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 로컬 서버 대상 처리량 벤치마크.
+ * <pre>
+ * --url       서버 주소 (기본 http://localhost:8099)
+ * --file      16bit 모노 PCM WAV 파일
+ * --mode      convert | stream | ws (기본 ws)
+ * --sessions  동시 요청/세션 수 (기본 8)
+ * --rounds    세션마다 반복 횟수 (기본 1)
+ * --no-pacing ws 모드에서 실시간 속도 제한 없이 전송
+ * </pre>
+ * 요청 수와 처리한 오디오 길이 기준 처리량, 지연 시간 p50/p95를 출력합니다.
+ * ws 모드의 지연 시간은 마지막 오디오를 보낸 뒤 세션이 끝날 때까지(마지막 최종 결과 대기 포함)입니다.
+ */
+public class SttClientBenchmark {
+
+    private static final int WAV_HEADER_SIZE = 44;
+
+    // 스트리밍 전송 단위, 실제 마이크 입력처럼 작은 조각으로 나눠 보냄
+    private static final int WRITE_CHUNK_BYTES = 640;
+
+    public static void main(String[] args) throws Exception {
+        String url = option(args, "--url", "http://localhost:8099");
+        String file = option(args, "--file", null);
+        String mode = option(args, "--mode", "ws");
+        int sessions = Integer.parseInt(option(args, "--sessions", "8"));
+        int rounds = Integer.parseInt(option(args, "--rounds", "1"));
+        boolean pacing = !Arrays.asList(args).contains("--no-pacing");
+
+        if (file == null)
+            throw new IllegalArgumentException("--file 옵션이 필요합니다.");
+
+        Path path = Path.of(file);
+        byte[] wav = Files.readAllBytes(path);
+        int sampleRate = ByteBuffer.wrap(wav, 24, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        long audioMs = (wav.length - WAV_HEADER_SIZE) * 1000L / (sampleRate * 2L);
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+
+        try (SttClient client = SttClient.builder().baseUri(url).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            long startTime = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>(sessions);
+            for (int i = 0; i < sessions; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < rounds; round++) {
+                        try {
+                            latencies.add(switch (mode) {
+                                case "convert" -> runConvert(client, path);
+                                case "stream" -> runStream(client, path);
+                                case "ws" -> runWebSocket(client, wav, sampleRate, pacing);
+                                default -> throw new IllegalArgumentException("알 수 없는 모드입니다: " + mode);
+                            });
+                        } catch (IllegalArgumentException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                            System.err.println("실패: " + e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+
+            report(mode, sessions * rounds, failures.get(), audioMs, elapsedMs, latencies);
+        }
+    }
+
+    private static long runConvert(SttClient client, Path path) {
+        long startTime = System.nanoTime();
+        var result = client.convert(path, ConvertOptions.defaults()).join();
+        if (!result.success())
+            throw new IllegalStateException(result.errorMessage());
+        return elapsedMs(startTime);
+    }
+
+    private static long runStream(SttClient client, Path path) throws InterruptedException {
+        long startTime = System.nanoTime();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        client.stream(path).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(String item) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        done.await();
+        if (error.get() != null)
+            throw new IllegalStateException("스트림 변환 실패", error.get());
+        return elapsedMs(startTime);
+    }
+
+    private static long runWebSocket(SttClient client, byte[] wav, int sampleRate, boolean pacing) {
+        StreamingOptions options = StreamingOptions.linear16(sampleRate, "ko-KR").withInterimResults(false);
+        if (!pacing) options = options.withoutPacing();
+
+        StreamingSession session = client.openStream(options, new StreamingListener() {
+            @Override
+            public void onTranscript(TranscriptEvent event) {
+            }
+        });
+
+        for (int offset = WAV_HEADER_SIZE; offset < wav.length; offset += WRITE_CHUNK_BYTES) {
+            session.write(Arrays.copyOfRange(wav, offset, Math.min(offset + WRITE_CHUNK_BYTES, wav.length)));
+        }
+
+        long startTime = System.nanoTime();
+        CompletableFuture<Void> finished = session.finish();
+        finished.join();
+        return elapsedMs(startTime);
+    }
+
+    private static void report(String mode, int requests, int failures, long audioMs, long elapsedMs,
+                               List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        int succeeded = sorted.size();
+        double seconds = Math.max(elapsedMs, 1) / 1000.0;
+
+        System.out.printf("mode=%s requests=%d succeeded=%d failed=%d elapsed=%dms%n",
+                mode, requests, succeeded, failures, elapsedMs);
+        System.out.printf("throughput: %.2f req/s, %.2f audio-sec/s%n",
+                succeeded / seconds, succeeded * audioMs / 1000.0 / seconds);
+        if (!sorted.isEmpty())
+            System.out.printf("latency: p50=%dms p95=%dms max=%dms%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), sorted.getLast());
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.clamp(index, 0, sorted.size() - 1));
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) return args[i + 1];
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,148 @@
+package com.kjung.sttclient;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 전송 대기 오디오 버퍼.
+ * <p>
+ * 작은 쓰기를 모아 {@code frameBytes} 크기의 프레임으로 꺼내며(coalescing), 대기량이 한도를 넘으면
+ * 쓰기 쪽에 돌려준 future를 대기량이 한도의 절반 아래로 내려갈 때까지 완료하지 않습니다.
+ * </p>
+ */
+final class AudioBuffer {
+
+    private final int maxBufferedBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition available = lock.newCondition();
+
+    private final Deque<byte[]> chunks = new ArrayDeque<>();
+
+    private final List<CompletableFuture<Void>> waiters = new ArrayList<>();
+
+    // 맨 앞 조각에서 이미 꺼낸 위치
+    private int headOffset = 0;
+
+    private int buffered = 0;
+
+    private boolean flushRequested = false;
+
+    AudioBuffer(int maxBufferedBytes) {
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    /**
+     * 오디오를 추가합니다. 배열은 복사하지 않으므로 호출자가 이후에 수정하면 안 됩니다.
+     *
+     * @return 대기량이 한도 안이면 완료된 future, 넘으면 자리가 났을 때 완료되는 future
+     */
+    CompletableFuture<Void> put(byte[] audio) {
+        if (audio.length == 0) return CompletableFuture.completedFuture(null);
+
+        lock.lock();
+        try {
+            chunks.addLast(audio);
+            buffered += audio.length;
+            available.signalAll();
+
+            if (buffered <= maxBufferedBytes) return CompletableFuture.completedFuture(null);
+
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            return waiter;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다음 {@link #take}가 덜 찬 프레임도 바로 꺼내도록 합니다 (스트림 끝).
+     */
+    void flush() {
+        lock.lock();
+        try {
+            flushRequested = true;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최대 {@code frameBytes}만큼 꺼냅니다. 프레임이 찰 때까지 최대 {@code maxDelayNanos} 기다리고,
+     * 그 뒤에는 있는 만큼 꺼냅니다.
+     *
+     * @return 꺼낸 오디오, 기다리는 동안 아무것도 들어오지 않았으면 {@code null}
+     */
+    byte[] take(int frameBytes, long maxDelayNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = maxDelayNanos;
+            while (buffered < frameBytes && !flushRequested && remaining > 0) {
+                remaining = available.awaitNanos(remaining);
+            }
+            if (buffered == 0) {
+                flushRequested = false;
+                return null;
+            }
+
+            byte[] frame = new byte[Math.min(frameBytes, buffered)];
+            int filled = 0;
+            while (filled < frame.length) {
+                byte[] head = chunks.peekFirst();
+                int length = Math.min(head.length - headOffset, frame.length - filled);
+                System.arraycopy(head, headOffset, frame, filled, length);
+                filled += length;
+                headOffset += length;
+
+                if (headOffset == head.length) {
+                    chunks.pollFirst();
+                    headOffset = 0;
+                }
+            }
+            buffered -= frame.length;
+            if (buffered == 0) flushRequested = false;
+
+            if (buffered <= maxBufferedBytes / 2) releaseWaiters();
+            return frame;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isEmpty() {
+        lock.lock();
+        try {
+            return buffered == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 남은 오디오를 버리고 기다리는 쓰기를 모두 완료합니다.
+     */
+    void clear() {
+        lock.lock();
+        try {
+            chunks.clear();
+            headOffset = 0;
+            buffered = 0;
+            releaseWaiters();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseWaiters() {
+        waiters.forEach(waiter -> waiter.complete(null));
+        waiters.clear();
+    }
+}
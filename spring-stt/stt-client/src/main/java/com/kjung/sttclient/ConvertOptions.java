@@ -0,0 +1,19 @@
+package com.kjung.sttclient;
+
+/**
+ * 파일 변환 요청 옵션 ({@code /api/v1/speech/convert}).
+ *
+ * @param profile                    서버 인식 프로필 이름, null이면 서버 기본 프로필
+ * @param enableAutomaticPunctuation 자동 구두점 추가 여부
+ * @param enableWordTimeOffsets      단어별 시간 정보 포함 여부
+ */
+public record ConvertOptions(
+        String profile,
+        boolean enableAutomaticPunctuation,
+        boolean enableWordTimeOffsets
+) {
+
+    public static ConvertOptions defaults() {
+        return new ConvertOptions(null, true, false);
+    }
+}
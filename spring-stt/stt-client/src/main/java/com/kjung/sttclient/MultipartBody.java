@@ -0,0 +1,53 @@
+package com.kjung.sttclient;
+
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * multipart/form-data 요청 본문. 파일 내용은 복사하지 않고 그대로 이어 붙입니다.
+ */
+final class MultipartBody {
+
+    private final String boundary = "stt-client-" + UUID.randomUUID();
+
+    private final List<HttpRequest.BodyPublisher> parts = new ArrayList<>();
+
+    MultipartBody field(String name, Object value) {
+        if (value == null) return this;
+
+        parts.add(text("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n"));
+        return this;
+    }
+
+    MultipartBody file(String name, String filename, byte[] content) {
+        parts.add(text("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + escape(filename) + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n"));
+        parts.add(HttpRequest.BodyPublishers.ofByteArray(content));
+        parts.add(text("\r\n"));
+        return this;
+    }
+
+    String contentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    HttpRequest.BodyPublisher publisher() {
+        List<HttpRequest.BodyPublisher> all = new ArrayList<>(parts);
+        all.add(text("--" + boundary + "--\r\n"));
+        return HttpRequest.BodyPublishers.concat(all.toArray(HttpRequest.BodyPublisher[]::new));
+    }
+
+    private static HttpRequest.BodyPublisher text(String value) {
+        return HttpRequest.BodyPublishers.ofString(value, StandardCharsets.UTF_8);
+    }
+
+    private static String escape(String filename) {
+        return filename.replace("\"", "%22").replace("\r", "").replace("\n", "");
+    }
+}
@@ -0,0 +1,38 @@
+package com.kjung.sttclient;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 전송 속도를 실시간에 맞춥니다. 보낸 바이트 수로 오디오 시각을 계산해, 그 시각이 되기 전에는 다음 프레임을 보내지 않습니다.
+ * 밀린 경우(네트워크 지연 등)에는 기다리지 않고 바로 보내 따라잡습니다.
+ */
+final class Pacer {
+
+    private final long bytesPerSecond;
+
+    private long startNanos = -1;
+
+    private long sentBytes = 0;
+
+    Pacer(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    /**
+     * {@code bytes}를 보내도 되는 시각까지 기다립니다.
+     */
+    void await(int bytes) throws InterruptedException {
+        if (bytesPerSecond <= 0) return;
+
+        long now = System.nanoTime();
+        if (startNanos < 0) startNanos = now;
+
+        long due = startNanos + sentBytes * 1_000_000_000L / bytesPerSecond;
+        while (now < due) {
+            LockSupport.parkNanos(due - now);
+            if (Thread.interrupted()) throw new InterruptedException();
+            now = System.nanoTime();
+        }
+        sentBytes += bytes;
+    }
+}
@@ -0,0 +1,24 @@
+package com.kjung.sttclient;
+
+/**
+ * 스트리밍 세션 이벤트 수신자. HttpClient 수신 스레드에서 호출되므로 오래 걸리는 작업은 다른 스레드로 넘겨야 합니다.
+ */
+public interface StreamingListener {
+
+    void onTranscript(TranscriptEvent event);
+
+    /**
+     * 연결이 끊겼다가 다시 연결된 경우.
+     *
+     * @param resumed {@code true}이면 같은 세션을 이어감(끊긴 동안의 결과는 서버가 재전송),
+     *                {@code false}이면 새 세션을 시작함(서버 드레인, 재연결 토큰 만료 등)
+     */
+    default void onReconnected(boolean resumed) {
+    }
+
+    /**
+     * 복구할 수 없는 오류로 세션이 끝난 경우
+     */
+    default void onError(Throwable error) {
+    }
+}
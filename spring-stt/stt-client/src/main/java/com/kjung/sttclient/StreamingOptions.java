@@ -0,0 +1,59 @@
+package com.kjung.sttclient;
+
+import java.time.Duration;
+
+/**
+ * 스트리밍 세션 옵션 ({@code /ws/speech}).
+ *
+ * @param encoding             오디오 인코딩 (LINEAR16, MULAW, OGG_OPUS, WEBM_OPUS 등)
+ * @param sampleRateHertz      샘플 레이트
+ * @param languageCode         언어 코드
+ * @param interimResults       중간 결과 수신 여부
+ * @param model                서버 인식 모델, null이면 서버 기본값
+ * @param frameBytes           한 프레임으로 모아 보낼 크기 (bytes), 작은 쓰기를 합쳐 프레임 수를 줄임
+ * @param maxFrameDelay        프레임이 덜 찼더라도 이 시간이 지나면 전송
+ * @param bytesPerSecond       실시간 속도 (bytes/s), 0이면 속도 제한 없이 전송
+ * @param maxBufferedBytes     전송 대기 한도, 넘으면 {@link StreamingSession#send}가 자리가 날 때까지 완료되지 않음
+ * @param maxReconnectAttempts 연속 재연결 시도 한도
+ * @param reconnectBackoff     첫 재연결 대기 시간, 시도마다 두 배 (최대 10초)
+ * @param finishTimeout        {@link StreamingSession#finish()} 후 마지막 최종 결과를 기다리는 시간
+ */
+public record StreamingOptions(
+        String encoding,
+        int sampleRateHertz,
+        String languageCode,
+        boolean interimResults,
+        String model,
+        int frameBytes,
+        Duration maxFrameDelay,
+        long bytesPerSecond,
+        int maxBufferedBytes,
+        int maxReconnectAttempts,
+        Duration reconnectBackoff,
+        Duration finishTimeout
+) {
+
+    /**
+     * 16bit 모노 PCM 기본값. 100ms 프레임, 실시간 속도로 전송합니다.
+     */
+    public static StreamingOptions linear16(int sampleRateHertz, String languageCode) {
+        int bytesPerSecond = sampleRateHertz * 2;
+        return new StreamingOptions("LINEAR16", sampleRateHertz, languageCode, true, null,
+                bytesPerSecond / 10, Duration.ofMillis(100), bytesPerSecond,
+                bytesPerSecond * 5, 5, Duration.ofMillis(250), Duration.ofSeconds(10));
+    }
+
+    /**
+     * 속도 제한 없이 보낼 때 (녹음 파일 일괄 처리 등)
+     */
+    public StreamingOptions withoutPacing() {
+        return new StreamingOptions(encoding, sampleRateHertz, languageCode, interimResults, model,
+                frameBytes, maxFrameDelay, 0, maxBufferedBytes, maxReconnectAttempts, reconnectBackoff, finishTimeout);
+    }
+
+    public StreamingOptions withInterimResults(boolean interimResults) {
+        return new StreamingOptions(encoding, sampleRateHertz, languageCode, interimResults, model,
+                frameBytes, maxFrameDelay, bytesPerSecond, maxBufferedBytes, maxReconnectAttempts, reconnectBackoff,
+                finishTimeout);
+    }
+}
@@ -0,0 +1,560 @@
+package com.kjung.sttclient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 실시간 스트리밍 세션 ({@code /ws/speech}).
+ * <p>
+ * {@link #send}로 넣은 오디오는 버퍼에서 {@code frameBytes} 크기로 합쳐지고, 전송 스레드가 실시간 속도에 맞춰
+ * 한 프레임씩 보냅니다. 이전 프레임의 소켓 쓰기가 끝나야 다음 프레임을 보내므로 네트워크가 느리면 버퍼가 쌓이고,
+ * 버퍼가 한도를 넘으면 {@link #send}의 future가 늦게 완료되어 호출자에게 전달됩니다.
+ * </p>
+ * <p>
+ * 연결이 끊기면 재연결 토큰으로 같은 세션을 이어가고(서버가 끊긴 동안의 결과를 재전송), 서버가 드레인 중이거나
+ * 토큰이 만료되었으면 같은 설정으로 새 세션을 시작합니다. 오디오는 서버가 설정을 확인한 뒤에만 보내며,
+ * 연결이 없는 동안에는 버퍼에 쌓입니다.
+ * </p>
+ */
+public class StreamingSession implements AutoCloseable {
+
+    private static final String END_STREAM = "END_STREAM";
+
+    private static final int CLOSE_NORMAL = 1000;
+
+    // 서버 재시작(드레인)으로 닫힌 경우, 재연결 토큰을 받을 서버가 없으므로 새 세션으로 시작
+    private static final int CLOSE_SERVICE_RESTARTED = 1012;
+
+    // 설정 또는 오디오가 잘못된 경우, 재연결해도 같은 결과이므로 종료
+    private static final int CLOSE_BAD_DATA = 1007;
+
+    private static final String ERROR_RESUME_FAILED = "RESUME_FAILED";
+
+    private static final Duration MAX_RECONNECT_BACKOFF = Duration.ofSeconds(10);
+
+    // finish() 후 마지막 최종 결과 뒤에 더 오는 결과가 없는지 확인하는 시간
+    private static final long FINAL_SETTLE_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final URI uri;
+
+    private final StreamingOptions options;
+
+    private final StreamingListener listener;
+
+    private final AudioBuffer buffer;
+
+    private final Pacer pacer;
+
+    private final CompletableFuture<Void> closed = new CompletableFuture<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition changed = lock.newCondition();
+
+    // 텍스트(설정, END_STREAM)와 오디오 전송이 겹치지 않도록 직렬화 (WebSocket은 동시 전송을 허용하지 않음)
+    private final ReentrantLock sendLock = new ReentrantLock();
+
+    private final Thread sender;
+
+    private volatile WebSocket webSocket;
+
+    // 서버가 설정을 확인해 오디오를 보낼 수 있는 상태
+    private volatile boolean ready = false;
+
+    private volatile String resumeToken;
+
+    private volatile String sessionId;
+
+    private volatile boolean serverDraining = false;
+
+    private volatile boolean finishing = false;
+
+    private volatile boolean closing = false;
+
+    // 전송 스레드가 버퍼에서 꺼낸 프레임을 아직 보내지 못한 상태
+    private volatile boolean sending = false;
+
+    private volatile long lastResultNanos = 0;
+
+    private volatile long lastFinalNanos = 0;
+
+    private int reconnectAttempts = 0;
+
+    // 한 번이라도 설정 확인을 받았는지, 이후의 확인은 재연결로 알림
+    private boolean connectedOnce = false;
+
+    StreamingSession(HttpClient httpClient,
+                     ObjectMapper objectMapper,
+                     URI uri,
+                     StreamingOptions options,
+                     StreamingListener listener) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.uri = uri;
+        this.options = options;
+        this.listener = listener;
+        this.buffer = new AudioBuffer(options.maxBufferedBytes());
+        this.pacer = new Pacer(options.bytesPerSecond());
+
+        this.sender = Thread.ofPlatform()
+                .name("stt-client-sender")
+                .daemon()
+                .start(this::runSender);
+        connect();
+    }
+
+    /**
+     * 오디오를 전송 버퍼에 넣습니다. 호출 스레드에서는 네트워크 전송을 하지 않습니다.
+     *
+     * @return 버퍼가 한도 안이면 바로, 넘으면 전송이 따라잡아 자리가 났을 때 완료되는 future
+     */
+    public CompletableFuture<Void> send(byte[] audio) {
+        if (closing || finishing)
+            return CompletableFuture.failedFuture(new IllegalStateException("이미 종료된 세션입니다."));
+
+        return buffer.put(audio.clone());
+    }
+
+    /**
+     * {@link #send}의 블로킹 버전. 버퍼가 한도를 넘으면 자리가 날 때까지 기다립니다.
+     */
+    public void write(byte[] audio) {
+        send(audio).join();
+    }
+
+    /**
+     * 남은 오디오를 모두 보내고 스트림 끝을 알린 뒤, 마지막 최종 결과를 받으면 연결을 닫습니다.
+     * 서버는 스트림 끝 이후에도 연결을 유지하므로 최종 결과가 오지 않으면 {@code finishTimeout} 후 닫습니다.
+     *
+     * @return 연결을 닫으면 완료되는 future
+     */
+    public CompletableFuture<Void> finish() {
+        if (closing) return closed;
+        finishing = true;
+        buffer.flush();
+
+        Thread.ofVirtual().name("stt-client-finish").start(() -> {
+            try {
+                awaitFinished();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            close();
+        });
+        return closed;
+    }
+
+    /**
+     * 남은 오디오를 버리고 연결을 닫습니다. 서버 세션도 바로 종료됩니다.
+     * 전송 중인 프레임이 있으면(소켓 쓰기는 인터럽트되지 않음) 기다리지 않고 연결을 끊습니다.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closing) return;
+            closing = true;
+            ready = false;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        sender.interrupt();
+        buffer.clear();
+
+        WebSocket socket = webSocket;
+        if (socket == null) {
+            closed.complete(null);
+            return;
+        }
+
+        if (!sendLock.tryLock()) {
+            // 전송 스레드가 소켓 쓰기에 막혀 있음, 끊으면 쓰기가 실패로 끝나 전송 스레드도 종료됨
+            socket.abort();
+            closed.complete(null);
+            return;
+        }
+        try {
+            socket.sendClose(CLOSE_NORMAL, "").whenComplete((ignored, e) -> {
+                if (e != null) socket.abort();
+                closed.complete(null);
+            });
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * 세션이 끝나면 완료되는 future, 복구할 수 없는 오류로 끝나면 예외로 완료됩니다.
+     */
+    public CompletableFuture<Void> closed() {
+        return closed;
+    }
+
+    /**
+     * 서버가 부여한 세션 ID, 설정 확인 전이면 {@code null}. 새 세션으로 재연결하면 바뀝니다.
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    private void connect() {
+        if (closing) return;
+
+        httpClient.newWebSocketBuilder()
+                .buildAsync(uri, new Receiver())
+                .whenComplete((socket, e) -> {
+                    if (e != null) {
+                        reconnectLater(e);
+                        return;
+                    }
+                    if (closing) {
+                        socket.abort();
+                        return;
+                    }
+                    sendHandshake(socket);
+                });
+    }
+
+    private void sendHandshake(WebSocket socket) {
+        String token = serverDraining ? null : resumeToken;
+        Map<String, Object> message = new LinkedHashMap<>();
+        if (token != null) {
+            message.put("type", "resume");
+            message.put("resumeToken", token);
+        } else {
+            message.put("type", "config");
+            message.put("encoding", options.encoding());
+            message.put("sampleRateHertz", options.sampleRateHertz());
+            message.put("languageCode", options.languageCode());
+            message.put("interimResults", options.interimResults());
+            if (options.model() != null)
+                message.put("model", options.model());
+        }
+        serverDraining = false;
+
+        try {
+            sendText(socket, objectMapper.writeValueAsString(message));
+        } catch (IOException | RuntimeException e) {
+            abort(socket, e);
+        }
+    }
+
+    private void handleMessage(String payload) throws IOException {
+        JsonNode node = objectMapper.readTree(payload);
+
+        if (node.has("transcript")) {
+            boolean isFinal = node.path("isFinal").asBoolean();
+            long now = System.nanoTime();
+            lastResultNanos = now;
+            if (isFinal) lastFinalNanos = now;
+
+            listener.onTranscript(new TranscriptEvent(node.get("transcript").asText(), isFinal,
+                    node.path("resultEndMs").asLong(-1)));
+            signal();
+            return;
+        }
+
+        if (node.has("error")) {
+            String type = node.path("type").asText(null);
+            if (ERROR_RESUME_FAILED.equals(type)) {
+                // 재연결 토큰이 만료됨, 같은 연결에서 새 세션을 시작
+                resumeToken = null;
+                WebSocket socket = webSocket;
+                if (socket != null) sendHandshake(socket);
+                return;
+            }
+            fail(new SttClientException(node.get("error").asText(), -1, type));
+            return;
+        }
+
+        switch (node.path("type").asText()) {
+            case "config-ack" -> {
+                sessionId = node.path("sessionId").asText(null);
+                resumeToken = node.path("resumeToken").asText(null);
+                markReady(false);
+            }
+            case "resumed" -> markReady(true);
+            // 서버가 곧 연결을 닫으므로 다음 연결은 새 세션으로 시작
+            case "drain" -> serverDraining = true;
+            default -> {
+            }
+        }
+    }
+
+    private void markReady(boolean resumed) {
+        boolean reconnected;
+        lock.lock();
+        try {
+            ready = true;
+            reconnected = connectedOnce;
+            connectedOnce = true;
+            reconnectAttempts = 0;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (reconnected) listener.onReconnected(resumed);
+    }
+
+    private void handleClosed(WebSocket socket, int statusCode, Throwable error) {
+        lock.lock();
+        try {
+            if (socket != webSocket) return;
+            webSocket = null;
+            ready = false;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (closing) return;
+
+        if (statusCode == CLOSE_BAD_DATA) {
+            fail(new SttClientException("서버가 세션을 종료했습니다.", statusCode, null));
+            return;
+        }
+        // 재연결 토큰으로 이어갈 수 없는 종료 (서버 드레인, 전송 큐 초과 등)
+        if (statusCode == CLOSE_SERVICE_RESTARTED || (statusCode >= 4000 && statusCode < 5000))
+            serverDraining = true;
+
+        reconnectLater(error != null ? error : new SttClientException("연결이 끊겼습니다.", statusCode, null));
+    }
+
+    private void reconnectLater(Throwable cause) {
+        long delayMs;
+        lock.lock();
+        try {
+            if (closing) return;
+            reconnectAttempts++;
+            if (reconnectAttempts > options.maxReconnectAttempts()) {
+                delayMs = -1;
+            } else {
+                long backoff = options.reconnectBackoff().toMillis() << Math.min(reconnectAttempts - 1, 20);
+                delayMs = Math.min(backoff, MAX_RECONNECT_BACKOFF.toMillis());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (delayMs < 0) {
+            fail(new SttClientException("재연결 시도 한도를 넘었습니다.", cause));
+            return;
+        }
+        CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS).execute(this::connect);
+    }
+
+    private void fail(Throwable error) {
+        lock.lock();
+        try {
+            if (closing) return;
+            closing = true;
+            ready = false;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        sender.interrupt();
+        buffer.clear();
+        WebSocket socket = webSocket;
+        if (socket != null) socket.abort();
+
+        listener.onError(error);
+        closed.completeExceptionally(error);
+    }
+
+    /**
+     * 전송 스레드. 서버가 설정을 확인한 동안에만 프레임을 꺼내 실시간 속도로 보내며,
+     * 보내지 못한 프레임은 재연결 후 다시 보냅니다.
+     */
+    private void runSender() {
+        long maxDelayNanos = options.maxFrameDelay().toNanos();
+        byte[] pending = null;
+
+        try {
+            while (!closing) {
+                WebSocket socket = awaitReady();
+                if (socket == null) return;
+
+                if (pending == null) {
+                    sending = true;
+                    pending = buffer.take(options.frameBytes(), maxDelayNanos);
+                    if (pending == null) {
+                        sending = false;
+                        signal();
+                        continue;
+                    }
+                    pacer.await(pending.length);
+                }
+
+                try {
+                    sendBinary(socket, pending);
+                    pending = null;
+                    sending = false;
+                    signal();
+                } catch (RuntimeException e) {
+                    // 연결이 끊긴 경우, 재연결되면 같은 프레임부터 다시 보냄
+                    abort(socket, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 연결을 끊고 재연결을 시작합니다. {@link WebSocket#abort()}는 리스너의 종료 콜백을 호출하지 않으므로 직접 처리합니다.
+     */
+    private void abort(WebSocket socket, Throwable cause) {
+        socket.abort();
+        handleClosed(socket, -1, cause);
+    }
+
+    private WebSocket awaitReady() throws InterruptedException {
+        lock.lock();
+        try {
+            while (!closing && !ready) {
+                changed.await();
+            }
+            return closing ? null : webSocket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 남은 오디오를 모두 보낸 뒤 스트림 끝을 알리고, 마지막 최종 결과를 기다립니다.
+     * 연결이 돌아오지 않거나 전송이 밀려도 전체 대기는 {@code finishTimeout}을 넘지 않습니다.
+     */
+    private void awaitFinished() throws InterruptedException {
+        long deadline = System.nanoTime() + options.finishTimeout().toNanos();
+
+        WebSocket socket;
+        lock.lock();
+        try {
+            while (!closing && (!ready || sending || !buffer.isEmpty())) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return;
+
+                changed.awaitNanos(Math.min(remaining, POLL_NANOS));
+            }
+            if (closing) return;
+            socket = webSocket;
+        } finally {
+            lock.unlock();
+        }
+
+        long endSentNanos = System.nanoTime();
+        sendText(socket, END_STREAM);
+
+        lock.lock();
+        try {
+            while (!closing) {
+                long now = System.nanoTime();
+                if (now - deadline >= 0) return;
+
+                boolean finalReceived = lastFinalNanos - endSentNanos > 0;
+                if (finalReceived && now - lastResultNanos >= FINAL_SETTLE_NANOS) return;
+
+                changed.awaitNanos(POLL_NANOS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sendText(WebSocket socket, String text) {
+        sendLock.lock();
+        try {
+            socket.sendText(text, true).join();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    private void sendBinary(WebSocket socket, byte[] frame) {
+        sendLock.lock();
+        try {
+            socket.sendBinary(ByteBuffer.wrap(frame), true).join();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 연결마다 하나씩 생성되며, 이전 연결의 늦은 이벤트는 {@link #handleClosed}에서 무시됩니다.
+     */
+    private class Receiver implements WebSocket.Listener {
+
+        private final StringBuilder text = new StringBuilder();
+
+        @Override
+        public void onOpen(WebSocket socket) {
+            // 연결 완료 future보다 먼저 호출되므로 여기서 현재 연결로 지정해야 이후 종료 이벤트를 놓치지 않음
+            webSocket = socket;
+            socket.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            text.append(data);
+            if (last) {
+                String payload = text.toString();
+                text.setLength(0);
+                try {
+                    handleMessage(payload);
+                } catch (IOException | RuntimeException e) {
+                    // 해석할 수 없는 메시지는 건너뜀
+                }
+            }
+            socket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+            handleClosed(socket, statusCode, null);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket socket, Throwable error) {
+            handleClosed(socket, -1, error);
+        }
+    }
+}
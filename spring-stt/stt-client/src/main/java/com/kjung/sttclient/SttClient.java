@@ -0,0 +1,223 @@
+package com.kjung.sttclient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.stream.Stream;
+
+/**
+ * STT 서버 클라이언트.
+ * <ul>
+ *     <li>{@link #convert} : 파일 변환 ({@code POST /api/v1/speech/convert})</li>
+ *     <li>{@link #stream} : 파일을 올리고 인식 결과를 SSE로 받음 ({@code POST /api/v1/speech/stream})</li>
+ *     <li>{@link #openStream} : 실시간 스트리밍 세션 ({@code /ws/speech}), 프레임 병합, 실시간 속도 전송, 자동 재연결</li>
+ * </ul>
+ * 모든 호출은 비동기이며, 하나의 인스턴스를 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+public class SttClient implements AutoCloseable {
+
+    private static final String CONVERT_PATH = "/api/v1/speech/convert";
+
+    private static final String STREAM_PATH = "/api/v1/speech/stream";
+
+    private static final String WEBSOCKET_PATH = "/ws/speech";
+
+    private static final String SSE_DATA_PREFIX = "data:";
+
+    private final URI baseUri;
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration requestTimeout;
+
+    // HttpClient 콜백 스레드와 SSE 구독자 전달에 사용
+    private final ExecutorService executor;
+
+    private SttClient(Builder builder) {
+        this.baseUri = builder.baseUri;
+        this.objectMapper = builder.objectMapper;
+        this.requestTimeout = builder.requestTimeout;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(builder.connectTimeout)
+                .executor(executor)
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 파일 변환.
+     *
+     * @return 변환 결과, 서버가 요청을 거절하면 {@link SttClientException}으로 완료
+     */
+    public CompletableFuture<SttResult> convert(Path audio, ConvertOptions options) {
+        return CompletableFuture.supplyAsync(() -> readAllBytes(audio), executor)
+                .thenCompose(bytes -> convert(audio.getFileName().toString(), bytes, options));
+    }
+
+    public CompletableFuture<SttResult> convert(String filename, byte[] audio, ConvertOptions options) {
+        MultipartBody body = new MultipartBody()
+                .file("file", filename, audio)
+                .field("profile", options.profile())
+                .field("enableAutomaticPunctuation", options.enableAutomaticPunctuation())
+                .field("enableWordTimeOffsets", options.enableWordTimeOffsets());
+
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(CONVERT_PATH))
+                .timeout(requestTimeout)
+                .header("Content-Type", body.contentType())
+                .header("Accept", "application/json")
+                .POST(body.publisher())
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    checkStatus(response.statusCode(), response.body());
+                    return readValue(response.body(), SttResult.class);
+                });
+    }
+
+    /**
+     * 파일을 올리고 서버가 보내는 인식 결과를 순서대로 발행합니다.
+     * 구독자가 느리면 발행 버퍼가 찰 때까지만 읽고, 그 뒤에는 응답 읽기를 멈춥니다.
+     */
+    public Flow.Publisher<String> stream(Path audio) {
+        SubmissionPublisher<String> publisher = new SubmissionPublisher<>(executor, Flow.defaultBufferSize());
+
+        CompletableFuture.supplyAsync(() -> readAllBytes(audio), executor)
+                .thenCompose(bytes -> {
+                    MultipartBody body = new MultipartBody().file("audio", audio.getFileName().toString(), bytes);
+                    HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(STREAM_PATH))
+                            .header("Content-Type", body.contentType())
+                            .header("Accept", "text/event-stream")
+                            .POST(body.publisher())
+                            .build();
+                    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofLines());
+                })
+                .thenAccept(response -> {
+                    if (response.statusCode() / 100 != 2) {
+                        response.body().close();
+                        throw new SttClientException("스트림 변환 요청 실패: HTTP " + response.statusCode(),
+                                response.statusCode(), null);
+                    }
+                    // submit()은 버퍼가 가득 차면 블로킹하므로 가상 스레드에서 읽음
+                    try (Stream<String> lines = response.body()) {
+                        lines.filter(line -> line.startsWith(SSE_DATA_PREFIX))
+                                .map(line -> line.substring(SSE_DATA_PREFIX.length()).strip())
+                                .filter(data -> !data.isEmpty())
+                                .forEach(publisher::submit);
+                    }
+                    publisher.close();
+                })
+                .exceptionally(e -> {
+                    publisher.closeExceptionally(e instanceof CompletionException
+                            && e.getCause() != null ? e.getCause() : e);
+                    return null;
+                });
+
+        return publisher;
+    }
+
+    /**
+     * 실시간 스트리밍 세션을 엽니다. 연결과 설정 확인은 백그라운드에서 진행되며,
+     * 그 전에 보낸 오디오는 버퍼에 쌓였다가 설정 확인 후 전송됩니다.
+     */
+    public StreamingSession openStream(StreamingOptions options, StreamingListener listener) {
+        URI webSocketUri = URI.create(baseUri.toString().replaceFirst("^http", "ws")).resolve(WEBSOCKET_PATH);
+        return new StreamingSession(httpClient, objectMapper, webSocketUri, options, listener);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void checkStatus(int status, byte[] body) {
+        if (status / 100 == 2) return;
+
+        String message = "HTTP " + status;
+        String type = null;
+        try {
+            JsonNode error = objectMapper.readTree(body);
+            message = error.path("message").asText(error.path("error").asText(message));
+            type = error.hasNonNull("type") ? error.get("type").asText() : null;
+        } catch (IOException ignored) {
+            // 본문이 JSON이 아니면 상태 코드만 전달
+        }
+        throw new SttClientException(message, status, type);
+    }
+
+    private <T> T readValue(byte[] body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new SttClientException("응답을 해석할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] readAllBytes(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static class Builder {
+
+        private URI baseUri = URI.create("http://localhost:8099");
+
+        private ObjectMapper objectMapper = new ObjectMapper();
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        private Duration requestTimeout = Duration.ofMinutes(5);
+
+        private Builder() {
+        }
+
+        public Builder baseUri(String baseUri) {
+            this.baseUri = URI.create(Objects.requireNonNull(baseUri));
+            return this;
+        }
+
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = Objects.requireNonNull(objectMapper);
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = Objects.requireNonNull(connectTimeout);
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = Objects.requireNonNull(requestTimeout);
+            return this;
+        }
+
+        public SttClient build() {
+            return new SttClient(this);
+        }
+    }
+}
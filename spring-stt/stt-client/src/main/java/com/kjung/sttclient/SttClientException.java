@@ -0,0 +1,33 @@
+package com.kjung.sttclient;
+
+/**
+ * 서버가 요청을 거절했거나 응답을 해석할 수 없는 경우의 예외.
+ */
+public class SttClientException extends RuntimeException {
+
+    // HTTP 상태 코드 또는 WebSocket 종료 코드, 해당하지 않으면 -1
+    private final int status;
+
+    // 서버 오류 유형 (예: INVALID_CONFIG), 없으면 null
+    private final String type;
+
+    public SttClientException(String message, int status, String type) {
+        super(message);
+        this.status = status;
+        this.type = type;
+    }
+
+    public SttClientException(String message, Throwable cause) {
+        super(message, cause);
+        this.status = -1;
+        this.type = null;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getType() {
+        return type;
+    }
+}
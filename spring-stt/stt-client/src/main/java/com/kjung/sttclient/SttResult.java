@@ -0,0 +1,18 @@
+package com.kjung.sttclient;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 파일 변환 결과. 서버 응답 중 클라이언트가 사용하는 항목만 담습니다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SttResult(
+        boolean success,
+        String originalFilename,
+        String transcribedText,
+        Float confidenceScore,
+        Long processingTimeMs,
+        Long fileSize,
+        String errorMessage
+) {
+}
@@ -0,0 +1,15 @@
+package com.kjung.sttclient;
+
+/**
+ * 스트리밍 인식 결과.
+ *
+ * @param transcript  인식 텍스트 (중간 결과는 발화 전체의 현재 추정)
+ * @param isFinal     최종 결과 여부
+ * @param resultEndMs 스트림 시작 기준 결과 종료 시각 (최종 결과에만 있으며, 없으면 -1)
+ */
+public record TranscriptEvent(
+        String transcript,
+        boolean isFinal,
+        long resultEndMs
+) {
+}
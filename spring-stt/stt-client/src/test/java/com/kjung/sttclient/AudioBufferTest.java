@@ -0,0 +1,67 @@
+package com.kjung.sttclient;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AudioBufferTest {
+
+    @Test
+    void coalescesSmallWritesIntoFrames() throws InterruptedException {
+        AudioBuffer buffer = new AudioBuffer(1024);
+        buffer.put(new byte[]{1, 2, 3});
+        buffer.put(new byte[]{4, 5, 6});
+        buffer.put(new byte[]{7});
+
+        assertThat(buffer.take(4, 0)).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.take(4, 0)).containsExactly(5, 6, 7);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void returnsNullWhenNothingArrives() throws InterruptedException {
+        AudioBuffer buffer = new AudioBuffer(1024);
+
+        assertThat(buffer.take(4, TimeUnit.MILLISECONDS.toNanos(10))).isNull();
+    }
+
+    @Test
+    void flushReleasesPartialFrameWithoutWaiting() throws InterruptedException {
+        AudioBuffer buffer = new AudioBuffer(1024);
+        buffer.put(new byte[]{1, 2});
+        buffer.flush();
+
+        long startTime = System.nanoTime();
+        assertThat(buffer.take(100, TimeUnit.SECONDS.toNanos(10))).containsExactly(1, 2);
+        assertThat(System.nanoTime() - startTime).isLessThan(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void completesWriterOnlyAfterDrainingBelowHalf() throws InterruptedException {
+        AudioBuffer buffer = new AudioBuffer(8);
+
+        assertThat(buffer.put(new byte[6]).isDone()).isTrue();
+        CompletableFuture<Void> overflow = buffer.put(new byte[6]);
+        assertThat(overflow.isDone()).isFalse();
+
+        buffer.take(4, 0);
+        assertThat(overflow.isDone()).isFalse();
+
+        buffer.take(4, 0);
+        assertThat(overflow.isDone()).isTrue();
+    }
+
+    @Test
+    void clearDropsAudioAndReleasesWriters() {
+        AudioBuffer buffer = new AudioBuffer(4);
+        CompletableFuture<Void> overflow = buffer.put(new byte[8]);
+
+        buffer.clear();
+
+        assertThat(overflow.isDone()).isTrue();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,57 @@
+package com.kjung.sttclient;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PacerTest {
+
+    @Test
+    void sendsAtRealTimeRate() throws InterruptedException {
+        Pacer pacer = new Pacer(1_000);
+
+        long startTime = System.nanoTime();
+        pacer.await(100);
+        pacer.await(100);
+        pacer.await(100);
+
+        // 세 번째 프레임은 앞의 200 bytes(200ms) 이후에 보냄
+        assertThat(System.nanoTime() - startTime).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+    @Test
+    void catchesUpWithoutWaitingAfterDelay() throws InterruptedException {
+        Pacer pacer = new Pacer(1_000);
+        pacer.await(100);
+        Thread.sleep(300);
+
+        long startTime = System.nanoTime();
+        pacer.await(100);
+        pacer.await(100);
+
+        assertThat(System.nanoTime() - startTime).isLessThan(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void unlimitedRateNeverWaits() throws InterruptedException {
+        Pacer pacer = new Pacer(0);
+
+        long startTime = System.nanoTime();
+        pacer.await(1_000_000);
+        pacer.await(1_000_000);
+
+        assertThat(System.nanoTime() - startTime).isLessThan(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void interruptStopsWaiting() throws InterruptedException {
+        Pacer pacer = new Pacer(1_000);
+        pacer.await(10_000);
+
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> pacer.await(100)).isInstanceOf(InterruptedException.class);
+    }
+}
@@ -0,0 +1,436 @@
+package com.kjung.sttclient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 연결, 재연결, 종료 흐름 테스트. 실제 서버 대신 연결마다 {@link FakeSocket}을 돌려주는 HttpClient를 사용합니다.
+ */
+class StreamingSessionTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final FakeHttpClient httpClient = new FakeHttpClient();
+
+    private final RecordingListener listener = new RecordingListener();
+
+    private StreamingSession session;
+
+    @AfterEach
+    void tearDown() {
+        if (session != null) session.close();
+    }
+
+    @Test
+    void resumesWithTokenAfterDisconnect() throws Exception {
+        session = open(options());
+        FakeSocket first = httpClient.nextSocket();
+        assertThat(first.nextMessage().path("type").asText()).isEqualTo("config");
+
+        first.receive("{\"type\":\"config-ack\",\"sessionId\":\"s1\",\"resumeToken\":\"t1\"}");
+        assertThat(session.getSessionId()).isEqualTo("s1");
+
+        first.closeFromServer(1001);
+
+        FakeSocket second = httpClient.nextSocket();
+        JsonNode resume = second.nextMessage();
+        assertThat(resume.path("type").asText()).isEqualTo("resume");
+        assertThat(resume.path("resumeToken").asText()).isEqualTo("t1");
+
+        second.receive("{\"type\":\"resumed\"}");
+        assertThat(listener.reconnects.poll(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void startsNewSessionAfterServerDrain() throws Exception {
+        session = open(options());
+        FakeSocket first = httpClient.nextSocket();
+        first.nextMessage();
+        first.receive("{\"type\":\"config-ack\",\"sessionId\":\"s1\",\"resumeToken\":\"t1\"}");
+
+        first.receive("{\"type\":\"drain\"}");
+        first.closeFromServer(1012);
+
+        FakeSocket second = httpClient.nextSocket();
+        assertThat(second.nextMessage().path("type").asText()).isEqualTo("config");
+
+        second.receive("{\"type\":\"config-ack\",\"sessionId\":\"s2\",\"resumeToken\":\"t2\"}");
+        assertThat(listener.reconnects.poll(1, TimeUnit.SECONDS)).isFalse();
+        assertThat(session.getSessionId()).isEqualTo("s2");
+    }
+
+    @Test
+    void resendsFrameOnNewConnectionAfterSendFailure() throws Exception {
+        session = open(options());
+        FakeSocket first = httpClient.nextSocket();
+        first.nextMessage();
+        first.failNextBinary = true;
+        first.receive("{\"type\":\"config-ack\",\"sessionId\":\"s1\",\"resumeToken\":\"t1\"}");
+
+        session.send(new byte[]{1, 2, 3, 4});
+        assertThat(first.nextFrame()).containsExactly(1, 2, 3, 4);
+
+        FakeSocket second = httpClient.nextSocket();
+        assertThat(first.aborted).isTrue();
+        assertThat(second.nextMessage().path("type").asText()).isEqualTo("resume");
+
+        second.receive("{\"type\":\"resumed\"}");
+        assertThat(second.nextFrame()).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void failsWithoutReconnectOnBadData() throws Exception {
+        session = open(options());
+        FakeSocket first = httpClient.nextSocket();
+        first.nextMessage();
+
+        first.closeFromServer(1007);
+
+        assertThatThrownBy(() -> session.closed().get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(SttClientException.class);
+        assertThat(listener.errors.poll(1, TimeUnit.SECONDS)).isInstanceOf(SttClientException.class);
+        assertThat(httpClient.sockets.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void givesUpAfterMaxReconnectAttempts() {
+        httpClient.refuse = true;
+        session = open(options());
+
+        assertThatThrownBy(() -> session.closed().get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(SttClientException.class);
+        assertThat(httpClient.attempts).isEqualTo(3);
+    }
+
+    @Test
+    void closeDoesNotWaitForStalledSend() throws Exception {
+        session = open(options());
+        FakeSocket first = httpClient.nextSocket();
+        first.nextMessage();
+        first.stallBinary = true;
+        first.receive("{\"type\":\"config-ack\",\"sessionId\":\"s1\",\"resumeToken\":\"t1\"}");
+
+        session.send(new byte[]{1, 2, 3, 4});
+        first.nextFrame();
+
+        // 전송 스레드가 끝나지 않는 소켓 쓰기에서 sendLock을 잡고 있음
+        CompletableFuture.runAsync(session::close).get(1, TimeUnit.SECONDS);
+        session.closed().get(1, TimeUnit.SECONDS);
+        assertThat(first.aborted).isTrue();
+    }
+
+    @Test
+    void finishGivesUpWhenConnectionNeverBecomesReady() throws Exception {
+        session = open(options());
+        httpClient.nextSocket();
+
+        long startTime = System.nanoTime();
+        session.finish().get(2, TimeUnit.SECONDS);
+
+        assertThat(System.nanoTime() - startTime).isLessThan(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void finishSendsEndOfStreamAndClosesAfterFinalResult() throws Exception {
+        session = open(options(Duration.ofSeconds(10)));
+        FakeSocket first = httpClient.nextSocket();
+        first.nextMessage();
+        first.receive("{\"type\":\"config-ack\",\"sessionId\":\"s1\",\"resumeToken\":\"t1\"}");
+
+        session.send(new byte[]{1, 2});
+        CompletableFuture<Void> finished = session.finish();
+        assertThat(first.nextFrame()).containsExactly(1, 2);
+        assertThat(first.texts.poll(1, TimeUnit.SECONDS)).isEqualTo("END_STREAM");
+
+        first.receive("{\"transcript\":\"안녕하세요\",\"isFinal\":true,\"resultEndMs\":900}");
+
+        // 제한 시간(10초)이 아니라 최종 결과 후 확인 시간이 지나면 닫힘
+        finished.get(2, TimeUnit.SECONDS);
+        assertThat(listener.transcripts.poll(1, TimeUnit.SECONDS).transcript()).isEqualTo("안녕하세요");
+        assertThat(first.closeCode).isEqualTo(1000);
+    }
+
+    private StreamingSession open(StreamingOptions options) {
+        return new StreamingSession(httpClient, OBJECT_MAPPER, URI.create("ws://localhost/ws/speech"), options, listener);
+    }
+
+    private static StreamingOptions options() {
+        return options(Duration.ofMillis(300));
+    }
+
+    private static StreamingOptions options(Duration finishTimeout) {
+        return new StreamingOptions("LINEAR16", 16000, "ko-KR", true, null,
+                4, Duration.ofMillis(10), 0, 1024, 2, Duration.ofMillis(10), finishTimeout);
+    }
+
+    private static final class RecordingListener implements StreamingListener {
+
+        private final BlockingQueue<TranscriptEvent> transcripts = new LinkedBlockingQueue<>();
+
+        private final BlockingQueue<Boolean> reconnects = new LinkedBlockingQueue<>();
+
+        private final BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onTranscript(TranscriptEvent event) {
+            transcripts.add(event);
+        }
+
+        @Override
+        public void onReconnected(boolean resumed) {
+            reconnects.add(resumed);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            errors.add(error);
+        }
+    }
+
+    /**
+     * 연결 요청마다 {@link FakeSocket}을 만들어 실제 HttpClient처럼 {@code onOpen}을 먼저 호출합니다.
+     */
+    private static final class FakeHttpClient extends HttpClient {
+
+        private final BlockingQueue<FakeSocket> sockets = new LinkedBlockingQueue<>();
+
+        private volatile boolean refuse = false;
+
+        private volatile int attempts = 0;
+
+        FakeSocket nextSocket() throws InterruptedException {
+            FakeSocket socket = sockets.poll(2, TimeUnit.SECONDS);
+            assertThat(socket).isNotNull();
+            return socket;
+        }
+
+        @Override
+        public WebSocket.Builder newWebSocketBuilder() {
+            return new WebSocket.Builder() {
+                @Override
+                public WebSocket.Builder header(String name, String value) {
+                    return this;
+                }
+
+                @Override
+                public WebSocket.Builder connectTimeout(Duration timeout) {
+                    return this;
+                }
+
+                @Override
+                public WebSocket.Builder subprotocols(String mostPreferred, String... lesserPreferred) {
+                    return this;
+                }
+
+                @Override
+                public CompletableFuture<WebSocket> buildAsync(URI uri, WebSocket.Listener listener) {
+                    attempts++;
+                    if (refuse) return CompletableFuture.failedFuture(new IOException("connection refused"));
+
+                    FakeSocket socket = new FakeSocket(listener);
+                    listener.onOpen(socket);
+                    sockets.add(socket);
+                    return CompletableFuture.completedFuture(socket);
+                }
+            };
+        }
+
+        @Override
+        public Optional<CookieHandler> cookieHandler() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Duration> connectTimeout() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Redirect followRedirects() {
+            return Redirect.NEVER;
+        }
+
+        @Override
+        public Optional<ProxySelector> proxy() {
+            return Optional.empty();
+        }
+
+        @Override
+        public SSLContext sslContext() {
+            return null;
+        }
+
+        @Override
+        public SSLParameters sslParameters() {
+            return null;
+        }
+
+        @Override
+        public Optional<Authenticator> authenticator() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Version version() {
+            return Version.HTTP_1_1;
+        }
+
+        @Override
+        public Optional<Executor> executor() {
+            return Optional.empty();
+        }
+
+        @Override
+        public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                                HttpResponse.BodyHandler<T> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                                HttpResponse.BodyHandler<T> handler,
+                                                                HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * 보낸 메시지를 기록하는 소켓. {@link #abort()}하면 끝나지 않은 전송이 실패로 완료됩니다 (JDK 구현과 같음).
+     */
+    private static final class FakeSocket implements WebSocket {
+
+        private final Listener listener;
+
+        private final BlockingQueue<String> texts = new LinkedBlockingQueue<>();
+
+        private final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<>();
+
+        private final CompletableFuture<WebSocket> stalled = new CompletableFuture<>();
+
+        private volatile boolean failNextBinary = false;
+
+        private volatile boolean stallBinary = false;
+
+        private volatile boolean aborted = false;
+
+        private volatile int closeCode = -1;
+
+        FakeSocket(Listener listener) {
+            this.listener = listener;
+        }
+
+        JsonNode nextMessage() throws InterruptedException, IOException {
+            String text = texts.poll(2, TimeUnit.SECONDS);
+            assertThat(text).isNotNull();
+            return OBJECT_MAPPER.readTree(text);
+        }
+
+        byte[] nextFrame() throws InterruptedException {
+            byte[] frame = frames.poll(2, TimeUnit.SECONDS);
+            assertThat(frame).isNotNull();
+            return frame;
+        }
+
+        void receive(String json) {
+            listener.onText(this, json, true);
+        }
+
+        void closeFromServer(int statusCode) {
+            listener.onClose(this, statusCode, "");
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendText(CharSequence data, boolean last) {
+            texts.add(data.toString());
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendBinary(ByteBuffer data, boolean last) {
+            byte[] frame = new byte[data.remaining()];
+            data.get(frame);
+            frames.add(frame);
+
+            if (stallBinary) return stalled;
+            if (failNextBinary) {
+                failNextBinary = false;
+                return CompletableFuture.failedFuture(new IOException("broken pipe"));
+            }
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendPing(ByteBuffer message) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendPong(ByteBuffer message) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendClose(int statusCode, String reason) {
+            closeCode = statusCode;
+            return CompletableFuture.completedFuture(this);
+        }
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public String getSubprotocol() {
+            return "";
+        }
+
+        @Override
+        public boolean isOutputClosed() {
+            return aborted || closeCode >= 0;
+        }
+
+        @Override
+        public boolean isInputClosed() {
+            return aborted;
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+            stalled.completeExceptionally(new IOException("aborted"));
+        }
+    }
+}